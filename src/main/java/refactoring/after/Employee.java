@@ -1,30 +1,64 @@
 package refactoring.after;
 
+/**
+ * 給与体系の種類 ({@link EmployeeType}) に給与額の計算を委譲する従業員。
+ *
+ * @author naotake
+ */
 public class Employee {
 
+    /** 月給・歩合・賞与を指定しない場合の金額 ({@link refactoring.before.Employee}と同じ) */
+    private static final long SAMPLE_MONTHLY_SALARY = 1000L;
+    private static final long SAMPLE_COMMISSION = 500L;
+    private static final long SAMPLE_BONUS = 300L;
+
     protected Integer id;
     protected String name;
     protected EmployeeType type;
 
+    /** 月給 */
+    protected final long monthlySalary;
+
+    /** 歩合 */
+    protected final long commission;
+
+    /** 賞与 */
+    protected final long bonus;
+
     public Employee(Integer id, String name, EmployeeType type) {
+        this(id, name, type, SAMPLE_MONTHLY_SALARY, SAMPLE_COMMISSION, SAMPLE_BONUS);
+    }
+
+    public Employee(Integer id, String name, EmployeeType type, long monthlySalary, long commission, long bonus) {
         this.id = id;
         this.name = name;
         this.type = type;
+        this.monthlySalary = monthlySalary;
+        this.commission = commission;
+        this.bonus = bonus;
     }
 
-    public Long payAmount() {
+    public long payAmount() {
         return type.payAmount(this);
     }
 
-    public Long getMonthlySalary() {
-        return 1000L; // DUMMY
+    public Integer getId() {
+        return id;
+    }
+
+    public EmployeeType getType() {
+        return type;
+    }
+
+    public long getMonthlySalary() {
+        return monthlySalary;
     }
 
-    public Long getCommission() {
-        return 500L; // DUMMY
+    public long getCommission() {
+        return commission;
     }
 
-    public Long getBonus() {
-        return 300L; // DUMMY
+    public long getBonus() {
+        return bonus;
     }
 }
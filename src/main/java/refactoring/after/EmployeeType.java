@@ -1,6 +1,32 @@
 package refactoring.after;
 
+/**
+ * 給与体系の種類。<br />
+ * 給与額の計算は種類毎のサブクラスで行う。
+ *
+ * @author naotake
+ */
 public abstract class EmployeeType {
 
-    public abstract Long payAmount(Employee employee);
+    /**
+     * 1 名分の給与額を求める。
+     *
+     * @param employee 従業員
+     * @return 給与額
+     */
+    public abstract long payAmount(Employee employee);
+
+    /**
+     * 同じ種類の従業員の給与額をまとめて求める。<br />
+     * サブクラスではループ内で自身の計算を直接行うように上書きし、
+     * 呼び出し箇所が常に同じ実装となる (JIT がインライン展開できる) ようにする。
+     *
+     * @param out 給与額の格納先 (in と同じ位置に格納する)
+     * @param in この種類の従業員一覧
+     */
+    public void payAmounts(long[] out, Employee[] in) {
+        for (int i = 0; i < in.length; i++) {
+            out[i] = payAmount(in[i]);
+        }
+    }
 }
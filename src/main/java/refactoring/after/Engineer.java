@@ -1,9 +1,22 @@
 package refactoring.after;
 
-public class Engineer extends EmployeeType {
+/**
+ * エンジニアの給与体系 (月給のみ)。
+ *
+ * @author naotake
+ */
+public final class Engineer extends EmployeeType {
 
     @Override
-    public Long payAmount(Employee employee) {
+    public long payAmount(Employee employee) {
         return employee.getMonthlySalary();
     }
+
+    @Override
+    public void payAmounts(long[] out, Employee[] in) {
+        for (int i = 0; i < in.length; i++) {
+            Employee e = in[i];
+            out[i] = e.getMonthlySalary();
+        }
+    }
 }
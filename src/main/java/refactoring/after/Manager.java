@@ -1,9 +1,22 @@
 package refactoring.after;
 
-public class Manager extends EmployeeType {
+/**
+ * マネージャの給与体系 (月給 + 賞与)。
+ *
+ * @author naotake
+ */
+public final class Manager extends EmployeeType {
 
     @Override
-    public Long payAmount(Employee employee) {
+    public long payAmount(Employee employee) {
         return employee.getMonthlySalary() + employee.getBonus();
     }
+
+    @Override
+    public void payAmounts(long[] out, Employee[] in) {
+        for (int i = 0; i < in.length; i++) {
+            Employee e = in[i];
+            out[i] = e.getMonthlySalary() + e.getBonus();
+        }
+    }
 }
@@ -0,0 +1,186 @@
+package refactoring.after;
+
+import java.util.Arrays;
+
+import salarycalculation.domain.employee.BusinessDate;
+import salarycalculation.utils.Money;
+
+/**
+ * 従業員を給与体系の種類毎にまとめ、種類毎に一括で給与額を求めるエンジン。
+ * <p />
+ * 従業員 1 名ずつ {@link Employee#payAmount()}を呼ぶと、種類が混在する場合に呼び出し箇所が
+ * 多態となり JIT がインライン展開できない。種類毎に {@link EmployeeType#payAmounts(long[], Employee[])}
+ * を呼ぶことで、各ループ内の呼び出しを単一の実装に保つ。
+ *
+ * @author naotake
+ */
+public class PayTypeEngine {
+
+    /** エンジニア */
+    public static final EmployeeType ENGINEER = new Engineer();
+
+    /** 営業 */
+    public static final EmployeeType SALESMAN = new Salesman();
+
+    /** マネージャ */
+    public static final EmployeeType MANAGER = new Manager();
+
+    /**
+     * 給与額をまとめて求める。
+     *
+     * @param employees 従業員一覧 (種類は混在してよい)
+     * @return 給与額一覧 (employees と同じ順序)
+     */
+    public long[] payAmounts(Employee[] employees) {
+        return group(employees).payAmounts();
+    }
+
+    /**
+     * 従業員を種類毎にまとめる。<br />
+     * 同じ従業員一覧の給与額を繰り返し求める場合は、まとめた結果を再利用することで振り分けの処理を省ける。
+     *
+     * @param employees 従業員一覧 (種類は混在してよい)
+     * @return 種類毎にまとめた従業員
+     */
+    public Grouped group(Employee[] employees) {
+        // 種類の数は少ないため、登場順に番号を振って線形探索する
+        EmployeeType[] types = new EmployeeType[4];
+        int typeCount = 0;
+        int[] typeIndexes = new int[employees.length];
+        int[] counts = new int[types.length];
+        for (int i = 0; i < employees.length; i++) {
+            EmployeeType type = employees[i].getType();
+            int index = 0;
+            while (index < typeCount && types[index] != type) {
+                index++;
+            }
+            if (index == typeCount) {
+                if (typeCount == types.length) {
+                    types = Arrays.copyOf(types, typeCount * 2);
+                    counts = Arrays.copyOf(counts, typeCount * 2);
+                }
+                types[typeCount++] = type;
+            }
+            typeIndexes[i] = index;
+            counts[index]++;
+        }
+
+        // 種類毎に従業員と元の位置を詰める
+        Employee[][] groups = new Employee[typeCount][];
+        int[][] positions = new int[typeCount][];
+        for (int t = 0; t < typeCount; t++) {
+            groups[t] = new Employee[counts[t]];
+            positions[t] = new int[counts[t]];
+        }
+        int[] filled = new int[typeCount];
+        for (int i = 0; i < employees.length; i++) {
+            int t = typeIndexes[i];
+            groups[t][filled[t]] = employees[i];
+            positions[t][filled[t]++] = i;
+        }
+        return new Grouped(employees.length, Arrays.copyOf(types, typeCount), groups, positions);
+    }
+
+    /**
+     * 種類毎にまとめた従業員。
+     */
+    public static final class Grouped {
+
+        private final int size;
+        private final EmployeeType[] types;
+        private final Employee[][] groups;
+        private final int[][] positions;
+
+        /** 種類毎の給与額の作業領域 */
+        private final long[][] amounts;
+
+        private Grouped(int size, EmployeeType[] types, Employee[][] groups, int[][] positions) {
+            this.size = size;
+            this.types = types;
+            this.groups = groups;
+            this.positions = positions;
+            this.amounts = new long[types.length][];
+            for (int t = 0; t < types.length; t++) {
+                amounts[t] = new long[groups[t].length];
+            }
+        }
+
+        /**
+         * 給与額をまとめて求める。
+         *
+         * @return 給与額一覧 (まとめる前と同じ順序)
+         */
+        public long[] payAmounts() {
+            long[] results = new long[size];
+            payAmounts(results);
+            return results;
+        }
+
+        /**
+         * 給与額をまとめて求める。作業領域を共有するため、同時に複数のスレッドから呼び出さないこと。
+         *
+         * @param out 給与額の格納先 (まとめる前と同じ順序)
+         */
+        public void payAmounts(long[] out) {
+            for (int t = 0; t < types.length; t++) {
+                long[] groupAmounts = amounts[t];
+                types[t].payAmounts(groupAmounts, groups[t]);
+                int[] groupPositions = positions[t];
+                for (int i = 0; i < groupAmounts.length; i++) {
+                    out[groupPositions[i]] = groupAmounts[i];
+                }
+            }
+        }
+
+        /**
+         * 種類の数を取得する。
+         *
+         * @return 種類の数
+         */
+        public int getTypeCount() {
+            return types.length;
+        }
+    }
+
+    /**
+     * 給与計算ドメインの社員情報を、指定年月の給与体系の従業員に変換する。
+     *
+     * <pre>
+     * ・月給 : 役割給 + 能力給 + 通勤手当 + 住宅手当 + 勤続手当
+     * ・賞与 : 別途手当 (マネージャ職のみ)
+     * ・歩合 : 残業代 (マネージャ職以外)
+     *
+     * 種類は社員の能力等級から決め、稼動年月によらない。マネージャ職は{@link #MANAGER}、それ以外は
+     * 残業代を歩合として受け取るため{@link #SALESMAN}とする (残業代が無い月は歩合が 0 となる)。
+     * 月給のみの{@link #ENGINEER}に当たる社員は給与計算ドメインには無いため変換結果には含まれない。
+     * 給与額は{@link salarycalculation.domain.employee.Employee#getTotalSalary(int)}と一致する。
+     * </pre>
+     *
+     * @param employee 社員情報
+     * @param workYearMonth 稼動年月 (e.g. 201504)
+     * @return 従業員
+     */
+    public static Employee from(salarycalculation.domain.employee.Employee employee, int workYearMonth) {
+        BusinessDate firstDay = BusinessDate.of(workYearMonth / 100, workYearMonth % 100, 1);
+        long monthlySalary = toLong(employee.getRole().getAmount()
+                .add(employee.getCapability().getAmount())
+                .add(employee.getCommuteAmount())
+                .add(employee.getRentAmount())
+                .add(employee.getLongServiceAllowance(firstDay)));
+
+        if (employee.getCapability().isManager()) {
+            long bonus = toLong(employee.getCapability().getSeparatedAllowance());
+            return new Employee(employee.getId(), nameOf(employee), MANAGER, monthlySalary, 0L, bonus);
+        }
+        long commission = toLong(employee.getOvertimeAmount(workYearMonth));
+        return new Employee(employee.getId(), nameOf(employee), SALESMAN, monthlySalary, commission, 0L);
+    }
+
+    private static String nameOf(salarycalculation.domain.employee.Employee employee) {
+        return (employee.getName() == null) ? null : employee.getName().getFullName();
+    }
+
+    private static long toLong(Money money) {
+        return money.value().longValue();
+    }
+}
@@ -1,9 +1,22 @@
 package refactoring.after;
 
-public class Salesman extends EmployeeType {
+/**
+ * 営業の給与体系 (月給 + 歩合)。
+ *
+ * @author naotake
+ */
+public final class Salesman extends EmployeeType {
 
     @Override
-    public Long payAmount(Employee employee) {
+    public long payAmount(Employee employee) {
         return employee.getMonthlySalary() + employee.getCommission();
     }
+
+    @Override
+    public void payAmounts(long[] out, Employee[] in) {
+        for (int i = 0; i < in.length; i++) {
+            Employee e = in[i];
+            out[i] = e.getMonthlySalary() + e.getCommission();
+        }
+    }
 }
@@ -0,0 +1,110 @@
+package salarycalculation.database;
+
+import java.util.List;
+
+import org.apache.commons.dbutils.handlers.BeanHandler;
+import org.apache.commons.dbutils.handlers.BeanListHandler;
+
+import salarycalculation.database.model.AnnualIncomeRecord;
+
+/**
+ * 年間の実績給与 Dao。
+ *
+ * @author naotake
+ */
+public class AnnualIncomeDao extends BaseDao<AnnualIncomeRecord> {
+
+    /** 1 回のバッチで保存する件数 */
+    private static final int BATCH_SIZE = 500;
+
+    public AnnualIncomeDao() {
+        super();
+    }
+
+    /**
+     * 該当社員・期間の実績給与を取得する。
+     *
+     * @param employeeNo 社員番号
+     * @param period 期間の種類
+     * @param targetYear 年
+     * @return 実績給与。存在しない場合は null
+     */
+    public AnnualIncomeRecord get(int employeeNo, String period, int targetYear) {
+        String query = "select * from annualIncome where period = ? and targetYear = ? and employeeNo = ?";
+        return getByQuery("get", query, period, targetYear, employeeNo);
+    }
+
+    /**
+     * 期間の全社員の実績給与を社員番号の昇順に取得する。
+     *
+     * @param period 期間の種類
+     * @param targetYear 年
+     * @return 実績給与一覧
+     */
+    public List<AnnualIncomeRecord> findByYear(String period, int targetYear) {
+        String query = "select * from annualIncome where period = ? and targetYear = ? order by employeeNo";
+        return findByQuery("findByYear", query, period, targetYear);
+    }
+
+    /**
+     * 実績給与をまとめて保存する。同じ社員・期間の実績給与は置き換える。
+     *
+     * @param records 実績給与一覧
+     */
+    public void saveAll(List<AnnualIncomeRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        String query = "merge into annualIncome(period, targetYear, employeeNo, months, grossAmount,"
+                + " overtimeAmount, longServiceAllowance, deductionAmount, takeHomeAmount)"
+                + " key(period, targetYear, employeeNo) values(?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        Object[][] params = new Object[records.size()][];
+        for (int i = 0; i < params.length; i++) {
+            AnnualIncomeRecord record = records.get(i);
+            params[i] = new Object[] { record.getPeriod(), record.getTargetYear(), record.getEmployeeNo(),
+                    record.getMonths(), record.getGrossAmount(), record.getOvertimeAmount(),
+                    record.getLongServiceAllowance(), record.getDeductionAmount(), record.getTakeHomeAmount() };
+        }
+        batchByQuery("saveAll", query, params);
+    }
+
+    /**
+     * 期間の全社員の実績給与を削除する。
+     *
+     * @param period 期間の種類
+     * @param targetYear 年
+     * @return 削除件数
+     */
+    public int deleteByYear(String period, int targetYear) {
+        String query = "delete from annualIncome where period = ? and targetYear = ?";
+        return updateByQuery("deleteByYear", query, period, targetYear);
+    }
+
+    /**
+     * 期間の全社員の実績給与を置き換える。<br />
+     * 削除と保存は 1 つのトランザクションで行うため、途中で失敗した場合は置き換える前の実績給与が残る。
+     *
+     * @param period 期間の種類
+     * @param targetYear 年
+     * @param records 実績給与一覧
+     */
+    public void replaceByYear(String period, int targetYear, List<AnnualIncomeRecord> records) {
+        inTransaction(() -> {
+            deleteByYear(period, targetYear);
+            for (int from = 0; from < records.size(); from += BATCH_SIZE) {
+                saveAll(records.subList(from, Math.min(from + BATCH_SIZE, records.size())));
+            }
+            return null;
+        });
+    }
+
+    @Override
+    protected BeanHandler<AnnualIncomeRecord> newBeanHandler() {
+        return new BeanHandler<AnnualIncomeRecord>(AnnualIncomeRecord.class);
+    }
+
+    @Override
+    protected BeanListHandler<AnnualIncomeRecord> newBeanListHandler() {
+        return new BeanListHandler<AnnualIncomeRecord>(AnnualIncomeRecord.class);
+    }
+}
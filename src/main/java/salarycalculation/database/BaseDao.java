@@ -1,9 +1,15 @@
 package salarycalculation.database;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 
 import org.apache.commons.dbutils.QueryRunner;
 import org.apache.commons.dbutils.ResultSetHandler;
@@ -11,83 +17,274 @@ import org.apache.commons.dbutils.handlers.BeanHandler;
 import org.apache.commons.dbutils.handlers.BeanListHandler;
 import org.apache.commons.dbutils.handlers.ScalarHandler;
 
+import com.codahale.metrics.Timer;
+
 import salarycalculation.exception.RuntimeSQLException;
+import salarycalculation.utils.Instrumentation;
 
 /**
- * DbUtils を使ったデータベースアクセスの基底クラス。
+ * DbUtils を使ったデータベースアクセスの基底クラス。<br />
+ * 1 つの Dao を複数のスレッドから共有できるよう、コネクションはスレッド毎に生成して使い回す。
+ * H2 のコネクションは文の実行がコネクション単位で直列化され、トランザクションも共有されるため、
+ * スレッド間でコネクションを共有しない。
  *
  * @author naotake
  * @param <T> エンティティ型
  */
 abstract class BaseDao<T> {
 
+    /** IN 句 1 つあたりのパラメータ数の上限 */
+    static final int IN_LIST_CHUNK_SIZE = 500;
+
+    /** 固定のコネクション。指定した場合は全スレッドでこのコネクションを使用する */
     protected Connection connection;
 
-    public BaseDao() {
-        String url = "jdbc:h2:./data/salary_calculation";
+    private final ThreadLocal<Connection> threadConnection = ThreadLocal.withInitial(this::openConnection);
+    private final List<Connection> openedConnections = new CopyOnWriteArrayList<>();
+
+    private Connection openConnection() {
+        Connection opened = ConnectionFactory.open();
+        openedConnections.add(opened);
+        return opened;
+    }
+
+    /**
+     * 現在のスレッドで使用するコネクションを取得する。<br />
+     * 固定のコネクションを指定していない場合は、スレッド毎に初回の呼び出しで生成する。
+     * {@link #close()}で閉じられたコネクションは、次回の呼び出しで生成し直す。
+     *
+     * @return コネクション
+     */
+    protected Connection connection() {
+        Connection fixed = connection;
+        if (fixed != null) {
+            return fixed;
+        }
+        Connection current = threadConnection.get();
+        if (isClosed(current)) {
+            // 他のスレッドから close() された場合、このスレッドの ThreadLocal には閉じたコネクションが残る
+            openedConnections.remove(current);
+            current = openConnection();
+            threadConnection.set(current);
+        }
+        return current;
+    }
+
+    private static boolean isClosed(Connection connection) {
         try {
-            this.connection = DriverManager.getConnection(url, "sa", "");
+            return connection.isClosed();
         } catch (SQLException e) {
-            throw new RuntimeSQLException("Connection Failure", e);
+            return true;
         }
     }
 
     /**
      * クエリを基にエンティティを 1 件取得する。
      *
+     * @param name クエリ名 (計測に使用する)
      * @param query 検索クエリ
      * @param params パラメータ
      * @return 結果
      */
-    protected T getByQuery(String query, Object... params) {
+    protected T getByQuery(String name, String query, Object... params) {
         ResultSetHandler<T> rsHandler = newBeanHandler();
-        QueryRunner runner = new QueryRunner();
-
-        T result = null;
-        try {
-            result = runner.query(connection, query, rsHandler, params);
-        } catch (SQLException e) {
-            throw new RuntimeSQLException("Select Failure", e);
-        }
-        return result;
+        return execute(name, query, rsHandler, result -> (result == null) ? 0 : 1, "Select Failure", params);
     }
 
     /**
      * クエリを基にエンティティの一覧を取得する。
      *
+     * @param name クエリ名 (計測に使用する)
      * @param query 検索クエリ
      * @param params パラメータ
      * @return 結果一覧
      */
-    protected List<T> findByQuery(String query, Object... params) {
+    protected List<T> findByQuery(String name, String query, Object... params) {
         ResultSetHandler<List<T>> rsHandler = newBeanListHandler();
-        QueryRunner runner = new QueryRunner();
+        return execute(name, query, rsHandler, List::size, "Select Failure", params);
+    }
 
-        List<T> results = null;
-        try {
-            results = runner.query(connection, query, rsHandler, params);
-        } catch (SQLException e) {
-            throw new RuntimeSQLException("Select Failure", e);
+    /**
+     * キーの一覧を IN 句に展開したクエリを基にエンティティの一覧を取得する。<br />
+     * キーが上限件数を超える場合は上限件数毎にクエリを分けて実行し、結果を連結する。
+     *
+     * @param name クエリ名 (計測に使用する)
+     * @param query 検索クエリ。IN 句のパラメータの位置を {@code %s} とする
+     *        (e.g. {@code select * from employee where no in (%s)})
+     * @param keys キーの一覧 (重複しないこと)
+     * @return 結果一覧。キーが空の場合は空の一覧
+     */
+    protected List<T> findByKeys(String name, String query, Collection<?> keys) {
+        if (keys.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Object> params = new ArrayList<>(keys);
+        List<T> results = new ArrayList<>(params.size());
+        for (int from = 0; from < params.size(); from += IN_LIST_CHUNK_SIZE) {
+            List<Object> chunk = params.subList(from, Math.min(from + IN_LIST_CHUNK_SIZE, params.size()));
+            results.addAll(findByQuery(name, String.format(query, placeholders(chunk.size())), chunk.toArray()));
         }
         return results;
     }
 
+    private static String placeholders(int count) {
+        StringBuilder builder = new StringBuilder(count * 2);
+        for (int i = 0; i < count; i++) {
+            builder.append((i == 0) ? "?" : ",?");
+        }
+        return builder.toString();
+    }
+
+    /**
+     * クエリを基にエンティティを 1 件ずつ読み込み、処理に引き渡す。<br />
+     * 一覧をメモリ上に保持しないため、大量のレコードを処理する場合に使用する。
+     *
+     * @param name クエリ名 (計測に使用する)
+     * @param query 検索クエリ
+     * @param consumer エンティティ毎の処理
+     * @param params パラメータ
+     * @return 処理件数
+     */
+    protected int scanByQuery(String name, String query, Consumer<? super T> consumer, Object... params) {
+        BeanHandler<T> beanHandler = newBeanHandler();
+        ResultSetHandler<Integer> rsHandler = rs -> {
+            int rows = 0;
+            for (T bean = beanHandler.handle(rs); bean != null; bean = beanHandler.handle(rs)) {
+                consumer.accept(bean);
+                rows++;
+            }
+            return rows;
+        };
+        return execute(name, query, rsHandler, Integer::intValue, "Select Failure", params);
+    }
+
+    /**
+     * クエリを実行し、結果を 1 件ずつ読み進めるカーソルを開く。
+     *
+     * @param name クエリ名 (計測に使用する)
+     * @param query 検索クエリ
+     * @param params パラメータ
+     * @return カーソル
+     */
+    protected Cursor<T> openCursor(String name, String query, Object... params) {
+        return Cursor.open(connection(), Instrumentation.name(getClass(), name), query, newBeanHandler(), params);
+    }
+
     /**
      * クエリを基に対象レコードの件数を取得する。
      *
+     * @param name クエリ名 (計測に使用する)
      * @param query 検索クエリ
      * @param params パラメータ
      * @return 件数
      */
-    protected long countByQuery(String query, Object... params) {
+    protected long countByQuery(String name, String query, Object... params) {
         ScalarHandler<Long> scalarHandler = new ScalarHandler<Long>(1);
+        return execute(name, query, scalarHandler, result -> 1, "Count Failure", params).longValue();
+    }
+
+    /**
+     * 更新系のクエリを実行する。
+     *
+     * @param name クエリ名 (計測に使用する)
+     * @param query 更新クエリ
+     * @param params パラメータ
+     * @return 更新件数
+     */
+    protected int updateByQuery(String name, String query, Object... params) {
+        Timer.Context context = Instrumentation.start(Instrumentation.name(getClass(), name));
+        try {
+            return new QueryRunner().update(connection(), query, params);
+        } catch (SQLException e) {
+            throw new RuntimeSQLException("Update Failure", e);
+        } finally {
+            Instrumentation.stop(context);
+        }
+    }
+
+    /**
+     * 更新系のクエリをパラメータの組毎にまとめて実行する。
+     *
+     * @param name クエリ名 (計測に使用する)
+     * @param query 更新クエリ
+     * @param params パラメータの組の一覧
+     * @return パラメータの組毎の更新件数
+     */
+    protected int[] batchByQuery(String name, String query, Object[][] params) {
+        String metricName = Instrumentation.name(getClass(), name);
+        Timer.Context context = Instrumentation.start(metricName);
+        try {
+            return new QueryRunner().batch(connection(), query, params);
+        } catch (SQLException e) {
+            throw new RuntimeSQLException("Update Failure", e);
+        } finally {
+            Instrumentation.stop(context);
+            Instrumentation.update(metricName + ".rows", params.length);
+        }
+    }
+
+    /**
+     * 1 つのトランザクションで処理を実行する。<br />
+     * 処理が例外で終了した場合はロールバックする。H2 では DDL の実行時にコミットされるため、
+     * 処理には DDL を含めないこと。
+     *
+     * @param work トランザクション内で実行する処理
+     * @return 処理結果
+     */
+    protected <R> R inTransaction(Supplier<R> work) {
+        Connection connection = connection();
+        try {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                R result = work.get();
+                connection.commit();
+                return result;
+            } catch (RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeSQLException("Transaction Failure", e);
+        }
+    }
+
+    /**
+     * クエリを実行し、クエリ名毎に処理時間と取得件数を記録する。<br />
+     * 処理時間が閾値を超えた場合はスロークエリとして記録する。
+     *
+     * @param name クエリ名
+     * @param query クエリ
+     * @param rsHandler 結果の変換ハンドラ
+     * @param rowCounter 結果から取得件数を求める関数
+     * @param failureMessage 失敗時のメッセージ
+     * @param params パラメータ
+     * @return 結果
+     */
+    private <R> R execute(String name, String query, ResultSetHandler<R> rsHandler, ToIntFunction<R> rowCounter,
+            String failureMessage, Object... params) {
         QueryRunner runner = new QueryRunner();
+        Connection connection = connection();
+        String metricName = Instrumentation.name(getClass(), name);
 
-        Long result = null;
+        R result = null;
+        long start = System.nanoTime();
+        Timer.Context context = Instrumentation.start(metricName);
         try {
-            result = runner.query(connection, query, scalarHandler, params).longValue();
+            result = runner.query(connection, query, rsHandler, params);
         } catch (SQLException e) {
-            throw new RuntimeSQLException("Count Failure", e);
+            throw new RuntimeSQLException(failureMessage, e);
+        } finally {
+            Instrumentation.stop(context);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        int rows = rowCounter.applyAsInt(result);
+        Instrumentation.update(metricName + ".rows", rows);
+        if (SlowQueryLog.isSlow(elapsed)) {
+            SlowQueryLog.record(connection, metricName, query, params, rows, elapsed);
         }
         return result;
     }
@@ -96,6 +293,31 @@ abstract class BaseDao<T> {
 
     protected abstract BeanListHandler<T> newBeanListHandler();
 
+    /**
+     * コネクションを解放する。<br />
+     * 一時的に生成した Dao を使い終えた場合に呼び出す。各スレッドで生成したコネクションも全て閉じる。
+     * 閉じた後に呼び出された場合は、呼び出したスレッドで新たにコネクションを生成する。
+     */
+    public void close() {
+        SQLException failure = null;
+        List<Connection> targets = new ArrayList<>(openedConnections);
+        if (connection != null) {
+            targets.add(connection);
+        }
+        for (Connection target : targets) {
+            try {
+                target.close();
+            } catch (SQLException e) {
+                failure = (failure == null) ? e : failure;
+            }
+        }
+        openedConnections.clear();
+        threadConnection.remove();
+        if (failure != null) {
+            throw new RuntimeSQLException("Close Failure", failure);
+        }
+    }
+
     public void setConnection(Connection connection) {
         this.connection = connection;
     }
@@ -1,5 +1,8 @@
 package salarycalculation.database;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.apache.commons.dbutils.handlers.BeanHandler;
 import org.apache.commons.dbutils.handlers.BeanListHandler;
 
@@ -27,13 +30,34 @@ public class CapabilityDao extends BaseDao<CapabilityRecord> {
     public CapabilityRecord get(String rank) {
         String query = "select * from capability where rank = ?";
 
-        CapabilityRecord result = getByQuery(query, rank);
+        CapabilityRecord result = getByQuery("get", query, rank);
         if (result == null) {
-            throw new RecordNotFoundException(Capability.class, rank);
+            throw RecordNotFoundException.withoutStackTrace(Capability.class, rank);
         }
         return result;
     }
 
+    /**
+     * 等級の一覧を取得する。
+     *
+     * @return 等級一覧
+     */
+    public List<CapabilityRecord> findAll() {
+        String query = "select * from capability order by rank";
+        return findByQuery("findAll", query);
+    }
+
+    /**
+     * 複数の等級を基に能力等級の一覧を取得する。
+     *
+     * @param ranks 等級一覧 (重複しないこと)
+     * @return 能力等級一覧 (順不同)
+     */
+    public List<CapabilityRecord> findByRanks(Collection<String> ranks) {
+        String query = "select * from capability where rank in (%s)";
+        return findByKeys("findByRanks", query, ranks);
+    }
+
     @Override
     protected BeanHandler<CapabilityRecord> newBeanHandler() {
         return new BeanHandler<CapabilityRecord>(CapabilityRecord.class);
@@ -0,0 +1,49 @@
+package salarycalculation.database;
+
+import java.sql.Connection;
+
+/**
+ * データベースへのコネクションを生成するクラス。<br />
+ * 接続先は {@link #setStorage(Storage)}で切り替える。既定は組み込みのファイルデータベース。
+ *
+ * @author naotake
+ */
+public final class ConnectionFactory {
+
+    /** 既定の格納先 */
+    public static final Storage DEFAULT_STORAGE = Storage.file("./data/salary_calculation");
+
+    private static volatile Storage storage = DEFAULT_STORAGE;
+
+    private ConnectionFactory() {
+        // utility
+    }
+
+    /**
+     * コネクションを生成する。
+     *
+     * @return コネクション
+     */
+    public static Connection open() {
+        return storage.open();
+    }
+
+    /**
+     * 接続先の格納先を取得する。
+     *
+     * @return 格納先
+     */
+    public static Storage getStorage() {
+        return storage;
+    }
+
+    /**
+     * 接続先の格納先を切り替える。<br />
+     * 切り替え前に生成したコネクションは、切り替え前の格納先に接続したままとなる。
+     *
+     * @param storage 格納先
+     */
+    public static void setStorage(Storage storage) {
+        ConnectionFactory.storage = storage;
+    }
+}
@@ -0,0 +1,148 @@
+package salarycalculation.database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.apache.commons.dbutils.handlers.BeanHandler;
+
+import com.codahale.metrics.Timer;
+
+import salarycalculation.exception.RuntimeSQLException;
+import salarycalculation.utils.Instrumentation;
+
+/**
+ * 検索結果を 1 件ずつ読み進めるカーソル。<br />
+ * {@link BaseDao#scanByQuery}と異なり呼び出し側が読み進めるタイミングを制御できるため、
+ * 複数のカーソルを突き合わせながら読む場合に使用する。使い終えたら必ず {@link #close()}すること。
+ *
+ * @author naotake
+ * @param <T> エンティティ型
+ */
+public final class Cursor<T> implements Iterator<T>, AutoCloseable {
+
+    /** 1 回の通信で取得する件数 */
+    private static final int FETCH_SIZE = 1000;
+
+    private final String metricName;
+    private final PreparedStatement statement;
+    private final ResultSet resultSet;
+    private final BeanHandler<T> beanHandler;
+
+    private T next;
+    private boolean exhausted;
+    private boolean closed;
+    private int rows;
+
+    private Cursor(String metricName, PreparedStatement statement, ResultSet resultSet, BeanHandler<T> beanHandler) {
+        this.metricName = metricName;
+        this.statement = statement;
+        this.resultSet = resultSet;
+        this.beanHandler = beanHandler;
+    }
+
+    /**
+     * クエリを実行し、カーソルを開く。
+     *
+     * @param connection コネクション
+     * @param metricName メトリクス名
+     * @param query 検索クエリ
+     * @param beanHandler 1 行をエンティティに変換するハンドラ
+     * @param params パラメータ
+     * @return カーソル
+     */
+    static <T> Cursor<T> open(Connection connection, String metricName, String query, BeanHandler<T> beanHandler,
+            Object... params) {
+        PreparedStatement statement;
+        try {
+            statement = connection.prepareStatement(query);
+        } catch (SQLException e) {
+            throw new RuntimeSQLException("Select Failure", e);
+        }
+
+        long start = System.nanoTime();
+        Timer.Context context = Instrumentation.start(metricName);
+        try {
+            statement.setFetchSize(FETCH_SIZE);
+            for (int i = 0; i < params.length; i++) {
+                statement.setObject(i + 1, params[i]);
+            }
+            ResultSet resultSet = statement.executeQuery();
+            return new Cursor<>(metricName, statement, resultSet, beanHandler);
+        } catch (SQLException e) {
+            closeQuietly(statement);
+            throw new RuntimeSQLException("Select Failure", e);
+        } finally {
+            Instrumentation.stop(context);
+            long elapsed = System.nanoTime() - start;
+            if (SlowQueryLog.isSlow(elapsed)) {
+                // 件数は読み進めるまで分からないため -1 とする
+                SlowQueryLog.record(connection, metricName, query, params, -1, elapsed);
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !exhausted) {
+            if (closed) {
+                throw new IllegalStateException("カーソルは既に閉じられています[" + metricName + "]");
+            }
+            try {
+                next = beanHandler.handle(resultSet);
+            } catch (SQLException e) {
+                throw new RuntimeSQLException("Select Failure", e);
+            }
+            exhausted = (next == null);
+        }
+        return next != null;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T result = next;
+        next = null;
+        rows++;
+        return result;
+    }
+
+    /**
+     * 次の要素を読み進めずに参照する。
+     *
+     * @return 次の要素。存在しない場合は null
+     */
+    public T peek() {
+        return hasNext() ? next : null;
+    }
+
+    /**
+     * カーソルを閉じ、読み込んだ件数を記録する。
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        Instrumentation.update(metricName + ".rows", rows);
+        closeQuietly(statement);
+    }
+
+    private static void closeQuietly(PreparedStatement statement) {
+        if (statement == null) {
+            return;
+        }
+        try {
+            // ResultSet も合わせて閉じられる
+            statement.close();
+        } catch (SQLException e) {
+            throw new RuntimeSQLException("Close Failure", e);
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package salarycalculation.database;
 
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.apache.commons.dbutils.handlers.BeanHandler;
 import org.apache.commons.dbutils.handlers.BeanListHandler;
@@ -20,21 +24,66 @@ public class EmployeeDao extends BaseDao<EmployeeRecord> {
     }
 
     /**
-     * 社員番号を基に社員情報を取得する。
+     * 社員番号を基に社員情報を取得する。<br />
+     * {@link EmployeeKeyFilter}が有効な場合、確実に存在しない社員番号はクエリを実行せずに例外とする。
      *
      * @param no 社員番号
      * @return 社員情報
      */
     public EmployeeRecord get(String no) {
+        if (!EmployeeKeyFilter.mightContain(connection(), no)) {
+            throw RecordNotFoundException.withoutStackTrace(EmployeeRecord.class, no);
+        }
         String query = "select * from employee where no = ?";
 
-        EmployeeRecord result = getByQuery(query, no);
+        EmployeeRecord result = getByQuery("get", query, no);
         if (result == null) {
-            throw new RecordNotFoundException(EmployeeRecord.class, no);
+            EmployeeKeyFilter.recordFalsePositive();
+            throw RecordNotFoundException.withoutStackTrace(EmployeeRecord.class, no);
         }
         return result;
     }
 
+    /**
+     * 社員番号を基に、指定した列のみの社員情報を取得する。<br />
+     * 指定していない列は設定しない (数値は 0、それ以外は null となる)。
+     *
+     * @param no 社員番号
+     * @param columns 列名一覧 (クエリにそのまま埋め込むため、コード上の定数のみを指定すること)
+     * @return 社員情報
+     */
+    public EmployeeRecord get(String no, Collection<String> columns) {
+        if (!EmployeeKeyFilter.mightContain(connection(), no)) {
+            throw RecordNotFoundException.withoutStackTrace(EmployeeRecord.class, no);
+        }
+        String query = "select " + String.join(", ", columns) + " from employee where no = ?";
+
+        EmployeeRecord result = getByQuery("getColumns", query, no);
+        if (result == null) {
+            EmployeeKeyFilter.recordFalsePositive();
+            throw RecordNotFoundException.withoutStackTrace(EmployeeRecord.class, no);
+        }
+        return result;
+    }
+
+    /**
+     * 複数の社員番号を基に社員情報の一覧を取得する。<br />
+     * 存在しない社員番号は結果に含まれない。
+     *
+     * @param nos 社員番号一覧 (重複しないこと)
+     * @return 社員情報一覧 (順不同)
+     */
+    public List<EmployeeRecord> findByNos(Collection<Integer> nos) {
+        List<Integer> candidates = new ArrayList<>(nos.size());
+        for (Integer no : nos) {
+            if (EmployeeKeyFilter.mightContain(connection(), no)) {
+                candidates.add(no);
+            }
+        }
+        String query = "select * from employee where no in (%s)";
+        return findByKeys("findByNos", query, candidates);
+    }
+
     /**
      * 社員情報の一覧を取得する。<br />
      * 一覧は社員番号の指定したソート順に並び替えられている。
@@ -44,7 +93,79 @@ public class EmployeeDao extends BaseDao<EmployeeRecord> {
      */
     public List<EmployeeRecord> findAll(boolean ascending) {
         String query = "select * from employee order by no " + (ascending ? "asc" : "desc");
-        return findByQuery(query);
+        return findByQuery("findAll", query);
+    }
+
+    /**
+     * 社員情報を社員番号の昇順に 1 件ずつ読み込み、処理に引き渡す。<br />
+     * 社員情報の一覧をメモリ上に保持しない。
+     *
+     * @param consumer 社員情報毎の処理
+     * @return 処理件数
+     */
+    public int scanAll(Consumer<? super EmployeeRecord> consumer) {
+        String query = "select * from employee order by no";
+        return scanByQuery("scanAll", query, consumer);
+    }
+
+    /**
+     * 全ての社員情報を社員番号の昇順に読み進めるカーソルを開く。
+     *
+     * @return カーソル
+     */
+    public Cursor<EmployeeRecord> openCursorAll() {
+        return openCursor("openCursorAll", "select * from employee order by no");
+    }
+
+    /**
+     * 社員番号が指定した範囲に含まれる社員情報を社員番号の昇順に読み進めるカーソルを開く。
+     *
+     * @param range 社員番号の範囲
+     * @return カーソル
+     */
+    public Cursor<EmployeeRecord> openCursorByRange(KeyRange range) {
+        String query = "select * from employee where no >= ? and no < ? order by no";
+        return openCursor("openCursorByRange", query, range.getFromNo(), range.getToNo());
+    }
+
+    /**
+     * 社員情報の件数を取得する。
+     *
+     * @return 件数
+     */
+    public long count() {
+        return countByQuery("count", "select count(*) from employee");
+    }
+
+    /**
+     * 最小の社員番号を取得する。
+     *
+     * @return 最小の社員番号。社員が存在しない場合は 0
+     */
+    public int getMinNo() {
+        String query = "select cast(coalesce(min(no), 0) as bigint) from employee";
+        return (int) countByQuery("getMinNo", query);
+    }
+
+    /**
+     * 社員番号の昇順で指定した位置にある社員番号を取得する。
+     *
+     * @param offset 位置 (先頭は 0)
+     * @return 社員番号
+     */
+    public int getNoAt(long offset) {
+        String query = "select cast(no as bigint) from employee order by no limit 1 offset ?";
+        return (int) countByQuery("getNoAt", query, offset);
+    }
+
+    /**
+     * 最大の社員番号を取得する。
+     *
+     * @return 最大の社員番号。社員が存在しない場合は 0
+     */
+    public int getMaxNo() {
+        String query = "select cast(coalesce(max(no), 0) as bigint) from employee";
+        return (int) countByQuery("getMaxNo", query);
     }
 
     /**
@@ -55,7 +176,7 @@ public class EmployeeDao extends BaseDao<EmployeeRecord> {
      */
     public List<EmployeeRecord> findByRole(String rank) {
         String query = "select * from employee where roleRank = ? order by no";
-        return findByQuery(query, rank);
+        return findByQuery("findByRole", query, rank);
     }
 
     /**
@@ -66,7 +187,77 @@ public class EmployeeDao extends BaseDao<EmployeeRecord> {
      */
     public List<EmployeeRecord> findByCapability(String rank) {
         String query = "select * from employee where capabilityRank = ? order by no";
-        return findByQuery(query, rank);
+        return findByQuery("findByCapability", query, rank);
+    }
+
+    /**
+     * 検索条件に該当する社員情報の一覧を取得する。<br />
+     * 条件を 1 つのパラメータ化したクエリにまとめ、カーソルより後ろの社員を並び順のキーと社員番号の順に
+     * 取得件数まで取得する。一覧表示用に、社員番号・社員名・組織・等級・入社年月日の列のみを読み込む。
+     *
+     * @param criteria 検索条件
+     * @return 社員情報一覧
+     */
+    public List<EmployeeRecord> search(EmployeeSearchCriteria criteria) {
+        StringBuilder query = new StringBuilder(
+                "select no, name, organization, roleRank, capabilityRank, joinDate from employee where 1 = 1");
+        List<Object> params = new ArrayList<>();
+
+        appendCondition(query, params, "roleRank = ?", criteria.getRole());
+        appendCondition(query, params, "capabilityRank = ?", criteria.getCapability());
+        appendCondition(query, params, "organization = ?", criteria.getOrganization());
+        appendCondition(query, params, "joinDate < ?",
+                (criteria.getJoinedBefore() == null) ? null : Date.valueOf(criteria.getJoinedBefore()));
+        if (criteria.hasCursor()) {
+            appendCursor(query, params, criteria);
+        }
+
+        String direction = criteria.isDescending() ? " desc" : " asc";
+        query.append(" order by ");
+        if (criteria.getSort() != EmployeeSearchCriteria.Sort.NO) {
+            query.append(criteria.getSort().getColumn()).append(direction)
+                    .append(criteria.isDescending() ? " nulls last, " : " nulls first, ");
+        }
+        query.append("no").append(direction).append(" limit ?");
+        params.add(criteria.getLimit());
+
+        return findByQuery("search", query.toString(), params.toArray());
+    }
+
+    private static void appendCondition(StringBuilder query, List<Object> params, String condition, Object value) {
+        if (value != null) {
+            query.append(" and ").append(condition);
+            params.add(value);
+        }
+    }
+
+    /**
+     * 前のページの最後の社員より後ろに並ぶ社員の条件を追加する。<br />
+     * 並び順のキーが null の社員は昇順では先頭、降順では末尾に並ぶため、キーが null の場合を分けて比較する。
+     */
+    private static void appendCursor(StringBuilder query, List<Object> params, EmployeeSearchCriteria criteria) {
+        String compare = criteria.isDescending() ? "<" : ">";
+        if (criteria.getSort() == EmployeeSearchCriteria.Sort.NO) {
+            query.append(" and no ").append(compare).append(" ?");
+            params.add(criteria.getAfterNo());
+            return;
+        }
+
+        String column = criteria.getSort().getColumn();
+        String key = criteria.getAfterKey();
+        if (key == null) {
+            query.append(" and ((").append(column).append(" is null and no ").append(compare).append(" ?)");
+            query.append(criteria.isDescending() ? ")" : " or " + column + " is not null)");
+            params.add(criteria.getAfterNo());
+            return;
+        }
+        query.append(" and (").append(column).append(" ").append(compare).append(" ?");
+        query.append(" or (").append(column).append(" = ? and no ").append(compare).append(" ?)");
+        query.append(criteria.isDescending() ? " or " + column + " is null)" : ")");
+        Object parameter = criteria.getSort().toParameter(key);
+        params.add(parameter);
+        params.add(parameter);
+        params.add(criteria.getAfterNo());
     }
 
     /**
@@ -77,7 +268,7 @@ public class EmployeeDao extends BaseDao<EmployeeRecord> {
      */
     public long countByOrganization(String organizationCode) {
         String query = "select count(*) from employee where organization = ?";
-        return countByQuery(query, organizationCode);
+        return countByQuery("countByOrganization", query, organizationCode);
     }
 
     @Override
@@ -0,0 +1,240 @@
+package salarycalculation.database;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.dbutils.QueryRunner;
+import org.apache.commons.dbutils.handlers.ColumnListHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+
+import salarycalculation.exception.RuntimeSQLException;
+import salarycalculation.utils.Instrumentation;
+
+/**
+ * 社員番号のブルームフィルタを保持するクラス。
+ * <p />
+ * 存在しない社員番号の検索 (ランダムな社員番号での走査など) をクエリの実行前に打ち切るため、
+ * {@code employee} テーブルの社員番号を初回参照時に読み込み、データベース毎に保持する。
+ * フィルタが「含まない」と判定した社員番号は確実に存在しない。「含む」と判定した場合でも
+ * 誤判定 (偽陽性) の可能性があるため、クエリで確認する。
+ * <p />
+ * フィルタは読み込んだ時点の社員番号のみを含むため、その後に登録された社員は読み込み直すまで
+ * 存在しないと判定される。社員を登録した場合は {@link #add(int)}でフィルタに追加し、
+ * アプリケーション外で登録・削除した場合は {@link #rebuild()}で読み込み直すこと
+ * (アプリケーションでは一定間隔で読み込み直す)。有効化しない限りフィルタは使用しない。
+ *
+ * @author naotake
+ */
+public final class EmployeeKeyFilter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmployeeKeyFilter.class);
+
+    private static final String FILTERED = Instrumentation.name(EmployeeKeyFilter.class, "filtered");
+    private static final String PASSED = Instrumentation.name(EmployeeKeyFilter.class, "passed");
+    private static final String FALSE_POSITIVE = Instrumentation.name(EmployeeKeyFilter.class, "falsePositive");
+
+    /** フィルタの最小の想定件数 */
+    private static final int MIN_EXPECTED_KEYS = 1024;
+
+    /** データベースの URL 毎のフィルタ */
+    private static final Map<String, Filter> FILTERS = new ConcurrentHashMap<>();
+
+    private static volatile boolean enabled = false;
+    private static volatile double falsePositiveRate = 0.01;
+
+    private EmployeeKeyFilter() {
+        // utility
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        EmployeeKeyFilter.enabled = enabled;
+    }
+
+    /**
+     * 偽陽性の確率を指定する。次回の読み込みから有効となる。
+     *
+     * @param falsePositiveRate 偽陽性の確率 (0 より大きく 1 未満)
+     */
+    public static void setFalsePositiveRate(double falsePositiveRate) {
+        if (falsePositiveRate <= 0.0 || falsePositiveRate >= 1.0) {
+            throw new IllegalArgumentException("偽陽性の確率は 0 より大きく 1 未満で指定してください["
+                    + falsePositiveRate + "]");
+        }
+        EmployeeKeyFilter.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * 社員番号が存在する可能性があるかを判定する。<br />
+     * 無効な場合は常に true を返す。数値でない社員番号は存在しないと判定する。
+     *
+     * @param connection コネクション
+     * @param no 社員番号
+     * @return 存在する可能性がある場合は true。確実に存在しない場合は false
+     */
+    static boolean mightContain(Connection connection, String no) {
+        return mightContain(connection, toKey(no));
+    }
+
+    /**
+     * 社員番号が存在する可能性があるかを判定する。<br />
+     * 無効な場合は常に true を返す。
+     *
+     * @param connection コネクション
+     * @param no 社員番号
+     * @return 存在する可能性がある場合は true。確実に存在しない場合は false
+     */
+    static boolean mightContain(Connection connection, Integer no) {
+        if (!enabled) {
+            return true;
+        }
+        boolean result = (no != null) && filterOf(connection).mightContain(no);
+        Instrumentation.count(result ? PASSED : FILTERED);
+        return result;
+    }
+
+    /**
+     * フィルタを通過した社員番号が存在しなかった (偽陽性だった) ことを記録する。
+     */
+    static void recordFalsePositive() {
+        if (enabled) {
+            Instrumentation.count(FALSE_POSITIVE);
+        }
+    }
+
+    /**
+     * 登録した社員番号を現在の格納先 ({@link ConnectionFactory}) のフィルタに追加する。<br />
+     * 無効な場合やフィルタを読み込んでいない場合は何もしない (次回参照時の読み込みに含まれる)。
+     *
+     * @param no 社員番号
+     */
+    public static void add(int no) {
+        if (!enabled) {
+            return;
+        }
+        try (Connection connection = ConnectionFactory.open()) {
+            Filter filter = FILTERS.get(urlOf(connection));
+            if (filter != null) {
+                filter.put(no);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeSQLException("Close Failure", e);
+        }
+    }
+
+    /**
+     * 現在の格納先 ({@link ConnectionFactory}) のフィルタを読み込み直す。
+     *
+     * @return 読み込んだ社員番号の件数と想定の偽陽性の確率 (e.g. {@code keys=4, fpp=0.0000})
+     */
+    public static String rebuild() {
+        try (Connection connection = ConnectionFactory.open()) {
+            Filter filter = load(connection);
+            FILTERS.put(urlOf(connection), filter);
+            return filter.toString();
+        } catch (SQLException e) {
+            throw new RuntimeSQLException("Close Failure", e);
+        }
+    }
+
+    /**
+     * 定期実行用に、有効な場合のみフィルタを読み込み直す。<br />
+     * 読み込みに失敗した場合は、以降の定期実行を止めないよう例外を送出せずに記録し、現在のフィルタを使い続ける。
+     */
+    public static void rebuildIfEnabled() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            LOGGER.debug("Employee key filter rebuilt: {}", rebuild());
+        } catch (RuntimeException e) {
+            LOGGER.warn("Employee key filter rebuild failed", e);
+        }
+    }
+
+    /**
+     * 保持している全てのフィルタを破棄し、次回参照時に読み込み直す。
+     */
+    public static void invalidate() {
+        FILTERS.clear();
+    }
+
+    private static Filter filterOf(Connection connection) {
+        String url = urlOf(connection);
+        Filter filter = FILTERS.get(url);
+        if (filter != null) {
+            return filter;
+        }
+        // 全件の読み込みの間、他のデータベースのフィルタの参照を妨げないようマップの外で読み込む
+        Filter loaded = load(connection);
+        Filter raced = FILTERS.putIfAbsent(url, loaded);
+        return (raced != null) ? raced : loaded;
+    }
+
+    private static String urlOf(Connection connection) {
+        try {
+            return connection.getMetaData().getURL();
+        } catch (SQLException e) {
+            throw new RuntimeSQLException("Select Failure", e);
+        }
+    }
+
+    private static Filter load(Connection connection) {
+        try {
+            List<Number> nos = new QueryRunner().query(connection, "select no from employee",
+                    new ColumnListHandler<Number>(1));
+            Filter filter = new Filter(Math.max(MIN_EXPECTED_KEYS, nos.size()), falsePositiveRate);
+            for (Number no : nos) {
+                filter.put(no.intValue());
+            }
+            return filter;
+        } catch (SQLException e) {
+            throw new RuntimeSQLException("Select Failure", e);
+        }
+    }
+
+    private static Integer toKey(String no) {
+        try {
+            return (no == null) ? null : Integer.valueOf(no.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 1 データベース分のフィルタ。追加は排他し、判定は排他しない。
+     */
+    private static final class Filter {
+
+        private final BloomFilter<Integer> bloomFilter;
+        private int keys;
+
+        Filter(int expectedKeys, double falsePositiveRate) {
+            this.bloomFilter = BloomFilter.create(Funnels.integerFunnel(), expectedKeys, falsePositiveRate);
+        }
+
+        boolean mightContain(int no) {
+            return bloomFilter.mightContain(no);
+        }
+
+        synchronized void put(int no) {
+            bloomFilter.put(no);
+            keys++;
+        }
+
+        @Override
+        public synchronized String toString() {
+            return String.format("keys=%d, fpp=%.4f", keys, bloomFilter.expectedFpp());
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package salarycalculation.database;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.function.Function;
+
+import salarycalculation.database.model.EmployeeRecord;
+
+/**
+ * 社員情報の検索条件。<br />
+ * 指定した条件を全て満たす社員を、並び順のキーと社員番号の順に取得する。
+ * 2 ページ目以降は前のページの最後の社員から作ったカーソル ({@link #next(EmployeeRecord)}) を指定する
+ * (キーセットページング)。OFFSET を使わないため、後ろのページでも読み飛ばしが発生しない。
+ *
+ * @author naotake
+ */
+public class EmployeeSearchCriteria {
+
+    /**
+     * 並び順のキー。値が null の社員は昇順では先頭、降順では末尾に並べる。
+     */
+    public enum Sort {
+        /** 社員番号 */
+        NO("no", e -> null),
+        /** 社員名 */
+        NAME("name", EmployeeRecord::getName),
+        /** 入社年月日 */
+        JOIN_DATE("joinDate", e -> (e.getJoinDate() == null) ? null : e.getJoinDate().toString());
+
+        private final String column;
+        private final Function<EmployeeRecord, String> key;
+
+        private Sort(String column, Function<EmployeeRecord, String> key) {
+            this.column = column;
+            this.key = key;
+        }
+
+        String getColumn() {
+            return column;
+        }
+
+        /**
+         * 並び順の名前から並び順のキーを取得する (e.g. {@code joinDate})。
+         *
+         * @param name 並び順の名前 (列名)
+         * @return 並び順のキー
+         * @throws IllegalArgumentException 不正な名前の場合
+         */
+        public static Sort of(String name) {
+            for (Sort sort : values()) {
+                if (sort.column.equalsIgnoreCase(name)) {
+                    return sort;
+                }
+            }
+            throw new IllegalArgumentException("不正な並び順です[" + name + "]");
+        }
+
+        /**
+         * カーソルのキーをクエリのパラメータに変換する。
+         */
+        Object toParameter(String value) {
+            return (this == JOIN_DATE) ? Date.valueOf(LocalDate.parse(value)) : value;
+        }
+    }
+
+    private String role;
+    private String capability;
+    private String organization;
+    private LocalDate joinedBefore;
+
+    private Sort sort = Sort.NO;
+    private boolean descending;
+    private int limit = 50;
+
+    /** 前のページの最後の社員のキー (キーが null の場合も含むため、有無は {@link #hasCursor} で判定する) */
+    private String afterKey;
+    private Integer afterNo;
+
+    /**
+     * 並び順を {@code sort} パラメータの形式で指定する。先頭が {@code -} の場合は降順とする
+     * (e.g. {@code -joinDate})。
+     *
+     * @param expression 並び順。null または空の場合は社員番号の昇順
+     * @return この検索条件
+     */
+    public EmployeeSearchCriteria sortBy(String expression) {
+        if (expression == null || expression.trim().isEmpty()) {
+            this.sort = Sort.NO;
+            this.descending = false;
+            return this;
+        }
+        String name = expression.trim();
+        this.descending = name.startsWith("-");
+        this.sort = Sort.of(descending ? name.substring(1) : name);
+        return this;
+    }
+
+    /**
+     * 前のページの最後の社員から、次のページのカーソルを作る。
+     *
+     * @param last 前のページの最後の社員 (並び順のキーの列を含むこと)
+     * @return カーソル
+     */
+    public String next(EmployeeRecord last) {
+        String key = sort.key.apply(last);
+        String value = sort.name().toLowerCase(Locale.ROOT) + ":" + (descending ? "-" : "+") + ":"
+                + ((key == null) ? "" : "=" + key) + ":" + last.getNo();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * {@link #next(EmployeeRecord)}で作ったカーソルを指定する。並び順は先に指定しておくこと。
+     *
+     * @param cursor カーソル。null の場合は先頭のページ
+     * @return この検索条件
+     * @throws IllegalArgumentException 不正なカーソル、または並び順が異なるカーソルの場合
+     */
+    public EmployeeSearchCriteria after(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            this.afterKey = null;
+            this.afterNo = null;
+            return this;
+        }
+        String value = decode(cursor);
+        // キーにコロンを含む場合があるため、並び順と社員番号の位置から切り出す
+        int first = value.indexOf(':');
+        int second = value.indexOf(':', first + 1);
+        int last = value.lastIndexOf(':');
+        if (first < 0 || second < 0 || last <= second) {
+            throw new IllegalArgumentException("不正なカーソルです[" + cursor + "]");
+        }
+        String expected = sort.name().toLowerCase(Locale.ROOT) + ":" + (descending ? "-" : "+");
+        if (!value.substring(0, second).equals(expected)) {
+            throw new IllegalArgumentException("並び順が異なるカーソルです[" + cursor + "]");
+        }
+
+        String key = value.substring(second + 1, last);
+        if (!isValidKey(key)) {
+            throw new IllegalArgumentException("不正なカーソルです[" + cursor + "]");
+        }
+        try {
+            this.afterNo = Integer.valueOf(value.substring(last + 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("不正なカーソルです[" + cursor + "]", e);
+        }
+        this.afterKey = key.isEmpty() ? null : key.substring(1);
+        return this;
+    }
+
+    private static String decode(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("不正なカーソルです[" + cursor + "]", e);
+        }
+    }
+
+    private boolean isValidKey(String key) {
+        if (key.isEmpty()) {
+            return true;
+        }
+        if (sort == Sort.NO || !key.startsWith("=")) {
+            return false;
+        }
+        if (sort == Sort.JOIN_DATE) {
+            try {
+                LocalDate.parse(key.substring(1));
+            } catch (DateTimeParseException e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    boolean hasCursor() {
+        return afterNo != null;
+    }
+
+    String getAfterKey() {
+        return afterKey;
+    }
+
+    Integer getAfterNo() {
+        return afterNo;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public EmployeeSearchCriteria setRole(String role) {
+        this.role = role;
+        return this;
+    }
+
+    public String getCapability() {
+        return capability;
+    }
+
+    public EmployeeSearchCriteria setCapability(String capability) {
+        this.capability = capability;
+        return this;
+    }
+
+    public String getOrganization() {
+        return organization;
+    }
+
+    public EmployeeSearchCriteria setOrganization(String organization) {
+        this.organization = organization;
+        return this;
+    }
+
+    public LocalDate getJoinedBefore() {
+        return joinedBefore;
+    }
+
+    /**
+     * 入社年月日の条件を指定する。指定した日付より前に入社した社員を対象とする。
+     *
+     * @param joinedBefore 入社年月日 (この日付を含まない)
+     * @return この検索条件
+     */
+    public EmployeeSearchCriteria setJoinedBefore(LocalDate joinedBefore) {
+        this.joinedBefore = joinedBefore;
+        return this;
+    }
+
+    public Sort getSort() {
+        return sort;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public EmployeeSearchCriteria setLimit(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("取得件数は 1 以上で指定してください[" + limit + "]");
+        }
+        this.limit = limit;
+        return this;
+    }
+}
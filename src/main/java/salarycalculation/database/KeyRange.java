@@ -0,0 +1,72 @@
+package salarycalculation.database;
+
+/**
+ * 社員番号の範囲 (下限を含み、上限を含まない)。<br />
+ * {@link KeyRangePartitioner}が分割した区間を表す。
+ *
+ * @author naotake
+ */
+public final class KeyRange {
+
+    private final int fromNo;
+    private final int toNo;
+    private final long estimatedRows;
+
+    public KeyRange(int fromNo, int toNo, long estimatedRows) {
+        if (toNo < fromNo) {
+            throw new IllegalArgumentException("範囲の指定が不正です[" + fromNo + " - " + toNo + "]");
+        }
+        this.fromNo = fromNo;
+        this.toNo = toNo;
+        this.estimatedRows = estimatedRows;
+    }
+
+    /**
+     * 社員番号が範囲に含まれるかを判定する。
+     *
+     * @param no 社員番号
+     * @return 含まれる場合は true
+     */
+    public boolean contains(int no) {
+        return fromNo <= no && no < toNo;
+    }
+
+    public int getFromNo() {
+        return fromNo;
+    }
+
+    public int getToNo() {
+        return toNo;
+    }
+
+    /**
+     * 範囲に含まれる社員の見込み件数を取得する。
+     *
+     * @return 見込み件数
+     */
+    public long getEstimatedRows() {
+        return estimatedRows;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * fromNo + toNo;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof KeyRange)) {
+            return false;
+        }
+        KeyRange other = (KeyRange) obj;
+        return fromNo == other.fromNo && toNo == other.toNo;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + fromNo + ", " + toNo + ")";
+    }
+}
@@ -0,0 +1,63 @@
+package salarycalculation.database;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 社員番号のキー空間を、件数がほぼ均等な区間に分割するクラス。
+ * <p />
+ * 社員番号は欠番や偏りがあるため、最小値・最大値で等分するのではなく、件数を基に
+ * 区間境界となる位置 (件数 × i / 分割数 番目) の社員番号を主キーの索引から標本として取得する。
+ * 問い合わせは分割数に比例する回数だけで、社員情報の件数によらない。
+ *
+ * @author naotake
+ */
+public class KeyRangePartitioner {
+
+    private EmployeeDao dao;
+
+    public KeyRangePartitioner() {
+        this.dao = new EmployeeDao();
+    }
+
+    /**
+     * 全社員を指定した数の区間に分割する。<br />
+     * 社員数が分割数より少ない場合は、社員数の区間に分割する。
+     * 区間は社員番号の昇順に並び、全ての社員はいずれか 1 つの区間に含まれる。
+     *
+     * @param partitions 分割数
+     * @return 区間一覧。社員が存在しない場合は空
+     */
+    public List<KeyRange> partition(int partitions) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("分割数は 1 以上を指定してください[" + partitions + "]");
+        }
+        long count = dao.count();
+        if (count == 0) {
+            return Collections.emptyList();
+        }
+        int minNo = dao.getMinNo();
+        int maxNo = dao.getMaxNo();
+
+        List<KeyRange> ranges = new ArrayList<>(partitions);
+        int fromNo = minNo;
+        long fromOffset = 0;
+        for (int i = 1; i < partitions; i++) {
+            long offset = count * i / partitions;
+            if (offset == fromOffset) {
+                continue;
+            }
+            int boundary = dao.getNoAt(offset);
+            ranges.add(new KeyRange(fromNo, boundary, offset - fromOffset));
+            fromNo = boundary;
+            fromOffset = offset;
+        }
+        ranges.add(new KeyRange(fromNo, maxNo + 1, count - fromOffset));
+        return ranges;
+    }
+
+    public void setDao(EmployeeDao dao) {
+        this.dao = dao;
+    }
+}
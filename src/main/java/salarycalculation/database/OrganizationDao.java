@@ -1,5 +1,8 @@
 package salarycalculation.database;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.apache.commons.dbutils.handlers.BeanHandler;
 import org.apache.commons.dbutils.handlers.BeanListHandler;
 
@@ -26,13 +29,24 @@ public class OrganizationDao extends BaseDao<OrganizationRecord> {
     public OrganizationRecord get(String code) {
         String query = "select * from organization where code = ?";
 
-        OrganizationRecord result = getByQuery(query, code);
+        OrganizationRecord result = getByQuery("get", query, code);
         if (result == null) {
-            throw new RecordNotFoundException(OrganizationRecord.class, code);
+            throw RecordNotFoundException.withoutStackTrace(OrganizationRecord.class, code);
         }
         return result;
     }
 
+    /**
+     * 複数の組織コードを基に組織情報の一覧を取得する。
+     *
+     * @param codes 組織コード一覧 (重複しないこと)
+     * @return 組織情報一覧 (順不同)
+     */
+    public List<OrganizationRecord> findByCodes(Collection<String> codes) {
+        String query = "select * from organization where code in (%s)";
+        return findByKeys("findByCodes", query, codes);
+    }
+
     @Override
     protected BeanHandler<OrganizationRecord> newBeanHandler() {
         return new BeanHandler<OrganizationRecord>(OrganizationRecord.class);
@@ -0,0 +1,165 @@
+package salarycalculation.database;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 社員番号の区間毎に専用のコネクションで読み込む、並列処理向けの {@link Spliterator}。
+ * <p />
+ * 分割は区間単位で行い、区間の途中では分割しない。各区間は読み始める時点で
+ * {@link Segment}を開き、読み終えた時点で閉じるため、同時に開くコネクションは並列度までとなる。
+ * 並列ストリームとして使用すると、区間毎に別々のスレッドで読み込む。
+ *
+ * @author naotake
+ * @param <T> 要素の型
+ */
+public final class PartitionedSpliterator<T> implements Spliterator<T> {
+
+    /**
+     * 1 区間分の読み込み。区間専用のコネクション・カーソルを保持する。
+     *
+     * @param <T> 要素の型
+     */
+    public interface Segment<T> extends Iterator<T>, AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    private final KeyRange[] ranges;
+    private final Function<? super KeyRange, ? extends Segment<T>> opener;
+    private final Set<Segment<T>> openSegments;
+
+    private int index;
+    private final int fence;
+    private Segment<T> current;
+    private long currentRows;
+
+    private PartitionedSpliterator(KeyRange[] ranges, int index, int fence,
+            Function<? super KeyRange, ? extends Segment<T>> opener, Set<Segment<T>> openSegments) {
+        this.ranges = ranges;
+        this.index = index;
+        this.fence = fence;
+        this.opener = opener;
+        this.openSegments = openSegments;
+    }
+
+    /**
+     * 区間毎に並列に読み込むストリームを生成する。<br />
+     * 途中で打ち切った場合に開いたままの区間があるため、使い終えたら必ず閉じること。
+     *
+     * @param ranges 区間一覧 (社員番号の昇順)
+     * @param opener 区間毎の読み込みを開く処理
+     * @return 並列ストリーム
+     */
+    public static <T> Stream<T> stream(List<KeyRange> ranges,
+            Function<? super KeyRange, ? extends Segment<T>> opener) {
+        Set<Segment<T>> openSegments = ConcurrentHashMap.newKeySet();
+        KeyRange[] array = ranges.toArray(new KeyRange[ranges.size()]);
+        PartitionedSpliterator<T> spliterator = new PartitionedSpliterator<>(array, 0, array.length, opener,
+                openSegments);
+        return StreamSupport.stream(spliterator, true).onClose(() -> closeAll(openSegments));
+    }
+
+    private static <T> void closeAll(Set<Segment<T>> openSegments) {
+        RuntimeException failure = null;
+        for (Segment<T> segment : openSegments) {
+            try {
+                segment.close();
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        openSegments.clear();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        while (true) {
+            if (current == null) {
+                if (index >= fence) {
+                    return false;
+                }
+                KeyRange range = ranges[index++];
+                current = opener.apply(range);
+                currentRows = range.getEstimatedRows();
+                openSegments.add(current);
+            }
+            if (current.hasNext()) {
+                action.accept(current.next());
+                return true;
+            }
+            closeCurrent();
+        }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        while (tryAdvance(action)) {
+            // 次の要素へ
+        }
+    }
+
+    private void closeCurrent() {
+        Segment<T> segment = current;
+        current = null;
+        currentRows = 0;
+        openSegments.remove(segment);
+        segment.close();
+    }
+
+    /**
+     * 残りの区間を前半・後半に分割し、前半を返す。<br />
+     * 読み込み中の区間がある場合は、その区間も前半に含める。
+     */
+    @Override
+    public Spliterator<T> trySplit() {
+        int remaining = fence - index;
+        int units = remaining + ((current == null) ? 0 : 1);
+        if (units < 2) {
+            return null;
+        }
+        int mid = index + (units / 2) - ((current == null) ? 0 : 1);
+        PartitionedSpliterator<T> prefix = new PartitionedSpliterator<>(ranges, index, mid, opener, openSegments);
+        prefix.current = current;
+        prefix.currentRows = currentRows;
+        current = null;
+        currentRows = 0;
+        index = mid;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        long size = currentRows;
+        for (int i = index; i < fence; i++) {
+            size += ranges[i].getEstimatedRows();
+        }
+        return size;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL | DISTINCT;
+    }
+
+    @Override
+    public String toString() {
+        return "PartitionedSpliterator" + Arrays.toString(Arrays.copyOfRange(ranges, index, fence));
+    }
+}
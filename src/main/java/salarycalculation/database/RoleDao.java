@@ -1,5 +1,8 @@
 package salarycalculation.database;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.apache.commons.dbutils.handlers.BeanHandler;
 import org.apache.commons.dbutils.handlers.BeanListHandler;
 import org.apache.commons.lang.StringUtils;
@@ -28,9 +31,9 @@ public class RoleDao extends BaseDao<RoleRecord> {
         verify(rank);
         String query = "select * from role where rank = ?";
 
-        RoleRecord result = getByQuery(query, rank);
+        RoleRecord result = getByQuery("get", query, rank);
         if (result == null) {
-            throw new RecordNotFoundException(RoleRecord.class, rank);
+            throw RecordNotFoundException.withoutStackTrace(RoleRecord.class, rank);
         }
         return result;
     }
@@ -45,6 +48,27 @@ public class RoleDao extends BaseDao<RoleRecord> {
         }
     }
 
+    /**
+     * 等級の一覧を取得する。
+     *
+     * @return 等級一覧
+     */
+    public List<RoleRecord> findAll() {
+        String query = "select * from role order by rank";
+        return findByQuery("findAll", query);
+    }
+
+    /**
+     * 複数の等級を基に役割等級の一覧を取得する。
+     *
+     * @param ranks 等級一覧 (重複しないこと)
+     * @return 役割等級一覧 (順不同)
+     */
+    public List<RoleRecord> findByRanks(Collection<String> ranks) {
+        String query = "select * from role where rank in (%s)";
+        return findByKeys("findByRanks", query, ranks);
+    }
+
     @Override
     protected BeanHandler<RoleRecord> newBeanHandler() {
         return new BeanHandler<RoleRecord>(RoleRecord.class);
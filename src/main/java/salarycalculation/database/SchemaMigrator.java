@@ -0,0 +1,117 @@
+package salarycalculation.database;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.dbutils.QueryRunner;
+import org.apache.commons.dbutils.handlers.ColumnListHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import salarycalculation.exception.RuntimeSQLException;
+
+/**
+ * スキーマのバージョン管理を行うクラス。<br />
+ * クラスパス上の {@code db/migration} 配下の SQL をバージョン順に実行し、
+ * 適用済みのバージョンを {@code schema_version} テーブルに記録する。
+ * 適用済みのバージョンは再度実行しない。
+ *
+ * @author naotake
+ */
+public class SchemaMigrator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SchemaMigrator.class);
+
+    /** 適用するマイグレーションの一覧 (バージョン順) */
+    static final List<Migration> MIGRATIONS = Arrays.asList(
+            new Migration(1, "create tables", "db/migration/V1__create_tables.sql"),
+            new Migration(2, "secondary indexes", "db/migration/V2__secondary_indexes.sql"),
+            new Migration(3, "annual income", "db/migration/V3__annual_income.sql"),
+            new Migration(4, "work archive", "db/migration/V4__work_archive.sql"),
+            new Migration(5, "employee search", "db/migration/V5__employee_search.sql"));
+
+    private final Connection connection;
+    private final List<Migration> migrations;
+
+    public SchemaMigrator(Connection connection) {
+        this(connection, MIGRATIONS);
+    }
+
+    SchemaMigrator(Connection connection, List<Migration> migrations) {
+        this.connection = connection;
+        this.migrations = migrations;
+    }
+
+    /**
+     * 未適用のマイグレーションを適用する。
+     *
+     * @return 今回適用したバージョン一覧
+     */
+    public List<Integer> migrate() {
+        QueryRunner runner = new QueryRunner();
+        try {
+            runner.update(connection, "create table if not exists schema_version("
+                    + "version int primary key, description varchar(255), installedOn timestamp)");
+
+            Set<Integer> applied = appliedVersions();
+            List<Integer> results = new ArrayList<>();
+            for (Migration migration : migrations) {
+                if (applied.contains(migration.version)) {
+                    continue;
+                }
+                LOGGER.info("applying schema version {}: {}", migration.version, migration.description);
+                runner.update(connection, "runscript from 'classpath:" + migration.script + "'");
+                runner.update(connection,
+                        "insert into schema_version values(?, ?, current_timestamp())",
+                        migration.version, migration.description);
+                results.add(migration.version);
+            }
+            return results;
+        } catch (SQLException e) {
+            throw new RuntimeSQLException("Migration Failure", e);
+        }
+    }
+
+    /**
+     * 適用済みのバージョン一覧を取得する。
+     *
+     * @return 適用済みのバージョン一覧
+     */
+    public Set<Integer> appliedVersions() {
+        try {
+            List<Integer> versions = new QueryRunner().query(connection,
+                    "select version from schema_version order by version", new ColumnListHandler<Integer>(1));
+            return new HashSet<>(versions);
+        } catch (SQLException e) {
+            throw new RuntimeSQLException("Select Failure", e);
+        }
+    }
+
+    /**
+     * 1 バージョン分のマイグレーション。
+     *
+     * @author naotake
+     */
+    static class Migration {
+
+        /** バージョン */
+        private final int version;
+
+        /** 説明 */
+        private final String description;
+
+        /** 実行する SQL のクラスパス上の位置 */
+        private final String script;
+
+        Migration(int version, String description, String script) {
+            this.version = version;
+            this.description = description;
+            this.script = script;
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package salarycalculation.database;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.dbutils.QueryRunner;
+import org.apache.commons.dbutils.handlers.ScalarHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import salarycalculation.utils.LruCache;
+
+/**
+ * 閾値を超えたクエリを記録するスロークエリログ。<br />
+ * 記録したクエリはバインドパラメータ、取得件数と共にログへ出力し、直近の一定件数を保持する。
+ * 実行計画の取得を有効にした場合は H2 の {@code EXPLAIN ANALYZE} の結果も合わせて保持する。
+ * {@code EXPLAIN ANALYZE} はクエリを再実行し、遅いクエリの処理時間をさらに倍にするため、
+ * 同じクエリの実行計画は一定間隔 ({@link #setQueryPlanInterval(long, TimeUnit)}) に 1 回だけ取得し、
+ * その間は取得済みの実行計画を使い回す。
+ *
+ * @author naotake
+ */
+public final class SlowQueryLog {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SlowQueryLog.class);
+
+    private static volatile long thresholdNanos = TimeUnit.MILLISECONDS.toNanos(200);
+    private static volatile boolean captureQueryPlan = false;
+    private static volatile int capacity = 100;
+    private static volatile long queryPlanIntervalNanos = TimeUnit.MINUTES.toNanos(1);
+
+    private static final Deque<Entry> ENTRIES = new ArrayDeque<>();
+
+    /** クエリ毎に直近で取得した実行計画 */
+    private static final LruCache<String, QueryPlan> QUERY_PLANS = new LruCache<>(256);
+
+    private SlowQueryLog() {
+        // utility
+    }
+
+    /**
+     * 処理時間が閾値を超えているかどうかを判定する。
+     *
+     * @param elapsedNanos 処理時間 (ナノ秒)
+     * @return 閾値を超えている場合は true
+     */
+    static boolean isSlow(long elapsedNanos) {
+        return elapsedNanos >= thresholdNanos;
+    }
+
+    /**
+     * スロークエリを記録する。
+     *
+     * @param connection クエリを実行したコネクション (実行計画の取得に使用する)
+     * @param name クエリ名
+     * @param query クエリ
+     * @param params パラメータ
+     * @param rows 取得件数
+     * @param elapsedNanos 処理時間 (ナノ秒)
+     */
+    static void record(Connection connection, String name, String query, Object[] params, int rows,
+            long elapsedNanos) {
+        String plan = captureQueryPlan ? queryPlan(connection, query, params) : null;
+        Entry entry = new Entry(name, query, params, rows, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), plan);
+
+        LOGGER.warn("slow query: {}", entry);
+
+        synchronized (ENTRIES) {
+            ENTRIES.addFirst(entry);
+            while (ENTRIES.size() > capacity) {
+                ENTRIES.removeLast();
+            }
+        }
+    }
+
+    private static String queryPlan(Connection connection, String query, Object[] params) {
+        long now = System.nanoTime();
+        QueryPlan cached = QUERY_PLANS.get(query);
+        if (cached != null && now - cached.capturedAt < queryPlanIntervalNanos) {
+            return cached.text;
+        }
+        String text = explain(connection, query, params);
+        if (text != null) {
+            QUERY_PLANS.put(query, new QueryPlan(text, now));
+        }
+        return text;
+    }
+
+    private static String explain(Connection connection, String query, Object[] params) {
+        try {
+            return new QueryRunner().query(connection, "explain analyze " + query,
+                    new ScalarHandler<String>(1), params);
+        } catch (SQLException e) {
+            LOGGER.info("failed to explain query: {}", query, e);
+            return null;
+        }
+    }
+
+    /**
+     * 記録済みのスロークエリを新しい順に取得する。
+     *
+     * @return スロークエリ一覧
+     */
+    public static List<Entry> recent() {
+        synchronized (ENTRIES) {
+            return new ArrayList<>(ENTRIES);
+        }
+    }
+
+    /**
+     * 記録済みのスロークエリと取得済みの実行計画を破棄する。
+     */
+    public static void clear() {
+        synchronized (ENTRIES) {
+            ENTRIES.clear();
+        }
+        QUERY_PLANS.invalidateAll();
+    }
+
+    public static long getThreshold(TimeUnit unit) {
+        return unit.convert(thresholdNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public static void setThreshold(long threshold, TimeUnit unit) {
+        SlowQueryLog.thresholdNanos = unit.toNanos(threshold);
+    }
+
+    public static boolean isCaptureQueryPlan() {
+        return captureQueryPlan;
+    }
+
+    public static void setCaptureQueryPlan(boolean captureQueryPlan) {
+        SlowQueryLog.captureQueryPlan = captureQueryPlan;
+    }
+
+    public static void setCapacity(int capacity) {
+        SlowQueryLog.capacity = capacity;
+    }
+
+    /**
+     * 同じクエリの実行計画を再取得する間隔を指定する。
+     *
+     * @param interval 間隔
+     * @param unit 単位
+     */
+    public static void setQueryPlanInterval(long interval, TimeUnit unit) {
+        SlowQueryLog.queryPlanIntervalNanos = unit.toNanos(interval);
+    }
+
+    private static final class QueryPlan {
+
+        private final String text;
+        private final long capturedAt;
+
+        QueryPlan(String text, long capturedAt) {
+            this.text = text;
+            this.capturedAt = capturedAt;
+        }
+    }
+
+    /**
+     * 記録した 1 件分のスロークエリ。
+     *
+     * @author naotake
+     */
+    public static class Entry {
+
+        private final Date executedAt;
+        private final String name;
+        private final String query;
+        private final Object[] params;
+        private final int rows;
+        private final long elapsedMillis;
+        private final String plan;
+
+        Entry(String name, String query, Object[] params, int rows, long elapsedMillis, String plan) {
+            this.executedAt = new Date();
+            this.name = name;
+            this.query = query;
+            this.params = params.clone();
+            this.rows = rows;
+            this.elapsedMillis = elapsedMillis;
+            this.plan = plan;
+        }
+
+        public Date getExecutedAt() {
+            return executedAt;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getQuery() {
+            return query;
+        }
+
+        public Object[] getParams() {
+            return params.clone();
+        }
+
+        public int getRows() {
+            return rows;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        /**
+         * 実行計画を取得する。<br />
+         * 同じクエリの実行計画を間隔内に取得済みの場合は、その実行計画となる。
+         *
+         * @return 実行計画。取得していない場合は null
+         */
+        public String getPlan() {
+            return plan;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s %dms rows=%d [%s] params=%s", name, elapsedMillis, rows, query,
+                    Arrays.toString(params));
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package salarycalculation.database;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import salarycalculation.exception.RuntimeSQLException;
+
+/**
+ * データベースの格納先。<br />
+ * 種類毎の JDBC URL を組み立て、{@link ConnectionFactory}が生成するコネクションの接続先となる。
+ *
+ * @author naotake
+ */
+public final class Storage {
+
+    private final StorageMode mode;
+    private final String url;
+    private final String user;
+    private final String password;
+
+    private Storage(StorageMode mode, String url, String user, String password) {
+        this.mode = mode;
+        this.url = url;
+        this.user = user;
+        this.password = password;
+    }
+
+    /**
+     * 組み込みのファイルデータベースを格納先とする。
+     *
+     * @param path データベースのパス (拡張子を除く。e.g. ./data/salary_calculation)
+     * @return 格納先
+     */
+    public static Storage file(String path) {
+        return new Storage(StorageMode.FILE, "jdbc:h2:" + path, "sa", "");
+    }
+
+    /**
+     * メモリ上のデータベースを格納先とする。<br />
+     * 最後のコネクションを閉じても破棄されず、プロセス終了まで内容を保持する。
+     *
+     * @param name データベース名
+     * @return 格納先
+     */
+    public static Storage memory(String name) {
+        return new Storage(StorageMode.MEMORY, "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    /**
+     * H2 の TCP サーバ上のデータベースを格納先とする。
+     *
+     * @param host ホスト名
+     * @param port ポート番号
+     * @param path サーバ上のデータベースのパス (e.g. ./data/salary_calculation)
+     * @return 格納先
+     */
+    public static Storage server(String host, int port, String path) {
+        return new Storage(StorageMode.SERVER, "jdbc:h2:tcp://" + host + ":" + port + "/" + path, "sa", "");
+    }
+
+    /**
+     * 接続するユーザを変更した格納先を取得する。
+     *
+     * @param user ユーザ名
+     * @param password パスワード
+     * @return 格納先
+     */
+    public Storage withUser(String user, String password) {
+        return new Storage(mode, url, user, password);
+    }
+
+    /**
+     * コネクションを生成する。
+     *
+     * @return コネクション
+     */
+    public Connection open() {
+        try {
+            return DriverManager.getConnection(url, user, password);
+        } catch (SQLException e) {
+            throw new RuntimeSQLException("Connection Failure", e);
+        }
+    }
+
+    /**
+     * 別の格納先の内容 (スキーマ・データ) をこの格納先に読み込む。<br />
+     * メモリ上のデータベースをファイルデータベースのスナップショットから準備する場合に使用する。
+     * 一時ファイルの SQL スクリプトを経由するため、内容全体をメモリ上に展開することはない。
+     *
+     * @param source 読み込み元の格納先
+     */
+    public void loadFrom(Storage source) {
+        Path script = null;
+        try {
+            script = Files.createTempFile("salary-snapshot", ".sql");
+            try (Connection connection = source.open(); Statement statement = connection.createStatement()) {
+                statement.execute("script nopasswords to '" + escape(script) + "'");
+            }
+            loadScript(script);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Snapshot Failure: " + source, e);
+        } catch (SQLException e) {
+            throw new RuntimeSQLException("Snapshot Failure: " + source, e);
+        } finally {
+            deleteQuietly(script);
+        }
+    }
+
+    /**
+     * SQL スクリプト (H2 の SCRIPT コマンドの出力など) をこの格納先で実行する。
+     *
+     * @param script SQL スクリプト
+     */
+    public void loadScript(Path script) {
+        try (Connection connection = open(); Statement statement = connection.createStatement()) {
+            statement.execute("runscript from '" + escape(script) + "'");
+        } catch (SQLException e) {
+            throw new RuntimeSQLException("Snapshot Failure: " + script, e);
+        }
+    }
+
+    private static String escape(Path path) {
+        return path.toAbsolutePath().toString().replace("'", "''");
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            // 一時ファイルの削除失敗は無視する
+        }
+    }
+
+    public StorageMode getMode() {
+        return mode;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    @Override
+    public String toString() {
+        return mode + "(" + url + ")";
+    }
+}
@@ -0,0 +1,18 @@
+package salarycalculation.database;
+
+/**
+ * データベースの格納先の種類。
+ *
+ * @author naotake
+ */
+public enum StorageMode {
+
+    /** 組み込みのファイルデータベース (同じファイルを開けるのは 1 プロセスのみ) */
+    FILE,
+
+    /** プロセス内のメモリ上のデータベース (プロセス終了時に破棄される) */
+    MEMORY,
+
+    /** H2 の TCP サーバ経由で接続するデータベース (複数プロセスで共有できる) */
+    SERVER;
+}
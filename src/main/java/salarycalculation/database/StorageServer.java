@@ -0,0 +1,52 @@
+package salarycalculation.database;
+
+import java.sql.SQLException;
+
+import org.h2.tools.Server;
+
+import salarycalculation.exception.RuntimeSQLException;
+
+/**
+ * プロセス内で起動する H2 の TCP サーバ。<br />
+ * 起動したプロセス以外からも {@link Storage#server(String, int, String)}で接続できる。
+ *
+ * @author naotake
+ */
+public final class StorageServer implements AutoCloseable {
+
+    private final Server server;
+
+    private StorageServer(Server server) {
+        this.server = server;
+    }
+
+    /**
+     * TCP サーバを起動する。
+     *
+     * @param port ポート番号 (0 の場合は空いているポート)
+     * @param allowOthers 他のホストからの接続を許可するかどうか
+     * @return 起動したサーバ
+     */
+    public static StorageServer start(int port, boolean allowOthers) {
+        try {
+            Server server = allowOthers
+                    ? Server.createTcpServer("-tcpPort", String.valueOf(port), "-tcpAllowOthers")
+                    : Server.createTcpServer("-tcpPort", String.valueOf(port));
+            return new StorageServer(server.start());
+        } catch (SQLException e) {
+            throw new RuntimeSQLException("Server Start Failure: port=" + port, e);
+        }
+    }
+
+    public int getPort() {
+        return server.getPort();
+    }
+
+    /**
+     * TCP サーバを停止する。接続中のコネクションは切断される。
+     */
+    @Override
+    public void close() {
+        server.stop();
+    }
+}
@@ -0,0 +1,73 @@
+package salarycalculation.database;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import salarycalculation.exception.RuntimeSQLException;
+
+/**
+ * 格納先を使用できる状態に準備するクラス。<br />
+ * スナップショットの読み込み (メモリ上のデータベースの場合) とスキーマの更新を行う。
+ *
+ * @author naotake
+ */
+public final class StorageStartup {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StorageStartup.class);
+
+    private StorageStartup() {
+        // utility
+    }
+
+    /**
+     * 格納先を準備する。
+     *
+     * @param storage 格納先
+     * @param snapshot 読み込むスナップショット。読み込まない場合は null
+     * @return 準備に要した時間 (ナノ秒)
+     */
+    public static long prepare(Storage storage, Storage snapshot) {
+        long start = System.nanoTime();
+        if (snapshot != null) {
+            storage.loadFrom(snapshot);
+        }
+        List<Integer> applied;
+        try (Connection connection = storage.open()) {
+            applied = new SchemaMigrator(connection).migrate();
+        } catch (SQLException e) {
+            throw new RuntimeSQLException("Close Failure", e);
+        }
+        long elapsed = System.nanoTime() - start;
+        LOGGER.info("storage {} prepared in {} ms (snapshot={}, migrations={})", storage,
+                elapsed / 1_000_000, snapshot, applied);
+        return elapsed;
+    }
+
+    /**
+     * 社員情報・稼動情報を全件読み込み、最初の給与計算に必要なデータを読み終えるまでの時間を計測する。
+     *
+     * @param storage 格納先
+     * @return 読み込みに要した時間 (ナノ秒)
+     */
+    public static long warmUp(Storage storage) {
+        long start = System.nanoTime();
+        try (Connection connection = storage.open(); Statement statement = connection.createStatement()) {
+            for (String table : new String[] { "employee", "work", "role", "capability", "organization" }) {
+                try (ResultSet resultSet = statement.executeQuery("select * from " + table)) {
+                    while (resultSet.next()) {
+                        // 読み捨てる
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeSQLException("Select Failure", e);
+        }
+        return System.nanoTime() - start;
+    }
+}
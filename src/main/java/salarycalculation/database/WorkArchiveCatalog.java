@@ -0,0 +1,170 @@
+package salarycalculation.database;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.dbutils.QueryRunner;
+import org.apache.commons.dbutils.handlers.ArrayListHandler;
+
+import salarycalculation.exception.RuntimeSQLException;
+
+/**
+ * 稼動情報の年度毎の格納先 (ホット・コールド) を保持するクラス。
+ * <p />
+ * 稼動情報は未アーカイブの年度を {@code work} テーブル (ホット) に、アーカイブ済みの年度を
+ * 年度毎の {@code work_fy<年度>} テーブル (コールド) に格納する。アーカイブ済みの年度は
+ * {@code workArchive} テーブルに記録されており、初回参照時に読み込んでデータベース毎に保持する。
+ * アーカイブを行った場合は {@link #invalidate()}で読み込み直す。
+ * <p />
+ * 保持している一覧は他のプロセスでのアーカイブを反映しないため、古い場合がある。
+ * 全稼動年月の参照 ({@link #tableForAll(Connection)}) は一覧に依らず {@code workHistory} ビューを参照する
+ * (ビューは稼動情報を移動する前に再作成される)。稼動年月毎の参照でホットテーブルに見つからなかった場合は、
+ * {@link #reloadTableFor(Connection, int)}で読み込み直した一覧から参照先を求め直す。
+ *
+ * @author naotake
+ */
+public final class WorkArchiveCatalog {
+
+    /** ホットテーブル */
+    public static final String HOT_TABLE = "work";
+
+    /** ホット・コールドの全テーブルを結合したビュー */
+    public static final String HISTORY_VIEW = "workHistory";
+
+    /** H2 のテーブルが存在しない場合のエラーコード */
+    private static final int TABLE_NOT_FOUND = 42102;
+
+    /** データベースの URL 毎の、アーカイブ済みの年度とコールドテーブル */
+    private static final Map<String, Catalog> CATALOGS = new ConcurrentHashMap<>();
+
+    private WorkArchiveCatalog() {
+        // utility
+    }
+
+    /**
+     * 稼動年月が属する年度 (4 月始まり) を求める。
+     *
+     * @param workYearMonth 稼動年月 (e.g. 201504)
+     * @return 年度 (e.g. 201504 - 201603 は 2015)
+     */
+    public static int fiscalYearOf(int workYearMonth) {
+        int year = workYearMonth / 100;
+        return (workYearMonth % 100 >= 4) ? year : year - 1;
+    }
+
+    /**
+     * 年度の稼動情報を格納するコールドテーブル名を求める。
+     *
+     * @param fiscalYear 年度
+     * @return テーブル名
+     */
+    static String coldTableOf(int fiscalYear) {
+        return "work_fy" + fiscalYear;
+    }
+
+    /**
+     * 稼動年月の稼動情報を格納しているテーブルを取得する。
+     *
+     * @param connection コネクション
+     * @param workYearMonth 稼動年月 (e.g. 201504)
+     * @return テーブル名
+     */
+    static String tableFor(Connection connection, int workYearMonth) {
+        return archivedTables(connection).getOrDefault(fiscalYearOf(workYearMonth), HOT_TABLE);
+    }
+
+    /**
+     * 保持しているアーカイブ済みの年度の一覧を読み込み直し、稼動年月の稼動情報を格納しているテーブルを取得する。<br />
+     * 一覧を読み込んだ後に他のプロセスでアーカイブされた年度は、ホットテーブルから削除されている。
+     * そのためホットテーブルに稼動情報が見つからなかった場合に呼び出し、参照先を求め直す。
+     *
+     * @param connection コネクション
+     * @param workYearMonth 稼動年月 (e.g. 201504)
+     * @return テーブル名
+     */
+    static String reloadTableFor(Connection connection, int workYearMonth) {
+        CATALOGS.remove(urlOf(connection));
+        return tableFor(connection, workYearMonth);
+    }
+
+    /**
+     * 全稼動年月の稼動情報を格納しているテーブル (またはビュー) を取得する。<br />
+     * 全テーブルを結合した {@code workHistory} ビューとなる。ビューは稼動情報を移動する前に再作成され、
+     * 移動は 1 つのトランザクションで行われるため、アーカイブ済みの年度の一覧が古い場合も全ての稼動情報を参照できる。
+     * アーカイブ用のスキーマ (V4) が未適用の場合はホットテーブルとなる。
+     *
+     * @param connection コネクション
+     * @return テーブル名
+     */
+    static String tableForAll(Connection connection) {
+        return catalog(connection).historyView ? HISTORY_VIEW : HOT_TABLE;
+    }
+
+    /**
+     * アーカイブ済みの年度とコールドテーブルの一覧を取得する。
+     *
+     * @param connection コネクション
+     * @return 年度の昇順に並んだ年度とテーブル名
+     */
+    static Map<Integer, String> archivedTables(Connection connection) {
+        return catalog(connection).tables;
+    }
+
+    private static Catalog catalog(Connection connection) {
+        return CATALOGS.computeIfAbsent(urlOf(connection), url -> load(connection));
+    }
+
+    private static String urlOf(Connection connection) {
+        try {
+            return connection.getMetaData().getURL();
+        } catch (SQLException e) {
+            throw new RuntimeSQLException("Select Failure", e);
+        }
+    }
+
+    private static Catalog load(Connection connection) {
+        try {
+            List<Object[]> rows = new QueryRunner().query(connection,
+                    "select fiscalYear, tableName from workArchive order by fiscalYear", new ArrayListHandler());
+            Map<Integer, String> tables = new TreeMap<>();
+            for (Object[] row : rows) {
+                tables.put(((Number) row[0]).intValue(), (String) row[1]);
+            }
+            return new Catalog(Collections.unmodifiableMap(tables), true);
+        } catch (SQLException e) {
+            if (e.getErrorCode() == TABLE_NOT_FOUND) {
+                // アーカイブ用のスキーマ (V4) が未適用の場合は全ての年度がホットテーブルにある
+                return new Catalog(Collections.emptyMap(), false);
+            }
+            throw new RuntimeSQLException("Select Failure", e);
+        }
+    }
+
+    /**
+     * 保持しているアーカイブ済みの年度を破棄し、次回参照時に読み込み直す。
+     */
+    public static void invalidate() {
+        CATALOGS.clear();
+    }
+
+    /**
+     * データベース毎のアーカイブ済みの年度の一覧。
+     */
+    private static final class Catalog {
+
+        private final Map<Integer, String> tables;
+
+        /** {@code workHistory} ビューが存在するか */
+        private final boolean historyView;
+
+        private Catalog(Map<Integer, String> tables, boolean historyView) {
+            this.tables = tables;
+            this.historyView = historyView;
+        }
+    }
+}
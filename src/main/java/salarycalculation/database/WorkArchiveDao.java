@@ -0,0 +1,91 @@
+package salarycalculation.database;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.commons.dbutils.handlers.BeanHandler;
+import org.apache.commons.dbutils.handlers.BeanListHandler;
+
+import salarycalculation.database.model.WorkArchiveRecord;
+
+/**
+ * 稼動情報のアーカイブ Dao。<br />
+ * 締め済みの年度の稼動情報をホットテーブル ({@code work}) から年度毎のコールドテーブルへ移動する。
+ *
+ * @author naotake
+ */
+public class WorkArchiveDao extends BaseDao<WorkArchiveRecord> {
+
+    public WorkArchiveDao() {
+        super();
+    }
+
+    /**
+     * アーカイブ済みの年度の一覧を取得する。
+     *
+     * @return アーカイブ済みの年度 (年度の昇順)
+     */
+    public List<WorkArchiveRecord> findAll() {
+        return findByQuery("findAll", "select * from workArchive order by fiscalYear");
+    }
+
+    /**
+     * 指定した年度 (4 月 - 翌年 3 月) の稼動情報をコールドテーブルへ移動する。
+     * <p />
+     * コールドテーブルの作成と {@code workHistory} ビューの再作成を先に行い、
+     * 稼動情報の複製・ホットテーブルからの削除・アーカイブ済みの記録は 1 つのトランザクションで行う。
+     * そのため移動中も参照は止まらず、稼動情報が両方のテーブルに見えることも、どちらにも見えないこともない。
+     * 既にアーカイブ済みの年度を指定した場合は、ホットテーブルに残っている稼動情報のみを移動する。
+     *
+     * @param fiscalYear 年度
+     * @return 移動した件数
+     */
+    public int archive(int fiscalYear) {
+        String table = WorkArchiveCatalog.coldTableOf(fiscalYear);
+        int fromYearMonth = fiscalYear * 100 + 4;
+        int toYearMonth = (fiscalYear + 1) * 100 + 3;
+
+        updateByQuery("createColdTable", "create table if not exists " + table + "("
+                + "employeeNo INT, workYearMonth INT, workOverTime DECIMAL(3, 1), lateNightOverTime DECIMAL(3, 1),"
+                + " holidayWorkTime DECIMAL(3, 1), holidayLateNightOverTime DECIMAL(3, 1),"
+                + " PRIMARY KEY(employeeNo, workYearMonth))");
+        // 他のプロセスでアーカイブした年度をビューから落とさないよう、移動前に一覧を読み込み直す
+        WorkArchiveCatalog.invalidate();
+        Map<Integer, String> tables = new TreeMap<>(WorkArchiveCatalog.archivedTables(connection()));
+        tables.put(fiscalYear, table);
+        recreateHistoryView(tables.values());
+
+        int moved = inTransaction(() -> {
+            int rows = updateByQuery("copyToColdTable", "merge into " + table
+                    + " key(employeeNo, workYearMonth) select * from work where workYearMonth between ? and ?",
+                    fromYearMonth, toYearMonth);
+            updateByQuery("deleteFromHotTable", "delete from work where workYearMonth between ? and ?",
+                    fromYearMonth, toYearMonth);
+            updateByQuery("register", "merge into workArchive key(fiscalYear)"
+                    + " values(?, ?, (select count(*) from " + table + "), current_timestamp())", fiscalYear, table);
+            return rows;
+        });
+        WorkArchiveCatalog.invalidate();
+        return moved;
+    }
+
+    private void recreateHistoryView(Iterable<String> coldTables) {
+        StringBuilder query = new StringBuilder("create or replace view " + WorkArchiveCatalog.HISTORY_VIEW
+                + " as select * from " + WorkArchiveCatalog.HOT_TABLE);
+        for (String table : coldTables) {
+            query.append(" union all select * from ").append(table);
+        }
+        updateByQuery("recreateHistoryView", query.toString());
+    }
+
+    @Override
+    protected BeanHandler<WorkArchiveRecord> newBeanHandler() {
+        return new BeanHandler<WorkArchiveRecord>(WorkArchiveRecord.class);
+    }
+
+    @Override
+    protected BeanListHandler<WorkArchiveRecord> newBeanListHandler() {
+        return new BeanListHandler<WorkArchiveRecord>(WorkArchiveRecord.class);
+    }
+}
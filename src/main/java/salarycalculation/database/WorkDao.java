@@ -1,6 +1,8 @@
 package salarycalculation.database;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.apache.commons.dbutils.handlers.BeanHandler;
 import org.apache.commons.dbutils.handlers.BeanListHandler;
@@ -27,25 +29,132 @@ public class WorkDao extends BaseDao<WorkRecord> {
      * @return 稼動情報
      */
     public WorkRecord getByYearMonth(int employeeNo, int workYearMonth) {
-        String query = "select * from work where employeeNo = ? and workYearMonth = ?";
-
-        WorkRecord result = getByQuery(query, employeeNo, workYearMonth);
+        WorkRecord result = findByYearMonth(employeeNo, workYearMonth);
         if (result == null) {
-            throw new RecordNotFoundException(WorkRecord.class, employeeNo, workYearMonth);
+            throw RecordNotFoundException.withoutStackTrace(WorkRecord.class, employeeNo, workYearMonth);
         }
         return result;
     }
 
     /**
-     * 該当社員の全稼動年月の稼動情報を取得する。
+     * 該当社員の稼動年月の稼動情報を取得する。<br />
+     * 稼動年月の年度がアーカイブ済みの場合は、その年度のコールドテーブルを参照する。
      *
      * @param employeeNo 社員番号
      * @param workYearMonth 稼動年月 (e.g. 201504)
-     * @return 稼動情報
+     * @return 稼動情報。存在しない場合は null
+     */
+    public WorkRecord findByYearMonth(int employeeNo, int workYearMonth) {
+        String table = WorkArchiveCatalog.tableFor(connection(), workYearMonth);
+        WorkRecord result = findByYearMonth(table, employeeNo, workYearMonth);
+        if (result == null && WorkArchiveCatalog.HOT_TABLE.equals(table)) {
+            // 一覧を読み込んだ後にアーカイブされた年度の場合は、読み込み直した一覧のコールドテーブルを参照する
+            String reloaded = WorkArchiveCatalog.reloadTableFor(connection(), workYearMonth);
+            if (!reloaded.equals(table)) {
+                result = findByYearMonth(reloaded, employeeNo, workYearMonth);
+            }
+        }
+        return result;
+    }
+
+    private WorkRecord findByYearMonth(String table, int employeeNo, int workYearMonth) {
+        String query = "select * from " + table + " where employeeNo = ? and workYearMonth = ?";
+        return getByQuery("getByYearMonth", query, employeeNo, workYearMonth);
+    }
+
+    /**
+     * 該当社員のアーカイブ済みの年度を含む全稼動年月の稼動情報を取得する。
+     *
+     * @param employeeNo 社員番号
+     * @return 稼動情報 (順不同)
      */
     public List<WorkRecord> findAll(int employeeNo) {
-        String query = "select * from work where employeeNo = ?";
-        return findByQuery(query, employeeNo);
+        String query = "select * from " + WorkArchiveCatalog.tableForAll(connection()) + " where employeeNo = ?";
+        return findByQuery("findAll", query, employeeNo);
+    }
+
+    /**
+     * 複数の社員のアーカイブ済みの年度を含む全稼動年月の稼動情報を取得する。
+     *
+     * @param employeeNos 社員番号一覧 (重複しないこと)
+     * @return 稼動情報 (順不同)
+     */
+    public List<WorkRecord> findAllByEmployees(Collection<Integer> employeeNos) {
+        String query = "select * from " + WorkArchiveCatalog.tableForAll(connection()) + " where employeeNo in (%s)";
+        return findByKeys("findAllByEmployees", query, employeeNos);
+    }
+
+    /**
+     * 該当社員のアーカイブ済みの年度を含む全稼動年月の稼動情報を取得する。<br />
+     * ホット・コールドの全テーブルを参照するため、過去の稼動情報が必要な場合に限り使用する。
+     *
+     * @param employeeNo 社員番号
+     * @return 稼動情報 (稼動年月の昇順)
+     */
+    public List<WorkRecord> findHistory(int employeeNo) {
+        String query = "select * from " + WorkArchiveCatalog.HISTORY_VIEW
+                + " where employeeNo = ? order by workYearMonth";
+        return findByQuery("findHistory", query, employeeNo);
+    }
+
+    /**
+     * 稼動年月に該当する全社員の稼動情報を 1 件ずつ読み込み、処理に引き渡す。
+     *
+     * @param workYearMonth 稼動年月 (e.g. 201504)
+     * @param consumer 稼動情報毎の処理
+     * @return 処理件数
+     */
+    public int scanByYearMonth(int workYearMonth, Consumer<? super WorkRecord> consumer) {
+        String table = WorkArchiveCatalog.tableFor(connection(), workYearMonth);
+        int rows = scanByYearMonth(table, workYearMonth, consumer);
+        if (rows == 0 && WorkArchiveCatalog.HOT_TABLE.equals(table)) {
+            // 一覧を読み込んだ後にアーカイブされた年度の場合は、読み込み直した一覧のコールドテーブルを参照する
+            String reloaded = WorkArchiveCatalog.reloadTableFor(connection(), workYearMonth);
+            if (!reloaded.equals(table)) {
+                rows = scanByYearMonth(reloaded, workYearMonth, consumer);
+            }
+        }
+        return rows;
+    }
+
+    private int scanByYearMonth(String table, int workYearMonth, Consumer<? super WorkRecord> consumer) {
+        String query = "select * from " + table + " where workYearMonth = ? order by employeeNo";
+        return scanByQuery("scanByYearMonth", query, consumer, workYearMonth);
+    }
+
+    /**
+     * アーカイブ済みの年度を含む全ての稼動情報を社員番号・稼動年月の昇順に 1 件ずつ読み込み、処理に引き渡す。
+     *
+     * @param consumer 稼動情報毎の処理
+     * @return 処理件数
+     */
+    public int scanAll(Consumer<? super WorkRecord> consumer) {
+        String query = "select * from " + WorkArchiveCatalog.tableForAll(connection())
+                + " order by employeeNo, workYearMonth";
+        return scanByQuery("scanAll", query, consumer);
+    }
+
+    /**
+     * アーカイブ済みの年度を含む全ての稼動情報を社員番号・稼動年月の昇順に読み進めるカーソルを開く。
+     *
+     * @return カーソル
+     */
+    public Cursor<WorkRecord> openCursorAll() {
+        return openCursor("openCursorAll", "select * from " + WorkArchiveCatalog.tableForAll(connection())
+                + " order by employeeNo, workYearMonth");
+    }
+
+    /**
+     * 社員番号が指定した範囲に含まれる稼動情報を、アーカイブ済みの年度を含めて社員番号・稼動年月の昇順に
+     * 読み進めるカーソルを開く。
+     *
+     * @param range 社員番号の範囲
+     * @return カーソル
+     */
+    public Cursor<WorkRecord> openCursorByRange(KeyRange range) {
+        String query = "select * from " + WorkArchiveCatalog.tableForAll(connection())
+                + " where employeeNo >= ? and employeeNo < ? order by employeeNo, workYearMonth";
+        return openCursor("openCursorByRange", query, range.getFromNo(), range.getToNo());
     }
 
     @Override
@@ -0,0 +1,192 @@
+package salarycalculation.database.archive;
+
+import static salarycalculation.database.archive.PayslipArchiveFormat.*;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import salarycalculation.domain.payroll.Payslip;
+import salarycalculation.domain.payroll.SortedPayslips;
+import salarycalculation.utils.Money;
+
+/**
+ * 給与明細アーカイブをメモリマップして参照するクラス。<br />
+ * ファイル全体を読み込まずに、社員番号の二分探索で該当する明細だけを復元する。
+ * <p />
+ * マップした領域はガベージコレクションで解放されるため、{@link #close()}後もしばらくは
+ * ファイルが使用中のままとなる場合がある。
+ *
+ * @author naotake
+ */
+public class PayslipArchive implements SortedPayslips, Closeable {
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final int workYearMonth;
+    private final int size;
+
+    private PayslipArchive(FileChannel channel, ByteBuffer buffer) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.workYearMonth = buffer.getInt(8);
+        this.size = buffer.getInt(12);
+    }
+
+    /**
+     * 出力先ディレクトリ内の指定年月のアーカイブを開く。
+     *
+     * @param directory 出力先ディレクトリ
+     * @param workYearMonth 稼動年月 (e.g. 201504)
+     * @return アーカイブ
+     */
+    public static PayslipArchive open(Path directory, int workYearMonth) {
+        return open(directory.resolve(fileName(workYearMonth)));
+    }
+
+    /**
+     * アーカイブファイルを開く。
+     *
+     * @param file アーカイブファイル
+     * @return アーカイブ
+     */
+    public static PayslipArchive open(Path file) {
+        try {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+            try {
+                ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                verify(file, buffer);
+                return new PayslipArchive(channel, buffer);
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Archive Open Failure: " + file, e);
+        }
+    }
+
+    private static void verify(Path file, ByteBuffer buffer) {
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IllegalStateException("給与明細アーカイブではありません[" + file + "]");
+        }
+        if (buffer.getInt(4) != VERSION || buffer.getInt(16) != RECORD_SIZE) {
+            throw new IllegalStateException("未対応の形式です[" + file + ", version=" + buffer.getInt(4) + "]");
+        }
+        long expected = HEADER_SIZE + (long) buffer.getInt(12) * RECORD_SIZE;
+        if (buffer.capacity() != expected) {
+            throw new IllegalStateException("ファイルサイズが不正です[" + file + "]");
+        }
+    }
+
+    /**
+     * 指定した社員の給与明細を取得する。
+     *
+     * @param employeeNo 社員番号
+     * @return 給与明細。該当する明細が無い場合は empty
+     */
+    public Optional<Payslip> get(int employeeNo) {
+        int index = indexOf(employeeNo);
+        return (index < 0) ? Optional.empty() : Optional.of(payslipAt(index));
+    }
+
+    /**
+     * 指定位置 (社員番号の昇順で何番目か) の給与明細を取得する。
+     *
+     * @param index 位置
+     * @return 給与明細
+     */
+    @Override
+    public Payslip payslipAt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index=" + index + ", size=" + size);
+        }
+        int offset = offset(index);
+        int no = buffer.getInt(offset);
+        int amount = offset + Integer.BYTES;
+        return Payslip.builder(no, workYearMonth)
+                .roleAmount(amountAt(amount, 0))
+                .capabilityAmount(amountAt(amount, 1))
+                .commuteAmount(amountAt(amount, 2))
+                .rentAmount(amountAt(amount, 3))
+                .separatedAllowance(amountAt(amount, 4))
+                .longServiceAllowance(amountAt(amount, 5))
+                .overtimeAmount(amountAt(amount, 6))
+                .healthInsuranceAmount(amountAt(amount, 7))
+                .employeePensionAmount(amountAt(amount, 8))
+                .incomeTaxAmount(amountAt(amount, 9))
+                .inhabitantTaxAmount(amountAt(amount, 10))
+                .build();
+    }
+
+    /**
+     * 指定位置の社員番号を取得する。明細を復元せずに社員番号だけを参照する場合に使用する。
+     *
+     * @param index 位置
+     * @return 社員番号
+     */
+    @Override
+    public int employeeNoAt(int index) {
+        return buffer.getInt(offset(index));
+    }
+
+    /**
+     * 全ての給与明細を社員番号の昇順に処理する。
+     *
+     * @param action 給与明細毎の処理
+     */
+    public void forEach(Consumer<? super Payslip> action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(payslipAt(i));
+        }
+    }
+
+    private int indexOf(int employeeNo) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midNo = employeeNoAt(mid);
+            if (midNo < employeeNo) {
+                low = mid + 1;
+            } else if (midNo > employeeNo) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private static int offset(int index) {
+        return HEADER_SIZE + index * RECORD_SIZE;
+    }
+
+    private Money amountAt(int offset, int field) {
+        return Money.from(buffer.getLong(offset + field * Long.BYTES));
+    }
+
+    public int getWorkYearMonth() {
+        return workYearMonth;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package salarycalculation.database.archive;
+
+/**
+ * 給与明細アーカイブのファイル形式。<br />
+ * 1 ファイルに 1 稼動年月分の給与明細を社員番号の昇順に固定長で格納する。
+ * バイト順はビッグエンディアンとする。
+ *
+ * <pre>
+ * ヘッダ (24 バイト)
+ * ・magic         int   0x50534C50 ("PSLP")
+ * ・version       int   形式のバージョン
+ * ・workYearMonth int   稼動年月 (e.g. 201504)
+ * ・count         int   明細の件数
+ * ・recordSize    int   1 明細のバイト数
+ * ・reserved      int   0
+ *
+ * 明細 (92 バイト)
+ * ・employeeNo    int   社員番号
+ * ・amounts       long  金額 x 11 (役割給、能力給、通勤手当、住宅手当、別途手当、勤続手当、
+ *                       残業代、健康保険、厚生年金、所得税、住民税の順)
+ * </pre>
+ *
+ * @author naotake
+ */
+final class PayslipArchiveFormat {
+
+    static final int MAGIC = 0x50534C50;
+    static final int VERSION = 1;
+
+    static final int HEADER_SIZE = 24;
+    static final int AMOUNT_COUNT = 11;
+    static final int RECORD_SIZE = Integer.BYTES + AMOUNT_COUNT * Long.BYTES;
+
+    private PayslipArchiveFormat() {
+        // constants
+    }
+
+    /**
+     * 稼動年月に対応するファイル名を取得する。
+     *
+     * @param workYearMonth 稼動年月 (e.g. 201504)
+     * @return ファイル名
+     */
+    static String fileName(int workYearMonth) {
+        return "payslip-" + workYearMonth + ".bin";
+    }
+}
@@ -0,0 +1,96 @@
+package salarycalculation.database.archive;
+
+import static salarycalculation.database.archive.PayslipArchiveFormat.*;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import salarycalculation.domain.payroll.Payslip;
+import salarycalculation.utils.Money;
+
+/**
+ * 給与明細アーカイブを書き出すクラス。<br />
+ * 一時ファイルへ書き出した後に置き換えるため、書き出し中のファイルが参照されることはない。
+ *
+ * @author naotake
+ */
+public final class PayslipArchiveWriter {
+
+    private PayslipArchiveWriter() {
+        // utility
+    }
+
+    /**
+     * 給与明細をアーカイブに書き出す。<br />
+     * 同じ稼動年月のアーカイブが既に存在する場合は置き換える。
+     *
+     * @param directory 出力先ディレクトリ
+     * @param workYearMonth 稼動年月 (e.g. 201504)
+     * @param payslips 給与明細一覧 (順不同)
+     * @return 書き出したファイル
+     */
+    public static Path write(Path directory, int workYearMonth, Collection<Payslip> payslips) {
+        List<Payslip> sorted = new ArrayList<>(payslips);
+        sorted.sort(Comparator.comparingInt(Payslip::getEmployeeNo));
+        for (int i = 0; i < sorted.size(); i++) {
+            Payslip payslip = sorted.get(i);
+            if (payslip.getWorkYearMonth() != workYearMonth) {
+                throw new IllegalArgumentException("稼動年月が異なる給与明細が含まれています[employeeNo="
+                        + payslip.getEmployeeNo() + ", workYearMonth=" + payslip.getWorkYearMonth() + "]");
+            }
+            if (i > 0 && sorted.get(i - 1).getEmployeeNo() == payslip.getEmployeeNo()) {
+                throw new IllegalArgumentException("社員番号が重複しています[" + payslip.getEmployeeNo() + "]");
+            }
+        }
+
+        try {
+            Files.createDirectories(directory);
+            Path target = directory.resolve(fileName(workYearMonth));
+            Path temporary = Files.createTempFile(directory, fileName(workYearMonth), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporary), 64 * 1024))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(workYearMonth);
+                out.writeInt(sorted.size());
+                out.writeInt(RECORD_SIZE);
+                out.writeInt(0);
+                for (Payslip payslip : sorted) {
+                    writeRecord(out, payslip);
+                }
+            }
+            return Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Archive Failure: " + workYearMonth, e);
+        }
+    }
+
+    private static void writeRecord(DataOutputStream out, Payslip payslip) throws IOException {
+        out.writeInt(payslip.getEmployeeNo());
+        writeAmount(out, payslip.getRoleAmount());
+        writeAmount(out, payslip.getCapabilityAmount());
+        writeAmount(out, payslip.getCommuteAmount());
+        writeAmount(out, payslip.getRentAmount());
+        writeAmount(out, payslip.getSeparatedAllowance());
+        writeAmount(out, payslip.getLongServiceAllowance());
+        writeAmount(out, payslip.getOvertimeAmount());
+        writeAmount(out, payslip.getHealthInsuranceAmount());
+        writeAmount(out, payslip.getEmployeePensionAmount());
+        writeAmount(out, payslip.getIncomeTaxAmount());
+        writeAmount(out, payslip.getInhabitantTaxAmount());
+    }
+
+    private static void writeAmount(DataOutputStream out, Money amount) throws IOException {
+        out.writeLong(amount.value().longValueExact());
+    }
+}
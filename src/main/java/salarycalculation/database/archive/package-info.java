@@ -0,0 +1,4 @@
+/**
+ * 給与計算結果をバイナリファイルとして保存・参照するコンポーネントを定義するパッケージ。
+ */
+package salarycalculation.database.archive;
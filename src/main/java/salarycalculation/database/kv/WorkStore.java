@@ -0,0 +1,275 @@
+package salarycalculation.database.kv;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.h2.mvstore.Cursor;
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+
+import salarycalculation.database.model.WorkRecord;
+
+/**
+ * 稼動情報を H2 の MVStore にキー・バリュー形式で保存するクラス。
+ * <p />
+ * キーは社員番号と稼動年月を 1 つの long にまとめたもの (社員番号 &lt;&lt; 32 | 稼動年月) とし、
+ * 社員番号・稼動年月の昇順に並ぶ。そのため社員毎の稼動情報はキーの範囲走査で取得できる。
+ * 値は 4 種類の勤務時間 (DECIMAL(3, 1)) を 0.1 時間単位の 16 ビット整数として 1 つの long にまとめる。
+ * SQL の解析・実行を伴わないため、社員番号・稼動年月による参照に限れば {@code work} テーブルより軽い。
+ * <p />
+ * MVStore はスレッドセーフなため、1 つのインスタンスを複数のスレッドで共有できる。
+ * 全件の置き換え ({@link #replaceAll(Consumer)}) は別のマップに読み込んでから参照先を切り替えるため、
+ * 置き換え中の参照に読み込み途中の内容が見えることはない。
+ *
+ * @author naotake
+ */
+public final class WorkStore implements AutoCloseable {
+
+    private static final String MAP_NAME = "work";
+
+    /** 全件の置き換え中に読み込み先とするマップ */
+    private static final String STAGING_MAP_NAME = "work.staging";
+
+    /** 値が null であることを表す 16 ビットの値 */
+    private static final int NULL_TIME = 0xFFFF;
+
+    private final MVStore store;
+    private volatile MVMap<Long, Long> map;
+
+    private WorkStore(MVStore store) {
+        this.store = store;
+        this.map = store.openMap(MAP_NAME);
+    }
+
+    /**
+     * ファイルに保存するストアを開く。ファイルが無い場合は作成する。
+     *
+     * @param fileName ファイル名
+     * @return ストア
+     */
+    public static WorkStore open(String fileName) {
+        return new WorkStore(new MVStore.Builder().fileName(fileName).open());
+    }
+
+    /**
+     * メモリ上のストアを開く。閉じると内容は破棄される。
+     *
+     * @return ストア
+     */
+    public static WorkStore inMemory() {
+        return new WorkStore(new MVStore.Builder().open());
+    }
+
+    /**
+     * 社員番号と稼動年月からキーを求める。
+     *
+     * @param employeeNo 社員番号
+     * @param workYearMonth 稼動年月 (e.g. 201504)
+     * @return キー
+     */
+    static long key(int employeeNo, int workYearMonth) {
+        return ((long) employeeNo << 32) | (workYearMonth & 0xFFFFFFFFL);
+    }
+
+    /**
+     * 社員の稼動情報のキーの上限 (この値を含む) を求める。<br />
+     * 次の社員番号のキーを上限とすると、社員番号が {@link Integer#MAX_VALUE} の場合に桁あふれするため、
+     * 同じ社員番号の最大のキーとする。
+     *
+     * @param employeeNo 社員番号
+     * @return キーの上限
+     */
+    static long upperKey(int employeeNo) {
+        return key(employeeNo, -1);
+    }
+
+    /**
+     * 稼動情報を保存する。同じ社員番号・稼動年月の稼動情報は置き換える。
+     *
+     * @param record 稼動情報
+     */
+    public synchronized void put(WorkRecord record) {
+        map.put(key(record.getEmployeeNo(), record.getWorkYearMonth()), encode(record));
+    }
+
+    /**
+     * 社員番号・稼動年月を指定して稼動情報を取得する。
+     *
+     * @param employeeNo 社員番号
+     * @param workYearMonth 稼動年月 (e.g. 201504)
+     * @return 稼動情報。存在しない場合は empty
+     */
+    public Optional<WorkRecord> get(int employeeNo, int workYearMonth) {
+        Long value = map.get(key(employeeNo, workYearMonth));
+        return (value == null) ? Optional.empty() : Optional.of(decode(employeeNo, workYearMonth, value));
+    }
+
+    /**
+     * 指定した社員の稼動情報を稼動年月の昇順に処理に引き渡す。
+     *
+     * @param employeeNo 社員番号
+     * @param consumer 稼動情報毎の処理
+     * @return 処理件数
+     */
+    public int scanByEmployee(int employeeNo, Consumer<? super WorkRecord> consumer) {
+        long upper = upperKey(employeeNo);
+        int rows = 0;
+        Cursor<Long, Long> cursor = map.cursor(key(employeeNo, 0));
+        while (cursor.hasNext()) {
+            long key = cursor.next();
+            if (key > upper) {
+                break;
+            }
+            consumer.accept(decode(employeeNo, (int) key, cursor.getValue()));
+            rows++;
+        }
+        return rows;
+    }
+
+    /**
+     * 指定した社員の稼動情報を全て削除する。
+     *
+     * @param employeeNo 社員番号
+     * @return 削除件数
+     */
+    public synchronized int removeByEmployee(int employeeNo) {
+        return removeByEmployee(map, employeeNo, new HashSet<>());
+    }
+
+    private static int removeByEmployee(MVMap<Long, Long> target, int employeeNo, Set<Long> retained) {
+        long upper = upperKey(employeeNo);
+        int rows = 0;
+        for (Iterator<Long> keys = target.keyIterator(key(employeeNo, 0)); keys.hasNext();) {
+            Long key = keys.next();
+            if (key > upper) {
+                break;
+            }
+            if (!retained.contains(key)) {
+                target.remove(key);
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * 指定した社員の稼動情報を置き換える。<br />
+     * 新しい稼動情報を保存してから残りを削除するため、置き換え中の参照で社員の稼動情報が空になることはない。
+     *
+     * @param employeeNo 社員番号
+     * @param records 社員の全ての稼動情報
+     * @return 削除した件数
+     */
+    public synchronized int replaceByEmployee(int employeeNo, List<WorkRecord> records) {
+        MVMap<Long, Long> target = map;
+        Set<Long> retained = new HashSet<>();
+        for (WorkRecord record : records) {
+            if (record.getEmployeeNo() != employeeNo) {
+                throw new IllegalArgumentException("社員番号が異なる稼動情報です[" + record.getEmployeeNo() + "]");
+            }
+            long key = key(employeeNo, record.getWorkYearMonth());
+            target.put(key, encode(record));
+            retained.add(key);
+        }
+        return removeByEmployee(target, employeeNo, retained);
+    }
+
+    /**
+     * 全ての稼動情報を置き換え、変更をファイルに書き出す。<br />
+     * 新しい内容は別のマップに読み込み、読み込み終えてから参照先を切り替える。
+     * そのため置き換え中の参照には置き換え前の内容を返す。読み込みに失敗した場合は置き換えない。
+     *
+     * @param loader 新しい内容を読み込む処理 (稼動情報毎に引数の処理を呼び出すこと)
+     * @return 読み込んだ件数
+     */
+    public synchronized int replaceAll(Consumer<Consumer<WorkRecord>> loader) {
+        MVMap<Long, Long> staging = store.openMap(STAGING_MAP_NAME);
+        staging.clear();
+        int[] rows = new int[1];
+        try {
+            loader.accept(record -> {
+                staging.put(key(record.getEmployeeNo(), record.getWorkYearMonth()), encode(record));
+                rows[0]++;
+            });
+        } catch (RuntimeException e) {
+            store.removeMap(staging);
+            throw e;
+        }
+
+        MVMap<Long, Long> previous = map;
+        map = staging;
+        store.removeMap(previous);
+        store.renameMap(staging, MAP_NAME);
+        store.commit();
+        return rows[0];
+    }
+
+    /**
+     * 全ての稼動情報を削除する。
+     */
+    public synchronized void clear() {
+        map.clear();
+    }
+
+    /**
+     * 保存している稼動情報の件数を取得する。
+     *
+     * @return 件数
+     */
+    public long size() {
+        return map.sizeAsLong();
+    }
+
+    /**
+     * 変更をファイルに書き出す。
+     */
+    public void commit() {
+        store.commit();
+    }
+
+    /**
+     * 変更を書き出し、ストアを閉じる。
+     */
+    @Override
+    public void close() {
+        store.close();
+    }
+
+    private static long encode(WorkRecord record) {
+        return ((long) encodeTime(record.getWorkOverTime()) << 48)
+                | ((long) encodeTime(record.getLateNightOverTime()) << 32)
+                | ((long) encodeTime(record.getHolidayWorkTime()) << 16)
+                | encodeTime(record.getHolidayLateNightOverTime());
+    }
+
+    private static WorkRecord decode(int employeeNo, int workYearMonth, long value) {
+        WorkRecord record = new WorkRecord();
+        record.setEmployeeNo(employeeNo);
+        record.setWorkYearMonth(workYearMonth);
+        record.setWorkOverTime(decodeTime((int) (value >>> 48) & 0xFFFF));
+        record.setLateNightOverTime(decodeTime((int) (value >>> 32) & 0xFFFF));
+        record.setHolidayWorkTime(decodeTime((int) (value >>> 16) & 0xFFFF));
+        record.setHolidayLateNightOverTime(decodeTime((int) value & 0xFFFF));
+        return record;
+    }
+
+    private static int encodeTime(BigDecimal time) {
+        if (time == null) {
+            return NULL_TIME;
+        }
+        int tenths = time.movePointRight(1).intValueExact();
+        if (tenths < 0 || tenths >= NULL_TIME) {
+            throw new IllegalArgumentException("勤務時間が範囲外です[" + time + "]");
+        }
+        return tenths;
+    }
+
+    private static BigDecimal decodeTime(int tenths) {
+        return (tenths == NULL_TIME) ? null : BigDecimal.valueOf(tenths, 1);
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * 稼動情報などをキー・バリュー形式で保存・参照するコンポーネントを定義するパッケージ。
+ */
+package salarycalculation.database.kv;
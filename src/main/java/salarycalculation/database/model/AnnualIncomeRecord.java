@@ -0,0 +1,198 @@
+package salarycalculation.database.model;
+
+/**
+ * 社員の年間の実績給与を保持する Entity。
+ *
+ * @author naotake
+ */
+public class AnnualIncomeRecord {
+
+    /** 期間の種類 */
+    private String period;
+
+    /** 年 */
+    private int targetYear;
+
+    /** 社員番号 */
+    private int employeeNo;
+
+    /** 支給月数 */
+    private int months;
+
+    /** 総支給額 */
+    private long grossAmount;
+
+    /** 残業代 */
+    private long overtimeAmount;
+
+    /** 勤続手当 */
+    private long longServiceAllowance;
+
+    /** 控除額 */
+    private long deductionAmount;
+
+    /** 手取り額 */
+    private long takeHomeAmount;
+
+    /**
+     * 期間の種類を取得する。
+     *
+     * @return 期間の種類
+     */
+    public String getPeriod() {
+        return period;
+    }
+
+    /**
+     * 期間の種類を設定する。
+     *
+     * @param period 期間の種類
+     */
+    public void setPeriod(String period) {
+        this.period = period;
+    }
+
+    /**
+     * 年を取得する。
+     *
+     * @return 年
+     */
+    public int getTargetYear() {
+        return targetYear;
+    }
+
+    /**
+     * 年を設定する。
+     *
+     * @param targetYear 年
+     */
+    public void setTargetYear(int targetYear) {
+        this.targetYear = targetYear;
+    }
+
+    /**
+     * 社員番号を取得する。
+     *
+     * @return 社員番号
+     */
+    public int getEmployeeNo() {
+        return employeeNo;
+    }
+
+    /**
+     * 社員番号を設定する。
+     *
+     * @param employeeNo 社員番号
+     */
+    public void setEmployeeNo(int employeeNo) {
+        this.employeeNo = employeeNo;
+    }
+
+    /**
+     * 支給月数を取得する。
+     *
+     * @return 支給月数
+     */
+    public int getMonths() {
+        return months;
+    }
+
+    /**
+     * 支給月数を設定する。
+     *
+     * @param months 支給月数
+     */
+    public void setMonths(int months) {
+        this.months = months;
+    }
+
+    /**
+     * 総支給額を取得する。
+     *
+     * @return 総支給額
+     */
+    public long getGrossAmount() {
+        return grossAmount;
+    }
+
+    /**
+     * 総支給額を設定する。
+     *
+     * @param grossAmount 総支給額
+     */
+    public void setGrossAmount(long grossAmount) {
+        this.grossAmount = grossAmount;
+    }
+
+    /**
+     * 残業代を取得する。
+     *
+     * @return 残業代
+     */
+    public long getOvertimeAmount() {
+        return overtimeAmount;
+    }
+
+    /**
+     * 残業代を設定する。
+     *
+     * @param overtimeAmount 残業代
+     */
+    public void setOvertimeAmount(long overtimeAmount) {
+        this.overtimeAmount = overtimeAmount;
+    }
+
+    /**
+     * 勤続手当を取得する。
+     *
+     * @return 勤続手当
+     */
+    public long getLongServiceAllowance() {
+        return longServiceAllowance;
+    }
+
+    /**
+     * 勤続手当を設定する。
+     *
+     * @param longServiceAllowance 勤続手当
+     */
+    public void setLongServiceAllowance(long longServiceAllowance) {
+        this.longServiceAllowance = longServiceAllowance;
+    }
+
+    /**
+     * 控除額を取得する。
+     *
+     * @return 控除額
+     */
+    public long getDeductionAmount() {
+        return deductionAmount;
+    }
+
+    /**
+     * 控除額を設定する。
+     *
+     * @param deductionAmount 控除額
+     */
+    public void setDeductionAmount(long deductionAmount) {
+        this.deductionAmount = deductionAmount;
+    }
+
+    /**
+     * 手取り額を取得する。
+     *
+     * @return 手取り額
+     */
+    public long getTakeHomeAmount() {
+        return takeHomeAmount;
+    }
+
+    /**
+     * 手取り額を設定する。
+     *
+     * @param takeHomeAmount 手取り額
+     */
+    public void setTakeHomeAmount(long takeHomeAmount) {
+        this.takeHomeAmount = takeHomeAmount;
+    }
+}
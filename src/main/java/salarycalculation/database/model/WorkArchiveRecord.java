@@ -0,0 +1,95 @@
+package salarycalculation.database.model;
+
+import java.sql.Timestamp;
+
+/**
+ * アーカイブ済みの年度の稼動情報の格納先を保持する Entity。
+ *
+ * @author naotake
+ */
+public class WorkArchiveRecord {
+
+    /** 年度 */
+    private int fiscalYear;
+
+    /** コールドテーブル名 */
+    private String tableName;
+
+    /** 移動した件数 */
+    private int records;
+
+    /** アーカイブ日時 */
+    private Timestamp archivedOn;
+
+    /**
+     * 年度を取得する。
+     *
+     * @return 年度
+     */
+    public int getFiscalYear() {
+        return fiscalYear;
+    }
+
+    /**
+     * 年度を設定する。
+     *
+     * @param fiscalYear 年度
+     */
+    public void setFiscalYear(int fiscalYear) {
+        this.fiscalYear = fiscalYear;
+    }
+
+    /**
+     * コールドテーブル名を取得する。
+     *
+     * @return コールドテーブル名
+     */
+    public String getTableName() {
+        return tableName;
+    }
+
+    /**
+     * コールドテーブル名を設定する。
+     *
+     * @param tableName コールドテーブル名
+     */
+    public void setTableName(String tableName) {
+        this.tableName = tableName;
+    }
+
+    /**
+     * 移動した件数を取得する。
+     *
+     * @return 移動した件数
+     */
+    public int getRecords() {
+        return records;
+    }
+
+    /**
+     * 移動した件数を設定する。
+     *
+     * @param records 移動した件数
+     */
+    public void setRecords(int records) {
+        this.records = records;
+    }
+
+    /**
+     * アーカイブ日時を取得する。
+     *
+     * @return アーカイブ日時
+     */
+    public Timestamp getArchivedOn() {
+        return archivedOn;
+    }
+
+    /**
+     * アーカイブ日時を設定する。
+     *
+     * @param archivedOn アーカイブ日時
+     */
+    public void setArchivedOn(Timestamp archivedOn) {
+        this.archivedOn = archivedOn;
+    }
+}
@@ -0,0 +1,81 @@
+package salarycalculation.database.repository;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import salarycalculation.domain.employee.Employee;
+import salarycalculation.domain.employee.EmployeeRepository;
+import salarycalculation.domain.payroll.AnnualIncome;
+import salarycalculation.domain.payroll.AnnualIncomeRepository;
+import salarycalculation.domain.payroll.AnnualIncomeSummary;
+import salarycalculation.domain.payroll.AnnualPeriod;
+import salarycalculation.utils.Instrumentation;
+
+/**
+ * 全社員の年間の実績給与を集計し、{@link AnnualIncomeRepository}へ保存するクラス。
+ * <p />
+ * 社員情報は {@link EmployeeRepository#streamAll(int)} で社員番号の区間毎に並列に読み込み、
+ * 読み込んだ社員毎に実績給与を計算する。社員毎の問い合わせは行わない。
+ * <p />
+ * 集計結果は全区間の集計を終えてから、既存の実績給与の削除と合わせて 1 つのトランザクションで保存する。
+ * いずれかの区間の集計や保存に失敗した場合は、集計前の実績給与が残る。
+ *
+ * @author naotake
+ */
+public class AnnualIncomeAggregator {
+
+    private static final String AGGREGATE_TIMER = Instrumentation.name(AnnualIncomeAggregator.class, "aggregate");
+
+    private final int partitions;
+
+    private AnnualIncomeRepository repository;
+    private EmployeeRepository employeeRepository;
+
+    public AnnualIncomeAggregator() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    AnnualIncomeAggregator(int partitions) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("分割数は 1 以上を指定してください[" + partitions + "]");
+        }
+        this.partitions = partitions;
+        this.repository = new AnnualIncomeRepositoryDao();
+        this.employeeRepository = new EmployeeRepositoryDao();
+    }
+
+    /**
+     * 指定した期間の実績給与を集計し、保存する。<br />
+     * 既に保存されている同じ期間の実績給与は全て置き換える。期間中に支給月が無い社員は保存しない。
+     *
+     * @param period 期間の種類
+     * @param year 年 (年度の場合は開始月の年)
+     * @return 集計結果
+     */
+    public AnnualIncomeSummary aggregate(AnnualPeriod period, int year) {
+        return Instrumentation.time(AGGREGATE_TIMER, () -> {
+            // 件数がほぼ均等となるよう社員番号を partitions 個の区間に分割して読み込む
+            List<AnnualIncome> incomes;
+            try (Stream<Employee> employees = employeeRepository.streamAll(partitions)) {
+                incomes = employees.map(employee -> AnnualIncome.of(employee, period, year))
+                        .filter(income -> income.getMonths() > 0)
+                        .collect(toList());
+            }
+
+            AnnualIncomeSummary summary = new AnnualIncomeSummary();
+            incomes.forEach(summary::add);
+            repository.replaceAll(period, year, incomes);
+            return summary;
+        });
+    }
+
+    public void setRepository(AnnualIncomeRepository repository) {
+        this.repository = repository;
+    }
+
+    public void setEmployeeRepository(EmployeeRepository employeeRepository) {
+        this.employeeRepository = employeeRepository;
+    }
+}
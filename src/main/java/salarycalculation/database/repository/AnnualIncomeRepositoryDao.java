@@ -0,0 +1,89 @@
+package salarycalculation.database.repository;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import salarycalculation.database.AnnualIncomeDao;
+import salarycalculation.database.model.AnnualIncomeRecord;
+import salarycalculation.domain.payroll.AnnualIncome;
+import salarycalculation.domain.payroll.AnnualIncomeRepository;
+import salarycalculation.domain.payroll.AnnualPeriod;
+import salarycalculation.utils.Money;
+
+/**
+ * 年間の実績給与リポジトリ。
+ *
+ * @author naotake
+ */
+public class AnnualIncomeRepositoryDao implements AnnualIncomeRepository {
+
+    private AnnualIncomeDao dao;
+
+    public AnnualIncomeRepositoryDao() {
+        this.dao = new AnnualIncomeDao();
+    }
+
+    @Override
+    public void saveAll(Collection<AnnualIncome> incomes) {
+        dao.saveAll(incomes.stream().map(AnnualIncomeRepositoryDao::toRecord).collect(toList()));
+    }
+
+    @Override
+    public void deleteAll(AnnualPeriod period, int year) {
+        dao.deleteByYear(period.name(), year);
+    }
+
+    @Override
+    public void replaceAll(AnnualPeriod period, int year, Collection<AnnualIncome> incomes) {
+        dao.replaceByYear(period.name(), year,
+                incomes.stream().map(AnnualIncomeRepositoryDao::toRecord).collect(toList()));
+    }
+
+    @Override
+    public Optional<AnnualIncome> find(int employeeNo, AnnualPeriod period, int year) {
+        return Optional.ofNullable(dao.get(employeeNo, period.name(), year))
+                .map(AnnualIncomeRepositoryDao::toEntity);
+    }
+
+    @Override
+    public List<AnnualIncome> findAll(AnnualPeriod period, int year) {
+        return dao.findByYear(period.name(), year).stream()
+                .map(AnnualIncomeRepositoryDao::toEntity)
+                .collect(toList());
+    }
+
+    private static AnnualIncomeRecord toRecord(AnnualIncome income) {
+        AnnualIncomeRecord record = new AnnualIncomeRecord();
+        record.setPeriod(income.getPeriod().name());
+        record.setTargetYear(income.getYear());
+        record.setEmployeeNo(income.getEmployeeNo());
+        record.setMonths(income.getMonths());
+        record.setGrossAmount(toLong(income.getGrossAmount()));
+        record.setOvertimeAmount(toLong(income.getOvertimeAmount()));
+        record.setLongServiceAllowance(toLong(income.getLongServiceAllowance()));
+        record.setDeductionAmount(toLong(income.getDeductionAmount()));
+        record.setTakeHomeAmount(toLong(income.getTakeHomeAmount()));
+        return record;
+    }
+
+    private static AnnualIncome toEntity(AnnualIncomeRecord record) {
+        return new AnnualIncome(record.getEmployeeNo(), AnnualPeriod.valueOf(record.getPeriod()),
+                record.getTargetYear(), record.getMonths(),
+                Money.from(record.getGrossAmount()),
+                Money.from(record.getOvertimeAmount()),
+                Money.from(record.getLongServiceAllowance()),
+                Money.from(record.getDeductionAmount()),
+                Money.from(record.getTakeHomeAmount()));
+    }
+
+    private static long toLong(Money money) {
+        return money.value().longValueExact();
+    }
+
+    public void setDao(AnnualIncomeDao dao) {
+        this.dao = dao;
+    }
+}
@@ -2,9 +2,14 @@ package salarycalculation.database.repository;
 
 import static java.util.stream.Collectors.toList;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.BinaryOperator;
 import java.util.stream.Stream;
 
@@ -12,10 +17,11 @@ import salarycalculation.database.EmployeeDao;
 import salarycalculation.database.model.EmployeeRecord;
 import salarycalculation.domain.employee.BusinessDate;
 import salarycalculation.domain.employee.Employee;
+import salarycalculation.domain.employee.EmployeeProjection;
 import salarycalculation.domain.employee.EmployeeRepository;
 import salarycalculation.domain.employee.Employees;
-import salarycalculation.domain.organization.Organization;
 import salarycalculation.domain.organization.OrganizationRepository;
+import salarycalculation.utils.Instrumentation;
 
 /**
  * 社員情報リポジトリ。
@@ -24,14 +30,23 @@ import salarycalculation.domain.organization.OrganizationRepository;
  */
 public class EmployeeRepositoryDao implements EmployeeRepository {
 
+    private static final String GET_TIMER = Instrumentation.name(EmployeeRepositoryDao.class, "get");
+    private static final String GET_PROJECTION_TIMER = Instrumentation.name(EmployeeRepositoryDao.class,
+            "getProjection");
+    private static final String GET_ALL_TIMER = Instrumentation.name(EmployeeRepositoryDao.class, "getAll");
+    private static final String FIND_ALL_TIMER = Instrumentation.name(EmployeeRepositoryDao.class, "findAll");
+    private static final String STREAM_ALL_TIMER = Instrumentation.name(EmployeeRepositoryDao.class, "streamAll");
+
     private OrganizationRepository organizationRepository;
     private EmployeeDao dao;
     private EmployeeTransformer transformer;
+    private EmployeeStreamAssembler assembler;
 
     public EmployeeRepositoryDao() {
         this.dao = new EmployeeDao();
         this.organizationRepository = new OrganizationRepositoryDao();
         this.transformer = new EmployeeTransformer();
+        this.assembler = new EmployeeStreamAssembler();
     }
 
     /**
@@ -42,37 +57,93 @@ public class EmployeeRepositoryDao implements EmployeeRepository {
      */
     @Override
     public Employee get(String no) {
-        EmployeeRecord employee = dao.get(no);
+        return Instrumentation.time(GET_TIMER, () -> {
+            EmployeeRecord employee = dao.get(no);
 
-        // Domain を準備
-        Employee entity = transformer.transformToEntity(employee);
+            // Domain を準備
+            Employee entity = transformer.transformToEntity(employee);
 
-        return entity;
+            return entity;
+        });
     }
 
     /**
-     * 社員番号を基に組織と社員情報を取得する。
+     * 複数の社員番号を基に社員情報を全て取得する。<br />
+     * 社員情報・組織・等級・稼動情報を、社員毎ではなく種類毎に IN 句のクエリでまとめて取得する。
+     * 数値でない社員番号は存在しない社員番号として扱う。
+     * 所属する組織が存在しない社員は組み立てられないため含めない。
      *
-     * ※不完全なEntityが生成されるため非推奨
+     * @param nos 社員番号一覧
+     * @return 社員番号毎の社員情報 (指定した順)。存在しない社員番号と組織が存在しない社員は含まない
+     */
+    @Override
+    public Map<String, Employee> getAll(Collection<String> nos) {
+        return Instrumentation.time(GET_ALL_TIMER, () -> {
+            Set<Integer> keys = new LinkedHashSet<>();
+            for (String no : nos) {
+                Integer key = toKey(no);
+                if (key != null) {
+                    keys.add(key);
+                }
+            }
+            Map<Integer, Employee> entities = transformer.transformToEntities(dao.findByNos(keys));
+
+            Map<String, Employee> result = new LinkedHashMap<>();
+            for (String no : nos) {
+                Integer key = toKey(no);
+                Employee entity = (key == null) ? null : entities.get(key);
+                if (entity != null) {
+                    result.put(no, entity);
+                }
+            }
+            return result;
+        });
+    }
+
+    private static Integer toKey(String no) {
+        try {
+            return (no == null) ? null : Integer.valueOf(no.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 社員番号を基に、射影に含まれる項目のみを読み込んだ社員情報を取得する。<br />
+     * 社員情報は射影に必要な列のみを読み込み、組織・等級・稼動情報は必要な場合のみ取得する。
+     * 給与明細を含む場合は給与計算に使用する全ての列と、指定した稼動年月の稼動情報のみを読み込む。
      *
      * @param no 社員番号
+     * @param projection 射影
      * @return 社員情報
      */
     @Override
-    @Deprecated
-    public Employee getSimple(String no) {
-        EmployeeRecord employee = dao.get(no);
-
-        // 所属する組織情報を取得
-        Organization organization = organizationRepository.find(employee.getOrganization());
-
-        // Domain を準備
-        Employee entity = transformer.createFromRecord(employee, organization,
-                Optional.empty(),
-                Optional.empty(),
-                Optional.empty());
+    public Employee get(String no, EmployeeProjection projection) {
+        if (projection.isComplete()) {
+            return get(no);
+        }
+        return Instrumentation.time(GET_PROJECTION_TIMER, () -> {
+            EmployeeRecord employee = projection.requiresSalary() ? dao.get(no) : dao.get(no, columnsOf(projection));
+            return transformer.transformToProjection(employee, projection);
+        });
+    }
 
-        return entity;
+    private static List<String> columnsOf(EmployeeProjection projection) {
+        List<String> columns = new ArrayList<>();
+        columns.add("no");
+        if (projection.includes(EmployeeProjection.Field.NAME)) {
+            columns.add("name");
+        }
+        if (projection.includes(EmployeeProjection.Field.ORGANIZATION)) {
+            columns.add("organization");
+        }
+        if (projection.requiresRole()) {
+            columns.add("roleRank");
+        }
+        if (projection.requiresCapability()) {
+            columns.add("capabilityRank");
+        }
+        return columns;
     }
 
     /**
@@ -83,9 +154,33 @@ public class EmployeeRepositoryDao implements EmployeeRepository {
      */
     @Override
     public Employees findAll() {
-        return new Employees(findAllAsStream()
-                .collect(toList()));
+        return Instrumentation.time(FIND_ALL_TIMER, () -> new Employees(findAllAsStream()
+                .collect(toList())));
+
+    }
 
+    /**
+     * 全社員の社員情報を社員番号の昇順に 1 件ずつ読み込む。<br />
+     * 一覧をメモリ上に保持しないため、大量の社員を処理する場合に使用する。
+     * ストリームは専用のコネクションを使用するため、使い終えたら必ず閉じること。
+     *
+     * @return 社員情報のストリーム
+     */
+    @Override
+    public Stream<Employee> streamAll() {
+        return Instrumentation.time(STREAM_ALL_TIMER, assembler::streamAll);
+    }
+
+    /**
+     * 全社員の社員情報を、社員番号の区間毎に並列に読み込む。<br />
+     * 区間毎に専用のコネクションを使用するため、使い終えたら必ず閉じること。
+     *
+     * @param partitions 分割数
+     * @return 社員情報の並列ストリーム
+     */
+    @Override
+    public Stream<Employee> streamAll(int partitions) {
+        return Instrumentation.time(STREAM_ALL_TIMER, () -> assembler.streamAll(partitions));
     }
 
     /**
@@ -163,4 +258,8 @@ public class EmployeeRepositoryDao implements EmployeeRepository {
         this.transformer = transformer;
     }
 
+    public void setAssembler(EmployeeStreamAssembler assembler) {
+        this.assembler = assembler;
+    }
+
 }
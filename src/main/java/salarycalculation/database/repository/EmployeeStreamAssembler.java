@@ -0,0 +1,208 @@
+package salarycalculation.database.repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import salarycalculation.database.CapabilityDao;
+import salarycalculation.database.Cursor;
+import salarycalculation.database.EmployeeDao;
+import salarycalculation.database.KeyRange;
+import salarycalculation.database.KeyRangePartitioner;
+import salarycalculation.database.PartitionedSpliterator;
+import salarycalculation.database.RoleDao;
+import salarycalculation.database.WorkDao;
+import salarycalculation.database.model.CapabilityRecord;
+import salarycalculation.database.model.EmployeeRecord;
+import salarycalculation.database.model.RoleRecord;
+import salarycalculation.database.model.WorkRecord;
+import salarycalculation.domain.employee.Employee;
+import salarycalculation.domain.organization.Organization;
+import salarycalculation.domain.organization.OrganizationRepository;
+import salarycalculation.domain.work.WorkOverTime;
+import salarycalculation.domain.work.WorkOverTimes;
+
+/**
+ * 社員情報と稼動情報のカーソルを社員番号で突き合わせ (マージジョイン)、稼動情報を含む社員情報を
+ * 1 件ずつ組み立てるクラス。
+ * <p />
+ * 社員情報は社員番号順、稼動情報は社員番号・稼動年月順にそれぞれ 1 回のクエリで読み進めるため、
+ * 社員毎の問い合わせは行わず、メモリ上に保持するのは組み立て中の社員 1 名分の稼動情報のみとなる。
+ * 役割等級・能力等級・組織はストリームを開いた時点で読み込み、共有する。
+ * <p />
+ * 並列に読み込む場合は社員番号の区間毎に専用のコネクションで突き合わせる。
+ *
+ * @author naotake
+ */
+public class EmployeeStreamAssembler {
+
+    private OrganizationRepository organizationRepository;
+    private RoleDao roleDao;
+    private CapabilityDao capabilityDao;
+    private KeyRangePartitioner partitioner;
+    private EmployeeTransformer transformer;
+
+    public EmployeeStreamAssembler() {
+        this.organizationRepository = new OrganizationRepositoryDao();
+        this.roleDao = new RoleDao();
+        this.capabilityDao = new CapabilityDao();
+        this.partitioner = new KeyRangePartitioner();
+        this.transformer = new EmployeeTransformer();
+    }
+
+    /**
+     * 全社員の社員情報を社員番号の昇順に読み込むストリームを開く。<br />
+     * ストリームは専用のコネクションを使用するため、使い終えたら必ず閉じること。
+     *
+     * @return 社員情報のストリーム
+     */
+    public Stream<Employee> streamAll() {
+        MergeJoinSegment segment = openSegment(new MasterData(), EmployeeDao::openCursorAll,
+                WorkDao::openCursorAll);
+        Spliterator<Employee> spliterator = Spliterators.spliteratorUnknownSize(segment,
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(segment::close);
+    }
+
+    /**
+     * 全社員の社員情報を、社員番号の区間毎に並列に読み込むストリームを開く。<br />
+     * 区間は件数がほぼ均等となるよう分割し、区間毎に専用のコネクションを使用する。
+     * 使い終えたら必ず閉じること。
+     *
+     * @param partitions 分割数
+     * @return 社員情報の並列ストリーム
+     */
+    public Stream<Employee> streamAll(int partitions) {
+        List<KeyRange> ranges = partitioner.partition(partitions);
+        MasterData master = new MasterData();
+        return PartitionedSpliterator.stream(ranges, range -> openSegment(master,
+                dao -> dao.openCursorByRange(range), dao -> dao.openCursorByRange(range)));
+    }
+
+    private MergeJoinSegment openSegment(MasterData master,
+            Function<EmployeeDao, Cursor<EmployeeRecord>> employeeOpener,
+            Function<WorkDao, Cursor<WorkRecord>> workOpener) {
+        EmployeeDao employeeDao = new EmployeeDao();
+        WorkDao workDao = new WorkDao();
+        Cursor<EmployeeRecord> employees = null;
+        Cursor<WorkRecord> works = null;
+        try {
+            employees = employeeOpener.apply(employeeDao);
+            works = workOpener.apply(workDao);
+            return new MergeJoinSegment(master, employeeDao, workDao, employees, works);
+        } catch (RuntimeException e) {
+            close(employees, works, employeeDao, workDao);
+            throw e;
+        }
+    }
+
+    private static void close(Cursor<?> employees, Cursor<?> works, EmployeeDao employeeDao, WorkDao workDao) {
+        try {
+            if (employees != null) {
+                employees.close();
+            }
+            if (works != null) {
+                works.close();
+            }
+        } finally {
+            employeeDao.close();
+            workDao.close();
+        }
+    }
+
+    /**
+     * ストリーム全体で共有する役割等級・能力等級・組織。
+     */
+    private final class MasterData {
+
+        private final Map<String, RoleRecord> roles = new HashMap<>();
+        private final Map<String, CapabilityRecord> capabilities = new HashMap<>();
+        private final Map<String, Organization> organizations = new ConcurrentHashMap<>();
+
+        MasterData() {
+            roleDao.findAll().forEach(role -> roles.put(role.getRank(), role));
+            capabilityDao.findAll().forEach(capability -> capabilities.put(capability.getRank(), capability));
+        }
+    }
+
+    /**
+     * 社員情報と稼動情報を突き合わせる 1 区間分の読み込み。
+     */
+    private final class MergeJoinSegment implements PartitionedSpliterator.Segment<Employee> {
+
+        private final MasterData master;
+        private final EmployeeDao employeeDao;
+        private final WorkDao workDao;
+        private final Cursor<EmployeeRecord> employees;
+        private final Cursor<WorkRecord> works;
+
+        MergeJoinSegment(MasterData master, EmployeeDao employeeDao, WorkDao workDao,
+                Cursor<EmployeeRecord> employees, Cursor<WorkRecord> works) {
+            this.master = master;
+            this.employeeDao = employeeDao;
+            this.workDao = workDao;
+            this.employees = employees;
+            this.works = works;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return employees.hasNext();
+        }
+
+        @Override
+        public Employee next() {
+            EmployeeRecord record = employees.next();
+
+            // 社員番号が一致する稼動情報を集める (社員が存在しない稼動情報は読み飛ばす)
+            List<WorkOverTime> workOverTimes = new ArrayList<>();
+            for (WorkRecord work = works.peek(); work != null
+                    && work.getEmployeeNo() <= record.getNo(); work = works.peek()) {
+                works.next();
+                if (work.getEmployeeNo() == record.getNo()) {
+                    workOverTimes.add(WorkRepositoryDao.convertWorkOverTime(work));
+                }
+            }
+
+            Organization organization = master.organizations.computeIfAbsent(record.getOrganization(),
+                    organizationRepository::find);
+            return transformer.createFromRecord(record, organization,
+                    workOverTimes.isEmpty() ? Optional.empty() : Optional.of(new WorkOverTimes(workOverTimes)),
+                    Optional.ofNullable(master.roles.get(record.getRoleRank())),
+                    Optional.ofNullable(master.capabilities.get(record.getCapabilityRank())));
+        }
+
+        @Override
+        public void close() {
+            EmployeeStreamAssembler.close(employees, works, employeeDao, workDao);
+        }
+    }
+
+    public void setOrganizationRepository(OrganizationRepository organizationRepository) {
+        this.organizationRepository = organizationRepository;
+    }
+
+    public void setRoleDao(RoleDao roleDao) {
+        this.roleDao = roleDao;
+    }
+
+    public void setCapabilityDao(CapabilityDao capabilityDao) {
+        this.capabilityDao = capabilityDao;
+    }
+
+    public void setPartitioner(KeyRangePartitioner partitioner) {
+        this.partitioner = partitioner;
+    }
+
+    public void setTransformer(EmployeeTransformer transformer) {
+        this.transformer = transformer;
+    }
+}
@@ -1,6 +1,14 @@
 package salarycalculation.database.repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 
 import salarycalculation.database.CapabilityDao;
 import salarycalculation.database.RoleDao;
@@ -11,11 +19,14 @@ import salarycalculation.domain.employee.BusinessDate;
 import salarycalculation.domain.employee.Capability;
 import salarycalculation.domain.employee.CapabilityRank;
 import salarycalculation.domain.employee.Employee;
+import salarycalculation.domain.employee.EmployeeProjection;
 import salarycalculation.domain.employee.Role;
 import salarycalculation.domain.organization.Organization;
 import salarycalculation.domain.organization.OrganizationRepository;
+import salarycalculation.domain.work.WorkOverTime;
 import salarycalculation.domain.work.WorkOverTimes;
 import salarycalculation.domain.work.WorkRepository;
+import salarycalculation.utils.Instrumentation;
 import salarycalculation.utils.Money;
 import salarycalculation.utils.PersonName;
 
@@ -27,6 +38,14 @@ import salarycalculation.utils.PersonName;
  */
 public class EmployeeTransformer {
 
+    private static final String TRANSFORM_TIMER = Instrumentation.name(EmployeeTransformer.class, "transformToEntity");
+    private static final String TRANSFORM_PROJECTION_TIMER = Instrumentation.name(EmployeeTransformer.class,
+            "transformToProjection");
+    private static final String TRANSFORM_ALL_TIMER = Instrumentation.name(EmployeeTransformer.class,
+            "transformToEntities");
+    private static final String UNKNOWN_ORGANIZATION = Instrumentation.name(EmployeeTransformer.class,
+            "unknownOrganization");
+
     private OrganizationRepository organizationRepository;
     private RoleDao roleDao;
     private CapabilityDao capabilityDao;
@@ -36,7 +55,7 @@ public class EmployeeTransformer {
         this.organizationRepository = new OrganizationRepositoryDao();
         this.roleDao = new RoleDao();
         this.capabilityDao = new CapabilityDao();
-        this.workRepository = new WorkRepositoryDao();
+        this.workRepository = WorkRepositories.create();
     }
 
     /**
@@ -46,6 +65,10 @@ public class EmployeeTransformer {
      * @return
      */
     public Employee transformToEntity(EmployeeRecord employeeRecord) {
+        return Instrumentation.time(TRANSFORM_TIMER, () -> assemble(employeeRecord));
+    }
+
+    private Employee assemble(EmployeeRecord employeeRecord) {
 
         // 所属する組織情報を取得
         Organization organization = organizationRepository.find(employeeRecord.getOrganization());
@@ -66,6 +89,107 @@ public class EmployeeTransformer {
 
     }
 
+    /**
+     * 従業員レコードを、射影に含まれる項目のみを設定したEntityに変換する。<br />
+     * 組織・等級・稼動情報は射影に必要な場合のみ取得する。稼動情報は給与明細の稼動年月のみを取得する。
+     *
+     * @param employeeRecord 従業員レコード (射影に必要な列を含むこと)
+     * @param projection 射影
+     * @return 従業員エンティティ
+     */
+    public Employee transformToProjection(EmployeeRecord employeeRecord, EmployeeProjection projection) {
+        if (projection.isComplete()) {
+            return transformToEntity(employeeRecord);
+        }
+        return Instrumentation.time(TRANSFORM_PROJECTION_TIMER, () -> assemble(employeeRecord, projection));
+    }
+
+    private Employee assemble(EmployeeRecord employeeRecord, EmployeeProjection projection) {
+        Organization organization = projection.includes(EmployeeProjection.Field.ORGANIZATION)
+                ? organizationRepository.find(employeeRecord.getOrganization()) : null;
+        Optional<RoleRecord> role = projection.requiresRole()
+                ? Optional.of(roleDao.get(employeeRecord.getRoleRank())) : Optional.empty();
+        Optional<CapabilityRecord> capability = projection.requiresCapability()
+                ? Optional.of(capabilityDao.get(employeeRecord.getCapabilityRank())) : Optional.empty();
+
+        if (projection.requiresSalary()) {
+            List<WorkOverTime> workOverTimes = new ArrayList<>();
+            for (int workYearMonth : projection.getPayslipMonths()) {
+                workRepository.findByYearMonth(employeeRecord.getNo(), workYearMonth).ifPresent(workOverTimes::add);
+            }
+            return createFromRecord(employeeRecord, organization,
+                    workOverTimes.isEmpty() ? Optional.empty() : Optional.of(new WorkOverTimes(workOverTimes)),
+                    role, capability);
+        }
+
+        // 給与計算に使用する項目 (日付・金額) は読み込んでいないため設定しない
+        Employee entity = new Employee(employeeRecord.getNo());
+        if (employeeRecord.getName() != null) {
+            entity.setName(new PersonName(employeeRecord.getName()));
+        }
+        entity.setOrganization(organization);
+        role.ifPresent(e -> entity.setRole(new Role(e.getRank(), Money.from(e.getAmount()))));
+        capability.ifPresent(e -> entity
+                .setCapability(Capability.normal(CapabilityRank.valueOf(e.getRank()), Money.from(e.getAmount()))));
+        return entity;
+    }
+
+    /**
+     * 複数の従業員レコードをまとめてEntityに変換する。<br />
+     * 組織・役割等級・能力等級・稼動情報は、レコード毎ではなく種類毎に 1 回の問い合わせで取得する。
+     * 役割等級・能力等級が存在しない場合は設定しない。
+     * 所属する組織が存在しない従業員は、他の従業員の変換を妨げないよう結果に含めない。
+     *
+     * @param employeeRecords 従業員レコード一覧
+     * @return 社員番号毎のEntity。組織が存在しない従業員は含まない
+     */
+    public Map<Integer, Employee> transformToEntities(Collection<EmployeeRecord> employeeRecords) {
+        return Instrumentation.time(TRANSFORM_ALL_TIMER, () -> assembleAll(employeeRecords));
+    }
+
+    private Map<Integer, Employee> assembleAll(Collection<EmployeeRecord> employeeRecords) {
+        Map<Integer, Employee> result = new HashMap<>();
+        if (employeeRecords.isEmpty()) {
+            return result;
+        }
+
+        Map<String, Organization> organizations = organizationRepository
+                .findAll(keys(employeeRecords, EmployeeRecord::getOrganization));
+        Map<String, RoleRecord> roles = new HashMap<>();
+        roleDao.findByRanks(keys(employeeRecords, EmployeeRecord::getRoleRank))
+                .forEach(role -> roles.put(role.getRank(), role));
+        Map<String, CapabilityRecord> capabilities = new HashMap<>();
+        capabilityDao.findByRanks(keys(employeeRecords, EmployeeRecord::getCapabilityRank))
+                .forEach(capability -> capabilities.put(capability.getRank(), capability));
+        Map<Integer, WorkOverTimes> works = workRepository
+                .findByEmployeeIds(keys(employeeRecords, EmployeeRecord::getNo));
+
+        for (EmployeeRecord employeeRecord : employeeRecords) {
+            Organization organization = organizations.get(employeeRecord.getOrganization());
+            if (organization == null) {
+                Instrumentation.count(UNKNOWN_ORGANIZATION);
+                continue;
+            }
+            result.put(employeeRecord.getNo(), createFromRecord(employeeRecord, organization,
+                    Optional.ofNullable(works.get(employeeRecord.getNo())),
+                    Optional.ofNullable(roles.get(employeeRecord.getRoleRank())),
+                    Optional.ofNullable(capabilities.get(employeeRecord.getCapabilityRank()))));
+        }
+        return result;
+    }
+
+    private static <K> Set<K> keys(Collection<EmployeeRecord> employeeRecords,
+            Function<EmployeeRecord, K> keyExtractor) {
+        Set<K> keys = new LinkedHashSet<>();
+        for (EmployeeRecord employeeRecord : employeeRecords) {
+            K key = keyExtractor.apply(employeeRecord);
+            if (key != null) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
     /**
      * DBレコードからEntityを生成する
      *
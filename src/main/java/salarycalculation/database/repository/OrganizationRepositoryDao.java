@@ -1,9 +1,15 @@
 package salarycalculation.database.repository;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
 import salarycalculation.database.OrganizationDao;
 import salarycalculation.database.model.OrganizationRecord;
 import salarycalculation.domain.organization.Organization;
 import salarycalculation.domain.organization.OrganizationRepository;
+import salarycalculation.utils.Instrumentation;
 
 /**
  * 組織リポジトリの実装.
@@ -13,6 +19,9 @@ import salarycalculation.domain.organization.OrganizationRepository;
  */
 public class OrganizationRepositoryDao implements OrganizationRepository {
 
+    private static final String FIND_TIMER = Instrumentation.name(OrganizationRepositoryDao.class, "find");
+    private static final String FIND_ALL_TIMER = Instrumentation.name(OrganizationRepositoryDao.class, "findAll");
+
     private final OrganizationDao dao;
 
     public OrganizationRepositoryDao() {
@@ -21,8 +30,21 @@ public class OrganizationRepositoryDao implements OrganizationRepository {
 
     @Override
     public Organization find(String id) {
-        OrganizationRecord record = dao.get(id);
-        return new Organization(record.getCode(), record.getName());
+        return Instrumentation.time(FIND_TIMER, () -> {
+            OrganizationRecord record = dao.get(id);
+            return new Organization(record.getCode(), record.getName());
+        });
+    }
+
+    @Override
+    public Map<String, Organization> findAll(Collection<String> ids) {
+        return Instrumentation.time(FIND_ALL_TIMER, () -> {
+            Map<String, Organization> result = new HashMap<>();
+            for (OrganizationRecord record : dao.findByCodes(new LinkedHashSet<>(ids))) {
+                result.put(record.getCode(), new Organization(record.getCode(), record.getName()));
+            }
+            return result;
+        });
     }
 
 }
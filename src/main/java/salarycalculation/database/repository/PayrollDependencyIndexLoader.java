@@ -0,0 +1,48 @@
+package salarycalculation.database.repository;
+
+import salarycalculation.database.EmployeeDao;
+import salarycalculation.database.WorkDao;
+import salarycalculation.domain.payroll.PayrollDependencyIndex;
+import salarycalculation.utils.Instrumentation;
+
+/**
+ * DB から{@link PayrollDependencyIndex}を組み立てるローダー。<br />
+ * 社員情報と稼動情報をそれぞれ 1 回のクエリで 1 件ずつ読み込む。
+ *
+ * @author naotake
+ */
+public class PayrollDependencyIndexLoader {
+
+    private static final String LOAD_TIMER = Instrumentation.name(PayrollDependencyIndexLoader.class, "load");
+
+    private EmployeeDao employeeDao;
+    private WorkDao workDao;
+
+    public PayrollDependencyIndexLoader() {
+        this.employeeDao = new EmployeeDao();
+        this.workDao = new WorkDao();
+    }
+
+    /**
+     * 索引を読み込む。
+     *
+     * @return 索引
+     */
+    public PayrollDependencyIndex load() {
+        return Instrumentation.time(LOAD_TIMER, () -> {
+            PayrollDependencyIndex index = new PayrollDependencyIndex();
+            employeeDao.scanAll(record -> index.index(record.getNo(), record.getRoleRank(),
+                    record.getCapabilityRank(), record.getOrganization()));
+            workDao.scanAll(record -> index.indexWork(record.getEmployeeNo(), record.getWorkYearMonth()));
+            return index;
+        });
+    }
+
+    public void setEmployeeDao(EmployeeDao employeeDao) {
+        this.employeeDao = employeeDao;
+    }
+
+    public void setWorkDao(WorkDao workDao) {
+        this.workDao = workDao;
+    }
+}
@@ -0,0 +1,74 @@
+package salarycalculation.database.repository;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.util.List;
+
+import salarycalculation.database.WorkArchiveDao;
+import salarycalculation.database.model.WorkArchiveRecord;
+import salarycalculation.utils.Instrumentation;
+
+/**
+ * 締め済みの年度の稼動情報をアーカイブするクラス。
+ * <p />
+ * 稼動情報の参照はほとんどが当月・前月のため、それらを含まない年度をホットテーブルから
+ * 年度毎のコールドテーブルへ移動し、ホットテーブルを当年度分程度の大きさに保つ。
+ * 移動は 1 年度ずつ 1 つのトランザクションで行うため、アプリを止めずに実行できる。
+ *
+ * @author naotake
+ */
+public class WorkArchiver {
+
+    private static final String ARCHIVE_TIMER = Instrumentation.name(WorkArchiver.class, "archive");
+
+    private WorkArchiveDao dao;
+    private Clock clock;
+
+    public WorkArchiver() {
+        this.dao = new WorkArchiveDao();
+        this.clock = Clock.systemDefaultZone();
+    }
+
+    /**
+     * 指定した年度の稼動情報をアーカイブする。<br />
+     * 当月・前月を含む年度や、まだ終わっていない年度は指定できない。
+     *
+     * @param fiscalYear 年度 (e.g. 2015 の場合は 2015/04 - 2016/03)
+     * @return 移動した件数
+     */
+    public int archive(int fiscalYear) {
+        if (!isClosed(fiscalYear)) {
+            throw new IllegalArgumentException("締め済みの年度ではありません[" + fiscalYear + "]");
+        }
+        // 稼動情報のストアはアーカイブ済みの年度も含むため、移動後に読み込み直す必要はない
+        return Instrumentation.time(ARCHIVE_TIMER, () -> dao.archive(fiscalYear));
+    }
+
+    /**
+     * 年度が締め済み (年度末が前月より前) かを判定する。
+     *
+     * @param fiscalYear 年度
+     * @return 締め済みの場合は true
+     */
+    public boolean isClosed(int fiscalYear) {
+        YearMonth previousMonth = YearMonth.now(clock).minusMonths(1);
+        return YearMonth.of(fiscalYear + 1, 3).isBefore(previousMonth);
+    }
+
+    /**
+     * アーカイブ済みの年度の一覧を取得する。
+     *
+     * @return アーカイブ済みの年度 (年度の昇順)
+     */
+    public List<WorkArchiveRecord> findArchives() {
+        return dao.findAll();
+    }
+
+    public void setDao(WorkArchiveDao dao) {
+        this.dao = dao;
+    }
+
+    public void setClock(Clock clock) {
+        this.clock = clock;
+    }
+}
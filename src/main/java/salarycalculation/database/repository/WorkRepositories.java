@@ -0,0 +1,62 @@
+package salarycalculation.database.repository;
+
+import salarycalculation.database.kv.WorkStore;
+import salarycalculation.domain.work.WorkRepository;
+
+/**
+ * 設定に応じた {@link WorkRepository}を生成するクラス。<br />
+ * 既定では {@code work} テーブルを参照する {@link WorkRepositoryDao}を生成する。
+ * {@link #useStore(WorkStore)}でストアを指定すると、以降は {@link WorkRepositoryStore}を生成する。
+ *
+ * @author naotake
+ */
+public final class WorkRepositories {
+
+    private static volatile WorkStore store;
+
+    private WorkRepositories() {
+        // utility
+    }
+
+    /**
+     * 稼動情報のリポジトリを生成する。
+     *
+     * @return リポジトリ
+     */
+    public static WorkRepository create() {
+        WorkStore current = store;
+        return (current == null) ? new WorkRepositoryDao() : new WorkRepositoryStore(current);
+    }
+
+    /**
+     * ストアを使用している場合は、アーカイブ済みの年度を含む全ての稼動情報でストアを置き換える。<br />
+     * 稼動情報を一括で登録した後など、多数の社員の稼動情報が変わった場合に呼び出す。
+     *
+     * @return 読み込んだ件数。ストアを使用していない場合は -1
+     */
+    public static int reloadStore() {
+        WorkStore current = store;
+        return (current == null) ? -1 : new WorkRepositoryStore(current).reload();
+    }
+
+    /**
+     * ストアを使用している場合は、指定した社員の稼動情報をデータベースの内容で置き換える。<br />
+     * 社員の稼動情報を登録・更新・削除した場合に呼び出す。
+     *
+     * @param employeeNo 社員番号
+     * @return 読み込んだ件数。ストアを使用していない場合は -1
+     */
+    public static int refreshStore(int employeeNo) {
+        WorkStore current = store;
+        return (current == null) ? -1 : new WorkRepositoryStore(current).refresh(employeeNo);
+    }
+
+    /**
+     * 稼動情報の参照先をストアに切り替える。null を指定すると {@code work} テーブルに戻す。
+     *
+     * @param store ストア
+     */
+    public static void useStore(WorkStore store) {
+        WorkRepositories.store = store;
+    }
+}
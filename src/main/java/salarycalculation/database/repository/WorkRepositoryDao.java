@@ -2,7 +2,11 @@ package salarycalculation.database.repository;
 
 import static java.util.stream.Collectors.*;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import salarycalculation.database.WorkDao;
@@ -10,9 +14,15 @@ import salarycalculation.database.model.WorkRecord;
 import salarycalculation.domain.work.WorkOverTime;
 import salarycalculation.domain.work.WorkOverTimes;
 import salarycalculation.domain.work.WorkRepository;
+import salarycalculation.utils.Instrumentation;
 
 public class WorkRepositoryDao implements WorkRepository {
 
+    private static final String FIND_TIMER = Instrumentation.name(WorkRepositoryDao.class, "findByEmployeeId");
+    private static final String FIND_ALL_TIMER = Instrumentation.name(WorkRepositoryDao.class, "findByEmployeeIds");
+    private static final String FIND_MONTH_TIMER = Instrumentation.name(WorkRepositoryDao.class, "findByYearMonth");
+    private static final String FIND_HISTORY_TIMER = Instrumentation.name(WorkRepositoryDao.class, "findHistory");
+
     private WorkDao dao;
 
     public WorkRepositoryDao() {
@@ -21,13 +31,52 @@ public class WorkRepositoryDao implements WorkRepository {
 
     @Override
     public Optional<WorkOverTimes> findByEmployeeId(int employeeNo) {
+        return Instrumentation.time(FIND_TIMER, () -> load(employeeNo));
+    }
+
+    /**
+     * 複数の社員の稼動情報を IN 句のクエリでまとめて取得する。
+     */
+    @Override
+    public Map<Integer, WorkOverTimes> findByEmployeeIds(Collection<Integer> employeeNos) {
+        return Instrumentation.time(FIND_ALL_TIMER, () -> {
+            Map<Integer, List<WorkRecord>> recordsByEmployee = dao
+                    .findAllByEmployees(new LinkedHashSet<>(employeeNos)).stream()
+                    .collect(groupingBy(WorkRecord::getEmployeeNo));
+
+            Map<Integer, WorkOverTimes> result = new HashMap<>();
+            recordsByEmployee.forEach((employeeNo, records) -> toWorkOverTimes(records)
+                    .ifPresent(works -> result.put(employeeNo, works)));
+            return result;
+        });
+    }
+
+    /**
+     * 社員番号・稼動年月を指定して稼動情報を取得する。<br />
+     * 稼動年月の年度がアーカイブ済みの場合は、その年度のコールドテーブルを参照する。
+     */
+    @Override
+    public Optional<WorkOverTime> findByYearMonth(int employeeNo, int workYearMonth) {
+        return Instrumentation.time(FIND_MONTH_TIMER, () -> Optional
+                .ofNullable(dao.findByYearMonth(employeeNo, workYearMonth))
+                .map(WorkRepositoryDao::convertWorkOverTime));
+    }
+
+    @Override
+    public Optional<WorkOverTimes> findHistory(int employeeNo) {
+        return Instrumentation.time(FIND_HISTORY_TIMER, () -> toWorkOverTimes(dao.findHistory(employeeNo)));
+    }
+
+    private Optional<WorkOverTimes> load(int employeeNo) {
+        return toWorkOverTimes(dao.findAll(employeeNo));
+    }
 
-        List<WorkRecord> workRecords = dao.findAll(employeeNo);
+    private static Optional<WorkOverTimes> toWorkOverTimes(List<WorkRecord> workRecords) {
         if (workRecords.isEmpty()) {
             return Optional.empty();
         }
         List<WorkOverTime> workOverTimeList = workRecords.stream()
-                .map(this::convertWorkOverTime)
+                .map(WorkRepositoryDao::convertWorkOverTime)
                 .collect(toList());
 
         WorkOverTimes workOverTimes = new WorkOverTimes(workOverTimeList);
@@ -40,7 +89,7 @@ public class WorkRepositoryDao implements WorkRepository {
      * @param record 勤怠の一レコード
      * @return 時間外勤務時間
      */
-    private WorkOverTime convertWorkOverTime(WorkRecord record) {
+    static WorkOverTime convertWorkOverTime(WorkRecord record) {
 
         return WorkOverTime.builder(record.getWorkYearMonth(), record.getEmployeeNo())
                 .holidayLateNightOverTime(record.getHolidayLateNightOverTime())
@@ -0,0 +1,116 @@
+package salarycalculation.database.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import salarycalculation.database.Cursor;
+import salarycalculation.database.WorkDao;
+import salarycalculation.database.kv.WorkStore;
+import salarycalculation.database.model.WorkRecord;
+import salarycalculation.domain.work.WorkOverTime;
+import salarycalculation.domain.work.WorkOverTimes;
+import salarycalculation.domain.work.WorkRepository;
+import salarycalculation.utils.Instrumentation;
+
+/**
+ * {@link WorkStore}から稼動情報を取得する {@link WorkRepository}。<br />
+ * 社員毎の稼動情報をキーの範囲走査で取得するため、SQL の解析・実行を伴わない。
+ * ストアはアーカイブ済みの年度を含む全ての稼動情報 ({@code workHistory} ビュー) の読み取り専用の複製とする。
+ * アーカイブはテーブル間で稼動情報を移動するだけのため、アーカイブしてもストアの内容は変わらない。
+ * <p />
+ * ストアへの書き込みは {@link #reload()} と {@link #refresh(int)} のみで行う。
+ * 稼動情報を更新した場合は、社員毎に {@link #refresh(int)} を、
+ * 多数の社員の稼動情報が変わった場合は {@link #reload()} を呼び出すこと。
+ *
+ * @author naotake
+ */
+public class WorkRepositoryStore implements WorkRepository {
+
+    private static final String FIND_TIMER = Instrumentation.name(WorkRepositoryStore.class, "findByEmployeeId");
+
+    private final WorkStore store;
+
+    public WorkRepositoryStore(WorkStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public Optional<WorkOverTimes> findByEmployeeId(int employeeNo) {
+        return Instrumentation.time(FIND_TIMER, () -> load(employeeNo));
+    }
+
+    @Override
+    public Map<Integer, WorkOverTimes> findByEmployeeIds(Collection<Integer> employeeNos) {
+        return Instrumentation.time(FIND_TIMER, () -> {
+            Map<Integer, WorkOverTimes> result = new HashMap<>();
+            for (Integer employeeNo : employeeNos) {
+                load(employeeNo).ifPresent(works -> result.put(employeeNo, works));
+            }
+            return result;
+        });
+    }
+
+    @Override
+    public Optional<WorkOverTime> findByYearMonth(int employeeNo, int workYearMonth) {
+        return store.get(employeeNo, workYearMonth).map(WorkRepositoryDao::convertWorkOverTime);
+    }
+
+    /**
+     * ストアは稼動年月の昇順に並んでいるため、{@link #findByEmployeeId(int)}と同じ走査で取得する。
+     */
+    @Override
+    public Optional<WorkOverTimes> findHistory(int employeeNo) {
+        return load(employeeNo);
+    }
+
+    private Optional<WorkOverTimes> load(int employeeNo) {
+        List<WorkOverTime> workOverTimeList = new ArrayList<>();
+        store.scanByEmployee(employeeNo,
+                record -> workOverTimeList.add(WorkRepositoryDao.convertWorkOverTime(record)));
+        if (workOverTimeList.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new WorkOverTimes(workOverTimeList));
+    }
+
+    /**
+     * アーカイブ済みの年度を含む全ての稼動情報でストアを置き換える。<br />
+     * 読み込み終えてから置き換えるため、読み込み中の参照には置き換え前の内容を返す。
+     *
+     * @return 読み込んだ件数
+     */
+    public int reload() {
+        WorkDao dao = new WorkDao();
+        try {
+            return store.replaceAll(sink -> {
+                try (Cursor<WorkRecord> cursor = dao.openCursorAll()) {
+                    cursor.forEachRemaining(sink);
+                }
+            });
+        } finally {
+            dao.close();
+        }
+    }
+
+    /**
+     * 指定した社員の稼動情報を、アーカイブ済みの年度を含む全ての稼動情報で置き換える。
+     *
+     * @param employeeNo 社員番号
+     * @return 読み込んだ件数
+     */
+    public int refresh(int employeeNo) {
+        WorkDao dao = new WorkDao();
+        try {
+            List<WorkRecord> records = dao.findAll(employeeNo);
+            store.replaceByEmployee(employeeNo, records);
+            store.commit();
+            return records.size();
+        } finally {
+            dao.close();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package salarycalculation.database.repository;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import salarycalculation.domain.analytics.WorkforceSnapshot;
+import salarycalculation.domain.payroll.MasterChange;
+import salarycalculation.utils.Instrumentation;
+import salarycalculation.utils.LruCache;
+
+/**
+ * 年月毎に読み込んだ{@link WorkforceSnapshot}を保持するキャッシュ。<br />
+ * スナップショットは試算で変更されないため、同じ年月の試算で使い回す。
+ * 同じ年月の読み込みが同時に要求された場合は、最初の要求の読み込みを後続の要求で共有する。
+ * <p />
+ * マスタ・稼動情報の変更は {@link #invalidate(MasterChange)} で通知する。
+ * 稼動情報の変更はその年月のみ、それ以外の変更は全ての年月のスナップショットを破棄する。スレッドセーフ。
+ *
+ * @author naotake
+ */
+public class WorkforceSnapshotCache {
+
+    private static final String LOAD = Instrumentation.name(WorkforceSnapshotCache.class, "load");
+    private static final String CACHE_HIT = Instrumentation.name(WorkforceSnapshotCache.class, "cacheHit");
+
+    /** 保持する年月数の既定値 (1 年度分) */
+    private static final int DEFAULT_MAXIMUM_SIZE = 12;
+
+    private final WorkforceSnapshotLoader loader;
+    private final LruCache<Integer, WorkforceSnapshot> snapshots;
+
+    /** 読み込み中の年月 */
+    private final ConcurrentMap<Integer, CompletableFuture<WorkforceSnapshot>> inFlight = new ConcurrentHashMap<>();
+
+    /** 破棄の世代。破棄より前に開始した読み込みの結果は保持しない */
+    private final AtomicLong generation = new AtomicLong();
+
+    public WorkforceSnapshotCache(WorkforceSnapshotLoader loader) {
+        this(loader, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * @param loader スナップショットのローダー
+     * @param maximumSize 保持する年月数の上限
+     */
+    public WorkforceSnapshotCache(WorkforceSnapshotLoader loader, int maximumSize) {
+        this.loader = loader;
+        this.snapshots = new LruCache<>(maximumSize);
+    }
+
+    /**
+     * 指定年月時点のスナップショットを取得する。保持していない場合は読み込む。
+     *
+     * @param workYearMonth 集計対象の年月 (e.g. 201504)
+     * @return スナップショット
+     */
+    public WorkforceSnapshot get(int workYearMonth) {
+        WorkforceSnapshot cached = snapshots.get(workYearMonth);
+        if (cached != null) {
+            Instrumentation.count(CACHE_HIT);
+            return cached;
+        }
+
+        CompletableFuture<WorkforceSnapshot> mine = new CompletableFuture<>();
+        CompletableFuture<WorkforceSnapshot> running = inFlight.putIfAbsent(workYearMonth, mine);
+        if (running != null) {
+            return await(running);
+        }
+
+        long startedGeneration = generation.get();
+        try {
+            Instrumentation.count(LOAD);
+            WorkforceSnapshot snapshot = loader.load(workYearMonth);
+            if (generation.get() == startedGeneration) {
+                snapshots.put(workYearMonth, snapshot);
+            }
+            mine.complete(snapshot);
+            return snapshot;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(workYearMonth, mine);
+        }
+    }
+
+    private static WorkforceSnapshot await(CompletableFuture<WorkforceSnapshot> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            // 読み込んだ要求が送出した例外をそのまま送出する
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * マスタ・稼動情報の変更の影響を受けるスナップショットを破棄する。読み込み中の結果も保持しない。
+     *
+     * @param change 変更内容
+     */
+    public void invalidate(MasterChange change) {
+        generation.incrementAndGet();
+        if (change.getType() == MasterChange.Type.WORK) {
+            snapshots.invalidate(change.getWorkYearMonth());
+        } else {
+            snapshots.invalidateAll();
+        }
+    }
+
+    /**
+     * 保持している全てのスナップショットを破棄する。読み込み中の結果も保持しない。
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        snapshots.invalidateAll();
+    }
+
+    /**
+     * スナップショットを保持している年月数を取得する。
+     *
+     * @return 年月数
+     */
+    public int size() {
+        return snapshots.size();
+    }
+}
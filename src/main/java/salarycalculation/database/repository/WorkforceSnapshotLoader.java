@@ -0,0 +1,89 @@
+package salarycalculation.database.repository;
+
+import salarycalculation.database.CapabilityDao;
+import salarycalculation.database.EmployeeDao;
+import salarycalculation.database.RoleDao;
+import salarycalculation.database.WorkDao;
+import salarycalculation.domain.analytics.WorkforceSnapshot;
+import salarycalculation.domain.employee.BusinessDate;
+import salarycalculation.domain.employee.CapabilityRank;
+import salarycalculation.utils.Instrumentation;
+
+/**
+ * DB から{@link WorkforceSnapshot}を組み立てるローダー。<br />
+ * 社員情報と稼動情報はそれぞれ 1 回のクエリで 1 件ずつ読み込み、
+ * 社員毎の問い合わせや {@link salarycalculation.domain.employee.Employee}の生成を行わない。
+ *
+ * @author naotake
+ */
+public class WorkforceSnapshotLoader {
+
+    private static final String LOAD_TIMER = Instrumentation.name(WorkforceSnapshotLoader.class, "load");
+
+    private EmployeeDao employeeDao;
+    private WorkDao workDao;
+    private RoleDao roleDao;
+    private CapabilityDao capabilityDao;
+
+    public WorkforceSnapshotLoader() {
+        this.employeeDao = new EmployeeDao();
+        this.workDao = new WorkDao();
+        this.roleDao = new RoleDao();
+        this.capabilityDao = new CapabilityDao();
+    }
+
+    /**
+     * 指定年月時点のスナップショットを読み込む。
+     *
+     * @param workYearMonth 集計対象の年月 (e.g. 201504)
+     * @return スナップショット
+     */
+    public WorkforceSnapshot load(int workYearMonth) {
+        return Instrumentation.time(LOAD_TIMER, () -> assemble(workYearMonth));
+    }
+
+    private WorkforceSnapshot assemble(int workYearMonth) {
+        WorkforceSnapshot.Builder builder = WorkforceSnapshot.builder(workYearMonth);
+
+        roleDao.findAll().forEach(role -> builder.role(role.getRank(), role.getAmount()));
+        capabilityDao.findAll()
+                .forEach(capability -> builder.capability(CapabilityRank.valueOf(capability.getRank()),
+                        capability.getAmount()));
+
+        WorkforceSnapshot.Row row = new WorkforceSnapshot.Row();
+        employeeDao.scanAll(record -> builder.add(row
+                .no(record.getNo())
+                .organization(record.getOrganization())
+                .roleRank(record.getRoleRank())
+                .capabilityRank(CapabilityRank.valueOf(record.getCapabilityRank()))
+                .joinDate(BusinessDate.of(record.getJoinDate()).getAsLocalDate())
+                .commuteAmount(record.getCommuteAmount())
+                .rentAmount(record.getRentAmount())
+                .healthInsuranceAmount(record.getHealthInsuranceAmount())
+                .employeePensionAmount(record.getEmployeePensionAmount())
+                .incomeTaxAmount(record.getIncomeTaxAmount())
+                .inhabitantTaxAmount(record.getInhabitantTaxAmount())
+                .workOverTime1hAmount(record.getWorkOverTime1hAmount())));
+
+        workDao.scanByYearMonth(workYearMonth,
+                record -> builder.work(WorkRepositoryDao.convertWorkOverTime(record)));
+
+        return builder.build();
+    }
+
+    public void setEmployeeDao(EmployeeDao employeeDao) {
+        this.employeeDao = employeeDao;
+    }
+
+    public void setWorkDao(WorkDao workDao) {
+        this.workDao = workDao;
+    }
+
+    public void setRoleDao(RoleDao roleDao) {
+        this.roleDao = roleDao;
+    }
+
+    public void setCapabilityDao(CapabilityDao capabilityDao) {
+        this.capabilityDao = capabilityDao;
+    }
+}
@@ -0,0 +1,74 @@
+package salarycalculation.domain.analytics;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * ヒープ外 (ダイレクトバッファ) に int 値を列として保持するクラス。<br />
+ * 容量が不足した場合は倍の容量のバッファへコピーする。
+ *
+ * @author naotake
+ */
+final class IntColumn {
+
+    private ByteBuffer buffer;
+    private int size;
+
+    IntColumn(int initialCapacity) {
+        this.buffer = allocate(Math.max(initialCapacity, 16));
+    }
+
+    private static ByteBuffer allocate(int capacity) {
+        return ByteBuffer.allocateDirect(capacity * Integer.BYTES).order(ByteOrder.nativeOrder());
+    }
+
+    void add(int value) {
+        if ((size + 1) * Integer.BYTES > buffer.capacity()) {
+            ByteBuffer grown = allocate(buffer.capacity() / Integer.BYTES * 2);
+            buffer.clear();
+            grown.put(buffer);
+            buffer = grown;
+        }
+        buffer.putInt(size * Integer.BYTES, value);
+        size++;
+    }
+
+    void set(int index, int value) {
+        buffer.putInt(index * Integer.BYTES, value);
+    }
+
+    int get(int index) {
+        return buffer.getInt(index * Integer.BYTES);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 値の二分探索を行う。列が昇順に並んでいることを前提とする。
+     *
+     * @param value 探索する値
+     * @return 見つかった位置。見つからない場合は負の値
+     */
+    int binarySearch(int value) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midValue = get(mid);
+            if (midValue < value) {
+                low = mid + 1;
+            } else if (midValue > value) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    long capacityBytes() {
+        return buffer.capacity();
+    }
+}
@@ -0,0 +1,134 @@
+package salarycalculation.domain.analytics;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import salarycalculation.domain.employee.CapabilityRank;
+import salarycalculation.domain.employee.LongServiceAllowance;
+import salarycalculation.domain.rule.ComponentSource;
+import salarycalculation.domain.rule.PayrollPlan;
+
+/**
+ * スナップショットの集計に使用する給与テーブル。<br />
+ * 等級毎の金額と、勤続月数毎の勤続手当を配列で保持する。
+ * 別途手当・勤続手当の金額と、能力等級毎に支給される構成要素は {@link PayrollPlan}から取得する。
+ *
+ * @author naotake
+ */
+final class PayTable {
+
+    /** 勤続手当が付く最大の勤続月数 */
+    static final int MAX_LONG_SERVICE_MONTH = 20 * 12;
+
+    /** 役割等級の金額 (辞書の番号順) */
+    final long[] roleAmounts;
+
+    /** 能力等級の金額 (序数順) */
+    final long[] capabilityAmounts;
+
+    /** 能力等級の別途手当 (序数順) */
+    final long[] separatedAllowances;
+
+    /** 勤続手当 (勤続月数順) */
+    final long[] longServiceAllowances;
+
+    /** 取得元毎・能力等級毎の、支給される構成要素の数 ({@link ComponentSource}の序数・能力等級の序数順) */
+    final int[][] multipliers;
+
+    /** 能力等級毎の固定額の合計 (序数順) */
+    final long[] fixedAmounts;
+
+    private PayTable(long[] roleAmounts, long[] capabilityAmounts, long[] separatedAllowances,
+            long[] longServiceAllowances, int[][] multipliers, long[] fixedAmounts) {
+        this.roleAmounts = roleAmounts;
+        this.capabilityAmounts = capabilityAmounts;
+        this.separatedAllowances = separatedAllowances;
+        this.longServiceAllowances = longServiceAllowances;
+        this.multipliers = multipliers;
+        this.fixedAmounts = fixedAmounts;
+    }
+
+    /**
+     * 現在の給与テーブルを生成する。
+     *
+     * @param roleAmounts 役割等級の金額 (辞書の番号順)
+     * @param capabilityAmounts 能力等級の金額 (序数順)
+     * @param plan 評価計画
+     * @return 給与テーブル
+     */
+    static PayTable current(long[] roleAmounts, long[] capabilityAmounts, PayrollPlan plan) {
+        CapabilityRank[] ranks = CapabilityRank.values();
+        long[] separatedAllowances = new long[ranks.length];
+        long[] fixedAmounts = new long[ranks.length];
+        int[][] multipliers = new int[ComponentSource.values().length][ranks.length];
+        for (CapabilityRank rank : ranks) {
+            separatedAllowances[rank.ordinal()] = plan.separatedAllowance(rank);
+            fixedAmounts[rank.ordinal()] = plan.fixedAmount(rank);
+            for (ComponentSource source : ComponentSource.values()) {
+                multipliers[source.ordinal()][rank.ordinal()] = plan.multiplier(source, rank);
+            }
+        }
+
+        int maxMonth = Math.max(MAX_LONG_SERVICE_MONTH, plan.getMaxLongServiceMonth());
+        long[] longServiceAllowances = new long[maxMonth + 1];
+        for (int month = 0; month <= maxMonth; month++) {
+            longServiceAllowances[month] = plan.longServiceAllowance(month);
+        }
+        return new PayTable(roleAmounts.clone(), capabilityAmounts.clone(), separatedAllowances,
+                longServiceAllowances, multipliers, fixedAmounts);
+    }
+
+    /**
+     * 金額を変更した給与テーブルを生成する。この給与テーブルは変更しない。
+     *
+     * @param overrides 変更内容
+     * @param roleRanks 役割等級の辞書
+     * @return 変更後の給与テーブル
+     */
+    PayTable override(PayTableOverrides overrides, String[] roleRanks) {
+        long[] roles = roleAmounts.clone();
+        for (Map.Entry<String, Long> entry : overrides.getRoles().entrySet()) {
+            int index = Arrays.asList(roleRanks).indexOf(entry.getKey());
+            if (index < 0) {
+                throw new IllegalArgumentException("未登録の役割等級です[" + entry.getKey() + "]");
+            }
+            roles[index] = entry.getValue();
+        }
+
+        long[] capabilities = capabilityAmounts.clone();
+        overrides.getCapabilities().forEach((rank, amount) -> capabilities[rank.ordinal()] = amount);
+
+        long[] separated = separatedAllowances.clone();
+        overrides.getSeparatedAllowances().forEach((rank, amount) -> separated[rank.ordinal()] = amount);
+
+        long[] longService = longServiceAllowances.clone();
+        for (int month = 0; month <= MAX_LONG_SERVICE_MONTH; month++) {
+            Long amount = overrides.getLongServiceAllowances().get(LongServiceAllowance.targetAllowanance(month));
+            if (amount != null) {
+                longService[month] = amount;
+            }
+        }
+        return new PayTable(roles, capabilities, separated, longService, multipliers, fixedAmounts);
+    }
+
+    /**
+     * 能力等級の社員に支給される、指定した取得元の構成要素の数を取得する。
+     *
+     * @param source 取得元
+     * @param rank 能力等級 (序数)
+     * @return 構成要素の数
+     */
+    int multiplier(ComponentSource source, int rank) {
+        return multipliers[source.ordinal()][rank];
+    }
+
+    /**
+     * 勤続月数に対する勤続手当を取得する。
+     *
+     * @param attendanceMonth 勤続月数
+     * @return 勤続手当
+     */
+    long longServiceAllowance(int attendanceMonth) {
+        return (attendanceMonth < longServiceAllowances.length) ? longServiceAllowances[attendanceMonth] : 0L;
+    }
+}
@@ -0,0 +1,90 @@
+package salarycalculation.domain.analytics;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import salarycalculation.domain.employee.CapabilityRank;
+import salarycalculation.domain.employee.LongServiceAllowance;
+
+/**
+ * 試算で変更する給与テーブルの金額。<br />
+ * 指定しなかった金額は現在の値のまま試算する。
+ *
+ * @author naotake
+ */
+public class PayTableOverrides {
+
+    private final Map<String, Long> roles = new HashMap<>();
+    private final Map<CapabilityRank, Long> capabilities = new EnumMap<>(CapabilityRank.class);
+    private final Map<CapabilityRank, Long> separatedAllowances = new EnumMap<>(CapabilityRank.class);
+    private final Map<LongServiceAllowance, Long> longServiceAllowances = new EnumMap<>(LongServiceAllowance.class);
+
+    /**
+     * 役割等級の金額を変更する。
+     *
+     * @param rank 等級
+     * @param amount 変更後の金額
+     * @return この変更内容
+     */
+    public PayTableOverrides role(String rank, long amount) {
+        roles.put(rank, amount);
+        return this;
+    }
+
+    /**
+     * 能力等級の金額を変更する。
+     *
+     * @param rank 等級
+     * @param amount 変更後の金額
+     * @return この変更内容
+     */
+    public PayTableOverrides capability(CapabilityRank rank, long amount) {
+        capabilities.put(rank, amount);
+        return this;
+    }
+
+    /**
+     * 能力等級の別途手当を変更する。
+     *
+     * @param rank 等級
+     * @param amount 変更後の金額
+     * @return この変更内容
+     */
+    public PayTableOverrides separatedAllowance(CapabilityRank rank, long amount) {
+        separatedAllowances.put(rank, amount);
+        return this;
+    }
+
+    /**
+     * 勤続手当を変更する。
+     *
+     * @param allowance 勤続手当の種類
+     * @param amount 変更後の金額
+     * @return この変更内容
+     */
+    public PayTableOverrides longServiceAllowance(LongServiceAllowance allowance, long amount) {
+        if (allowance == LongServiceAllowance.NONE) {
+            throw new IllegalArgumentException("勤続手当無しの金額は変更できません");
+        }
+        longServiceAllowances.put(allowance, amount);
+        return this;
+    }
+
+    public Map<String, Long> getRoles() {
+        return Collections.unmodifiableMap(roles);
+    }
+
+    public Map<CapabilityRank, Long> getCapabilities() {
+        return Collections.unmodifiableMap(capabilities);
+    }
+
+    public Map<CapabilityRank, Long> getSeparatedAllowances() {
+        return Collections.unmodifiableMap(separatedAllowances);
+    }
+
+    public Map<LongServiceAllowance, Long> getLongServiceAllowances() {
+        return Collections.unmodifiableMap(longServiceAllowances);
+    }
+}
@@ -0,0 +1,145 @@
+package salarycalculation.domain.analytics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 給与テーブル変更の試算結果。<br />
+ * 組織毎に、現在の給与テーブルと変更後の給与テーブルでの対象年月の総支給額合計・想定年収合計を保持する。
+ *
+ * @author naotake
+ */
+public class SimulationResult {
+
+    private final int workYearMonth;
+    private final Map<String, Impact> organizations;
+    private final Impact total;
+
+    SimulationResult(int workYearMonth, Map<String, Impact> organizations) {
+        this.workYearMonth = workYearMonth;
+        this.organizations = Collections.unmodifiableMap(new TreeMap<>(organizations));
+
+        Impact sum = new Impact(0, 0, 0, 0, 0);
+        for (Impact impact : organizations.values()) {
+            sum = sum.add(impact);
+        }
+        this.total = sum;
+    }
+
+    public int getWorkYearMonth() {
+        return workYearMonth;
+    }
+
+    /**
+     * 組織毎の影響額を取得する。
+     *
+     * @return 組織コードをキーとした影響額 (組織コード順)
+     */
+    public Map<String, Impact> getOrganizations() {
+        return organizations;
+    }
+
+    /**
+     * 全社の影響額を取得する。
+     *
+     * @return 全社の影響額
+     */
+    public Impact getTotal() {
+        return total;
+    }
+
+    /**
+     * 給与テーブル変更による影響額。
+     *
+     * @author naotake
+     */
+    public static class Impact {
+
+        private final long employees;
+        private final long currentMonthlyTotal;
+        private final long simulatedMonthlyTotal;
+        private final long currentAnnualPlan;
+        private final long simulatedAnnualPlan;
+
+        Impact(long employees, long currentMonthlyTotal, long simulatedMonthlyTotal, long currentAnnualPlan,
+                long simulatedAnnualPlan) {
+            this.employees = employees;
+            this.currentMonthlyTotal = currentMonthlyTotal;
+            this.simulatedMonthlyTotal = simulatedMonthlyTotal;
+            this.currentAnnualPlan = currentAnnualPlan;
+            this.simulatedAnnualPlan = simulatedAnnualPlan;
+        }
+
+        Impact add(Impact other) {
+            return new Impact(employees + other.employees,
+                    currentMonthlyTotal + other.currentMonthlyTotal,
+                    simulatedMonthlyTotal + other.simulatedMonthlyTotal,
+                    currentAnnualPlan + other.currentAnnualPlan,
+                    simulatedAnnualPlan + other.simulatedAnnualPlan);
+        }
+
+        /**
+         * 対象となる社員数を取得する。
+         *
+         * @return 社員数
+         */
+        public long getEmployees() {
+            return employees;
+        }
+
+        /**
+         * 現在の給与テーブルでの総支給額合計を取得する。
+         *
+         * @return 総支給額合計
+         */
+        public long getCurrentMonthlyTotal() {
+            return currentMonthlyTotal;
+        }
+
+        /**
+         * 変更後の給与テーブルでの総支給額合計を取得する。
+         *
+         * @return 総支給額合計
+         */
+        public long getSimulatedMonthlyTotal() {
+            return simulatedMonthlyTotal;
+        }
+
+        /**
+         * 総支給額合計の増減を取得する。
+         *
+         * @return 増減額 (変更後 - 現在)
+         */
+        public long getMonthlyDelta() {
+            return simulatedMonthlyTotal - currentMonthlyTotal;
+        }
+
+        /**
+         * 現在の給与テーブルでの想定年収合計を取得する。
+         *
+         * @return 想定年収合計
+         */
+        public long getCurrentAnnualPlan() {
+            return currentAnnualPlan;
+        }
+
+        /**
+         * 変更後の給与テーブルでの想定年収合計を取得する。
+         *
+         * @return 想定年収合計
+         */
+        public long getSimulatedAnnualPlan() {
+            return simulatedAnnualPlan;
+        }
+
+        /**
+         * 想定年収合計の増減を取得する。
+         *
+         * @return 増減額 (変更後 - 現在)
+         */
+        public long getAnnualDelta() {
+            return simulatedAnnualPlan - currentAnnualPlan;
+        }
+    }
+}
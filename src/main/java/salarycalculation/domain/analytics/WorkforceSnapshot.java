@@ -0,0 +1,461 @@
+package salarycalculation.domain.analytics;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import salarycalculation.domain.employee.CapabilityRank;
+import salarycalculation.domain.rule.ComponentSource;
+import salarycalculation.domain.rule.PayrollPlan;
+import salarycalculation.domain.rule.PayrollPlans;
+import salarycalculation.domain.work.WorkOverTime;
+
+/**
+ * 指定年月時点の全社員情報をヒープ外に列形式で保持するスナップショット。<br />
+ * {@link salarycalculation.domain.employee.Employees}と同じ集計を、社員毎の
+ * {@link salarycalculation.domain.employee.Employee}を生成せずに行う。
+ * <p />
+ * 組織コード・役割等級は辞書の番号、能力等級は列挙型の序数で保持する。
+ * 入社年月日は対象年月時点の勤続月数に変換して保持する。
+ * 金額はテーブル定義に合わせて int で保持し、集計は long で行う。
+ * 総支給額は使用中の評価計画 ({@link PayrollPlans#currentOrDefaults()}) の構成要素で求める。
+ *
+ * @author naotake
+ */
+public class WorkforceSnapshot {
+
+    /** 試算時に 1 スレッドで処理する社員数 */
+    private static final int SIMULATION_CHUNK_SIZE = 8192;
+
+    private final int workYearMonth;
+    private final int size;
+
+    private final String[] organizations;
+    private final String[] roleRanks;
+    private final PayTable payTable;
+
+    private final IntColumn no;
+    private final IntColumn organization;
+    private final IntColumn role;
+    private final IntColumn capability;
+    private final IntColumn attendanceMonth;
+    private final IntColumn commuteAmount;
+    private final IntColumn rentAmount;
+    private final IntColumn healthInsuranceAmount;
+    private final IntColumn employeePensionAmount;
+    private final IntColumn incomeTaxAmount;
+    private final IntColumn inhabitantTaxAmount;
+    private final IntColumn overtimeAmount;
+
+    private WorkforceSnapshot(Builder builder) {
+        this.workYearMonth = builder.workYearMonth;
+        this.size = builder.no.size();
+
+        this.organizations = builder.organizations.toArray(new String[0]);
+        this.roleRanks = builder.roleRanks.toArray(new String[0]);
+        this.payTable = PayTable.current(builder.roleAmounts.stream().mapToLong(Long::longValue).toArray(),
+                builder.capabilityAmounts, builder.plan);
+
+        this.no = builder.no;
+        this.organization = builder.organization;
+        this.role = builder.role;
+        this.capability = builder.capability;
+        this.attendanceMonth = builder.attendanceMonth;
+        this.commuteAmount = builder.commuteAmount;
+        this.rentAmount = builder.rentAmount;
+        this.healthInsuranceAmount = builder.healthInsuranceAmount;
+        this.employeePensionAmount = builder.employeePensionAmount;
+        this.incomeTaxAmount = builder.incomeTaxAmount;
+        this.inhabitantTaxAmount = builder.inhabitantTaxAmount;
+        this.overtimeAmount = builder.overtimeAmount;
+    }
+
+    /**
+     * スナップショットの組み立てを開始する。
+     *
+     * @param workYearMonth 集計対象の年月 (e.g. 201504)
+     * @return ビルダー
+     */
+    public static Builder builder(int workYearMonth) {
+        return new Builder(workYearMonth);
+    }
+
+    /**
+     * 対象年月の手取り額の平均を取得する。
+     *
+     * @return 全社員の手取り額平均
+     */
+    public int getAverageTakeHome() {
+        return (int) IntStream.range(0, size)
+                .mapToLong(i -> takeHome(i, payTable))
+                .average()
+                .getAsDouble();
+    }
+
+    /**
+     * 想定年収が指定額を超えている社員数を取得する。
+     *
+     * @param condition 指定額
+     * @return 該当する社員数
+     */
+    public int getCountByOverAnnualSalary(long condition) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (annualTotalSalaryPlan(i, payTable) > condition) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 対象年月の全社員の総支給額の合計を取得する。
+     *
+     * @return 全社員の総支給額合計
+     */
+    public long getSumTotalSalary() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += totalSalary(i, payTable);
+        }
+        return sum;
+    }
+
+    /**
+     * 指定された組織コードに所属する社員数を取得する。
+     *
+     * @param organizationCode 組織コード
+     * @return 所属する社員数
+     */
+    public long countByOrganization(String organizationCode) {
+        int target = -1;
+        for (int i = 0; i < organizations.length; i++) {
+            if (organizations[i].equals(organizationCode)) {
+                target = i;
+            }
+        }
+        long count = 0;
+        for (int i = 0; i < size; i++) {
+            if (organization.get(i) == target) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 給与テーブルを変更した場合の影響額を組織毎に試算する。<br />
+     * スナップショット自体は変更しない。社員を一定件数毎の区間に分けて並列に集計する。
+     *
+     * @param overrides 給与テーブルの変更内容
+     * @return 試算結果
+     * @throws IllegalArgumentException 未登録の役割等級が指定された場合
+     */
+    public SimulationResult simulate(PayTableOverrides overrides) {
+        PayTable simulated = payTable.override(overrides, roleRanks);
+
+        // 組織毎に [社員数, 現在の総支給額, 変更後の総支給額, 現在の想定年収, 変更後の想定年収] を集計する
+        int chunks = Math.max(1, (size + SIMULATION_CHUNK_SIZE - 1) / SIMULATION_CHUNK_SIZE);
+        long[][] sums = IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> simulateChunk(chunk, simulated))
+                .reduce(WorkforceSnapshot::merge)
+                .get();
+
+        Map<String, SimulationResult.Impact> impacts = new HashMap<>();
+        for (int i = 0; i < organizations.length; i++) {
+            long[] sum = sums[i];
+            impacts.put(organizations[i], new SimulationResult.Impact(sum[0], sum[1], sum[2], sum[3], sum[4]));
+        }
+        return new SimulationResult(workYearMonth, impacts);
+    }
+
+    private long[][] simulateChunk(int chunk, PayTable simulated) {
+        long[][] sums = new long[organizations.length][5];
+        int to = Math.min(size, (chunk + 1) * SIMULATION_CHUNK_SIZE);
+        for (int i = chunk * SIMULATION_CHUNK_SIZE; i < to; i++) {
+            long[] sum = sums[organization.get(i)];
+            sum[0]++;
+            sum[1] += totalSalary(i, payTable);
+            sum[2] += totalSalary(i, simulated);
+            sum[3] += annualTotalSalaryPlan(i, payTable);
+            sum[4] += annualTotalSalaryPlan(i, simulated);
+        }
+        return sums;
+    }
+
+    private static long[][] merge(long[][] left, long[][] right) {
+        for (int i = 0; i < left.length; i++) {
+            for (int j = 0; j < left[i].length; j++) {
+                left[i][j] += right[i][j];
+            }
+        }
+        return left;
+    }
+
+    private long annualTotalSalaryPlan(int i, PayTable table) {
+        int rank = capability.get(i);
+        return (table.roleAmounts[role.get(i)] * table.multiplier(ComponentSource.ROLE, rank)
+                + table.capabilityAmounts[rank] * table.multiplier(ComponentSource.CAPABILITY, rank)
+                + table.separatedAllowances[rank] * table.multiplier(ComponentSource.SEPARATED_ALLOWANCE, rank)
+                + table.fixedAmounts[rank]) * 12;
+    }
+
+    private long totalSalary(int i, PayTable table) {
+        // 残業代は支給される構成要素の数を掛けた金額を保持している
+        int rank = capability.get(i);
+        return table.roleAmounts[role.get(i)] * table.multiplier(ComponentSource.ROLE, rank)
+                + table.capabilityAmounts[rank] * table.multiplier(ComponentSource.CAPABILITY, rank)
+                + (long) commuteAmount.get(i) * table.multiplier(ComponentSource.COMMUTE, rank)
+                + (long) rentAmount.get(i) * table.multiplier(ComponentSource.RENT, rank)
+                + table.separatedAllowances[rank] * table.multiplier(ComponentSource.SEPARATED_ALLOWANCE, rank)
+                + table.longServiceAllowance(attendanceMonth.get(i))
+                        * table.multiplier(ComponentSource.LONG_SERVICE, rank)
+                + table.fixedAmounts[rank]
+                + overtimeAmount.get(i);
+    }
+
+    private long takeHome(int i, PayTable table) {
+        long deduction = (long) healthInsuranceAmount.get(i) + employeePensionAmount.get(i)
+                + incomeTaxAmount.get(i) + inhabitantTaxAmount.get(i);
+        return totalSalary(i, table) - deduction;
+    }
+
+    public int getWorkYearMonth() {
+        return workYearMonth;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * ヒープ外に確保している容量を取得する。
+     *
+     * @return 確保している容量 (バイト)
+     */
+    public long getOffHeapBytes() {
+        return no.capacityBytes() + organization.capacityBytes() + role.capacityBytes()
+                + capability.capacityBytes() + attendanceMonth.capacityBytes() + commuteAmount.capacityBytes()
+                + rentAmount.capacityBytes() + healthInsuranceAmount.capacityBytes()
+                + employeePensionAmount.capacityBytes() + incomeTaxAmount.capacityBytes()
+                + inhabitantTaxAmount.capacityBytes() + overtimeAmount.capacityBytes();
+    }
+
+    /**
+     * {@link WorkforceSnapshot}を組み立てるビルダー。<br />
+     * 社員は社員番号の昇順に追加すること。
+     *
+     * @author naotake
+     */
+    public static class Builder {
+
+        private final int workYearMonth;
+        private final PayrollPlan plan;
+
+        private final List<String> organizations = new ArrayList<>();
+        private final Map<String, Integer> organizationIndex = new HashMap<>();
+        private final List<String> roleRanks = new ArrayList<>();
+        private final List<Long> roleAmounts = new ArrayList<>();
+        private final Map<String, Integer> roleIndex = new HashMap<>();
+        private final long[] capabilityAmounts = new long[CapabilityRank.values().length];
+
+        private final IntColumn no = new IntColumn(1024);
+        private final IntColumn organization = new IntColumn(1024);
+        private final IntColumn role = new IntColumn(1024);
+        private final IntColumn capability = new IntColumn(1024);
+        private final IntColumn attendanceMonth = new IntColumn(1024);
+        private final IntColumn commuteAmount = new IntColumn(1024);
+        private final IntColumn rentAmount = new IntColumn(1024);
+        private final IntColumn healthInsuranceAmount = new IntColumn(1024);
+        private final IntColumn employeePensionAmount = new IntColumn(1024);
+        private final IntColumn incomeTaxAmount = new IntColumn(1024);
+        private final IntColumn inhabitantTaxAmount = new IntColumn(1024);
+        private final IntColumn workOverTime1hAmount = new IntColumn(1024);
+        private final IntColumn overtimeAmount = new IntColumn(1024);
+
+        private Builder(int workYearMonth) {
+            this.workYearMonth = workYearMonth;
+            this.plan = PayrollPlans.currentOrDefaults();
+        }
+
+        /**
+         * 役割等級の金額を登録する。
+         *
+         * @param rank 等級
+         * @param amount 金額
+         * @return ビルダー
+         */
+        public Builder role(String rank, long amount) {
+            roleIndex.put(rank, roleAmounts.size());
+            roleRanks.add(rank);
+            roleAmounts.add(amount);
+            return this;
+        }
+
+        /**
+         * 能力等級の金額を登録する。
+         *
+         * @param rank 等級
+         * @param amount 金額
+         * @return ビルダー
+         */
+        public Builder capability(CapabilityRank rank, long amount) {
+            capabilityAmounts[rank.ordinal()] = amount;
+            return this;
+        }
+
+        /**
+         * 社員を 1 件追加する。
+         *
+         * @param employee 社員の列値
+         * @return ビルダー
+         */
+        public Builder add(Row employee) {
+            if (no.size() > 0 && no.get(no.size() - 1) >= employee.no) {
+                throw new IllegalArgumentException("社員番号の昇順に追加してください[" + employee.no + "]");
+            }
+            Integer roleNo = roleIndex.get(employee.roleRank);
+            if (roleNo == null) {
+                throw new IllegalArgumentException("未登録の役割等級です[" + employee.roleRank + "]");
+            }
+
+            no.add(employee.no);
+            organization.add(organizationIndex.computeIfAbsent(employee.organization, code -> {
+                organizations.add(code);
+                return organizations.size() - 1;
+            }));
+            role.add(roleNo);
+            capability.add(employee.capabilityRank.ordinal());
+            attendanceMonth.add(attendanceMonth(employee.joinDate));
+            commuteAmount.add(employee.commuteAmount);
+            rentAmount.add(employee.rentAmount);
+            healthInsuranceAmount.add(employee.healthInsuranceAmount);
+            employeePensionAmount.add(employee.employeePensionAmount);
+            incomeTaxAmount.add(employee.incomeTaxAmount);
+            inhabitantTaxAmount.add(employee.inhabitantTaxAmount);
+            workOverTime1hAmount.add(employee.workOverTime1hAmount);
+            overtimeAmount.add(0);
+            return this;
+        }
+
+        /**
+         * 対象年月の稼動情報から残業代を設定する。<br />
+         * 追加済みの社員に該当しない稼動情報と、残業代が支給されない能力等級 (マネージャ職など) の稼動情報は無視する。
+         *
+         * @param work 稼動情報
+         * @return ビルダー
+         */
+        public Builder work(WorkOverTime work) {
+            if (work.getId().getWorkYearMonth() != workYearMonth) {
+                return this;
+            }
+            int index = no.binarySearch(work.getId().getEmployeeNo());
+            int multiplier = (index < 0) ? 0
+                    : plan.multiplier(ComponentSource.OVERTIME, CapabilityRank.values()[capability.get(index)]);
+            if (multiplier == 0) {
+                return this;
+            }
+            long amount = plan.overtime(work, workOverTime1hAmount.get(index)) * multiplier;
+            overtimeAmount.set(index, Math.toIntExact(amount));
+            return this;
+        }
+
+        private int attendanceMonth(LocalDate joinDate) {
+            // Employee#calculateAttendanceMonth と同じ求め方をする
+            LocalDate firstDay = LocalDate.of(workYearMonth / 100, workYearMonth % 100, 1);
+            Period period = firstDay.until(joinDate);
+            return Math.abs(period.getMonths() + (period.getYears() * 12)) + 1;
+        }
+
+        public WorkforceSnapshot build() {
+            return new WorkforceSnapshot(this);
+        }
+    }
+
+    /**
+     * スナップショットへ追加する社員 1 件分の列値。<br />
+     * 大量に追加する場合は同じインスタンスを使い回してよい。
+     *
+     * @author naotake
+     */
+    public static class Row {
+
+        private int no;
+        private String organization;
+        private String roleRank;
+        private CapabilityRank capabilityRank;
+        private LocalDate joinDate;
+        private int commuteAmount;
+        private int rentAmount;
+        private int healthInsuranceAmount;
+        private int employeePensionAmount;
+        private int incomeTaxAmount;
+        private int inhabitantTaxAmount;
+        private int workOverTime1hAmount;
+
+        public Row no(int no) {
+            this.no = no;
+            return this;
+        }
+
+        public Row organization(String organization) {
+            this.organization = organization;
+            return this;
+        }
+
+        public Row roleRank(String roleRank) {
+            this.roleRank = roleRank;
+            return this;
+        }
+
+        public Row capabilityRank(CapabilityRank capabilityRank) {
+            this.capabilityRank = capabilityRank;
+            return this;
+        }
+
+        public Row joinDate(LocalDate joinDate) {
+            this.joinDate = joinDate;
+            return this;
+        }
+
+        public Row commuteAmount(int commuteAmount) {
+            this.commuteAmount = commuteAmount;
+            return this;
+        }
+
+        public Row rentAmount(int rentAmount) {
+            this.rentAmount = rentAmount;
+            return this;
+        }
+
+        public Row healthInsuranceAmount(int healthInsuranceAmount) {
+            this.healthInsuranceAmount = healthInsuranceAmount;
+            return this;
+        }
+
+        public Row employeePensionAmount(int employeePensionAmount) {
+            this.employeePensionAmount = employeePensionAmount;
+            return this;
+        }
+
+        public Row incomeTaxAmount(int incomeTaxAmount) {
+            this.incomeTaxAmount = incomeTaxAmount;
+            return this;
+        }
+
+        public Row inhabitantTaxAmount(int inhabitantTaxAmount) {
+            this.inhabitantTaxAmount = inhabitantTaxAmount;
+            return this;
+        }
+
+        public Row workOverTime1hAmount(int workOverTime1hAmount) {
+            this.workOverTime1hAmount = workOverTime1hAmount;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package salarycalculation.domain.employee;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+import salarycalculation.utils.Instrumentation;
+import salarycalculation.utils.LruCache;
+
+/**
+ * 社員番号を指定した取得 ({@link #get(String)}) を束ねるリポジトリ。<br />
+ * 同じ社員番号の取得が同時に要求された場合は、最初の要求の読み込みを後続の要求で共有する。
+ * 読み込んだ結果は短い期間だけ保持し、その間の要求には再読み込みせずに返す。
+ * <p />
+ * 射影を指定した取得 ({@link #get(String, EmployeeProjection)}) は社員番号と射影の組毎に束ねる。
+ * 集約全体を保持している場合は、射影を指定した取得にもその結果を返す。
+ * <p />
+ * 存在しない社員の場合は {@link salarycalculation.exception.RecordNotFoundException} を
+ * 読み込みを共有した全ての要求にそのまま送出し、結果は保持しない。
+ * 取得以外の処理は委譲先へそのまま委譲する。スレッドセーフ。
+ *
+ * @author naotake
+ */
+public class CoalescingEmployeeRepository implements EmployeeRepository {
+
+    private static final String LOAD = Instrumentation.name(CoalescingEmployeeRepository.class, "load");
+    private static final String COALESCED = Instrumentation.name(CoalescingEmployeeRepository.class, "coalesced");
+    private static final String CACHE_HIT = Instrumentation.name(CoalescingEmployeeRepository.class, "cacheHit");
+
+    private final EmployeeRepository delegate;
+    private final long ttlNanos;
+    private final LruCache<Key, Loaded> results;
+
+    /** 読み込み中の社員 */
+    private final ConcurrentMap<Key, CompletableFuture<Employee>> inFlight = new ConcurrentHashMap<>();
+
+    /** 破棄の世代。破棄より前に開始した読み込みの結果は保持しない */
+    private final AtomicLong generation = new AtomicLong();
+
+    private LongSupplier ticker = System::nanoTime;
+
+    /**
+     * @param delegate 委譲先のリポジトリ
+     * @param ttl 結果を保持する期間 (0 の場合は保持せず、同時の要求のみを束ねる)
+     * @param unit 期間の単位
+     * @param maximumSize 結果を保持する件数の上限
+     */
+    public CoalescingEmployeeRepository(EmployeeRepository delegate, long ttl, TimeUnit unit, int maximumSize) {
+        if (ttl < 0) {
+            throw new IllegalArgumentException("保持期間は 0 以上で指定してください[" + ttl + "]");
+        }
+        this.delegate = delegate;
+        this.ttlNanos = unit.toNanos(ttl);
+        this.results = new LruCache<>(maximumSize);
+    }
+
+    @Override
+    public Employee get(String no) {
+        return get(no, EmployeeProjection.ALL);
+    }
+
+    @Override
+    public Employee get(String no, EmployeeProjection projection) {
+        Key key = new Key(no, projection);
+        long now = ticker.getAsLong();
+        Employee cached = cached(key, now);
+        if (cached == null && !projection.isComplete()) {
+            cached = cached(new Key(no, EmployeeProjection.ALL), now);
+        }
+        if (cached != null) {
+            Instrumentation.count(CACHE_HIT);
+            return cached;
+        }
+
+        CompletableFuture<Employee> mine = new CompletableFuture<>();
+        CompletableFuture<Employee> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            Instrumentation.count(COALESCED);
+            return await(running);
+        }
+
+        long startedGeneration = generation.get();
+        try {
+            Instrumentation.count(LOAD);
+            Employee employee = projection.isComplete() ? delegate.get(no) : delegate.get(no, projection);
+            if (ttlNanos > 0 && generation.get() == startedGeneration) {
+                results.put(key, new Loaded(employee, ticker.getAsLong()));
+            }
+            mine.complete(employee);
+            return employee;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private Employee cached(Key key, long now) {
+        Loaded loaded = results.get(key);
+        return (loaded != null && now - loaded.loadedAt < ttlNanos) ? loaded.employee : null;
+    }
+
+    /**
+     * 複数の社員をまとめて取得する。<br />
+     * 保持している結果はそのまま返し、残りの社員のみを委譲先からまとめて読み込む。
+     */
+    @Override
+    public Map<String, Employee> getAll(Collection<String> nos) {
+        Map<String, Employee> found = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        long now = ticker.getAsLong();
+        for (String no : nos) {
+            Employee cached = cached(new Key(no, EmployeeProjection.ALL), now);
+            if (cached != null) {
+                Instrumentation.count(CACHE_HIT);
+                found.put(no, cached);
+            } else {
+                misses.add(no);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            long startedGeneration = generation.get();
+            Map<String, Employee> loaded = delegate.getAll(misses);
+            found.putAll(loaded);
+            if (ttlNanos > 0 && generation.get() == startedGeneration) {
+                long loadedAt = ticker.getAsLong();
+                loaded.forEach((no, employee) -> results.put(new Key(no, EmployeeProjection.ALL),
+                        new Loaded(employee, loadedAt)));
+            }
+        }
+
+        Map<String, Employee> result = new LinkedHashMap<>();
+        for (String no : nos) {
+            Employee employee = found.get(no);
+            if (employee != null) {
+                result.put(no, employee);
+            }
+        }
+        return result;
+    }
+
+    private static Employee await(CompletableFuture<Employee> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            // 読み込んだ要求が送出した例外をそのまま送出する
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 保持している社員の結果を、全ての射影について破棄する。読み込み中の結果も保持しない。
+     *
+     * @param no 社員番号
+     */
+    public void invalidate(String no) {
+        generation.incrementAndGet();
+        results.invalidateIf(key -> Objects.equals(key.no, no));
+    }
+
+    /**
+     * 保持している全ての結果を破棄する。読み込み中の結果も保持しない。
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        results.invalidateAll();
+    }
+
+    /**
+     * 結果を保持している件数を取得する (期限切れを含む)。
+     *
+     * @return 件数
+     */
+    public int size() {
+        return results.size();
+    }
+
+    @Override
+    public Employees findAllOrderByAnnualSalary(boolean ascending) {
+        return delegate.findAllOrderByAnnualSalary(ascending);
+    }
+
+    @Override
+    public Employees findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Stream<Employee> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public Stream<Employee> streamAll(int partitions) {
+        return delegate.streamAll(partitions);
+    }
+
+    @Override
+    public Employee getByDurationMonth(boolean selectMax) {
+        return delegate.getByDurationMonth(selectMax);
+    }
+
+    @Override
+    public long countByOrganization(String organizationCode) {
+        return delegate.countByOrganization(organizationCode);
+    }
+
+    void setTicker(LongSupplier ticker) {
+        this.ticker = ticker;
+    }
+
+    /**
+     * 社員番号と射影の組。
+     */
+    private static final class Key {
+
+        private final String no;
+        private final EmployeeProjection projection;
+
+        private Key(String no, EmployeeProjection projection) {
+            this.no = no;
+            this.projection = projection;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return Objects.equals(no, other.no) && projection.equals(other.projection);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(no, projection);
+        }
+    }
+
+    /**
+     * 読み込んだ結果と読み込んだ時刻。
+     */
+    private static final class Loaded {
+
+        private final Employee employee;
+        private final long loadedAt;
+
+        private Loaded(Employee employee, long loadedAt) {
+            this.employee = employee;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -4,9 +4,9 @@ import java.util.Optional;
 
 import salarycalculation.domain.organization.Organization;
 import salarycalculation.domain.work.WorkOverTime;
-import salarycalculation.domain.work.WorkOverTimeSalaryCalculator;
 import salarycalculation.domain.work.WorkOverTimes;
 import salarycalculation.utils.BaseEntity;
+import salarycalculation.utils.Instrumentation;
 import salarycalculation.utils.Money;
 import salarycalculation.utils.PersonName;
 
@@ -18,6 +18,11 @@ import salarycalculation.utils.PersonName;
  */
 public class Employee extends BaseEntity<Integer> {
 
+    private static final String TAKE_HOME_COUNTER = Instrumentation.name(Employee.class, "getTakeHomeAmount");
+    private static final String TOTAL_SALARY_COUNTER = Instrumentation.name(Employee.class, "getTotalSalary");
+    private static final String OVERTIME_COUNTER = Instrumentation.name(Employee.class, "getOvertimeAmount");
+    private static final String ANNUAL_PLAN_COUNTER = Instrumentation.name(Employee.class, "getAnnualTotalSalaryPlan");
+
     private final Integer employeeNo;
 
     /** 社員名 */
@@ -112,14 +117,13 @@ public class Employee extends BaseEntity<Integer> {
      */
     // @UT
     public Money getTakeHomeAmount(int workYearMonth) {
+        Instrumentation.count(TAKE_HOME_COUNTER);
+
         // 総支給額を求める
         Money totalSalary = getTotalSalary(workYearMonth);
 
         // 控除額を求める
-        Money deduction = healthInsuranceAmount
-                .add(employeePensionAmount)
-                .add(incomeTaxAmount)
-                .add(inhabitantTaxAmount);
+        Money deduction = getDeduction();
 
         // 差引給与額を求める
         Money takeHome = totalSalary.minus(deduction);
@@ -127,6 +131,21 @@ public class Employee extends BaseEntity<Integer> {
         return takeHome;
     }
 
+    /**
+     * 控除額を取得する。<br />
+     * 控除額の内訳は下記の通り。
+     * <p />
+     * 控除額 = 健康保険 + 厚生年金 + 所得税 + 住民税
+     *
+     * @return 控除額
+     */
+    public Money getDeduction() {
+        return healthInsuranceAmount
+                .add(employeePensionAmount)
+                .add(incomeTaxAmount)
+                .add(inhabitantTaxAmount);
+    }
+
     /**
      * 指定年月の給料の総支給額を取得する。<br />
      * 総支給額の内訳は下記の通り。
@@ -138,6 +157,8 @@ public class Employee extends BaseEntity<Integer> {
      */
     // @UT
     public Money getTotalSalary(int workYearMonth) {
+        Instrumentation.count(TOTAL_SALARY_COUNTER);
+
         int targetWorkYear = workYearMonth / 100;
         int targetWorkMonth = workYearMonth % 100;
         return role.getAmount()
@@ -154,18 +175,28 @@ public class Employee extends BaseEntity<Integer> {
      * @return 諸手当
      */
     public Money getAllowance(BusinessDate targetDate) {
-        int attendanceMonth = calculateAttendanceMonth(targetDate);
         // 諸手当を求める
         Money totalAllowance = commuteAmount
                 .add(rentAmount)
                 .add(capability.getSeparatedAllowance())
                 // 勤続手当の取得
-                .add(LongServiceAllowance.targetAllowanance(attendanceMonth).allowance());
+                .add(getLongServiceAllowance(targetDate));
 
         return totalAllowance;
 
     }
 
+    /**
+     * 基準日に対する勤続手当を取得する。
+     *
+     * @param 基準日
+     * @return 勤続手当
+     */
+    public Money getLongServiceAllowance(BusinessDate targetDate) {
+        int attendanceMonth = calculateAttendanceMonth(targetDate);
+        return LongServiceAllowance.targetAllowanance(attendanceMonth).allowance();
+    }
+
     /**
      * 指定年月の残業代を取得する。
      *
@@ -174,6 +205,7 @@ public class Employee extends BaseEntity<Integer> {
      */
     // @UT
     public Money getOvertimeAmount(int workYearMonth) {
+        Instrumentation.count(OVERTIME_COUNTER);
 
         // マネージャ職は残業代なし
         if (capability.isManager()) {
@@ -181,19 +213,15 @@ public class Employee extends BaseEntity<Integer> {
 
         }
 
+        // 稼動情報が無い場合は残業代なし
+        if (workOverTimes == null) {
+            return Money.ZERO;
+        }
+
         // 稼動情報を取得
         Optional<WorkOverTime> workOverTimeOpt = workOverTimes.getWorkOverTime(workYearMonth);
 
-        return workOverTimeOpt.map(workOverTime -> WorkOverTimeSalaryCalculator.create(amountOverTimePerHour)
-                // 時間外手当
-                .append(workOverTime.getWorkOverTime())
-                // 深夜手当
-                .append(workOverTime.getLateNightOverTime())
-                // 休日手当
-                .append(workOverTime.getHolidayWorkTime())
-                // 休日深夜手当
-                .append(workOverTime.getHolidayLateNightOverTime())
-                .calculate())
+        return workOverTimeOpt.map(workOverTime -> workOverTime.calculateSalary(amountOverTimePerHour))
                 // 取得できなかった時は０円
                 .orElse(Money.ZERO);
 
@@ -216,6 +244,8 @@ public class Employee extends BaseEntity<Integer> {
      */
     // @UT
     public Money getAnnualTotalSalaryPlan() {
+        Instrumentation.count(ANNUAL_PLAN_COUNTER);
+
         // 想定年収を求める
         return calculateSaralyPerMonth().multiply(12);
     }
@@ -0,0 +1,212 @@
+package salarycalculation.domain.employee;
+
+import java.time.DateTimeException;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import salarycalculation.utils.BaseValueObject;
+
+/**
+ * 社員情報の取得時に読み込む項目 (射影) を表す VO。<br />
+ * リポジトリは指定された項目に必要なテーブル・列のみを読み込み、それ以外の項目は設定しない。
+ * 社員番号は常に読み込む。
+ *
+ * <pre>
+ * 項目
+ * ・name             : 社員名
+ * ・organization     : 組織
+ * ・role             : 役割等級
+ * ・capability       : 能力等級
+ * ・payslip(201504)  : 指定した稼動年月の給与明細 (等級・手当・控除と、その年月の稼動情報を読み込む)
+ * </pre>
+ *
+ * @author naotake
+ */
+public class EmployeeProjection extends BaseValueObject {
+
+    /**
+     * 項目。
+     */
+    public enum Field {
+        /** 社員名 */
+        NAME,
+        /** 組織 */
+        ORGANIZATION,
+        /** 役割等級 */
+        ROLE,
+        /** 能力等級 */
+        CAPABILITY,
+        /** 給与明細 */
+        PAYSLIP;
+    }
+
+    /** 全ての項目と全ての稼動年月の稼動情報 (集約全体) */
+    public static final EmployeeProjection ALL = new EmployeeProjection(true, EnumSet.allOf(Field.class),
+            new TreeSet<>());
+
+    private static final String PAYSLIP_PREFIX = "payslip(";
+
+    /** 集約全体を読み込むかどうか */
+    private final boolean complete;
+    private final Set<Field> fields;
+
+    /** 給与明細の稼動年月 */
+    private final SortedSet<Integer> payslipMonths;
+
+    private EmployeeProjection(boolean complete, Set<Field> fields, SortedSet<Integer> payslipMonths) {
+        this.complete = complete;
+        this.fields = Collections.unmodifiableSet(fields);
+        this.payslipMonths = Collections.unmodifiableSortedSet(payslipMonths);
+    }
+
+    /**
+     * 項目を指定して射影を生成する。給与明細は {@link #withPayslip(int)}で指定する。
+     *
+     * @param fields 項目
+     * @return 射影
+     */
+    public static EmployeeProjection of(Field... fields) {
+        EnumSet<Field> set = EnumSet.noneOf(Field.class);
+        for (Field field : fields) {
+            if (field == Field.PAYSLIP) {
+                throw new IllegalArgumentException("給与明細は稼動年月を指定してください");
+            }
+            set.add(field);
+        }
+        return new EmployeeProjection(false, set, new TreeSet<>());
+    }
+
+    /**
+     * 指定した稼動年月の給与明細を加えた射影を生成する。
+     *
+     * @param workYearMonth 稼動年月 (e.g. 201504)
+     * @return 射影
+     */
+    public EmployeeProjection withPayslip(int workYearMonth) {
+        if (complete) {
+            return this;
+        }
+        verifyYearMonth(workYearMonth);
+        EnumSet<Field> set = fields.isEmpty() ? EnumSet.noneOf(Field.class) : EnumSet.copyOf(fields);
+        set.add(Field.PAYSLIP);
+        SortedSet<Integer> months = new TreeSet<>(payslipMonths);
+        months.add(workYearMonth);
+        return new EmployeeProjection(false, set, months);
+    }
+
+    /**
+     * カンマ区切りの項目名から射影を生成する (e.g. {@code name,organization,payslip(201504)})。
+     *
+     * @param expression カンマ区切りの項目名
+     * @return 射影
+     * @throws IllegalArgumentException 不正な項目名が含まれる場合
+     */
+    public static EmployeeProjection parse(String expression) {
+        EmployeeProjection projection = of();
+        for (String token : expression.split(",")) {
+            String name = token.trim().toLowerCase(Locale.ROOT);
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (name.startsWith(PAYSLIP_PREFIX) && name.endsWith(")")) {
+                projection = projection.withPayslip(parseYearMonth(token.trim(),
+                        name.substring(PAYSLIP_PREFIX.length(), name.length() - 1)));
+                continue;
+            }
+            Field field = parseField(token.trim(), name);
+            if (field == Field.PAYSLIP) {
+                throw new IllegalArgumentException("給与明細は稼動年月を指定してください[" + token.trim() + "]");
+            }
+            EnumSet<Field> set = EnumSet.of(field);
+            set.addAll(projection.fields);
+            projection = new EmployeeProjection(false, set, new TreeSet<>(projection.payslipMonths));
+        }
+        return projection;
+    }
+
+    private static Field parseField(String token, String name) {
+        try {
+            return Field.valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("不正な項目です[" + token + "]", e);
+        }
+    }
+
+    private static int parseYearMonth(String token, String value) {
+        try {
+            int workYearMonth = Integer.parseInt(value);
+            verifyYearMonth(workYearMonth);
+            return workYearMonth;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("不正な稼動年月です[" + token + "]", e);
+        }
+    }
+
+    private static void verifyYearMonth(int workYearMonth) {
+        try {
+            YearMonth.of(workYearMonth / 100, workYearMonth % 100);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("不正な稼動年月です[" + workYearMonth + "]", e);
+        }
+    }
+
+    /**
+     * 集約全体を読み込むかどうかを判定する。
+     *
+     * @return 集約全体を読み込む場合は true
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * 項目を含むかどうかを判定する。
+     *
+     * @param field 項目
+     * @return 含む場合は true
+     */
+    public boolean includes(Field field) {
+        return fields.contains(field);
+    }
+
+    /**
+     * 役割等級を読み込む必要があるかを判定する。給与明細の計算にも必要となる。
+     *
+     * @return 必要な場合は true
+     */
+    public boolean requiresRole() {
+        return includes(Field.ROLE) || includes(Field.PAYSLIP);
+    }
+
+    /**
+     * 能力等級を読み込む必要があるかを判定する。給与明細の計算にも必要となる。
+     *
+     * @return 必要な場合は true
+     */
+    public boolean requiresCapability() {
+        return includes(Field.CAPABILITY) || includes(Field.PAYSLIP);
+    }
+
+    /**
+     * 手当・控除・入社年月日などの給与計算に使用する項目を読み込む必要があるかを判定する。
+     *
+     * @return 必要な場合は true
+     */
+    public boolean requiresSalary() {
+        return includes(Field.PAYSLIP);
+    }
+
+    /**
+     * 給与明細の稼動年月を取得する。集約全体を読み込む場合は空となる (全ての稼動年月を読み込む)。
+     *
+     * @return 稼動年月の昇順の一覧
+     */
+    public SortedSet<Integer> getPayslipMonths() {
+        return payslipMonths;
+    }
+}
@@ -1,5 +1,9 @@
 package salarycalculation.domain.employee;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Stream;
+
 /**
  * リポジトリインタフェース.DIPを適用するためI/Fを作成.
  *
@@ -12,10 +16,43 @@ public interface EmployeeRepository {
 
     Employees findAll();
 
-    Employee getSimple(String no);
+    /**
+     * 全社員を社員番号の昇順に 1 件ずつ読み込む。使い終えたら必ず閉じること。
+     *
+     * @return 社員情報のストリーム
+     */
+    Stream<Employee> streamAll();
+
+    /**
+     * 全社員を社員番号の区間毎に並列に読み込む。使い終えたら必ず閉じること。
+     *
+     * @param partitions 分割数
+     * @return 社員情報の並列ストリーム
+     */
+    Stream<Employee> streamAll(int partitions);
 
     Employee get(String no);
 
+    /**
+     * 社員番号を基に、射影に含まれる項目のみを読み込んだ社員情報を取得する。<br />
+     * 射影に含まれない項目は設定しないため、集約全体が必要な処理には使用しないこと。
+     *
+     * @param no 社員番号
+     * @param projection 射影
+     * @return 社員情報
+     */
+    Employee get(String no, EmployeeProjection projection);
+
+    /**
+     * 複数の社員番号を基に社員情報をまとめて取得する。<br />
+     * 1 件ずつ取得する場合と異なり、組み立てられない社員 (所属する組織が存在しないなど) は
+     * 例外とせずに結果に含めない。
+     *
+     * @param nos 社員番号一覧
+     * @return 社員番号毎の社員情報 (指定した順)。存在しない社員番号と組み立てられない社員は含まない
+     */
+    Map<String, Employee> getAll(Collection<String> nos);
+
     Employee getByDurationMonth(boolean selectMax);
 
     // 以下のメソッドはリポジトリに入れるか(永続化と復元の責務から外れている)際どいところ。Daoにあってもいいけど。
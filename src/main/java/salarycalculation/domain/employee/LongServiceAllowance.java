@@ -37,6 +37,10 @@ public enum LongServiceAllowance {
         return allowance;
     }
 
+    public int attendanceYear() {
+        return attendanceYear;
+    }
+
     /**
      * 勤続月数が手当がもらえる月数だった場合は勤続手当を返却する
      *
@@ -1,7 +1,18 @@
 package salarycalculation.domain.organization;
 
+import java.util.Collection;
+import java.util.Map;
+
 public interface OrganizationRepository {
 
     Organization find(String organization);
 
+    /**
+     * 複数の組織をまとめて取得する。
+     *
+     * @param organizations 組織コード一覧
+     * @return 組織コード毎の組織。存在しない組織は含まない
+     */
+    Map<String, Organization> findAll(Collection<String> organizations);
+
 }
@@ -0,0 +1,128 @@
+package salarycalculation.domain.payroll;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import salarycalculation.domain.employee.Employee;
+import salarycalculation.utils.BaseValueObject;
+import salarycalculation.utils.Money;
+
+/**
+ * 社員 1 名の年間の実績給与を表す VO。<br />
+ * 想定年収 ({@link Employee#getAnnualTotalSalaryPlan()}) と異なり、期間中の各月の給与明細
+ * (残業代・勤続手当を含む) を合算したものとする。入社前の月は含めない。
+ *
+ * @author naotake
+ */
+public class AnnualIncome extends BaseValueObject {
+
+    /** 社員番号 */
+    private final int employeeNo;
+
+    /** 期間の種類 */
+    private final AnnualPeriod period;
+
+    /** 年 (年度の場合は開始月の年) */
+    private final int year;
+
+    /** 支給月数 */
+    private final int months;
+
+    /** 総支給額 */
+    private final Money grossAmount;
+
+    /** 残業代 */
+    private final Money overtimeAmount;
+
+    /** 勤続手当 */
+    private final Money longServiceAllowance;
+
+    /** 控除額 */
+    private final Money deductionAmount;
+
+    /** 手取り額 */
+    private final Money takeHomeAmount;
+
+    public AnnualIncome(int employeeNo, AnnualPeriod period, int year, int months, Money grossAmount,
+            Money overtimeAmount, Money longServiceAllowance, Money deductionAmount, Money takeHomeAmount) {
+        this.employeeNo = employeeNo;
+        this.period = period;
+        this.year = year;
+        this.months = months;
+        this.grossAmount = grossAmount;
+        this.overtimeAmount = overtimeAmount;
+        this.longServiceAllowance = longServiceAllowance;
+        this.deductionAmount = deductionAmount;
+        this.takeHomeAmount = takeHomeAmount;
+    }
+
+    /**
+     * 社員情報を基に年間の実績給与を求める。
+     *
+     * @param employee 社員情報 (稼動情報を含む)
+     * @param period 期間の種類
+     * @param year 年 (年度の場合は開始月の年)
+     * @return 年間の実績給与
+     */
+    public static AnnualIncome of(Employee employee, AnnualPeriod period, int year) {
+        LocalDate joinDate = employee.getJoinDate().getAsLocalDate();
+
+        int months = 0;
+        Money gross = Money.ZERO;
+        Money overtime = Money.ZERO;
+        Money longService = Money.ZERO;
+        Money deduction = Money.ZERO;
+        Money takeHome = Money.ZERO;
+        for (int workYearMonth : period.months(year)) {
+            // 月末時点で入社していない月は支給対象外
+            if (YearMonth.of(workYearMonth / 100, workYearMonth % 100).atEndOfMonth().isBefore(joinDate)) {
+                continue;
+            }
+            Payslip payslip = Payslip.of(employee, workYearMonth);
+            months++;
+            gross = gross.add(payslip.getTotalSalary());
+            overtime = overtime.add(payslip.getOvertimeAmount());
+            longService = longService.add(payslip.getLongServiceAllowance());
+            deduction = deduction.add(payslip.getDeduction());
+            takeHome = takeHome.add(payslip.getTakeHomeAmount());
+        }
+        return new AnnualIncome(employee.getId(), period, year, months, gross, overtime, longService, deduction,
+                takeHome);
+    }
+
+    public int getEmployeeNo() {
+        return employeeNo;
+    }
+
+    public AnnualPeriod getPeriod() {
+        return period;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public int getMonths() {
+        return months;
+    }
+
+    public Money getGrossAmount() {
+        return grossAmount;
+    }
+
+    public Money getOvertimeAmount() {
+        return overtimeAmount;
+    }
+
+    public Money getLongServiceAllowance() {
+        return longServiceAllowance;
+    }
+
+    public Money getDeductionAmount() {
+        return deductionAmount;
+    }
+
+    public Money getTakeHomeAmount() {
+        return takeHomeAmount;
+    }
+}
@@ -0,0 +1,57 @@
+package salarycalculation.domain.payroll;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 年間の実績給与のリポジトリ。
+ *
+ * @author naotake
+ */
+public interface AnnualIncomeRepository {
+
+    /**
+     * 年間の実績給与を保存する。同じ社員・期間の実績給与は置き換える。
+     *
+     * @param incomes 年間の実績給与一覧
+     */
+    void saveAll(Collection<AnnualIncome> incomes);
+
+    /**
+     * 指定した期間の実績給与を全て削除する。
+     *
+     * @param period 期間の種類
+     * @param year 年
+     */
+    void deleteAll(AnnualPeriod period, int year);
+
+    /**
+     * 指定した期間の実績給与を全て置き換える。<br />
+     * 削除と保存は一括で行い、途中で失敗した場合は置き換える前の実績給与が残る。
+     *
+     * @param period 期間の種類
+     * @param year 年
+     * @param incomes 年間の実績給与一覧
+     */
+    void replaceAll(AnnualPeriod period, int year, Collection<AnnualIncome> incomes);
+
+    /**
+     * 社員の年間の実績給与を取得する。
+     *
+     * @param employeeNo 社員番号
+     * @param period 期間の種類
+     * @param year 年
+     * @return 年間の実績給与
+     */
+    Optional<AnnualIncome> find(int employeeNo, AnnualPeriod period, int year);
+
+    /**
+     * 指定した期間の全社員の実績給与を社員番号の昇順に取得する。
+     *
+     * @param period 期間の種類
+     * @param year 年
+     * @return 年間の実績給与一覧
+     */
+    List<AnnualIncome> findAll(AnnualPeriod period, int year);
+}
@@ -0,0 +1,60 @@
+package salarycalculation.domain.payroll;
+
+/**
+ * 年間の実績給与の集計結果。
+ *
+ * @author naotake
+ */
+public class AnnualIncomeSummary {
+
+    private long employees;
+    private long grossAmount;
+    private long deductionAmount;
+    private long takeHomeAmount;
+
+    /**
+     * 社員 1 名分の実績給与を集計に加える。
+     *
+     * @param income 年間の実績給与
+     */
+    public void add(AnnualIncome income) {
+        employees++;
+        grossAmount += income.getGrossAmount().value().longValue();
+        deductionAmount += income.getDeductionAmount().value().longValue();
+        takeHomeAmount += income.getTakeHomeAmount().value().longValue();
+    }
+
+    /**
+     * 他の集計を合算する。
+     *
+     * @param other 他の集計
+     */
+    public void merge(AnnualIncomeSummary other) {
+        employees += other.employees;
+        grossAmount += other.grossAmount;
+        deductionAmount += other.deductionAmount;
+        takeHomeAmount += other.takeHomeAmount;
+    }
+
+    public long getEmployees() {
+        return employees;
+    }
+
+    public long getGrossAmount() {
+        return grossAmount;
+    }
+
+    public long getDeductionAmount() {
+        return deductionAmount;
+    }
+
+    public long getTakeHomeAmount() {
+        return takeHomeAmount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("employees=%d gross=%d deduction=%d takeHome=%d", employees, grossAmount,
+                deductionAmount, takeHomeAmount);
+    }
+}
@@ -0,0 +1,59 @@
+package salarycalculation.domain.payroll;
+
+import java.time.YearMonth;
+
+/**
+ * 年間集計の期間の種類を表す列挙型。
+ *
+ * @author naotake
+ */
+public enum AnnualPeriod {
+
+    /** 暦年 (1 月から 12 月) */
+    CALENDAR(1),
+    /** 年度 (4 月から翌年 3 月) */
+    FISCAL(4);
+
+    /** 開始月 */
+    private final int firstMonth;
+
+    private AnnualPeriod(int firstMonth) {
+        this.firstMonth = firstMonth;
+    }
+
+    /**
+     * 期間の開始年月を取得する。
+     *
+     * @param year 年 (年度の場合は開始月の年)
+     * @return 開始年月
+     */
+    public YearMonth from(int year) {
+        return YearMonth.of(year, firstMonth);
+    }
+
+    /**
+     * 期間の終了年月を取得する。
+     *
+     * @param year 年 (年度の場合は開始月の年)
+     * @return 終了年月 (この年月を含む)
+     */
+    public YearMonth to(int year) {
+        return from(year).plusMonths(11);
+    }
+
+    /**
+     * 期間に含まれる年月を取得する。
+     *
+     * @param year 年 (年度の場合は開始月の年)
+     * @return 年月一覧 (e.g. 201504)
+     */
+    public int[] months(int year) {
+        int[] months = new int[12];
+        YearMonth month = from(year);
+        for (int i = 0; i < months.length; i++) {
+            months[i] = month.getYear() * 100 + month.getMonthValue();
+            month = month.plusMonths(1);
+        }
+        return months;
+    }
+}
@@ -0,0 +1,76 @@
+package salarycalculation.domain.payroll;
+
+import salarycalculation.utils.BaseValueObject;
+
+/**
+ * 給与計算に影響するマスタ・稼動情報の変更を表す VO。
+ *
+ * @author naotake
+ */
+public class MasterChange extends BaseValueObject {
+
+    /**
+     * 変更の種類。
+     */
+    public enum Type {
+        /** 役割等級の金額 (キーは役割等級) */
+        ROLE,
+        /** 能力等級の金額 (キーは能力等級) */
+        CAPABILITY,
+        /** 組織 (キーは組織コード) */
+        ORGANIZATION,
+        /** 社員情報 (キーは社員番号) */
+        EMPLOYEE,
+        /** 稼動情報 (キーは社員番号) */
+        WORK;
+    }
+
+    private final Type type;
+    private final String key;
+
+    /** 稼動年月 (稼動情報の変更の場合のみ) */
+    private final int workYearMonth;
+
+    private MasterChange(Type type, String key, int workYearMonth) {
+        this.type = type;
+        this.key = key;
+        this.workYearMonth = workYearMonth;
+    }
+
+    public static MasterChange role(String rank) {
+        return new MasterChange(Type.ROLE, rank, 0);
+    }
+
+    public static MasterChange capability(String rank) {
+        return new MasterChange(Type.CAPABILITY, rank, 0);
+    }
+
+    public static MasterChange organization(String code) {
+        return new MasterChange(Type.ORGANIZATION, code, 0);
+    }
+
+    public static MasterChange employee(int employeeNo) {
+        return new MasterChange(Type.EMPLOYEE, String.valueOf(employeeNo), 0);
+    }
+
+    public static MasterChange work(int employeeNo, int workYearMonth) {
+        return new MasterChange(Type.WORK, String.valueOf(employeeNo), workYearMonth);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public int getWorkYearMonth() {
+        return workYearMonth;
+    }
+
+    @Override
+    public String toString() {
+        return (type == Type.WORK) ? type + "[" + key + ", " + workYearMonth + "]" : type + "[" + key + "]";
+    }
+}
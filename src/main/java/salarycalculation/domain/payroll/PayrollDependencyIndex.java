@@ -0,0 +1,126 @@
+package salarycalculation.domain.payroll;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 給与計算結果がどのマスタに依存しているかを表す索引。<br />
+ * 役割等級・能力等級・組織から該当する社員を、社員から稼動情報のある年月を引けるようにし、
+ * マスタの変更時に再計算が必要な社員だけを特定する。スレッドセーフ。
+ *
+ * @author naotake
+ */
+public class PayrollDependencyIndex {
+
+    private final Map<String, Set<Integer>> employeesByRole = new HashMap<>();
+    private final Map<String, Set<Integer>> employeesByCapability = new HashMap<>();
+    private final Map<String, Set<Integer>> employeesByOrganization = new HashMap<>();
+    private final Map<Integer, Set<Integer>> workMonthsByEmployee = new HashMap<>();
+
+    /** 社員毎の登録内容 (役割等級・能力等級・組織) */
+    private final Map<Integer, String[]> entries = new HashMap<>();
+
+    /**
+     * 社員の依存先を登録する。既に登録されている場合は置き換える。
+     *
+     * @param employeeNo 社員番号
+     * @param roleRank 役割等級
+     * @param capabilityRank 能力等級
+     * @param organization 組織コード
+     */
+    public synchronized void index(int employeeNo, String roleRank, String capabilityRank, String organization) {
+        unindex(employeeNo);
+        entries.put(employeeNo, new String[] { roleRank, capabilityRank, organization });
+        add(employeesByRole, roleRank, employeeNo);
+        add(employeesByCapability, capabilityRank, employeeNo);
+        add(employeesByOrganization, organization, employeeNo);
+    }
+
+    /**
+     * 社員の稼動情報がある年月を登録する。
+     *
+     * @param employeeNo 社員番号
+     * @param workYearMonth 稼動年月 (e.g. 201504)
+     */
+    public synchronized void indexWork(int employeeNo, int workYearMonth) {
+        add(workMonthsByEmployee, employeeNo, workYearMonth);
+    }
+
+    /**
+     * 社員を索引から削除する。
+     *
+     * @param employeeNo 社員番号
+     */
+    public synchronized void remove(int employeeNo) {
+        unindex(employeeNo);
+        workMonthsByEmployee.remove(employeeNo);
+    }
+
+    private void unindex(int employeeNo) {
+        String[] entry = entries.remove(employeeNo);
+        if (entry != null) {
+            delete(employeesByRole, entry[0], employeeNo);
+            delete(employeesByCapability, entry[1], employeeNo);
+            delete(employeesByOrganization, entry[2], employeeNo);
+        }
+    }
+
+    /**
+     * 変更の影響を受ける社員を取得する。
+     *
+     * @param change 変更内容
+     * @return 社員番号一覧 (昇順)
+     */
+    public synchronized int[] affectedBy(MasterChange change) {
+        switch (change.getType()) {
+        case ROLE:
+            return toArray(employeesByRole.get(change.getKey()));
+        case CAPABILITY:
+            return toArray(employeesByCapability.get(change.getKey()));
+        case ORGANIZATION:
+            return toArray(employeesByOrganization.get(change.getKey()));
+        default:
+            // 社員情報・稼動情報の変更は該当社員のみに影響する
+            return new int[] { Integer.parseInt(change.getKey()) };
+        }
+    }
+
+    /**
+     * 社員の稼動情報がある年月を取得する。
+     *
+     * @param employeeNo 社員番号
+     * @return 稼動年月一覧 (昇順)
+     */
+    public synchronized int[] workMonthsOf(int employeeNo) {
+        return toArray(workMonthsByEmployee.get(employeeNo));
+    }
+
+    /**
+     * 登録されている社員数を取得する。
+     *
+     * @return 社員数
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static <K> void add(Map<K, Set<Integer>> index, K key, int value) {
+        index.computeIfAbsent(key, k -> new TreeSet<>()).add(value);
+    }
+
+    private static <K> void delete(Map<K, Set<Integer>> index, K key, int value) {
+        Set<Integer> values = index.get(key);
+        if (values != null) {
+            values.remove(value);
+            if (values.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    private static int[] toArray(Set<Integer> values) {
+        return (values == null) ? new int[0] : values.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,141 @@
+package salarycalculation.domain.payroll;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * 2 回分の給与計算結果 (異なる年月、または同じ年月のマスタ変更前後) を突き合わせ、
+ * 社員毎・内訳毎の差分を求めるクラス。
+ * <p />
+ * 両方の計算結果は社員番号の昇順に並んでいるため、社員番号の範囲で分割した区間毎に
+ * マージジョインを並列に行う。各区間は 1 件ずつ読み進めるため、計算結果の件数によらず
+ * 使用するメモリは一定となる。変更後を社員番号の昇順のストリーム (現在のマスタでの再計算など) で
+ * 指定した場合は、読み込みながら 1 つの区間としてマージジョインを行う。
+ *
+ * @author naotake
+ */
+public class PayrollDiff {
+
+    /** 1 区間あたりの変更前の件数 */
+    private static final int DEFAULT_CHUNK_SIZE = 4096;
+
+    private final int chunkSize;
+
+    public PayrollDiff() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    PayrollDiff(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 差分を求める。<br />
+     * 金額が変わった社員 (追加・削除を含む) の差分を listener に引き渡す。
+     * 区間毎に並列に呼び出されるため、listener はスレッドセーフであること。
+     * また、引き渡される順序は社員番号の昇順とは限らない。
+     *
+     * @param before 変更前の計算結果
+     * @param after 変更後の計算結果
+     * @param listener 差分毎の処理
+     * @return 差分の集計
+     */
+    public PayrollDiffSummary compare(SortedPayslips before, SortedPayslips after,
+            Consumer<? super PayslipDelta> listener) {
+        int chunks = Math.max(1, (before.size() + chunkSize - 1) / chunkSize);
+        return IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> compareChunk(before, after, chunk, chunks, listener))
+                .collect(PayrollDiffSummary::new, PayrollDiffSummary::merge, PayrollDiffSummary::merge);
+    }
+
+    /**
+     * 変更後の計算結果をストリームで読み込みながら差分を求める。<br />
+     * 変更後は全件を保持せず 1 件ずつ突き合わせるため、社員番号の昇順に並んでいること。
+     * 金額が変わった社員 (追加・削除を含む) の差分を社員番号の昇順に listener に引き渡す。
+     *
+     * @param before 変更前の計算結果
+     * @param after 社員番号の昇順に並んだ変更後の給与明細
+     * @param listener 差分毎の処理
+     * @return 差分の集計
+     * @throws IllegalArgumentException 変更後が社員番号の昇順に並んでいない場合
+     */
+    public PayrollDiffSummary compare(SortedPayslips before, Stream<Payslip> after,
+            Consumer<? super PayslipDelta> listener) {
+        PayrollDiffSummary summary = new PayrollDiffSummary();
+        int i = 0;
+        int previousNo = Integer.MIN_VALUE;
+        for (Iterator<Payslip> iterator = after.iterator(); iterator.hasNext();) {
+            Payslip payslip = iterator.next();
+            int afterNo = payslip.getEmployeeNo();
+            if (afterNo <= previousNo) {
+                throw new IllegalArgumentException("社員番号の昇順に並んでいません[" + afterNo + "]");
+            }
+            previousNo = afterNo;
+
+            while (i < before.size() && before.employeeNoAt(i) < afterNo) {
+                accept(summary, new PayslipDelta(before.employeeNoAt(i), before.payslipAt(i++), null), listener);
+            }
+            if (i < before.size() && before.employeeNoAt(i) == afterNo) {
+                accept(summary, new PayslipDelta(afterNo, before.payslipAt(i++), payslip), listener);
+            } else {
+                accept(summary, new PayslipDelta(afterNo, null, payslip), listener);
+            }
+        }
+        while (i < before.size()) {
+            accept(summary, new PayslipDelta(before.employeeNoAt(i), before.payslipAt(i++), null), listener);
+        }
+        return summary;
+    }
+
+    /**
+     * 差分を集計する。
+     *
+     * @param before 変更前の計算結果
+     * @param after 変更後の計算結果
+     * @return 差分の集計
+     */
+    public PayrollDiffSummary summarize(SortedPayslips before, SortedPayslips after) {
+        return compare(before, after, delta -> {
+        });
+    }
+
+    private PayrollDiffSummary compareChunk(SortedPayslips before, SortedPayslips after, int chunk, int chunks,
+            Consumer<? super PayslipDelta> listener) {
+        // 変更前の位置で区間を決め、変更後は区間境界の社員番号で対応する位置を求める
+        int beforeFrom = chunk * chunkSize;
+        int beforeTo = (chunk == chunks - 1) ? before.size() : beforeFrom + chunkSize;
+        int afterFrom = (chunk == 0) ? 0 : after.lowerBound(before.employeeNoAt(beforeFrom));
+        int afterTo = (chunk == chunks - 1) ? after.size() : after.lowerBound(before.employeeNoAt(beforeTo));
+
+        PayrollDiffSummary summary = new PayrollDiffSummary();
+        int i = beforeFrom;
+        int j = afterFrom;
+        while (i < beforeTo || j < afterTo) {
+            int beforeNo = (i < beforeTo) ? before.employeeNoAt(i) : Integer.MAX_VALUE;
+            int afterNo = (j < afterTo) ? after.employeeNoAt(j) : Integer.MAX_VALUE;
+
+            PayslipDelta delta;
+            if (i < beforeTo && (j >= afterTo || beforeNo < afterNo)) {
+                delta = new PayslipDelta(beforeNo, before.payslipAt(i++), null);
+            } else if (j < afterTo && (i >= beforeTo || afterNo < beforeNo)) {
+                delta = new PayslipDelta(afterNo, null, after.payslipAt(j++));
+            } else {
+                delta = new PayslipDelta(beforeNo, before.payslipAt(i++), after.payslipAt(j++));
+            }
+
+            accept(summary, delta, listener);
+        }
+        return summary;
+    }
+
+    private static void accept(PayrollDiffSummary summary, PayslipDelta delta,
+            Consumer<? super PayslipDelta> listener) {
+        summary.add(delta);
+        if (delta.getType() != PayslipDelta.Type.UNCHANGED) {
+            listener.accept(delta);
+        }
+    }
+}
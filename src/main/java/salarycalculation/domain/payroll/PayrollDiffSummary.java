@@ -0,0 +1,86 @@
+package salarycalculation.domain.payroll;
+
+/**
+ * 給与計算結果の差分の集計。
+ *
+ * @author naotake
+ */
+public class PayrollDiffSummary {
+
+    private final long[] counts = new long[PayslipDelta.Type.values().length];
+    private final long[] sums = new long[PayslipComponent.values().length];
+
+    /**
+     * 差分を集計に加える。
+     *
+     * @param delta 差分
+     */
+    void add(PayslipDelta delta) {
+        counts[delta.getType().ordinal()]++;
+        for (PayslipComponent component : PayslipComponent.values()) {
+            sums[component.ordinal()] += delta.getDelta(component);
+        }
+    }
+
+    /**
+     * 他の集計を合算する。
+     *
+     * @param other 他の集計
+     * @return この集計
+     */
+    PayrollDiffSummary merge(PayrollDiffSummary other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        for (int i = 0; i < sums.length; i++) {
+            sums[i] += other.sums[i];
+        }
+        return this;
+    }
+
+    /**
+     * 指定した種類の差分の件数を取得する。
+     *
+     * @param type 差分の種類
+     * @return 件数
+     */
+    public long getCount(PayslipDelta.Type type) {
+        return counts[type.ordinal()];
+    }
+
+    /**
+     * 比較した社員数を取得する。
+     *
+     * @return 社員数
+     */
+    public long getCompared() {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * 指定した内訳の差分の合計を取得する。
+     *
+     * @param component 内訳
+     * @return 差分の合計 (変更後 - 変更前)
+     */
+    public long getSum(PayslipComponent component) {
+        return sums[component.ordinal()];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("compared=").append(getCompared());
+        for (PayslipDelta.Type type : PayslipDelta.Type.values()) {
+            builder.append(' ').append(type).append('=').append(getCount(type));
+        }
+        for (PayslipComponent component : PayslipComponent.values()) {
+            builder.append(' ').append(component).append('=').append(getSum(component));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,234 @@
+package salarycalculation.domain.payroll;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import salarycalculation.domain.employee.Employee;
+import salarycalculation.domain.employee.Employees;
+import salarycalculation.domain.employee.LongServiceAllowance;
+import salarycalculation.utils.Money;
+
+/**
+ * 複数の年月にわたる給与の見込みを社員 × 年月の表として求めるクラス。<br />
+ * 基本給・固定の手当・控除額は年月によらないため社員毎に 1 回だけ求め、
+ * 年月毎には勤続手当と残業代のみを求める。
+ * <p />
+ * 勤続月数は {@link Employee#calculateAttendanceMonth(salarycalculation.domain.employee.BusinessDate)}
+ * と同じ結果となるよう、年月の通し番号から算出する。
+ *
+ * @author naotake
+ */
+public class PayrollProjection {
+
+    /** 勤続手当が付く最大の勤続月数 */
+    private static final int MAX_LONG_SERVICE_MONTH = 20 * 12;
+
+    /** 勤続月数毎の勤続手当 */
+    private static final long[] LONG_SERVICE_ALLOWANCES = new long[MAX_LONG_SERVICE_MONTH + 1];
+
+    static {
+        for (int month = 0; month <= MAX_LONG_SERVICE_MONTH; month++) {
+            LONG_SERVICE_ALLOWANCES[month] = toLong(LongServiceAllowance.targetAllowanance(month).allowance());
+        }
+    }
+
+    private final int[] months;
+    private final int[] employeeNos;
+
+    /** 総支給額 (社員 × 年月) */
+    private final long[] totalSalaries;
+
+    /** 手取り額 (社員 × 年月) */
+    private final long[] takeHomes;
+
+    private PayrollProjection(List<Employee> employees, YearMonth from, YearMonth to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("期間の指定が不正です[" + from + " - " + to + "]");
+        }
+        int monthCount = (int) from.until(to, ChronoUnit.MONTHS) + 1;
+
+        this.months = new int[monthCount];
+        for (int m = 0; m < monthCount; m++) {
+            YearMonth month = from.plusMonths(m);
+            months[m] = month.getYear() * 100 + month.getMonthValue();
+        }
+        this.employeeNos = new int[employees.size()];
+        this.totalSalaries = new long[employees.size() * monthCount];
+        this.takeHomes = new long[employees.size() * monthCount];
+
+        int fromIndex = monthIndex(from.getYear(), from.getMonthValue());
+        for (int e = 0; e < employees.size(); e++) {
+            Employee employee = employees.get(e);
+            employeeNos[e] = employee.getId();
+
+            // 年月によらない部分
+            long fixed = toLong(employee.getRole().getAmount()
+                    .add(employee.getCapability().getAmount())
+                    .add(employee.getCommuteAmount())
+                    .add(employee.getRentAmount())
+                    .add(employee.getCapability().getSeparatedAllowance()));
+            long deduction = toLong(employee.getDeduction());
+
+            LocalDate joinDate = employee.getJoinDate().getAsLocalDate();
+            int joinIndex = monthIndex(joinDate.getYear(), joinDate.getMonthValue());
+            int partialMonth = (joinDate.getDayOfMonth() > 1) ? 1 : 0;
+
+            // 年月毎に変わる部分
+            for (int m = 0; m < monthCount; m++) {
+                int targetIndex = fromIndex + m;
+                int attendanceMonth = 1 + ((targetIndex <= joinIndex)
+                        ? joinIndex - targetIndex
+                        : targetIndex - joinIndex - partialMonth);
+                long longService = (attendanceMonth <= MAX_LONG_SERVICE_MONTH)
+                        ? LONG_SERVICE_ALLOWANCES[attendanceMonth] : 0L;
+                long overtime = toLong(employee.getOvertimeAmount(months[m]));
+
+                long total = fixed + longService + overtime;
+                totalSalaries[e * monthCount + m] = total;
+                takeHomes[e * monthCount + m] = total - deduction;
+            }
+        }
+    }
+
+    /**
+     * 指定した期間の給与の見込みを求める。
+     *
+     * @param employees 社員一覧
+     * @param from 開始年月
+     * @param to 終了年月 (この年月を含む)
+     * @return 給与の見込み
+     */
+    public static PayrollProjection of(Employees employees, YearMonth from, YearMonth to) {
+        return new PayrollProjection(employees.getEmployees(), from, to);
+    }
+
+    /**
+     * 年度 (4 月から翌年 3 月) の給与の見込みを求める。
+     *
+     * @param employees 社員一覧
+     * @param fiscalYear 年度 (e.g. 2015 の場合は 2015/04 - 2016/03)
+     * @return 給与の見込み
+     */
+    public static PayrollProjection fiscalYear(Employees employees, int fiscalYear) {
+        return of(employees, YearMonth.of(fiscalYear, 4), YearMonth.of(fiscalYear + 1, 3));
+    }
+
+    private static int monthIndex(int year, int month) {
+        return year * 12 + (month - 1);
+    }
+
+    private static long toLong(Money money) {
+        return money.value().longValue();
+    }
+
+    /**
+     * 対象の年月一覧を取得する。
+     *
+     * @return 年月一覧 (e.g. 201504)
+     */
+    public int[] getMonths() {
+        return months.clone();
+    }
+
+    /**
+     * 対象の社員番号一覧を取得する。
+     *
+     * @return 社員番号一覧
+     */
+    public int[] getEmployeeNos() {
+        return employeeNos.clone();
+    }
+
+    /**
+     * 社員の位置を取得する。
+     *
+     * @param employeeNo 社員番号
+     * @return 位置。対象外の場合は -1
+     */
+    public int indexOfEmployee(int employeeNo) {
+        for (int e = 0; e < employeeNos.length; e++) {
+            if (employeeNos[e] == employeeNo) {
+                return e;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 社員・年月を指定して総支給額を取得する。
+     *
+     * @param employeeIndex 社員の位置
+     * @param monthIndex 年月の位置
+     * @return 総支給額
+     */
+    public long getTotalSalary(int employeeIndex, int monthIndex) {
+        return totalSalaries[employeeIndex * months.length + monthIndex];
+    }
+
+    /**
+     * 社員・年月を指定して手取り額を取得する。
+     *
+     * @param employeeIndex 社員の位置
+     * @param monthIndex 年月の位置
+     * @return 手取り額
+     */
+    public long getTakeHome(int employeeIndex, int monthIndex) {
+        return takeHomes[employeeIndex * months.length + monthIndex];
+    }
+
+    /**
+     * 年月毎の全社員の総支給額合計を取得する。
+     *
+     * @param monthIndex 年月の位置
+     * @return 総支給額合計
+     */
+    public long getMonthlyTotalSalary(int monthIndex) {
+        long sum = 0;
+        for (int e = 0; e < employeeNos.length; e++) {
+            sum += getTotalSalary(e, monthIndex);
+        }
+        return sum;
+    }
+
+    /**
+     * 社員毎の期間の総支給額合計を取得する。
+     *
+     * @param employeeIndex 社員の位置
+     * @return 総支給額合計
+     */
+    public long getEmployeeTotalSalary(int employeeIndex) {
+        long sum = 0;
+        for (int m = 0; m < months.length; m++) {
+            sum += getTotalSalary(employeeIndex, m);
+        }
+        return sum;
+    }
+
+    /**
+     * 期間中の全社員の総支給額合計を取得する。
+     *
+     * @return 総支給額合計
+     */
+    public long getTotalSalary() {
+        long sum = 0;
+        for (long totalSalary : totalSalaries) {
+            sum += totalSalary;
+        }
+        return sum;
+    }
+
+    /**
+     * 期間中の全社員の手取り額合計を取得する。
+     *
+     * @return 手取り額合計
+     */
+    public long getTakeHome() {
+        long sum = 0;
+        for (long takeHome : takeHomes) {
+            sum += takeHome;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,109 @@
+package salarycalculation.domain.payroll;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import salarycalculation.domain.employee.Employee;
+import salarycalculation.domain.employee.EmployeeRepository;
+import salarycalculation.exception.RecordNotFoundException;
+
+/**
+ * マスタ変更時に、影響を受ける社員のキャッシュ済み給与明細だけを再計算するクラス。
+ * <p />
+ * 影響範囲は{@link PayrollDependencyIndex}で特定し、そのうち{@link PayrollResultCache}に明細がある
+ * 社員だけを DB から読み直す。稼動情報の変更は該当年月の明細のみを再計算する。
+ * 古い計算結果で新しい結果を上書きしないよう、再計算は 1 件ずつ順に行う。
+ * 変更を受け付けた時点でキャッシュの世代を進め、変更前に読み込みを開始した明細がキャッシュされないようにする。
+ * 再計算はリクエストの処理とは別の専用のスレッドプールで実行すること。
+ *
+ * @author naotake
+ */
+public class PayrollRecomputeScheduler {
+
+    private final PayrollDependencyIndex index;
+    private final PayrollResultCache cache;
+    private final Executor executor;
+    private EmployeeRepository repository;
+
+    public PayrollRecomputeScheduler(PayrollDependencyIndex index, PayrollResultCache cache,
+            EmployeeRepository repository, Executor executor) {
+        this.index = index;
+        this.cache = cache;
+        this.repository = repository;
+        this.executor = executor;
+    }
+
+    /**
+     * 変更に伴う再計算を非同期に実行する。
+     *
+     * @param change 変更内容
+     * @return 再計算の結果
+     */
+    public CompletableFuture<RecomputeReport> submit(MasterChange change) {
+        cache.advance();
+        return CompletableFuture.supplyAsync(() -> recompute(change), executor);
+    }
+
+    /**
+     * 変更に伴う再計算を実行する。
+     *
+     * @param change 変更内容
+     * @return 再計算の結果
+     */
+    public synchronized RecomputeReport recompute(MasterChange change) {
+        long start = System.nanoTime();
+        cache.advance();
+        if (change.getType() == MasterChange.Type.WORK) {
+            index.indexWork(Integer.parseInt(change.getKey()), change.getWorkYearMonth());
+        }
+
+        int[] affected = index.affectedBy(change);
+        int recomputedEmployees = 0;
+        int recomputedPayslips = 0;
+        int evictedPayslips = 0;
+        for (int employeeNo : affected) {
+            int[] months = targetMonths(change, employeeNo);
+            // 社員情報の変更は等級・組織が変わりうるため、明細が無くても索引を更新する
+            if (months.length == 0 && change.getType() != MasterChange.Type.EMPLOYEE) {
+                continue;
+            }
+
+            Employee employee;
+            try {
+                employee = repository.get(String.valueOf(employeeNo));
+            } catch (RecordNotFoundException e) {
+                index.remove(employeeNo);
+                evictedPayslips += cache.invalidate(employeeNo);
+                continue;
+            }
+            if (change.getType() == MasterChange.Type.EMPLOYEE) {
+                index.index(employeeNo, employee.getRole().getRank(), employee.getCapability().getRank().name(),
+                        employee.getOrganization().getId());
+            }
+            if (months.length == 0) {
+                continue;
+            }
+
+            recomputedEmployees++;
+            for (int month : months) {
+                if (cache.replace(Payslip.of(employee, month))) {
+                    recomputedPayslips++;
+                }
+            }
+        }
+        return new RecomputeReport(change, affected.length, recomputedEmployees, recomputedPayslips,
+                evictedPayslips, System.nanoTime() - start);
+    }
+
+    private int[] targetMonths(MasterChange change, int employeeNo) {
+        if (change.getType() == MasterChange.Type.WORK) {
+            return cache.contains(employeeNo, change.getWorkYearMonth())
+                    ? new int[] { change.getWorkYearMonth() } : new int[0];
+        }
+        return cache.monthsOf(employeeNo);
+    }
+
+    public void setRepository(EmployeeRepository repository) {
+        this.repository = repository;
+    }
+}
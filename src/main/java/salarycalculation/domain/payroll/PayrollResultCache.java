@@ -0,0 +1,182 @@
+package salarycalculation.domain.payroll;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 社員・年月毎の給与明細のキャッシュ。<br />
+ * 件数上限を超えた場合は最も長く参照されていない明細から破棄する。
+ * マスタ変更時に社員単位で再計算できるよう、社員毎にキャッシュしている年月も管理する。スレッドセーフ。
+ * <p />
+ * マスタ変更の通知毎に世代を進める ({@link #advance()})。読み込み前に取得した世代を指定して登録する
+ * ({@link #put(Payslip, long)}) と、読み込み中に通知があった場合は変更前の内容の明細を登録しない。
+ *
+ * @author naotake
+ */
+public class PayrollResultCache {
+
+    private final int maximumSize;
+    private final LinkedHashMap<Long, Payslip> entries;
+
+    /** 社員毎のキャッシュしている年月 */
+    private final Map<Integer, Set<Integer>> monthsByEmployee = new HashMap<>();
+
+    /** マスタ変更の世代 */
+    private long generation;
+
+    public PayrollResultCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("上限件数は 1 以上で指定してください[" + maximumSize + "]");
+        }
+        this.maximumSize = maximumSize;
+        this.entries = new LinkedHashMap<Long, Payslip>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Payslip> eldest) {
+                if (size() <= PayrollResultCache.this.maximumSize) {
+                    return false;
+                }
+                forget(eldest.getValue().getEmployeeNo(), eldest.getValue().getWorkYearMonth());
+                return true;
+            }
+        };
+    }
+
+    private static long key(int employeeNo, int workYearMonth) {
+        return ((long) employeeNo << 32) | workYearMonth;
+    }
+
+    /**
+     * 給与明細を取得する。
+     *
+     * @param employeeNo 社員番号
+     * @param workYearMonth 稼動年月 (e.g. 201504)
+     * @return 給与明細。存在しない場合は null
+     */
+    public synchronized Payslip get(int employeeNo, int workYearMonth) {
+        return entries.get(key(employeeNo, workYearMonth));
+    }
+
+    /**
+     * 給与明細をキャッシュしているかを判定する。参照順 (破棄の順序) は変更しない。
+     *
+     * @param employeeNo 社員番号
+     * @param workYearMonth 稼動年月 (e.g. 201504)
+     * @return キャッシュしている場合は true
+     */
+    public synchronized boolean contains(int employeeNo, int workYearMonth) {
+        return entries.containsKey(key(employeeNo, workYearMonth));
+    }
+
+    /**
+     * 給与明細を登録する。
+     *
+     * @param payslip 給与明細
+     */
+    public synchronized void put(Payslip payslip) {
+        monthsByEmployee.computeIfAbsent(payslip.getEmployeeNo(), no -> new TreeSet<>())
+                .add(payslip.getWorkYearMonth());
+        entries.put(key(payslip.getEmployeeNo(), payslip.getWorkYearMonth()), payslip);
+    }
+
+    /**
+     * 読み込みを開始した世代から変わっていない場合のみ、給与明細を登録する。
+     *
+     * @param payslip 給与明細
+     * @param startedGeneration 明細の元となる情報を読み込む前に {@link #generation()} で取得した世代
+     * @return 登録した場合は true
+     */
+    public synchronized boolean put(Payslip payslip, long startedGeneration) {
+        if (generation != startedGeneration) {
+            return false;
+        }
+        put(payslip);
+        return true;
+    }
+
+    /**
+     * 現在の世代を取得する。
+     *
+     * @return 世代
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * マスタ・稼動情報の変更に伴い世代を進める。以前の世代で読み込んだ明細は登録しない。
+     */
+    public synchronized void advance() {
+        generation++;
+    }
+
+    /**
+     * キャッシュしている給与明細を置き換える。キャッシュしていない場合は何もしない。<br />
+     * 再計算の結果で置き換える場合に使用し、参照順 (破棄の順序) は変更しない。
+     *
+     * @param payslip 給与明細
+     * @return 置き換えた場合は true
+     */
+    public synchronized boolean replace(Payslip payslip) {
+        return entries.replace(key(payslip.getEmployeeNo(), payslip.getWorkYearMonth()), payslip) != null;
+    }
+
+    /**
+     * 社員のキャッシュしている年月を取得する。
+     *
+     * @param employeeNo 社員番号
+     * @return 年月一覧 (昇順)
+     */
+    public synchronized int[] monthsOf(int employeeNo) {
+        Set<Integer> months = monthsByEmployee.get(employeeNo);
+        return (months == null) ? new int[0] : months.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * 社員の給与明細を全て破棄する。読み込み中の明細も登録しない。
+     *
+     * @param employeeNo 社員番号
+     * @return 破棄した件数
+     */
+    public synchronized int invalidate(int employeeNo) {
+        generation++;
+        Set<Integer> months = monthsByEmployee.remove(employeeNo);
+        if (months == null) {
+            return 0;
+        }
+        months.forEach(month -> entries.remove(key(employeeNo, month)));
+        return months.size();
+    }
+
+    /**
+     * 全ての給与明細を破棄する。読み込み中の明細も登録しない。
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+        monthsByEmployee.clear();
+    }
+
+    private void forget(int employeeNo, int workYearMonth) {
+        Set<Integer> months = monthsByEmployee.get(employeeNo);
+        if (months != null) {
+            months.remove(workYearMonth);
+            if (months.isEmpty()) {
+                monthsByEmployee.remove(employeeNo);
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+}
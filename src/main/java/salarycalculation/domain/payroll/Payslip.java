@@ -0,0 +1,315 @@
+package salarycalculation.domain.payroll;
+
+import java.util.Optional;
+
+import salarycalculation.domain.employee.BusinessDate;
+import salarycalculation.domain.employee.Employee;
+import salarycalculation.domain.rule.PayrollPlan;
+import salarycalculation.domain.rule.PayrollPlans;
+import salarycalculation.utils.BaseValueObject;
+import salarycalculation.utils.Money;
+
+/**
+ * 指定年月の給与明細を表す VO。<br />
+ * 明細の内訳は下記の通り。
+ * <p />
+ * 総支給額 = 基本給 (役割給 + 能力給) + 諸手当 (通勤 + 住宅 + 別途 + 勤続) + 残業代<br />
+ * 手取り額 = 総支給額 - 控除額 (健康保険 + 厚生年金 + 所得税 + 住民税)
+ *
+ * @author naotake
+ */
+public class Payslip extends BaseValueObject {
+
+    /** 社員番号 */
+    private final int employeeNo;
+
+    /** 稼動年月 */
+    private final int workYearMonth;
+
+    /** 役割給 */
+    private final Money roleAmount;
+
+    /** 能力給 */
+    private final Money capabilityAmount;
+
+    /** 通勤手当 */
+    private final Money commuteAmount;
+
+    /** 住宅手当 */
+    private final Money rentAmount;
+
+    /** 別途手当 */
+    private final Money separatedAllowance;
+
+    /** 勤続手当 */
+    private final Money longServiceAllowance;
+
+    /** 残業代 */
+    private final Money overtimeAmount;
+
+    /** 健康保険 */
+    private final Money healthInsuranceAmount;
+
+    /** 厚生年金 */
+    private final Money employeePensionAmount;
+
+    /** 所得税 */
+    private final Money incomeTaxAmount;
+
+    /** 住民税 */
+    private final Money inhabitantTaxAmount;
+
+    private Payslip(Employee employee, int workYearMonth) {
+        BusinessDate firstDay = BusinessDate.of(workYearMonth / 100, workYearMonth % 100, 1);
+
+        this.employeeNo = employee.getId();
+        this.workYearMonth = workYearMonth;
+        this.roleAmount = employee.getRole().getAmount();
+        this.capabilityAmount = employee.getCapability().getAmount();
+        this.commuteAmount = employee.getCommuteAmount();
+        this.rentAmount = employee.getRentAmount();
+        this.separatedAllowance = employee.getCapability().getSeparatedAllowance();
+        this.longServiceAllowance = employee.getLongServiceAllowance(firstDay);
+        this.overtimeAmount = employee.getOvertimeAmount(workYearMonth);
+        this.healthInsuranceAmount = employee.getHealthInsuranceAmount();
+        this.employeePensionAmount = employee.getEmployeePensionAmount();
+        this.incomeTaxAmount = employee.getIncomeTaxAmount();
+        this.inhabitantTaxAmount = employee.getInhabitantTaxAmount();
+    }
+
+    private Payslip(Builder builder) {
+        this.employeeNo = builder.employeeNo;
+        this.workYearMonth = builder.workYearMonth;
+        this.roleAmount = builder.roleAmount;
+        this.capabilityAmount = builder.capabilityAmount;
+        this.commuteAmount = builder.commuteAmount;
+        this.rentAmount = builder.rentAmount;
+        this.separatedAllowance = builder.separatedAllowance;
+        this.longServiceAllowance = builder.longServiceAllowance;
+        this.overtimeAmount = builder.overtimeAmount;
+        this.healthInsuranceAmount = builder.healthInsuranceAmount;
+        this.employeePensionAmount = builder.employeePensionAmount;
+        this.incomeTaxAmount = builder.incomeTaxAmount;
+        this.inhabitantTaxAmount = builder.inhabitantTaxAmount;
+    }
+
+    /**
+     * 社員情報を基に指定年月の給与明細を作成する。<br />
+     * 評価計画 ({@link PayrollPlans#use(PayrollPlan)}) が指定されている場合は評価計画で、
+     * それ以外は現行の給与規程 ({@link #standard(Employee, int)}) で計算する。
+     *
+     * @param employee 社員情報
+     * @param workYearMonth 稼動年月 (e.g. 201504)
+     * @return 給与明細
+     */
+    public static Payslip of(Employee employee, int workYearMonth) {
+        Optional<PayrollPlan> plan = PayrollPlans.current();
+        return plan.isPresent() ? plan.get().payslip(employee, workYearMonth) : standard(employee, workYearMonth);
+    }
+
+    /**
+     * 社員情報を基に、現行の給与規程で指定年月の給与明細を作成する。
+     *
+     * @param employee 社員情報
+     * @param workYearMonth 稼動年月 (e.g. 201504)
+     * @return 給与明細
+     */
+    public static Payslip standard(Employee employee, int workYearMonth) {
+        return new Payslip(employee, workYearMonth);
+    }
+
+    /**
+     * 内訳の金額を指定して給与明細を作成する。<br />
+     * 保存済みの給与明細を復元する場合に使用する。指定しなかった金額は 0 円とする。
+     *
+     * @param employeeNo 社員番号
+     * @param workYearMonth 稼動年月 (e.g. 201504)
+     * @return ビルダー
+     */
+    public static Builder builder(int employeeNo, int workYearMonth) {
+        return new Builder(employeeNo, workYearMonth);
+    }
+
+    /**
+     * 基本給 (役割給 + 能力給) を取得する。
+     *
+     * @return 基本給
+     */
+    public Money getBasicSalary() {
+        return roleAmount.add(capabilityAmount);
+    }
+
+    /**
+     * 諸手当の合計を取得する。
+     *
+     * @return 諸手当
+     */
+    public Money getAllowance() {
+        return commuteAmount.add(rentAmount).add(separatedAllowance).add(longServiceAllowance);
+    }
+
+    /**
+     * 総支給額を取得する。
+     *
+     * @return 総支給額
+     */
+    public Money getTotalSalary() {
+        return getBasicSalary().add(getAllowance()).add(overtimeAmount);
+    }
+
+    /**
+     * 控除額の合計を取得する。
+     *
+     * @return 控除額
+     */
+    public Money getDeduction() {
+        return healthInsuranceAmount.add(employeePensionAmount).add(incomeTaxAmount).add(inhabitantTaxAmount);
+    }
+
+    /**
+     * 手取り額を取得する。
+     *
+     * @return 手取り額
+     */
+    public Money getTakeHomeAmount() {
+        return getTotalSalary().minus(getDeduction());
+    }
+
+    public int getEmployeeNo() {
+        return employeeNo;
+    }
+
+    public int getWorkYearMonth() {
+        return workYearMonth;
+    }
+
+    public Money getRoleAmount() {
+        return roleAmount;
+    }
+
+    public Money getCapabilityAmount() {
+        return capabilityAmount;
+    }
+
+    public Money getCommuteAmount() {
+        return commuteAmount;
+    }
+
+    public Money getRentAmount() {
+        return rentAmount;
+    }
+
+    public Money getSeparatedAllowance() {
+        return separatedAllowance;
+    }
+
+    public Money getLongServiceAllowance() {
+        return longServiceAllowance;
+    }
+
+    public Money getOvertimeAmount() {
+        return overtimeAmount;
+    }
+
+    public Money getHealthInsuranceAmount() {
+        return healthInsuranceAmount;
+    }
+
+    public Money getEmployeePensionAmount() {
+        return employeePensionAmount;
+    }
+
+    public Money getIncomeTaxAmount() {
+        return incomeTaxAmount;
+    }
+
+    public Money getInhabitantTaxAmount() {
+        return inhabitantTaxAmount;
+    }
+
+    /**
+     * {@link Payslip}を組み立てるビルダー。
+     *
+     * @author naotake
+     */
+    public static class Builder {
+
+        private final int employeeNo;
+        private final int workYearMonth;
+        private Money roleAmount = Money.ZERO;
+        private Money capabilityAmount = Money.ZERO;
+        private Money commuteAmount = Money.ZERO;
+        private Money rentAmount = Money.ZERO;
+        private Money separatedAllowance = Money.ZERO;
+        private Money longServiceAllowance = Money.ZERO;
+        private Money overtimeAmount = Money.ZERO;
+        private Money healthInsuranceAmount = Money.ZERO;
+        private Money employeePensionAmount = Money.ZERO;
+        private Money incomeTaxAmount = Money.ZERO;
+        private Money inhabitantTaxAmount = Money.ZERO;
+
+        private Builder(int employeeNo, int workYearMonth) {
+            this.employeeNo = employeeNo;
+            this.workYearMonth = workYearMonth;
+        }
+
+        public Builder roleAmount(Money roleAmount) {
+            this.roleAmount = roleAmount;
+            return this;
+        }
+
+        public Builder capabilityAmount(Money capabilityAmount) {
+            this.capabilityAmount = capabilityAmount;
+            return this;
+        }
+
+        public Builder commuteAmount(Money commuteAmount) {
+            this.commuteAmount = commuteAmount;
+            return this;
+        }
+
+        public Builder rentAmount(Money rentAmount) {
+            this.rentAmount = rentAmount;
+            return this;
+        }
+
+        public Builder separatedAllowance(Money separatedAllowance) {
+            this.separatedAllowance = separatedAllowance;
+            return this;
+        }
+
+        public Builder longServiceAllowance(Money longServiceAllowance) {
+            this.longServiceAllowance = longServiceAllowance;
+            return this;
+        }
+
+        public Builder overtimeAmount(Money overtimeAmount) {
+            this.overtimeAmount = overtimeAmount;
+            return this;
+        }
+
+        public Builder healthInsuranceAmount(Money healthInsuranceAmount) {
+            this.healthInsuranceAmount = healthInsuranceAmount;
+            return this;
+        }
+
+        public Builder employeePensionAmount(Money employeePensionAmount) {
+            this.employeePensionAmount = employeePensionAmount;
+            return this;
+        }
+
+        public Builder incomeTaxAmount(Money incomeTaxAmount) {
+            this.incomeTaxAmount = incomeTaxAmount;
+            return this;
+        }
+
+        public Builder inhabitantTaxAmount(Money inhabitantTaxAmount) {
+            this.inhabitantTaxAmount = inhabitantTaxAmount;
+            return this;
+        }
+
+        public Payslip build() {
+            return new Payslip(this);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package salarycalculation.domain.payroll;
+
+import java.util.function.Function;
+
+import salarycalculation.utils.Money;
+
+/**
+ * 給与明細を比較する際の内訳の種類を表す列挙型。
+ *
+ * @author naotake
+ */
+public enum PayslipComponent {
+
+    /** 役割給 */
+    ROLE(Payslip::getRoleAmount),
+    /** 能力給 */
+    CAPABILITY(Payslip::getCapabilityAmount),
+    /** 諸手当 */
+    ALLOWANCE(Payslip::getAllowance),
+    /** 残業代 */
+    OVERTIME(Payslip::getOvertimeAmount),
+    /** 控除額 */
+    DEDUCTION(Payslip::getDeduction),
+    /** 総支給額 */
+    TOTAL_SALARY(Payslip::getTotalSalary),
+    /** 手取り額 */
+    TAKE_HOME(Payslip::getTakeHomeAmount);
+
+    private final Function<Payslip, Money> amount;
+
+    private PayslipComponent(Function<Payslip, Money> amount) {
+        this.amount = amount;
+    }
+
+    /**
+     * 給与明細から該当する内訳の金額を取得する。
+     *
+     * @param payslip 給与明細。null の場合は 0 円とする
+     * @return 金額
+     */
+    public long amountOf(Payslip payslip) {
+        return (payslip == null) ? 0L : amount.apply(payslip).value().longValue();
+    }
+}
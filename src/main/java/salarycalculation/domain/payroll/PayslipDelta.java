@@ -0,0 +1,97 @@
+package salarycalculation.domain.payroll;
+
+import java.util.Optional;
+
+/**
+ * 社員 1 名分の給与明細の差分。<br />
+ * 差分は変更後から変更前を引いた金額とし、明細が無い側は 0 円として扱う。
+ *
+ * @author naotake
+ */
+public class PayslipDelta {
+
+    /**
+     * 差分の種類。
+     *
+     * @author naotake
+     */
+    public enum Type {
+        /** 変更後にのみ存在する */
+        ADDED,
+        /** 変更前にのみ存在する */
+        REMOVED,
+        /** 金額が変わった */
+        CHANGED,
+        /** 金額が変わっていない */
+        UNCHANGED
+    }
+
+    private static final PayslipComponent[] COMPONENTS = PayslipComponent.values();
+
+    private final int employeeNo;
+    private final Payslip before;
+    private final Payslip after;
+    private final long[] deltas;
+    private final Type type;
+
+    PayslipDelta(int employeeNo, Payslip before, Payslip after) {
+        this.employeeNo = employeeNo;
+        this.before = before;
+        this.after = after;
+        this.deltas = new long[COMPONENTS.length];
+
+        boolean changed = false;
+        for (PayslipComponent component : COMPONENTS) {
+            long delta = component.amountOf(after) - component.amountOf(before);
+            deltas[component.ordinal()] = delta;
+            changed |= (delta != 0L);
+        }
+
+        if (before == null) {
+            this.type = Type.ADDED;
+        } else if (after == null) {
+            this.type = Type.REMOVED;
+        } else {
+            this.type = changed ? Type.CHANGED : Type.UNCHANGED;
+        }
+    }
+
+    /**
+     * 指定した内訳の差分を取得する。
+     *
+     * @param component 内訳
+     * @return 差分 (変更後 - 変更前)
+     */
+    public long getDelta(PayslipComponent component) {
+        return deltas[component.ordinal()];
+    }
+
+    public int getEmployeeNo() {
+        return employeeNo;
+    }
+
+    public Optional<Payslip> getBefore() {
+        return Optional.ofNullable(before);
+    }
+
+    public Optional<Payslip> getAfter() {
+        return Optional.ofNullable(after);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(employeeNo).append(' ').append(type);
+        for (PayslipComponent component : COMPONENTS) {
+            long delta = deltas[component.ordinal()];
+            if (delta != 0L) {
+                builder.append(' ').append(component).append('=').append(delta > 0 ? "+" : "").append(delta);
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,67 @@
+package salarycalculation.domain.payroll;
+
+/**
+ * マスタ変更に伴う再計算の結果。
+ *
+ * @author naotake
+ */
+public class RecomputeReport {
+
+    private final MasterChange change;
+
+    /** 変更の影響を受けた社員数 */
+    private final int affectedEmployees;
+
+    /** 再計算した社員数 (キャッシュしている明細がある社員のみ再計算する) */
+    private final int recomputedEmployees;
+
+    /** 再計算した給与明細の件数 */
+    private final int recomputedPayslips;
+
+    /** 社員が存在しなくなったため破棄した給与明細の件数 */
+    private final int evictedPayslips;
+
+    /** 処理時間 (ナノ秒) */
+    private final long elapsedNanos;
+
+    public RecomputeReport(MasterChange change, int affectedEmployees, int recomputedEmployees,
+            int recomputedPayslips, int evictedPayslips, long elapsedNanos) {
+        this.change = change;
+        this.affectedEmployees = affectedEmployees;
+        this.recomputedEmployees = recomputedEmployees;
+        this.recomputedPayslips = recomputedPayslips;
+        this.evictedPayslips = evictedPayslips;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public MasterChange getChange() {
+        return change;
+    }
+
+    public int getAffectedEmployees() {
+        return affectedEmployees;
+    }
+
+    public int getRecomputedEmployees() {
+        return recomputedEmployees;
+    }
+
+    public int getRecomputedPayslips() {
+        return recomputedPayslips;
+    }
+
+    public int getEvictedPayslips() {
+        return evictedPayslips;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s affected=%d recomputedEmployees=%d recomputedPayslips=%d evicted=%d elapsed=%dms",
+                change, affectedEmployees, recomputedEmployees, recomputedPayslips, evictedPayslips,
+                elapsedNanos / 1_000_000);
+    }
+}
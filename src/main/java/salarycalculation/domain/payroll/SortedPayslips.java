@@ -0,0 +1,86 @@
+package salarycalculation.domain.payroll;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 社員番号の昇順に並んだ 1 回分の給与計算結果。<br />
+ * 位置を指定して参照できるため、全件をメモリ上に展開せずに突き合わせを行える。
+ *
+ * @author naotake
+ */
+public interface SortedPayslips {
+
+    /**
+     * 給与明細の件数を取得する。
+     *
+     * @return 件数
+     */
+    int size();
+
+    /**
+     * 指定位置の社員番号を取得する。
+     *
+     * @param index 位置
+     * @return 社員番号
+     */
+    int employeeNoAt(int index);
+
+    /**
+     * 指定位置の給与明細を取得する。
+     *
+     * @param index 位置
+     * @return 給与明細
+     */
+    Payslip payslipAt(int index);
+
+    /**
+     * 指定した社員番号以上となる最初の位置を取得する。
+     *
+     * @param employeeNo 社員番号
+     * @return 位置。該当しない場合は {@link #size()}
+     */
+    default int lowerBound(int employeeNo) {
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (employeeNoAt(mid) < employeeNo) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * メモリ上の給与明細一覧から生成する。
+     *
+     * @param payslips 給与明細一覧 (順不同)
+     * @return 社員番号の昇順に並べた給与計算結果
+     */
+    static SortedPayslips of(Collection<Payslip> payslips) {
+        List<Payslip> sorted = new ArrayList<>(payslips);
+        sorted.sort(Comparator.comparingInt(Payslip::getEmployeeNo));
+        return new SortedPayslips() {
+
+            @Override
+            public int size() {
+                return sorted.size();
+            }
+
+            @Override
+            public int employeeNoAt(int index) {
+                return sorted.get(index).getEmployeeNo();
+            }
+
+            @Override
+            public Payslip payslipAt(int index) {
+                return sorted.get(index);
+            }
+        };
+    }
+}
@@ -0,0 +1,88 @@
+package salarycalculation.domain.rule;
+
+/**
+ * 総支給額を構成する 1 つの要素のルール。
+ *
+ * @author naotake
+ */
+public class ComponentRule {
+
+    /** 構成要素の名前 (計測に使用する) */
+    private String name;
+
+    /** 金額の取得元 */
+    private ComponentSource source;
+
+    /** 支給条件 */
+    private Condition condition = Condition.ALWAYS;
+
+    /** 固定額 ({@link ComponentSource#FIXED}の場合のみ使用する) */
+    private long amount;
+
+    public ComponentRule() {
+        // for configuration
+    }
+
+    public ComponentRule(String name, ComponentSource source, Condition condition) {
+        this.name = name;
+        this.source = source;
+        this.condition = condition;
+    }
+
+    /**
+     * 常に支給する構成要素のルールを生成する。
+     *
+     * @param name 構成要素の名前
+     * @param source 金額の取得元
+     * @return ルール
+     */
+    public static ComponentRule of(String name, ComponentSource source) {
+        return new ComponentRule(name, source, Condition.ALWAYS);
+    }
+
+    /**
+     * 固定額を支給する構成要素のルールを生成する。
+     *
+     * @param name 構成要素の名前
+     * @param amount 固定額
+     * @param condition 支給条件
+     * @return ルール
+     */
+    public static ComponentRule fixed(String name, long amount, Condition condition) {
+        ComponentRule rule = new ComponentRule(name, ComponentSource.FIXED, condition);
+        rule.setAmount(amount);
+        return rule;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public ComponentSource getSource() {
+        return source;
+    }
+
+    public void setSource(ComponentSource source) {
+        this.source = source;
+    }
+
+    public Condition getCondition() {
+        return condition;
+    }
+
+    public void setCondition(Condition condition) {
+        this.condition = condition;
+    }
+
+    public long getAmount() {
+        return amount;
+    }
+
+    public void setAmount(long amount) {
+        this.amount = amount;
+    }
+}
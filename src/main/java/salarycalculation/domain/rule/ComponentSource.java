@@ -0,0 +1,26 @@
+package salarycalculation.domain.rule;
+
+/**
+ * 給与の構成要素の金額の取得元を表す列挙型。
+ *
+ * @author naotake
+ */
+public enum ComponentSource {
+
+    /** 役割給 */
+    ROLE,
+    /** 能力給 */
+    CAPABILITY,
+    /** 通勤手当 */
+    COMMUTE,
+    /** 住宅手当 */
+    RENT,
+    /** 別途手当 (能力等級毎の金額) */
+    SEPARATED_ALLOWANCE,
+    /** 勤続手当 (勤続年数の節目毎の金額) */
+    LONG_SERVICE,
+    /** 残業代 (時間外労働の種類毎の倍率) */
+    OVERTIME,
+    /** 固定額 (ルールに指定した金額) */
+    FIXED;
+}
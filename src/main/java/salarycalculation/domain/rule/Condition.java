@@ -0,0 +1,16 @@
+package salarycalculation.domain.rule;
+
+/**
+ * 給与の構成要素が支給される条件を表す列挙型。
+ *
+ * @author naotake
+ */
+public enum Condition {
+
+    /** 常に支給する */
+    ALWAYS,
+    /** マネージャ職のみ支給する */
+    MANAGER,
+    /** マネージャ職以外に支給する */
+    NOT_MANAGER;
+}
@@ -0,0 +1,489 @@
+package salarycalculation.domain.rule;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.codahale.metrics.Timer;
+
+import salarycalculation.domain.employee.BusinessDate;
+import salarycalculation.domain.employee.CapabilityRank;
+import salarycalculation.domain.employee.Employee;
+import salarycalculation.domain.payroll.Payslip;
+import salarycalculation.domain.work.WorkOverTime;
+import salarycalculation.domain.work.WorkingOverUnit;
+import salarycalculation.domain.work.WorkingTimeType;
+import salarycalculation.utils.Instrumentation;
+import salarycalculation.utils.Money;
+
+/**
+ * {@link PayrollRules}を評価可能な形に変換した評価計画。
+ * <p />
+ * ルールの解釈は {@link #compile(PayrollRules)} で 1 回だけ行い、構成要素毎の評価処理をラムダとして
+ * 事前に組み立てる。条件・別途手当・倍率は能力等級や時間外労働の種類の序数で引く配列に、
+ * 勤続手当は勤続月数で引く配列に展開するため、評価時にはマップの参照やルールの分岐を行わない。
+ * <p />
+ * {@link #payslip(Employee, int)}は構成要素を取得元毎に合算して給与明細を作成する
+ * (固定額の構成要素は別途手当に含める)。{@link PayrollPlans#use(PayrollPlan)}で指定すると
+ * {@link Payslip#of(Employee, int)}の計算に使用される。
+ *
+ * @author naotake
+ */
+public final class PayrollPlan {
+
+    /**
+     * 構成要素 1 つ分の評価処理。
+     */
+    @FunctionalInterface
+    private interface Evaluator {
+
+        long evaluate(Employee employee, int workYearMonth, int attendanceMonth);
+    }
+
+    private final String[] names;
+    private final ComponentSource[] sources;
+    private final Evaluator[] evaluators;
+
+    /** 勤続月数を必要とする構成要素を含む場合は true */
+    private final boolean needsAttendanceMonth;
+
+    /** 集計用のテーブル */
+    private final Tables tables;
+
+    /** ベンチマークの評価結果の書き込み先 */
+    private volatile long sink;
+
+    private PayrollPlan(String[] names, ComponentSource[] sources, Evaluator[] evaluators,
+            boolean needsAttendanceMonth, Tables tables) {
+        this.names = names;
+        this.sources = sources;
+        this.evaluators = evaluators;
+        this.needsAttendanceMonth = needsAttendanceMonth;
+        this.tables = tables;
+    }
+
+    /**
+     * 列単位の集計 ({@link salarycalculation.domain.analytics.WorkforceSnapshot}) に使用するため、
+     * 構成要素を能力等級毎・勤続月数毎の表に展開したもの。
+     */
+    private static final class Tables {
+
+        /** 取得元毎・能力等級毎の、支給される構成要素の数 */
+        private final int[][] multipliers = new int[ComponentSource.values().length][CapabilityRank.values().length];
+
+        /** 能力等級毎の固定額の合計 */
+        private final long[] fixedAmounts = new long[CapabilityRank.values().length];
+
+        /** 能力等級毎の別途手当 (別途手当の構成要素が無い場合は 0) */
+        private long[] separatedAllowances = new long[CapabilityRank.values().length];
+
+        /** 勤続月数毎の勤続手当 (勤続手当の構成要素が無い場合は空) */
+        private long[] longServiceAllowances = new long[0];
+
+        /** 時間外労働の種類毎の倍率 (残業代の構成要素が無い場合は 0) */
+        private double[] overtimeRates = new double[WorkingTimeType.values().length];
+    }
+
+    /**
+     * ルールを評価計画に変換する。
+     *
+     * @param rules ルール
+     * @return 評価計画
+     * @throws IllegalArgumentException ルールの内容が不正な場合
+     */
+    public static PayrollPlan compile(PayrollRules rules) {
+        List<ComponentRule> components = required(rules.getComponents(), "components");
+        boolean[] managers = managers(rules);
+
+        String[] names = new String[components.size()];
+        ComponentSource[] sources = new ComponentSource[components.size()];
+        Evaluator[] evaluators = new Evaluator[components.size()];
+        boolean needsAttendanceMonth = false;
+        Tables tables = new Tables();
+        for (int i = 0; i < components.size(); i++) {
+            ComponentRule component = components.get(i);
+            names[i] = required(component.getName(), "components[" + i + "].name");
+            if (Arrays.asList(names).subList(0, i).contains(names[i])) {
+                throw new IllegalArgumentException("構成要素の名前が重複しています[" + names[i] + "]");
+            }
+            ComponentSource source = required(component.getSource(), names[i] + ".source");
+            Condition condition = required(component.getCondition(), names[i] + ".condition");
+
+            sources[i] = source;
+            evaluators[i] = when(condition, managers, link(source, component, rules));
+            needsAttendanceMonth |= (source == ComponentSource.LONG_SERVICE);
+            tabulate(tables, source, condition, managers, component, rules);
+        }
+        return new PayrollPlan(names, sources, evaluators, needsAttendanceMonth, tables);
+    }
+
+    private static void tabulate(Tables tables, ComponentSource source, Condition condition, boolean[] managers,
+            ComponentRule component, PayrollRules rules) {
+        for (CapabilityRank rank : CapabilityRank.values()) {
+            boolean manager = managers[rank.ordinal()];
+            if ((condition == Condition.MANAGER && !manager) || (condition == Condition.NOT_MANAGER && manager)) {
+                continue;
+            }
+            tables.multipliers[source.ordinal()][rank.ordinal()]++;
+            if (source == ComponentSource.FIXED) {
+                tables.fixedAmounts[rank.ordinal()] += component.getAmount();
+            }
+        }
+        switch (source) {
+        case SEPARATED_ALLOWANCE:
+            tables.separatedAllowances = separatedAllowances(rules);
+            break;
+        case LONG_SERVICE:
+            tables.longServiceAllowances = longServiceAllowances(rules);
+            break;
+        case OVERTIME:
+            tables.overtimeRates = overtimeRates(rules);
+            break;
+        default:
+            break;
+        }
+    }
+
+    private static Evaluator link(ComponentSource source, ComponentRule component, PayrollRules rules) {
+        switch (source) {
+        case ROLE:
+            return (employee, workYearMonth, attendanceMonth) -> toLong(employee.getRole().getAmount());
+        case CAPABILITY:
+            return (employee, workYearMonth, attendanceMonth) -> toLong(employee.getCapability().getAmount());
+        case COMMUTE:
+            return (employee, workYearMonth, attendanceMonth) -> toLong(employee.getCommuteAmount());
+        case RENT:
+            return (employee, workYearMonth, attendanceMonth) -> toLong(employee.getRentAmount());
+        case SEPARATED_ALLOWANCE: {
+            long[] allowances = separatedAllowances(rules);
+            return (employee, workYearMonth, attendanceMonth) -> allowances[rankOf(employee)];
+        }
+        case LONG_SERVICE: {
+            long[] allowances = longServiceAllowances(rules);
+            return (employee, workYearMonth, attendanceMonth) -> (attendanceMonth >= 0
+                    && attendanceMonth < allowances.length) ? allowances[attendanceMonth] : 0L;
+        }
+        case OVERTIME: {
+            double[] rates = overtimeRates(rules);
+            return (employee, workYearMonth, attendanceMonth) -> overtime(employee, workYearMonth, rates);
+        }
+        case FIXED: {
+            long amount = component.getAmount();
+            return (employee, workYearMonth, attendanceMonth) -> amount;
+        }
+        default:
+            throw new IllegalArgumentException("未対応の取得元です[" + source + "]");
+        }
+    }
+
+    private static Evaluator when(Condition condition, boolean[] managers, Evaluator evaluator) {
+        switch (condition) {
+        case MANAGER:
+            return (employee, workYearMonth, attendanceMonth) -> managers[rankOf(employee)]
+                    ? evaluator.evaluate(employee, workYearMonth, attendanceMonth) : 0L;
+        case NOT_MANAGER:
+            return (employee, workYearMonth, attendanceMonth) -> managers[rankOf(employee)]
+                    ? 0L : evaluator.evaluate(employee, workYearMonth, attendanceMonth);
+        default:
+            return evaluator;
+        }
+    }
+
+    private static boolean[] managers(PayrollRules rules) {
+        boolean[] managers = new boolean[CapabilityRank.values().length];
+        for (CapabilityRank rank : required(rules.getManagers(), "managers")) {
+            managers[rank.ordinal()] = true;
+        }
+        return managers;
+    }
+
+    private static long[] separatedAllowances(PayrollRules rules) {
+        long[] allowances = new long[CapabilityRank.values().length];
+        for (Map.Entry<CapabilityRank, Long> entry : required(rules.getSeparatedAllowances(),
+                "separatedAllowances").entrySet()) {
+            allowances[entry.getKey().ordinal()] = entry.getValue();
+        }
+        return allowances;
+    }
+
+    private static long[] longServiceAllowances(PayrollRules rules) {
+        Map<Integer, Long> milestones = required(rules.getLongServiceAllowances(), "longServiceAllowances");
+        int maxYear = 0;
+        for (int year : milestones.keySet()) {
+            if (year <= 0) {
+                throw new IllegalArgumentException("勤続年数は 1 以上を指定してください[" + year + "]");
+            }
+            maxYear = Math.max(maxYear, year);
+        }
+        // 勤続年数ちょうどの月 (勤続月数が 12 の倍数) のみ支給する
+        long[] allowances = new long[maxYear * 12 + 1];
+        milestones.forEach((year, amount) -> allowances[year * 12] = amount);
+        return allowances;
+    }
+
+    private static double[] overtimeRates(PayrollRules rules) {
+        Map<WorkingTimeType, Double> configured = required(rules.getOvertimeRates(), "overtimeRates");
+        double[] rates = new double[WorkingTimeType.values().length];
+        for (WorkingTimeType type : WorkingTimeType.values()) {
+            rates[type.ordinal()] = required(configured.get(type), "overtimeRates." + type);
+        }
+        return rates;
+    }
+
+    private static long overtime(Employee employee, int workYearMonth, double[] rates) {
+        if (employee.getWorkTimes() == null) {
+            return 0L;
+        }
+        Optional<WorkOverTime> workOverTime = employee.getWorkTimes().getWorkOverTime(workYearMonth);
+        if (!workOverTime.isPresent()) {
+            return 0L;
+        }
+        // WorkOverTimeSalaryCalculator と同じく、種類毎に円未満を切り捨てて合算する
+        return overtime(workOverTime.get(), employee.getWorkOverTime1hAmount().value().intValue(), rates);
+    }
+
+    private static long overtime(WorkOverTime work, int hourly, double[] rates) {
+        return overtime(work.getWorkOverTime(), hourly, rates)
+                + overtime(work.getLateNightOverTime(), hourly, rates)
+                + overtime(work.getHolidayWorkTime(), hourly, rates)
+                + overtime(work.getHolidayLateNightOverTime(), hourly, rates);
+    }
+
+    private static long overtime(WorkingOverUnit unit, int hourly, double[] rates) {
+        double rate = rates[unit.getWorkingTimeType().ordinal()];
+        return BigDecimal.valueOf(hourly * rate).multiply(unit.getWorkingTime())
+                .setScale(0, BigDecimal.ROUND_DOWN).longValue();
+    }
+
+    private static int rankOf(Employee employee) {
+        return employee.getCapability().getRank().ordinal();
+    }
+
+    private static long toLong(Money money) {
+        return money.value().longValue();
+    }
+
+    private static <T> T required(T value, String name) {
+        if (value == null) {
+            throw new IllegalArgumentException(name + " が指定されていません");
+        }
+        return value;
+    }
+
+    /**
+     * 構成要素毎の評価処理時間を{@link Instrumentation}に記録する評価計画を取得する。<br />
+     * メトリクス名は {@code salarycalculation.domain.rule.PayrollPlan.<構成要素の名前>} となる。
+     *
+     * @return 計測付きの評価計画
+     */
+    public PayrollPlan instrumented() {
+        Evaluator[] timed = new Evaluator[evaluators.length];
+        for (int i = 0; i < evaluators.length; i++) {
+            String metricName = Instrumentation.name(PayrollPlan.class, names[i]);
+            Evaluator evaluator = evaluators[i];
+            timed[i] = (employee, workYearMonth, attendanceMonth) -> {
+                Timer.Context context = Instrumentation.start(metricName);
+                try {
+                    return evaluator.evaluate(employee, workYearMonth, attendanceMonth);
+                } finally {
+                    Instrumentation.stop(context);
+                }
+            };
+        }
+        return new PayrollPlan(names, sources, timed, needsAttendanceMonth, tables);
+    }
+
+    /**
+     * 構成要素毎に評価処理だけを繰り返し実行し、処理時間を計測する。<br />
+     * 勤続月数の算出は計測に含めない。
+     *
+     * @param employees 社員一覧
+     * @param workYearMonth 稼動年月 (e.g. 201504)
+     * @param iterations 繰り返し回数
+     * @return 構成要素毎の処理時間 (ナノ秒。{@link #getComponentNames()}と同じ順序)
+     */
+    public long[] benchmark(List<Employee> employees, int workYearMonth, int iterations) {
+        int[] attendanceMonths = new int[employees.size()];
+        for (int e = 0; e < attendanceMonths.length; e++) {
+            attendanceMonths[e] = attendanceMonth(employees.get(e), workYearMonth);
+        }
+
+        long[] elapsed = new long[evaluators.length];
+        long sum = 0;
+        for (int i = 0; i < evaluators.length; i++) {
+            Evaluator evaluator = evaluators[i];
+            long start = System.nanoTime();
+            for (int n = 0; n < iterations; n++) {
+                for (int e = 0; e < attendanceMonths.length; e++) {
+                    sum += evaluator.evaluate(employees.get(e), workYearMonth, attendanceMonths[e]);
+                }
+            }
+            elapsed[i] = System.nanoTime() - start;
+        }
+        // 評価結果を参照し、計測対象の処理が最適化で除去されないようにする
+        sink = sum;
+        return elapsed;
+    }
+
+    /**
+     * 指定年月の総支給額を求める。
+     *
+     * @param employee 社員情報
+     * @param workYearMonth 稼動年月 (e.g. 201504)
+     * @return 総支給額
+     */
+    public long totalSalary(Employee employee, int workYearMonth) {
+        int attendanceMonth = attendanceMonth(employee, workYearMonth);
+        long total = 0;
+        for (Evaluator evaluator : evaluators) {
+            total += evaluator.evaluate(employee, workYearMonth, attendanceMonth);
+        }
+        return total;
+    }
+
+    /**
+     * 指定年月の構成要素毎の金額を求める。
+     *
+     * @param employee 社員情報
+     * @param workYearMonth 稼動年月 (e.g. 201504)
+     * @param amounts 構成要素毎の金額の格納先 ({@link #getComponentNames()}と同じ順序)
+     * @return 総支給額
+     */
+    public long evaluate(Employee employee, int workYearMonth, long[] amounts) {
+        if (amounts.length < evaluators.length) {
+            throw new IllegalArgumentException("格納先の長さが不足しています[" + amounts.length + "]");
+        }
+        int attendanceMonth = attendanceMonth(employee, workYearMonth);
+        long total = 0;
+        for (int i = 0; i < evaluators.length; i++) {
+            amounts[i] = evaluators[i].evaluate(employee, workYearMonth, attendanceMonth);
+            total += amounts[i];
+        }
+        return total;
+    }
+
+    /**
+     * 指定年月の給与明細を作成する。<br />
+     * 構成要素の金額を取得元毎に合算して明細の内訳とし、固定額の構成要素は別途手当に含める。
+     * 控除額は社員情報の金額とする。
+     *
+     * @param employee 社員情報
+     * @param workYearMonth 稼動年月 (e.g. 201504)
+     * @return 給与明細
+     */
+    public Payslip payslip(Employee employee, int workYearMonth) {
+        int attendanceMonth = attendanceMonth(employee, workYearMonth);
+        long[] amounts = new long[ComponentSource.values().length];
+        for (int i = 0; i < evaluators.length; i++) {
+            amounts[sources[i].ordinal()] += evaluators[i].evaluate(employee, workYearMonth, attendanceMonth);
+        }
+        return Payslip.builder(employee.getId(), workYearMonth)
+                .roleAmount(Money.from(amounts[ComponentSource.ROLE.ordinal()]))
+                .capabilityAmount(Money.from(amounts[ComponentSource.CAPABILITY.ordinal()]))
+                .commuteAmount(Money.from(amounts[ComponentSource.COMMUTE.ordinal()]))
+                .rentAmount(Money.from(amounts[ComponentSource.RENT.ordinal()]))
+                .separatedAllowance(Money.from(amounts[ComponentSource.SEPARATED_ALLOWANCE.ordinal()]
+                        + amounts[ComponentSource.FIXED.ordinal()]))
+                .longServiceAllowance(Money.from(amounts[ComponentSource.LONG_SERVICE.ordinal()]))
+                .overtimeAmount(Money.from(amounts[ComponentSource.OVERTIME.ordinal()]))
+                .healthInsuranceAmount(employee.getHealthInsuranceAmount())
+                .employeePensionAmount(employee.getEmployeePensionAmount())
+                .incomeTaxAmount(employee.getIncomeTaxAmount())
+                .inhabitantTaxAmount(employee.getInhabitantTaxAmount())
+                .build();
+    }
+
+    /**
+     * 能力等級の社員に支給される、指定した取得元の構成要素の数を取得する。<br />
+     * 条件はマネージャ職かどうかのみのため、能力等級毎に決まる。
+     *
+     * @param source 取得元
+     * @param rank 能力等級
+     * @return 構成要素の数 (支給されない場合は 0)
+     */
+    public int multiplier(ComponentSource source, CapabilityRank rank) {
+        return tables.multipliers[source.ordinal()][rank.ordinal()];
+    }
+
+    /**
+     * 能力等級の社員に支給される固定額の合計を取得する。
+     *
+     * @param rank 能力等級
+     * @return 固定額の合計
+     */
+    public long fixedAmount(CapabilityRank rank) {
+        return tables.fixedAmounts[rank.ordinal()];
+    }
+
+    /**
+     * 能力等級の別途手当を取得する。支給されるかは {@link #multiplier(ComponentSource, CapabilityRank)}で判定する。
+     *
+     * @param rank 能力等級
+     * @return 別途手当
+     */
+    public long separatedAllowance(CapabilityRank rank) {
+        return tables.separatedAllowances[rank.ordinal()];
+    }
+
+    /**
+     * 勤続月数に対する勤続手当を取得する。支給されるかは {@link #multiplier(ComponentSource, CapabilityRank)}で判定する。
+     *
+     * @param attendanceMonth 勤続月数
+     * @return 勤続手当
+     */
+    public long longServiceAllowance(int attendanceMonth) {
+        long[] allowances = tables.longServiceAllowances;
+        return (attendanceMonth >= 0 && attendanceMonth < allowances.length) ? allowances[attendanceMonth] : 0L;
+    }
+
+    /**
+     * 勤続手当が付く最大の勤続月数を取得する。
+     *
+     * @return 勤続月数 (勤続手当が付かない場合は 0)
+     */
+    public int getMaxLongServiceMonth() {
+        return Math.max(0, tables.longServiceAllowances.length - 1);
+    }
+
+    /**
+     * 稼動情報に対する残業代を求める。支給されるかは {@link #multiplier(ComponentSource, CapabilityRank)}で判定する。
+     *
+     * @param work 稼動情報
+     * @param hourly 1 時間あたりの残業代
+     * @return 残業代
+     */
+    public long overtime(WorkOverTime work, int hourly) {
+        return overtime(work, hourly, tables.overtimeRates);
+    }
+
+    /**
+     * 指定年月の手取り額を求める。
+     *
+     * @param employee 社員情報
+     * @param workYearMonth 稼動年月 (e.g. 201504)
+     * @return 手取り額
+     */
+    public long takeHome(Employee employee, int workYearMonth) {
+        return totalSalary(employee, workYearMonth) - toLong(employee.getDeduction());
+    }
+
+    private int attendanceMonth(Employee employee, int workYearMonth) {
+        if (!needsAttendanceMonth) {
+            return 0;
+        }
+        return employee.calculateAttendanceMonth(BusinessDate.of(workYearMonth / 100, workYearMonth % 100, 1));
+    }
+
+    /**
+     * 構成要素の名前一覧を評価順に取得する。
+     *
+     * @return 構成要素の名前一覧
+     */
+    public List<String> getComponentNames() {
+        return Collections.unmodifiableList(new ArrayList<>(Arrays.asList(names)));
+    }
+}
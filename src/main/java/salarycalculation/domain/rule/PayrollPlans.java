@@ -0,0 +1,57 @@
+package salarycalculation.domain.rule;
+
+import java.util.Optional;
+
+/**
+ * 給与の計算に使用する {@link PayrollPlan}を保持するクラス。<br />
+ * 既定では評価計画を使用せず、現行の給与規程 ({@link salarycalculation.domain.employee.Employee}) で計算する。
+ * {@link #use(PayrollPlan)}で評価計画を指定すると、以降の給与明細・試算はその評価計画で計算する。
+ *
+ * @author naotake
+ */
+public final class PayrollPlans {
+
+    private static volatile PayrollPlan plan;
+
+    /** 既定のルールの評価計画 (初回参照時に生成する) */
+    private static volatile PayrollPlan defaults;
+
+    private PayrollPlans() {
+        // utility
+    }
+
+    /**
+     * 使用している評価計画を取得する。
+     *
+     * @return 評価計画。指定されていない場合は empty
+     */
+    public static Optional<PayrollPlan> current() {
+        return Optional.ofNullable(plan);
+    }
+
+    /**
+     * 使用している評価計画を取得する。指定されていない場合は既定のルールの評価計画とする。<br />
+     * 既定のルールは現行の給与規程と同じ内容のため、計算結果は現行の給与規程と一致する。
+     *
+     * @return 評価計画
+     */
+    public static PayrollPlan currentOrDefaults() {
+        PayrollPlan current = plan;
+        if (current != null) {
+            return current;
+        }
+        if (defaults == null) {
+            defaults = PayrollPlan.compile(PayrollRules.defaults());
+        }
+        return defaults;
+    }
+
+    /**
+     * 給与の計算に使用する評価計画を指定する。null を指定すると現行の給与規程に戻す。
+     *
+     * @param plan 評価計画
+     */
+    public static void use(PayrollPlan plan) {
+        PayrollPlans.plan = plan;
+    }
+}
@@ -0,0 +1,166 @@
+package salarycalculation.domain.rule;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import salarycalculation.domain.employee.CapabilityRank;
+import salarycalculation.domain.employee.LongServiceAllowance;
+import salarycalculation.domain.work.WorkingTimeType;
+
+/**
+ * 総支給額の構成を宣言的に表すルール一式。<br />
+ * 生成直後は現行の給与規程 ({@link salarycalculation.domain.employee.Employee#getTotalSalary(int)}) と
+ * 同じ内容となるため、設定ファイルでは変更したい項目だけを指定すればよい。
+ * 別途手当・勤続手当・残業の倍率は、指定したエントリのみを現行の給与規程に上書きする
+ * (勤続手当を支給しない勤続年数は金額に 0 を指定する)。構成要素とマネージャ職は指定した内容で置き換える。
+ *
+ * <pre>
+ * 総支給額 = 役割給 + 能力給 + 通勤手当 + 住宅手当 + 別途手当 + 勤続手当 + 残業代 (マネージャ職以外)
+ * </pre>
+ *
+ * @author naotake
+ */
+public class PayrollRules {
+
+    /** 構成要素のルール一覧 (評価順) */
+    private List<ComponentRule> components;
+
+    /** マネージャ職の能力等級 */
+    private Set<CapabilityRank> managers;
+
+    /** 能力等級毎の別途手当 */
+    private Map<CapabilityRank, Long> separatedAllowances;
+
+    /** 勤続年数毎の勤続手当 (勤続年数ちょうどの月のみ支給する) */
+    private Map<Integer, Long> longServiceAllowances;
+
+    /** 時間外労働の種類毎の倍率 */
+    private Map<WorkingTimeType, Double> overtimeRates;
+
+    public PayrollRules() {
+        this.components = new ArrayList<>(Arrays.asList(
+                ComponentRule.of("role", ComponentSource.ROLE),
+                ComponentRule.of("capability", ComponentSource.CAPABILITY),
+                ComponentRule.of("commute", ComponentSource.COMMUTE),
+                ComponentRule.of("rent", ComponentSource.RENT),
+                ComponentRule.of("separatedAllowance", ComponentSource.SEPARATED_ALLOWANCE),
+                ComponentRule.of("longService", ComponentSource.LONG_SERVICE),
+                new ComponentRule("overtime", ComponentSource.OVERTIME, Condition.NOT_MANAGER)));
+
+        this.managers = EnumSet.noneOf(CapabilityRank.class);
+        for (CapabilityRank rank : CapabilityRank.values()) {
+            if (rank.isManager()) {
+                managers.add(rank);
+            }
+        }
+        this.separatedAllowances = defaultSeparatedAllowances();
+        this.longServiceAllowances = defaultLongServiceAllowances();
+        this.overtimeRates = defaultOvertimeRates();
+    }
+
+    private static Map<CapabilityRank, Long> defaultSeparatedAllowances() {
+        Map<CapabilityRank, Long> allowances = new EnumMap<>(CapabilityRank.class);
+        for (CapabilityRank rank : CapabilityRank.values()) {
+            allowances.put(rank, rank.getSeparatedAllowance().value().longValue());
+        }
+        return allowances;
+    }
+
+    private static Map<Integer, Long> defaultLongServiceAllowances() {
+        Map<Integer, Long> allowances = new TreeMap<>();
+        for (LongServiceAllowance allowance : LongServiceAllowance.values()) {
+            if (allowance != LongServiceAllowance.NONE) {
+                allowances.put(allowance.attendanceYear(), allowance.allowance().value().longValue());
+            }
+        }
+        return allowances;
+    }
+
+    private static Map<WorkingTimeType, Double> defaultOvertimeRates() {
+        Map<WorkingTimeType, Double> rates = new EnumMap<>(WorkingTimeType.class);
+        for (WorkingTimeType type : WorkingTimeType.values()) {
+            rates.put(type, type.getRate());
+        }
+        return rates;
+    }
+
+    /**
+     * 現行の給与規程に、指定したエントリを上書きする。
+     */
+    private static <K, V> Map<K, V> merge(Map<K, V> defaults, Map<K, V> configured) {
+        if (configured != null) {
+            defaults.putAll(configured);
+        }
+        return defaults;
+    }
+
+    /**
+     * 現行の給与規程と同じルールを取得する。
+     *
+     * @return ルール
+     */
+    public static PayrollRules defaults() {
+        return new PayrollRules();
+    }
+
+    public List<ComponentRule> getComponents() {
+        return components;
+    }
+
+    public void setComponents(List<ComponentRule> components) {
+        this.components = components;
+    }
+
+    public Set<CapabilityRank> getManagers() {
+        return managers;
+    }
+
+    public void setManagers(Set<CapabilityRank> managers) {
+        this.managers = managers;
+    }
+
+    public Map<CapabilityRank, Long> getSeparatedAllowances() {
+        return separatedAllowances;
+    }
+
+    /**
+     * 別途手当を指定する。指定していない能力等級は現行の給与規程の金額とする。
+     *
+     * @param separatedAllowances 能力等級毎の別途手当
+     */
+    public void setSeparatedAllowances(Map<CapabilityRank, Long> separatedAllowances) {
+        this.separatedAllowances = merge(defaultSeparatedAllowances(), separatedAllowances);
+    }
+
+    public Map<Integer, Long> getLongServiceAllowances() {
+        return longServiceAllowances;
+    }
+
+    /**
+     * 勤続手当を指定する。指定していない勤続年数は現行の給与規程の金額とする。
+     *
+     * @param longServiceAllowances 勤続年数毎の勤続手当
+     */
+    public void setLongServiceAllowances(Map<Integer, Long> longServiceAllowances) {
+        this.longServiceAllowances = merge(defaultLongServiceAllowances(), longServiceAllowances);
+    }
+
+    public Map<WorkingTimeType, Double> getOvertimeRates() {
+        return overtimeRates;
+    }
+
+    /**
+     * 残業の倍率を指定する。指定していない時間外労働の種類は現行の給与規程の倍率とする。
+     *
+     * @param overtimeRates 時間外労働の種類毎の倍率
+     */
+    public void setOvertimeRates(Map<WorkingTimeType, Double> overtimeRates) {
+        this.overtimeRates = merge(defaultOvertimeRates(), overtimeRates);
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * 給与の構成要素を宣言的に定義するルールと、それを評価計画へ変換するエンジン。
+ *
+ * @author naotake
+ */
+package salarycalculation.domain.rule;
@@ -3,6 +3,7 @@ package salarycalculation.domain.work;
 import java.math.BigDecimal;
 
 import salarycalculation.utils.BaseEntity;
+import salarycalculation.utils.Money;
 
 public class WorkOverTime extends BaseEntity<WorkOverTimeId> {
 
@@ -126,6 +127,25 @@ public class WorkOverTime extends BaseEntity<WorkOverTimeId> {
                 .add(this.lateNightOverTime.getWorkingTime());
     }
 
+    /**
+     * 1時間当たりの時間外手当金額を基に残業代を計算する。
+     *
+     * @param amountOverTimePerHour 1時間当たりの時間外手当金額
+     * @return 残業代
+     */
+    public Money calculateSalary(Money amountOverTimePerHour) {
+        return WorkOverTimeSalaryCalculator.create(amountOverTimePerHour)
+                // 時間外手当
+                .append(workOverTime)
+                // 深夜手当
+                .append(lateNightOverTime)
+                // 休日手当
+                .append(holidayWorkTime)
+                // 休日深夜手当
+                .append(holidayLateNightOverTime)
+                .calculate();
+    }
+
     @Override
     public WorkOverTimeId getId() {
         return this.id;
@@ -2,9 +2,11 @@ package salarycalculation.domain.work;
 
 import static java.util.stream.Collectors.*;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 
 public class WorkOverTimes {
@@ -20,4 +22,8 @@ public class WorkOverTimes {
         return Optional.ofNullable(yearMonthAttendanceTime.get(Integer.valueOf(yyyymm)));
     }
 
+    public Set<Integer> getWorkYearMonths() {
+        return Collections.unmodifiableSet(yearMonthAttendanceTime.keySet());
+    }
+
 }
@@ -1,5 +1,7 @@
 package salarycalculation.domain.work;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -8,6 +10,38 @@ import java.util.Optional;
  */
 public interface WorkRepository {
 
+    /**
+     * 社員の稼動情報を取得する。アーカイブ済みの年度の稼動情報も含む。
+     *
+     * @param employeeNo 社員番号
+     * @return 稼動情報。存在しない場合は empty
+     */
     Optional<WorkOverTimes> findByEmployeeId(int employeeNo);
 
+    /**
+     * 複数の社員の稼動情報をまとめて取得する。アーカイブ済みの年度の稼動情報も含む。
+     *
+     * @param employeeNos 社員番号一覧
+     * @return 社員番号毎の稼動情報。稼動情報が存在しない社員は含まない
+     */
+    Map<Integer, WorkOverTimes> findByEmployeeIds(Collection<Integer> employeeNos);
+
+    /**
+     * 社員番号・稼動年月を指定して稼動情報を取得する。<br />
+     * アーカイブ済みの年度の稼動年月も取得できる。
+     *
+     * @param employeeNo 社員番号
+     * @param workYearMonth 稼動年月 (e.g. 201504)
+     * @return 稼動情報。存在しない場合は empty
+     */
+    Optional<WorkOverTime> findByYearMonth(int employeeNo, int workYearMonth);
+
+    /**
+     * アーカイブ済みの年度を含む全ての稼動情報を稼動年月の昇順に取得する。
+     *
+     * @param employeeNo 社員番号
+     * @return 稼動情報。存在しない場合は empty
+     */
+    Optional<WorkOverTimes> findHistory(int employeeNo);
+
 }
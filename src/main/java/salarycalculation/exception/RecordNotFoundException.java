@@ -3,7 +3,9 @@ package salarycalculation.exception;
 import java.util.Arrays;
 
 /**
- * 主キーを基に検索を行い、対象データが存在しなかった事を表す例外クラス。
+ * 主キーを基に検索を行い、対象データが存在しなかった事を表す例外クラス。<br />
+ * 存在しないことが想定される検索 (外部から指定された主キーでの検索など) では、
+ * スタックトレースを持たない {@link #withoutStackTrace(Class, Object...)}を使用する。
  *
  * @author naotake
  */
@@ -21,6 +23,24 @@ public class RecordNotFoundException extends RuntimeException {
         this.keys = keys;
     }
 
+    private RecordNotFoundException(boolean writableStackTrace, Class<?> targetClass, Object... keys) {
+        super(null, null, false, writableStackTrace);
+        this.targetClass = targetClass;
+        this.keys = keys;
+    }
+
+    /**
+     * スタックトレースを持たない例外を生成する。<br />
+     * スタックトレースの取得を省くため、頻繁に発生する場合でも生成のコストが小さい。
+     *
+     * @param targetClass 検索対象エンティティのクラス
+     * @param keys 検索時に使用した主キー
+     * @return 例外
+     */
+    public static RecordNotFoundException withoutStackTrace(Class<?> targetClass, Object... keys) {
+        return new RecordNotFoundException(false, targetClass, keys);
+    }
+
     /**
      * 検索対象エンティティのクラスを取得する。
      *
@@ -0,0 +1,118 @@
+package salarycalculation.utils;
+
+import java.util.function.Supplier;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+
+/**
+ * 処理時間や件数を Dropwizard Metrics へ記録するためのユーティリティ。<br />
+ * アプリケーション起動時に {@link #bind(MetricRegistry)} で登録先を指定すると、
+ * 記録した値が管理コネクタ (/metrics) から参照できる。
+ * ベンチマーク時など計測が不要な場合は {@link #setEnabled(boolean)} で無効化できる。
+ *
+ * @author naotake
+ */
+public final class Instrumentation {
+
+    private static volatile MetricRegistry registry = new MetricRegistry();
+    private static volatile boolean enabled = true;
+
+    private Instrumentation() {
+        // utility
+    }
+
+    /**
+     * 記録先のレジストリを指定する。
+     *
+     * @param metricRegistry 記録先のレジストリ
+     */
+    public static void bind(MetricRegistry metricRegistry) {
+        registry = metricRegistry;
+    }
+
+    public static MetricRegistry registry() {
+        return registry;
+    }
+
+    /**
+     * クラス名を基にメトリクス名を組み立てる。
+     *
+     * @param klass クラス
+     * @param names 名前
+     * @return メトリクス名
+     */
+    public static String name(Class<?> klass, String... names) {
+        return MetricRegistry.name(klass, names);
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        Instrumentation.enabled = enabled;
+    }
+
+    /**
+     * 処理を実行し、その処理時間を記録する。
+     *
+     * @param name メトリクス名
+     * @param task 計測対象の処理
+     * @return 処理結果
+     */
+    public static <T> T time(String name, Supplier<T> task) {
+        if (!enabled) {
+            return task.get();
+        }
+        Timer.Context context = registry.timer(name).time();
+        try {
+            return task.get();
+        } finally {
+            context.stop();
+        }
+    }
+
+    /**
+     * 計測を開始する。計測が無効な場合は null を返す。
+     *
+     * @param name メトリクス名
+     * @return 計測中のコンテキスト
+     */
+    public static Timer.Context start(String name) {
+        return enabled ? registry.timer(name).time() : null;
+    }
+
+    /**
+     * {@link #start(String)}で開始した計測を終了する。
+     *
+     * @param context 計測中のコンテキスト
+     * @return 経過時間 (ナノ秒)。計測が無効な場合は 0
+     */
+    public static long stop(Timer.Context context) {
+        return (context == null) ? 0L : context.stop();
+    }
+
+    /**
+     * 呼び出し回数を 1 加算する。
+     *
+     * @param name メトリクス名
+     */
+    public static void count(String name) {
+        if (enabled) {
+            registry.counter(name).inc();
+        }
+    }
+
+    /**
+     * 値の分布を記録する。
+     *
+     * @param name メトリクス名
+     * @param value 値
+     */
+    public static void update(String name, long value) {
+        if (enabled) {
+            registry.histogram(name).update(value);
+        }
+    }
+}
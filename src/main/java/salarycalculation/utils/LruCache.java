@@ -0,0 +1,88 @@
+package salarycalculation.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * 件数上限付きの LRU キャッシュ。<br />
+ * 上限を超えた場合は最も長く参照されていないエントリから破棄する。スレッドセーフ。
+ *
+ * @author naotake
+ * @param <K> キーの型
+ * @param <V> 値の型
+ */
+public class LruCache<K, V> {
+
+    private final int maximumSize;
+    private final LinkedHashMap<K, V> entries;
+
+    public LruCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("上限件数は 1 以上で指定してください[" + maximumSize + "]");
+        }
+        this.maximumSize = maximumSize;
+        this.entries = new LinkedHashMap<K, V>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > LruCache.this.maximumSize;
+            }
+        };
+    }
+
+    /**
+     * キーに該当する値を取得する。
+     *
+     * @param key キー
+     * @return 値。存在しない場合は null
+     */
+    public synchronized V get(K key) {
+        return entries.get(key);
+    }
+
+    /**
+     * 値を登録する。
+     *
+     * @param key キー
+     * @param value 値
+     */
+    public synchronized void put(K key, V value) {
+        entries.put(key, value);
+    }
+
+    /**
+     * キーに該当する値を破棄する。
+     *
+     * @param key キー
+     */
+    public synchronized void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * 条件に一致するキーの値を全て破棄する。
+     *
+     * @param condition キーの条件
+     */
+    public synchronized void invalidateIf(Predicate<? super K> condition) {
+        entries.keySet().removeIf(condition);
+    }
+
+    /**
+     * 全ての値を破棄する。
+     */
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+}
@@ -1,10 +1,57 @@
 package salarycalculation.web;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import io.dropwizard.lifecycle.Managed;
 import io.dropwizard.setup.Bootstrap;
 import io.dropwizard.setup.Environment;
+import salarycalculation.database.ConnectionFactory;
+import salarycalculation.database.EmployeeKeyFilter;
+import salarycalculation.database.SlowQueryLog;
+import salarycalculation.database.Storage;
+import salarycalculation.database.StorageMode;
+import salarycalculation.database.StorageServer;
+import salarycalculation.database.StorageStartup;
+import salarycalculation.database.kv.WorkStore;
+import salarycalculation.database.repository.EmployeeRepositoryDao;
+import salarycalculation.database.repository.PayrollDependencyIndexLoader;
+import salarycalculation.database.repository.WorkRepositories;
+import salarycalculation.database.repository.WorkRepositoryStore;
+import salarycalculation.database.repository.WorkforceSnapshotCache;
+import salarycalculation.database.repository.WorkforceSnapshotLoader;
+import salarycalculation.domain.employee.CoalescingEmployeeRepository;
+import salarycalculation.domain.employee.EmployeeRepository;
+import salarycalculation.domain.payroll.PayrollRecomputeScheduler;
+import salarycalculation.domain.payroll.PayrollResultCache;
+import salarycalculation.domain.rule.PayrollPlan;
+import salarycalculation.domain.rule.PayrollPlans;
+import salarycalculation.utils.Instrumentation;
+import salarycalculation.web.configuration.AsyncConfiguration;
+import salarycalculation.web.configuration.DatabaseConfiguration;
+import salarycalculation.web.configuration.EmployeeLookupConfiguration;
 import salarycalculation.web.configuration.SalaryCalculationConfiguration;
+import salarycalculation.web.configuration.StorageConfiguration;
+import salarycalculation.web.configuration.WorkRepositoryConfiguration;
 import salarycalculation.web.providers.RecordNotFoundExceptionMapper;
 import salarycalculation.web.resources.EmployeeResource;
+import salarycalculation.web.resources.PayslipResource;
+import salarycalculation.web.resources.SimulationResource;
+import salarycalculation.web.tasks.AnnualIncomeTask;
+import salarycalculation.web.tasks.EmployeeKeyFilterTask;
+import salarycalculation.web.tasks.MasterChangeTask;
+import salarycalculation.web.tasks.PartitionedScanTask;
+import salarycalculation.web.tasks.PayrollDiffTask;
+import salarycalculation.web.tasks.PayrollRulesTask;
+import salarycalculation.web.tasks.PayslipArchiveTask;
+import salarycalculation.web.tasks.SlowQueryTask;
+import salarycalculation.web.tasks.StorageStartupTask;
+import salarycalculation.web.tasks.WorkArchiveTask;
+import salarycalculation.web.tasks.WorkRepositoryBenchmarkTask;
 
 /**
  * Dropwizard のエントリポイント。
@@ -29,8 +76,138 @@ public class Application extends io.dropwizard.Application<SalaryCalculationConf
 
     @Override
     public void run(SalaryCalculationConfiguration configuration, Environment environment) throws Exception {
+        // 格納先を切り替え、スキーマを最新のバージョンに更新
+        StorageConfiguration storageConfiguration = configuration.getDatabase().getStorage();
+        if (storageConfiguration.getMode() == StorageMode.SERVER && storageConfiguration.isStartServer()) {
+            StorageServer server = StorageServer.start(storageConfiguration.getPort(),
+                    storageConfiguration.isAllowOthers());
+            environment.lifecycle().manage(onStop(server::close));
+        }
+        Storage storage = storageConfiguration.build();
+        String snapshot = storageConfiguration.getSnapshot();
+        StorageStartup.prepare(storage, (storageConfiguration.getMode() == StorageMode.MEMORY && snapshot != null
+                && !snapshot.isEmpty()) ? Storage.file(snapshot) : null);
+        ConnectionFactory.setStorage(storage);
+        environment.admin().addTask(new StorageStartupTask());
+
+        // 稼動情報の参照先を切り替え
+        WorkRepositoryConfiguration workConfiguration = configuration.getDatabase().getWorkRepository();
+        if (workConfiguration.getType() == WorkRepositoryConfiguration.Type.MVSTORE) {
+            String file = workConfiguration.getFile();
+            WorkStore workStore = (file == null || file.isEmpty()) ? WorkStore.inMemory() : WorkStore.open(file);
+            if (workConfiguration.isReloadOnStartup() || workStore.size() == 0) {
+                new WorkRepositoryStore(workStore).reload();
+            }
+            WorkRepositories.useStore(workStore);
+            environment.lifecycle().manage(onStop(() -> {
+                WorkRepositories.useStore(null);
+                workStore.close();
+            }));
+        }
+        environment.admin().addTask(new WorkRepositoryBenchmarkTask());
+
+        // 締め済みの年度の稼動情報のアーカイブタスクを登録
+        environment.admin().addTask(new WorkArchiveTask());
+
+        // クエリや計算処理の計測結果を管理コネクタから参照できるようにする
+        Instrumentation.bind(environment.metrics());
+        Instrumentation.setEnabled(configuration.getInstrumentation().isEnabled());
+
+        // スロークエリログを準備
+        DatabaseConfiguration database = configuration.getDatabase();
+        SlowQueryLog.setThreshold(database.getSlowQueryThreshold().toMilliseconds(), TimeUnit.MILLISECONDS);
+        SlowQueryLog.setCaptureQueryPlan(database.isCaptureQueryPlan());
+        SlowQueryLog.setCapacity(database.getSlowQueryLogSize());
+        environment.admin().addTask(new SlowQueryTask());
+
+        // 給与明細アーカイブの書き出し・比較タスクを登録
+        Path archiveDirectory = Paths.get(configuration.getArchive().getDirectory());
+        environment.admin().addTask(new PayslipArchiveTask(archiveDirectory));
+        environment.admin().addTask(new PayrollDiffTask(archiveDirectory));
+
+        // 年間の実績給与の集計タスクを登録
+        environment.admin().addTask(new AnnualIncomeTask());
+
+        // 社員番号の区間毎の並列読み込みの計測タスクを登録
+        environment.admin().addTask(new PartitionedScanTask());
+
+        // 給与ルールを評価計画に変換し (不正なルールは起動時にエラー)、給与明細・試算の計算に使用する
+        PayrollPlan payrollPlan = PayrollPlan.compile(configuration.getPayrollRules());
+        PayrollPlans.use(payrollPlan);
+        environment.lifecycle().manage(onStop(() -> PayrollPlans.use(null)));
+        environment.admin().addTask(new PayrollRulesTask(payrollPlan));
+
         environment.jersey().register(new RecordNotFoundExceptionMapper());
 
-        environment.jersey().register(new EmployeeResource());
+        // DB アクセス用のスレッドプールを準備
+        AsyncConfiguration async = configuration.getAsync();
+        ExecutorService executor = environment.lifecycle().executorService("salary-db-%d")
+                                              .minThreads(async.getMaxThreads())
+                                              .maxThreads(async.getMaxThreads())
+                                              .workQueue(new ArrayBlockingQueue<>(async.getQueueSize()))
+                                              .build();
+
+        // 同じ社員の同時の取得を 1 回の読み込みに束ねる
+        EmployeeLookupConfiguration lookup = configuration.getEmployeeLookup();
+        CoalescingEmployeeRepository lookups = lookup.isCoalesce()
+                ? new CoalescingEmployeeRepository(new EmployeeRepositoryDao(),
+                        lookup.getResultTtl().getQuantity(), lookup.getResultTtl().getUnit(), lookup.getMaximumSize())
+                : null;
+        EmployeeRepository employeeRepository = (lookups != null) ? lookups : new EmployeeRepositoryDao();
+
+        // 存在しない社員番号の検索をクエリ前に打ち切るフィルタを準備
+        if (lookup.isNegativeFilter()) {
+            EmployeeKeyFilter.setFalsePositiveRate(lookup.getFalsePositiveRate());
+            EmployeeKeyFilter.setEnabled(true);
+            EmployeeKeyFilter.rebuild();
+            // アプリケーション外で登録された社員を取り込むため、一定間隔で読み込み直す
+            ScheduledExecutorService rebuilder = environment.lifecycle()
+                    .scheduledExecutorService("employee-key-filter-%d").build();
+            long interval = lookup.getNegativeFilterRebuildInterval().toMilliseconds();
+            rebuilder.scheduleWithFixedDelay(EmployeeKeyFilter::rebuildIfEnabled, interval, interval, TimeUnit.MILLISECONDS);
+            environment.lifecycle().manage(onStop(() -> {
+                EmployeeKeyFilter.setEnabled(false);
+                EmployeeKeyFilter.invalidate();
+            }));
+        }
+        environment.admin().addTask(new EmployeeKeyFilterTask());
+
+        // 締め済みの給与明細・試算用のスナップショットのキャッシュと、マスタ変更時の再計算を準備
+        PayrollResultCache payrollCache = new PayrollResultCache(configuration.getPayslipCache().getMaximumSize());
+        // 再計算はリクエスト用のスレッドプールを占有しないよう専用のスレッドで順に行う
+        ExecutorService recomputeExecutor = environment.lifecycle().executorService("payroll-recompute-%d")
+                                                       .minThreads(1)
+                                                       .maxThreads(1)
+                                                       .build();
+        PayrollRecomputeScheduler recomputeScheduler = new PayrollRecomputeScheduler(
+                new PayrollDependencyIndexLoader().load(), payrollCache, new EmployeeRepositoryDao(),
+                recomputeExecutor);
+        WorkforceSnapshotCache snapshots = new WorkforceSnapshotCache(new WorkforceSnapshotLoader());
+        environment.admin().addTask(new MasterChangeTask(recomputeScheduler, lookups, snapshots));
+
+        environment.jersey().register(new EmployeeResource(executor, async, lookup, employeeRepository));
+        environment.jersey().register(new PayslipResource(executor, async.getPayslip(),
+                configuration.getPayslipCache(), payrollCache));
+        environment.jersey().register(new SimulationResource(executor, async.getSimulation(), snapshots));
+    }
+
+    /**
+     * 停止時の処理のみを行う {@link Managed} を生成する。起動時の処理は登録前に済ませておくこと。
+     *
+     * @param action 停止時の処理
+     * @return 停止時に処理を行う {@link Managed}
+     */
+    private static Managed onStop(Runnable action) {
+        return new Managed() {
+            @Override
+            public void start() {
+                // 起動済み
+            }
+
+            @Override
+            public void stop() {
+                action.run();
+            }
+        };
     }
 }
@@ -0,0 +1,27 @@
+package salarycalculation.web.configuration;
+
+import org.hibernate.validator.constraints.NotEmpty;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 給与明細アーカイブの設定クラス。
+ *
+ * @author naotake
+ */
+public class ArchiveConfiguration {
+
+    /** アーカイブの出力先ディレクトリ */
+    @NotEmpty
+    private String directory = "./archive";
+
+    @JsonProperty
+    public String getDirectory() {
+        return directory;
+    }
+
+    @JsonProperty
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+}
@@ -0,0 +1,135 @@
+package salarycalculation.web.configuration;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.dropwizard.util.Duration;
+
+/**
+ * DB アクセスを Jetty のリクエストスレッドから切り離すための非同期実行設定クラス。
+ *
+ * @author naotake
+ */
+public class AsyncConfiguration {
+
+    /** DB アクセス用スレッドプールのスレッド数 */
+    @Min(1)
+    private int maxThreads = 8;
+
+    /** スレッドプールの待ち行列の上限 */
+    @Min(1)
+    private int queueSize = 64;
+
+    /** 従業員を 1 件取得するエンドポイントの設定 */
+    @Valid
+    @NotNull
+    private EndpointConfiguration get = new EndpointConfiguration(32, Duration.seconds(5));
+
+    /** 複数の従業員をまとめて取得するエンドポイントの設定 */
+    @Valid
+    @NotNull
+    private EndpointConfiguration batch = new EndpointConfiguration(4, Duration.seconds(10));
+
+    /** 従業員の一覧を取得するエンドポイントの設定 */
+    @Valid
+    @NotNull
+    private EndpointConfiguration list = new EndpointConfiguration(2, Duration.seconds(30));
+
+    /** 条件を指定して従業員を検索するエンドポイントの設定 */
+    @Valid
+    @NotNull
+    private EndpointConfiguration search = new EndpointConfiguration(8, Duration.seconds(10));
+
+    /** 給与明細を取得するエンドポイントの設定 */
+    @Valid
+    @NotNull
+    private EndpointConfiguration payslip = new EndpointConfiguration(16, Duration.seconds(5));
+
+    /** 給与テーブル変更を試算するエンドポイントの設定 */
+    @Valid
+    @NotNull
+    private EndpointConfiguration simulation = new EndpointConfiguration(2, Duration.seconds(30));
+
+    @JsonProperty
+    public int getMaxThreads() {
+        return maxThreads;
+    }
+
+    @JsonProperty
+    public void setMaxThreads(int maxThreads) {
+        this.maxThreads = maxThreads;
+    }
+
+    @JsonProperty
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    @JsonProperty
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    @JsonProperty
+    public EndpointConfiguration getGet() {
+        return get;
+    }
+
+    @JsonProperty
+    public void setGet(EndpointConfiguration get) {
+        this.get = get;
+    }
+
+    @JsonProperty
+    public EndpointConfiguration getBatch() {
+        return batch;
+    }
+
+    @JsonProperty
+    public void setBatch(EndpointConfiguration batch) {
+        this.batch = batch;
+    }
+
+    @JsonProperty
+    public EndpointConfiguration getList() {
+        return list;
+    }
+
+    @JsonProperty
+    public void setList(EndpointConfiguration list) {
+        this.list = list;
+    }
+
+    @JsonProperty
+    public EndpointConfiguration getSearch() {
+        return search;
+    }
+
+    @JsonProperty
+    public void setSearch(EndpointConfiguration search) {
+        this.search = search;
+    }
+
+    @JsonProperty
+    public EndpointConfiguration getPayslip() {
+        return payslip;
+    }
+
+    @JsonProperty
+    public void setPayslip(EndpointConfiguration payslip) {
+        this.payslip = payslip;
+    }
+
+    @JsonProperty
+    public EndpointConfiguration getSimulation() {
+        return simulation;
+    }
+
+    @JsonProperty
+    public void setSimulation(EndpointConfiguration simulation) {
+        this.simulation = simulation;
+    }
+}
@@ -0,0 +1,44 @@
+package salarycalculation.web.configuration;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.dropwizard.util.Duration;
+
+/**
+ * レスポンスキャッシュの設定クラス。
+ *
+ * @author naotake
+ */
+public class CacheConfiguration {
+
+    /** キャッシュする件数の上限 */
+    @Min(1)
+    private int maximumSize = 10000;
+
+    /** クライアントにキャッシュを許可する期間 */
+    @NotNull
+    private Duration maxAge = Duration.days(1);
+
+    @JsonProperty
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    @JsonProperty
+    public void setMaximumSize(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    @JsonProperty
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    @JsonProperty
+    public void setMaxAge(Duration maxAge) {
+        this.maxAge = maxAge;
+    }
+}
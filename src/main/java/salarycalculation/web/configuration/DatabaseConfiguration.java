@@ -0,0 +1,88 @@
+package salarycalculation.web.configuration;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.dropwizard.util.Duration;
+
+/**
+ * データベースアクセスに関する設定クラス。
+ *
+ * @author naotake
+ */
+public class DatabaseConfiguration {
+
+    /** 格納先 */
+    @Valid
+    @NotNull
+    private StorageConfiguration storage = new StorageConfiguration();
+
+    /** 稼動情報の参照先 */
+    @Valid
+    @NotNull
+    private WorkRepositoryConfiguration workRepository = new WorkRepositoryConfiguration();
+
+    /** スロークエリとみなす処理時間 */
+    @NotNull
+    private Duration slowQueryThreshold = Duration.milliseconds(200);
+
+    /** スロークエリの実行計画を取得するかどうか */
+    private boolean captureQueryPlan = false;
+
+    /** 保持するスロークエリの件数 */
+    @Min(1)
+    private int slowQueryLogSize = 100;
+
+    @JsonProperty
+    public StorageConfiguration getStorage() {
+        return storage;
+    }
+
+    @JsonProperty
+    public void setStorage(StorageConfiguration storage) {
+        this.storage = storage;
+    }
+
+    @JsonProperty
+    public WorkRepositoryConfiguration getWorkRepository() {
+        return workRepository;
+    }
+
+    @JsonProperty
+    public void setWorkRepository(WorkRepositoryConfiguration workRepository) {
+        this.workRepository = workRepository;
+    }
+
+    @JsonProperty
+    public Duration getSlowQueryThreshold() {
+        return slowQueryThreshold;
+    }
+
+    @JsonProperty
+    public void setSlowQueryThreshold(Duration slowQueryThreshold) {
+        this.slowQueryThreshold = slowQueryThreshold;
+    }
+
+    @JsonProperty
+    public boolean isCaptureQueryPlan() {
+        return captureQueryPlan;
+    }
+
+    @JsonProperty
+    public void setCaptureQueryPlan(boolean captureQueryPlan) {
+        this.captureQueryPlan = captureQueryPlan;
+    }
+
+    @JsonProperty
+    public int getSlowQueryLogSize() {
+        return slowQueryLogSize;
+    }
+
+    @JsonProperty
+    public void setSlowQueryLogSize(int slowQueryLogSize) {
+        this.slowQueryLogSize = slowQueryLogSize;
+    }
+}
@@ -0,0 +1,132 @@
+package salarycalculation.web.configuration;
+
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.dropwizard.util.Duration;
+
+/**
+ * 社員番号を指定した社員の取得に関する設定クラス。
+ *
+ * @author naotake
+ */
+public class EmployeeLookupConfiguration {
+
+    /** 同じ社員の同時の取得を 1 回の読み込みに束ねるかどうか */
+    private boolean coalesce = true;
+
+    /** 読み込んだ結果を保持する期間 (0 の場合は同時の取得のみを束ねる) */
+    @NotNull
+    private Duration resultTtl = Duration.seconds(2);
+
+    /** 結果を保持する件数の上限 */
+    @Min(1)
+    private int maximumSize = 10000;
+
+    /**
+     * 存在しない社員番号をブルームフィルタでクエリ前に判定するかどうか。<br />
+     * フィルタを読み込み直すまでは、その後に登録された社員も存在しないと判定するため既定は無効とする。
+     */
+    private boolean negativeFilter = false;
+
+    /** ブルームフィルタを読み込み直す間隔 */
+    @NotNull
+    private Duration negativeFilterRebuildInterval = Duration.minutes(5);
+
+    /** ブルームフィルタの偽陽性の確率 */
+    @DecimalMin(value = "0.0", inclusive = false)
+    @DecimalMax(value = "1.0", inclusive = false)
+    private double falsePositiveRate = 0.01;
+
+    /** まとめて取得できる社員数の上限 */
+    @Min(1)
+    private int maxBatchSize = 500;
+
+    /** 検索で 1 ページに取得できる社員数の上限 */
+    @Min(1)
+    private int maxPageSize = 500;
+
+    @JsonProperty
+    public boolean isCoalesce() {
+        return coalesce;
+    }
+
+    @JsonProperty
+    public void setCoalesce(boolean coalesce) {
+        this.coalesce = coalesce;
+    }
+
+    @JsonProperty
+    public Duration getResultTtl() {
+        return resultTtl;
+    }
+
+    @JsonProperty
+    public void setResultTtl(Duration resultTtl) {
+        this.resultTtl = resultTtl;
+    }
+
+    @JsonProperty
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    @JsonProperty
+    public void setMaximumSize(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    @JsonProperty
+    public boolean isNegativeFilter() {
+        return negativeFilter;
+    }
+
+    @JsonProperty
+    public void setNegativeFilter(boolean negativeFilter) {
+        this.negativeFilter = negativeFilter;
+    }
+
+    @JsonProperty
+    public Duration getNegativeFilterRebuildInterval() {
+        return negativeFilterRebuildInterval;
+    }
+
+    @JsonProperty
+    public void setNegativeFilterRebuildInterval(Duration negativeFilterRebuildInterval) {
+        this.negativeFilterRebuildInterval = negativeFilterRebuildInterval;
+    }
+
+    @JsonProperty
+    public double getFalsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    @JsonProperty
+    public void setFalsePositiveRate(double falsePositiveRate) {
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    @JsonProperty
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    @JsonProperty
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @JsonProperty
+    public int getMaxPageSize() {
+        return maxPageSize;
+    }
+
+    @JsonProperty
+    public void setMaxPageSize(int maxPageSize) {
+        this.maxPageSize = maxPageSize;
+    }
+}
@@ -0,0 +1,53 @@
+package salarycalculation.web.configuration;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.dropwizard.util.Duration;
+
+/**
+ * エンドポイント単位の非同期実行設定クラス。
+ *
+ * @author naotake
+ */
+public class EndpointConfiguration {
+
+    /** 同時に処理できるリクエスト数の上限 */
+    @Min(1)
+    private int maxConcurrency;
+
+    /** レスポンスを返すまでのタイムアウト */
+    @NotNull
+    private Duration timeout;
+
+    public EndpointConfiguration() {
+        this(16, Duration.seconds(5));
+    }
+
+    public EndpointConfiguration(int maxConcurrency, Duration timeout) {
+        this.maxConcurrency = maxConcurrency;
+        this.timeout = timeout;
+    }
+
+    @JsonProperty
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    @JsonProperty
+    public void setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    @JsonProperty
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    @JsonProperty
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+}
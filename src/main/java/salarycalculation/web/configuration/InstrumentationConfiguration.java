@@ -0,0 +1,24 @@
+package salarycalculation.web.configuration;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * クエリや計算処理の計測に関する設定クラス。
+ *
+ * @author naotake
+ */
+public class InstrumentationConfiguration {
+
+    /** 計測を行うかどうか (ベンチマーク時は false にする) */
+    private boolean enabled = true;
+
+    @JsonProperty
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @JsonProperty
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+}
@@ -1,6 +1,12 @@
 package salarycalculation.web.configuration;
 
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import io.dropwizard.Configuration;
+import salarycalculation.domain.rule.PayrollRules;
 
 /**
  * アプリ全体の共通設定クラス。
@@ -8,5 +14,108 @@ import io.dropwizard.Configuration;
  * @author naotake
  */
 public class SalaryCalculationConfiguration extends Configuration {
-    // nothing to do yet
+
+    /** 非同期実行の設定 */
+    @Valid
+    @NotNull
+    private AsyncConfiguration async = new AsyncConfiguration();
+
+    /** 社員の取得の設定 */
+    @Valid
+    @NotNull
+    private EmployeeLookupConfiguration employeeLookup = new EmployeeLookupConfiguration();
+
+    /** 給与明細のキャッシュ設定 */
+    @Valid
+    @NotNull
+    private CacheConfiguration payslipCache = new CacheConfiguration();
+
+    /** 計測の設定 */
+    @Valid
+    @NotNull
+    private InstrumentationConfiguration instrumentation = new InstrumentationConfiguration();
+
+    /** データベースアクセスの設定 */
+    @Valid
+    @NotNull
+    private DatabaseConfiguration database = new DatabaseConfiguration();
+
+    /** 給与明細アーカイブの設定 */
+    @Valid
+    @NotNull
+    private ArchiveConfiguration archive = new ArchiveConfiguration();
+
+    /** 給与ルール (省略した項目は現行の給与規程) */
+    @NotNull
+    private PayrollRules payrollRules = PayrollRules.defaults();
+
+    @JsonProperty
+    public AsyncConfiguration getAsync() {
+        return async;
+    }
+
+    @JsonProperty
+    public void setAsync(AsyncConfiguration async) {
+        this.async = async;
+    }
+
+    @JsonProperty
+    public EmployeeLookupConfiguration getEmployeeLookup() {
+        return employeeLookup;
+    }
+
+    @JsonProperty
+    public void setEmployeeLookup(EmployeeLookupConfiguration employeeLookup) {
+        this.employeeLookup = employeeLookup;
+    }
+
+    @JsonProperty
+    public CacheConfiguration getPayslipCache() {
+        return payslipCache;
+    }
+
+    @JsonProperty
+    public void setPayslipCache(CacheConfiguration payslipCache) {
+        this.payslipCache = payslipCache;
+    }
+
+    @JsonProperty
+    public InstrumentationConfiguration getInstrumentation() {
+        return instrumentation;
+    }
+
+    @JsonProperty
+    public void setInstrumentation(InstrumentationConfiguration instrumentation) {
+        this.instrumentation = instrumentation;
+    }
+
+    @JsonProperty
+    public DatabaseConfiguration getDatabase() {
+        return database;
+    }
+
+    @JsonProperty
+    public void setDatabase(DatabaseConfiguration database) {
+        this.database = database;
+    }
+
+    @JsonProperty
+    public ArchiveConfiguration getArchive() {
+        return archive;
+    }
+
+    @JsonProperty
+    public void setArchive(ArchiveConfiguration archive) {
+        this.archive = archive;
+    }
+
+    @JsonProperty
+    public PayrollRules getPayrollRules() {
+        return payrollRules;
+    }
+
+    @JsonProperty
+    public void setPayrollRules(PayrollRules payrollRules) {
+        this.payrollRules = payrollRules;
+    }
 }
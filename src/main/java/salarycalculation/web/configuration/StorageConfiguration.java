@@ -0,0 +1,177 @@
+package salarycalculation.web.configuration;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import org.hibernate.validator.constraints.NotEmpty;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import salarycalculation.database.Storage;
+import salarycalculation.database.StorageMode;
+
+/**
+ * データベースの格納先に関する設定クラス。
+ *
+ * @author naotake
+ */
+public class StorageConfiguration {
+
+    /** 格納先の種類 */
+    @NotNull
+    private StorageMode mode = StorageMode.FILE;
+
+    /** ファイルデータベースのパス (file、server の場合に使用) */
+    @NotEmpty
+    private String path = "./data/salary_calculation";
+
+    /** メモリ上のデータベースの名前 (memory の場合に使用) */
+    @NotEmpty
+    private String name = "salary_calculation";
+
+    /** 起動時に読み込むファイルデータベースのパス (memory の場合に使用。省略時は空のデータベース) */
+    private String snapshot = "./data/salary_calculation";
+
+    /** TCP サーバのホスト名 (server の場合に使用) */
+    @NotEmpty
+    private String host = "localhost";
+
+    /** TCP サーバのポート番号 (server の場合に使用) */
+    @Min(1)
+    @Max(65535)
+    private int port = 9092;
+
+    /** このプロセスで TCP サーバを起動するかどうか (server の場合に使用) */
+    private boolean startServer = false;
+
+    /** TCP サーバへの他のホストからの接続を許可するかどうか */
+    private boolean allowOthers = false;
+
+    @NotNull
+    private String user = "sa";
+
+    @NotNull
+    private String password = "";
+
+    /**
+     * 設定を基に格納先を組み立てる。
+     *
+     * @return 格納先
+     */
+    public Storage build() {
+        Storage storage;
+        switch (mode) {
+        case MEMORY:
+            storage = Storage.memory(name);
+            break;
+        case SERVER:
+            storage = Storage.server(host, port, path);
+            break;
+        default:
+            storage = Storage.file(path);
+            break;
+        }
+        return storage.withUser(user, password);
+    }
+
+    @JsonProperty
+    public StorageMode getMode() {
+        return mode;
+    }
+
+    @JsonProperty
+    public void setMode(StorageMode mode) {
+        this.mode = mode;
+    }
+
+    @JsonProperty
+    public String getPath() {
+        return path;
+    }
+
+    @JsonProperty
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    @JsonProperty
+    public String getName() {
+        return name;
+    }
+
+    @JsonProperty
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    @JsonProperty
+    public String getSnapshot() {
+        return snapshot;
+    }
+
+    @JsonProperty
+    public void setSnapshot(String snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    @JsonProperty
+    public String getHost() {
+        return host;
+    }
+
+    @JsonProperty
+    public void setHost(String host) {
+        this.host = host;
+    }
+
+    @JsonProperty
+    public int getPort() {
+        return port;
+    }
+
+    @JsonProperty
+    public void setPort(int port) {
+        this.port = port;
+    }
+
+    @JsonProperty
+    public boolean isStartServer() {
+        return startServer;
+    }
+
+    @JsonProperty
+    public void setStartServer(boolean startServer) {
+        this.startServer = startServer;
+    }
+
+    @JsonProperty
+    public boolean isAllowOthers() {
+        return allowOthers;
+    }
+
+    @JsonProperty
+    public void setAllowOthers(boolean allowOthers) {
+        this.allowOthers = allowOthers;
+    }
+
+    @JsonProperty
+    public String getUser() {
+        return user;
+    }
+
+    @JsonProperty
+    public void setUser(String user) {
+        this.user = user;
+    }
+
+    @JsonProperty
+    public String getPassword() {
+        return password;
+    }
+
+    @JsonProperty
+    public void setPassword(String password) {
+        this.password = password;
+    }
+}
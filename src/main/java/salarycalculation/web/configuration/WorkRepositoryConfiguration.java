@@ -0,0 +1,65 @@
+package salarycalculation.web.configuration;
+
+import javax.validation.constraints.NotNull;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 稼動情報の参照先に関する設定クラス。
+ *
+ * @author naotake
+ */
+public class WorkRepositoryConfiguration {
+
+    /**
+     * 稼動情報の参照先の種類。
+     */
+    public enum Type {
+
+        /** {@code work} テーブル */
+        SQL,
+
+        /** MVStore のキー・バリューストア */
+        MVSTORE;
+    }
+
+    /** 参照先の種類 */
+    @NotNull
+    private Type type = Type.SQL;
+
+    /** ストアのファイル名 (mvstore の場合に使用。空の場合はメモリ上のストア) */
+    private String file = "./data/work.mvstore";
+
+    /** 起動時に {@code work} テーブルの内容でストアを置き換えるかどうか (ストアが空の場合は常に読み込む) */
+    private boolean reloadOnStartup = true;
+
+    @JsonProperty
+    public Type getType() {
+        return type;
+    }
+
+    @JsonProperty
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    @JsonProperty
+    public String getFile() {
+        return file;
+    }
+
+    @JsonProperty
+    public void setFile(String file) {
+        this.file = file;
+    }
+
+    @JsonProperty
+    public boolean isReloadOnStartup() {
+        return reloadOnStartup;
+    }
+
+    @JsonProperty
+    public void setReloadOnStartup(boolean reloadOnStartup) {
+        this.reloadOnStartup = reloadOnStartup;
+    }
+}
@@ -0,0 +1,51 @@
+package salarycalculation.web.representation;
+
+import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 複数の従業員の取得結果のうち、指定した社員番号 1 件分の結果を表示するためのビュークラス。<br />
+ * 該当する従業員が存在しない場合は {@code found} を false とし、{@code employee} は出力しない。
+ *
+ * @author naotake
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EmployeeBatchEntryView {
+
+    private final String no;
+    private final boolean found;
+    private final EmployeeView employee;
+
+    private EmployeeBatchEntryView(String no, EmployeeView employee) {
+        this.no = no;
+        this.found = (employee != null);
+        this.employee = employee;
+    }
+
+    public static EmployeeBatchEntryView found(String no, EmployeeView employee) {
+        return new EmployeeBatchEntryView(no, employee);
+    }
+
+    public static EmployeeBatchEntryView notFound(String no) {
+        return new EmployeeBatchEntryView(no, null);
+    }
+
+    public String getNo() {
+        return no;
+    }
+
+    public boolean isFound() {
+        return found;
+    }
+
+    public EmployeeView getEmployee() {
+        return employee;
+    }
+
+    @Override
+    public String toString() {
+        return ReflectionToStringBuilder.toString(this, ToStringStyle.SHORT_PREFIX_STYLE);
+    }
+}
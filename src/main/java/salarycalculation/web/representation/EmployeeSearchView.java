@@ -0,0 +1,42 @@
+package salarycalculation.web.representation;
+
+import java.util.List;
+
+import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * 従業員の検索結果の 1 ページを表示するためのビュークラス。<br />
+ * 次のページがある可能性がある場合は、次のページを取得するカーソルを {@code next} に出力する。
+ *
+ * @author naotake
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({ "employees", "next" })
+public class EmployeeSearchView {
+
+    private final List<EmployeeSummaryView> employees;
+
+    private final String next;
+
+    public EmployeeSearchView(List<EmployeeSummaryView> employees, String next) {
+        this.employees = employees;
+        this.next = next;
+    }
+
+    public List<EmployeeSummaryView> getEmployees() {
+        return employees;
+    }
+
+    public String getNext() {
+        return next;
+    }
+
+    @Override
+    public String toString() {
+        return ReflectionToStringBuilder.toString(this, ToStringStyle.SHORT_PREFIX_STYLE);
+    }
+}
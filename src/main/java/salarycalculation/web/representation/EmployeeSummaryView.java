@@ -0,0 +1,73 @@
+package salarycalculation.web.representation;
+
+import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import salarycalculation.database.model.EmployeeRecord;
+
+/**
+ * 従業員の検索結果の 1 件を表示するためのビュークラス。<br />
+ * 一覧表示用に、組織・等級はコードのみを出力する。
+ *
+ * @author naotake
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({ "no", "person_name", "organization", "role", "capability", "join_date" })
+public class EmployeeSummaryView {
+
+    private final int no;
+
+    @JsonProperty("person_name")
+    private final String name;
+
+    private final String organization;
+
+    private final String role;
+
+    private final String capability;
+
+    @JsonProperty("join_date")
+    private final String joinDate;
+
+    public EmployeeSummaryView(EmployeeRecord record) {
+        this.no = record.getNo();
+        this.name = record.getName();
+        this.organization = record.getOrganization();
+        this.role = record.getRoleRank();
+        this.capability = record.getCapabilityRank();
+        this.joinDate = (record.getJoinDate() == null) ? null : record.getJoinDate().toString();
+    }
+
+    public int getNo() {
+        return no;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getOrganization() {
+        return organization;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public String getCapability() {
+        return capability;
+    }
+
+    public String getJoinDate() {
+        return joinDate;
+    }
+
+    @Override
+    public String toString() {
+        return ReflectionToStringBuilder.toString(this, ToStringStyle.SHORT_PREFIX_STYLE);
+    }
+}
@@ -1,17 +1,31 @@
 package salarycalculation.web.representation;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 
+import salarycalculation.domain.employee.Employee;
+import salarycalculation.domain.employee.EmployeeProjection;
+import salarycalculation.domain.employee.EmployeeProjection.Field;
+import salarycalculation.domain.payroll.Payslip;
 import salarycalculation.utils.PersonName;
 
 /**
- * 従業員の情報を表示するためのビュークラス。
+ * 従業員の情報を表示するためのビュークラス。<br />
+ * 組織・等級・給与明細は射影に含まれる場合のみ出力する。
  *
  * @author naotake
  */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({ "no", "person_name", "organization", "role", "capability", "payslips" })
 public class EmployeeView {
 
     private final Integer no;
@@ -19,9 +33,52 @@ public class EmployeeView {
     @JsonProperty("person_name")
     private final String name;
 
+    private Map<String, Object> organization;
+
+    private Map<String, Object> role;
+
+    private Map<String, Object> capability;
+
+    private List<PayslipView> payslips;
+
     public EmployeeView(Integer no, PersonName name) {
         this.no = no;
-        this.name = name.getFullName();
+        this.name = (name == null) ? null : name.getFullName();
+    }
+
+    /**
+     * 射影に含まれる項目を表示するビューを生成する。
+     *
+     * @param employee 従業員
+     * @param projection 射影
+     * @return ビュー
+     */
+    public static EmployeeView of(Employee employee, EmployeeProjection projection) {
+        EmployeeView view = new EmployeeView(employee.getId(),
+                projection.includes(Field.NAME) ? employee.getName() : null);
+
+        if (projection.includes(Field.ORGANIZATION)) {
+            view.organization = new LinkedHashMap<>();
+            view.organization.put("code", employee.getOrganization().getId());
+            view.organization.put("name", employee.getOrganization().getName());
+        }
+        if (projection.includes(Field.ROLE)) {
+            view.role = new LinkedHashMap<>();
+            view.role.put("rank", employee.getRole().getRank());
+            view.role.put("amount", employee.getRole().getAmount().value().longValue());
+        }
+        if (projection.includes(Field.CAPABILITY)) {
+            view.capability = new LinkedHashMap<>();
+            view.capability.put("rank", employee.getCapability().getRank().name());
+            view.capability.put("amount", employee.getCapability().getAmount().value().longValue());
+        }
+        if (projection.includes(Field.PAYSLIP)) {
+            view.payslips = new ArrayList<>();
+            for (int workYearMonth : projection.getPayslipMonths()) {
+                view.payslips.add(new PayslipView(Payslip.of(employee, workYearMonth)));
+            }
+        }
+        return view;
     }
 
     public Integer getNo() {
@@ -32,6 +89,22 @@ public class EmployeeView {
         return name;
     }
 
+    public Map<String, Object> getOrganization() {
+        return organization;
+    }
+
+    public Map<String, Object> getRole() {
+        return role;
+    }
+
+    public Map<String, Object> getCapability() {
+        return capability;
+    }
+
+    public List<PayslipView> getPayslips() {
+        return payslips;
+    }
+
     @Override
     public String toString() {
         return ReflectionToStringBuilder.toString(this, ToStringStyle.SHORT_PREFIX_STYLE);
@@ -0,0 +1,146 @@
+package salarycalculation.web.representation;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.ws.rs.core.EntityTag;
+
+import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import salarycalculation.domain.payroll.Payslip;
+import salarycalculation.utils.Money;
+
+/**
+ * 給与明細を表示するためのビュークラス。
+ *
+ * @author naotake
+ */
+@JsonPropertyOrder({ "no", "work_year_month", "basic_salary", "allowance", "overtime", "total_salary", "deduction",
+        "take_home" })
+public class PayslipView {
+
+    private final int no;
+
+    @JsonProperty("work_year_month")
+    private final int workYearMonth;
+
+    @JsonProperty("basic_salary")
+    private final long basicSalary;
+
+    private final Map<String, Long> allowance;
+
+    private final long overtime;
+
+    private final Map<String, Long> deduction;
+
+    @JsonProperty("total_salary")
+    private final long totalSalary;
+
+    @JsonProperty("take_home")
+    private final long takeHome;
+
+    @JsonIgnore
+    private final EntityTag entityTag;
+
+    public PayslipView(Payslip payslip) {
+        this.no = payslip.getEmployeeNo();
+        this.workYearMonth = payslip.getWorkYearMonth();
+        this.basicSalary = toLong(payslip.getBasicSalary());
+
+        this.allowance = new LinkedHashMap<>();
+        allowance.put("commute", toLong(payslip.getCommuteAmount()));
+        allowance.put("rent", toLong(payslip.getRentAmount()));
+        allowance.put("separated", toLong(payslip.getSeparatedAllowance()));
+        allowance.put("long_service", toLong(payslip.getLongServiceAllowance()));
+        allowance.put("total", toLong(payslip.getAllowance()));
+
+        this.overtime = toLong(payslip.getOvertimeAmount());
+
+        this.deduction = new LinkedHashMap<>();
+        deduction.put("health_insurance", toLong(payslip.getHealthInsuranceAmount()));
+        deduction.put("employee_pension", toLong(payslip.getEmployeePensionAmount()));
+        deduction.put("income_tax", toLong(payslip.getIncomeTaxAmount()));
+        deduction.put("inhabitant_tax", toLong(payslip.getInhabitantTaxAmount()));
+        deduction.put("total", toLong(payslip.getDeduction()));
+
+        this.totalSalary = toLong(payslip.getTotalSalary());
+        this.takeHome = toLong(payslip.getTakeHomeAmount());
+
+        // 明細の内容が同じであれば同じタグになるようにする。
+        // 内容が異なるのに同じタグとなり 304 を返さないよう、32 ビットのハッシュではなくダイジェストを使う
+        this.entityTag = new EntityTag(digest());
+    }
+
+    private String digest() {
+        Hasher hasher = Hashing.sha256().newHasher()
+                .putInt(no)
+                .putInt(workYearMonth)
+                .putLong(basicSalary)
+                .putLong(overtime)
+                .putLong(totalSalary)
+                .putLong(takeHome);
+        putAll(hasher, allowance);
+        putAll(hasher, deduction);
+        return hasher.hash().toString();
+    }
+
+    private static void putAll(Hasher hasher, Map<String, Long> amounts) {
+        hasher.putInt(amounts.size());
+        amounts.forEach((name, amount) -> hasher.putInt(name.length()).putString(name, StandardCharsets.UTF_8)
+                .putLong(amount));
+    }
+
+    private static long toLong(Money money) {
+        return money.value().longValue();
+    }
+
+    public int getNo() {
+        return no;
+    }
+
+    public int getWorkYearMonth() {
+        return workYearMonth;
+    }
+
+    public long getBasicSalary() {
+        return basicSalary;
+    }
+
+    public Map<String, Long> getAllowance() {
+        return allowance;
+    }
+
+    public long getOvertime() {
+        return overtime;
+    }
+
+    public Map<String, Long> getDeduction() {
+        return deduction;
+    }
+
+    public long getTotalSalary() {
+        return totalSalary;
+    }
+
+    public long getTakeHome() {
+        return takeHome;
+    }
+
+    @JsonIgnore
+    public EntityTag getEntityTag() {
+        return entityTag;
+    }
+
+    @Override
+    public String toString() {
+        return ReflectionToStringBuilder.toString(this, ToStringStyle.SHORT_PREFIX_STYLE);
+    }
+}
@@ -0,0 +1,77 @@
+package salarycalculation.web.representation;
+
+import java.util.Collections;
+import java.util.Map;
+
+import javax.validation.constraints.NotNull;
+
+import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 給与テーブル変更の試算条件を受け取るためのクラス。
+ *
+ * <pre>
+ * {
+ *   "work_year_month": 201504,
+ *   "roles": { "C3": 210000 },
+ *   "capabilities": { "SE": 160000 },
+ *   "separated_allowances": { "PM": 35000 },
+ *   "long_service_allowances": { "THREE": 5000 }
+ * }
+ * </pre>
+ *
+ * @author naotake
+ */
+public class SimulationRequest {
+
+    @NotNull
+    @JsonProperty("work_year_month")
+    private Integer workYearMonth;
+
+    @JsonProperty
+    private Map<String, Long> roles = Collections.emptyMap();
+
+    @JsonProperty
+    private Map<String, Long> capabilities = Collections.emptyMap();
+
+    @JsonProperty("separated_allowances")
+    private Map<String, Long> separatedAllowances = Collections.emptyMap();
+
+    @JsonProperty("long_service_allowances")
+    private Map<String, Long> longServiceAllowances = Collections.emptyMap();
+
+    public Integer getWorkYearMonth() {
+        return workYearMonth;
+    }
+
+    public Map<String, Long> getRoles() {
+        return nullToEmpty(roles);
+    }
+
+    public Map<String, Long> getCapabilities() {
+        return nullToEmpty(capabilities);
+    }
+
+    public Map<String, Long> getSeparatedAllowances() {
+        return nullToEmpty(separatedAllowances);
+    }
+
+    public Map<String, Long> getLongServiceAllowances() {
+        return nullToEmpty(longServiceAllowances);
+    }
+
+    /**
+     * 項目に null を指定した場合は、指定しない場合と同じく変更なしとする。
+     */
+    private static Map<String, Long> nullToEmpty(Map<String, Long> amounts) {
+        return (amounts == null) ? Collections.emptyMap() : amounts;
+    }
+
+    @Override
+    public String toString() {
+        return ReflectionToStringBuilder.toString(this, ToStringStyle.SHORT_PREFIX_STYLE);
+    }
+}
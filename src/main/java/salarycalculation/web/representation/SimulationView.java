@@ -0,0 +1,102 @@
+package salarycalculation.web.representation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import salarycalculation.domain.analytics.SimulationResult;
+
+/**
+ * 給与テーブル変更の試算結果を表示するためのビュークラス。
+ *
+ * @author naotake
+ */
+@JsonPropertyOrder({ "work_year_month", "total", "organizations" })
+public class SimulationView {
+
+    @JsonProperty("work_year_month")
+    private final int workYearMonth;
+
+    private final ImpactView total;
+
+    private final Map<String, ImpactView> organizations;
+
+    public SimulationView(SimulationResult result) {
+        this.workYearMonth = result.getWorkYearMonth();
+        this.total = new ImpactView(result.getTotal());
+        this.organizations = new LinkedHashMap<>();
+        result.getOrganizations().forEach((code, impact) -> organizations.put(code, new ImpactView(impact)));
+    }
+
+    public int getWorkYearMonth() {
+        return workYearMonth;
+    }
+
+    public ImpactView getTotal() {
+        return total;
+    }
+
+    public Map<String, ImpactView> getOrganizations() {
+        return organizations;
+    }
+
+    @Override
+    public String toString() {
+        return ReflectionToStringBuilder.toString(this, ToStringStyle.SHORT_PREFIX_STYLE);
+    }
+
+    /**
+     * 影響額を表示するためのビュークラス。
+     *
+     * @author naotake
+     */
+    @JsonPropertyOrder({ "employees", "monthly_total", "annual_plan" })
+    public static class ImpactView {
+
+        private final long employees;
+
+        @JsonProperty("monthly_total")
+        private final Map<String, Long> monthlyTotal;
+
+        @JsonProperty("annual_plan")
+        private final Map<String, Long> annualPlan;
+
+        ImpactView(SimulationResult.Impact impact) {
+            this.employees = impact.getEmployees();
+            this.monthlyTotal = amounts(impact.getCurrentMonthlyTotal(), impact.getSimulatedMonthlyTotal(),
+                    impact.getMonthlyDelta());
+            this.annualPlan = amounts(impact.getCurrentAnnualPlan(), impact.getSimulatedAnnualPlan(),
+                    impact.getAnnualDelta());
+        }
+
+        private static Map<String, Long> amounts(long current, long simulated, long delta) {
+            Map<String, Long> amounts = new LinkedHashMap<>();
+            amounts.put("current", current);
+            amounts.put("simulated", simulated);
+            amounts.put("delta", delta);
+            return amounts;
+        }
+
+        public long getEmployees() {
+            return employees;
+        }
+
+        public Map<String, Long> getMonthlyTotal() {
+            return monthlyTotal;
+        }
+
+        public Map<String, Long> getAnnualPlan() {
+            return annualPlan;
+        }
+
+        @Override
+        public String toString() {
+            return ReflectionToStringBuilder.toString(this, ToStringStyle.SHORT_PREFIX_STYLE);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package salarycalculation.web.resources;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status;
+
+import com.codahale.metrics.Timer;
+
+import io.dropwizard.util.Duration;
+import salarycalculation.utils.Instrumentation;
+import salarycalculation.web.configuration.EndpointConfiguration;
+
+/**
+ * リクエストの処理を DB アクセス用のスレッドプールへ委譲するためのヘルパー。<br />
+ * エンドポイント毎に同時実行数とタイムアウトを制御し、上限を超えた場合は 503 を返す。
+ * リソースメソッドの {@code @Timed} は処理の委譲までしか計測しないため、
+ * スレッドプールでの待ち時間 ({@code <名前>.queued}) と処理時間 ({@code <名前>.task}) はここで記録する。
+ *
+ * @author naotake
+ */
+public class AsyncEndpoint {
+
+    private final Executor executor;
+    private final Semaphore permits;
+    private final Duration timeout;
+    private final String queuedMetricName;
+    private final String taskMetricName;
+
+    /**
+     * @param executor 処理を実行するスレッドプール
+     * @param configuration エンドポイントの設定
+     * @param metricName メトリクス名 (e.g. {@code Instrumentation.name(EmployeeResource.class, "get")})
+     */
+    public AsyncEndpoint(Executor executor, EndpointConfiguration configuration, String metricName) {
+        this.executor = executor;
+        this.queuedMetricName = metricName + ".queued";
+        this.taskMetricName = metricName + ".task";
+        this.permits = new Semaphore(configuration.getMaxConcurrency());
+        this.timeout = configuration.getTimeout();
+    }
+
+    /**
+     * 処理を非同期に実行し、その結果でレスポンスを再開する。<br />
+     * 処理中に発生した例外は JAX-RS の例外マッパーに引き渡される。
+     *
+     * @param response 中断中のレスポンス
+     * @param task 実行する処理
+     */
+    public void submit(AsyncResponse response, Supplier<?> task) {
+        if (!permits.tryAcquire()) {
+            response.resume(unavailable());
+            return;
+        }
+
+        response.setTimeoutHandler(r -> r.resume(unavailable()));
+        response.setTimeout(timeout.getQuantity(), timeout.getUnit());
+
+        Timer.Context queued = Instrumentation.start(queuedMetricName);
+        try {
+            executor.execute(() -> {
+                Instrumentation.stop(queued);
+                Timer.Context running = Instrumentation.start(taskMetricName);
+                try {
+                    response.resume(task.get());
+                } catch (RuntimeException e) {
+                    response.resume(e);
+                } finally {
+                    Instrumentation.stop(running);
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            response.resume(unavailable());
+        }
+    }
+
+    /**
+     * 現在受け付け可能なリクエスト数を取得する。
+     *
+     * @return 受け付け可能なリクエスト数
+     */
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private static Response unavailable() {
+        return Response.status(Status.SERVICE_UNAVAILABLE).build();
+    }
+}
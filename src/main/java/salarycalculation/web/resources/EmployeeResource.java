@@ -1,25 +1,49 @@
 package salarycalculation.web.resources;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.validation.constraints.NotNull;
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
 
 import com.codahale.metrics.annotation.Timed;
 
+import salarycalculation.database.EmployeeDao;
+import salarycalculation.database.EmployeeSearchCriteria;
+import salarycalculation.database.model.EmployeeRecord;
 import salarycalculation.database.repository.EmployeeRepositoryDao;
 import salarycalculation.domain.employee.Employee;
+import salarycalculation.domain.employee.EmployeeProjection;
 import salarycalculation.domain.employee.EmployeeRepository;
 import salarycalculation.domain.employee.Employees;
+import salarycalculation.utils.Instrumentation;
+import salarycalculation.utils.PersonName;
+import salarycalculation.web.configuration.AsyncConfiguration;
+import salarycalculation.web.configuration.EmployeeLookupConfiguration;
+import salarycalculation.web.representation.EmployeeBatchEntryView;
+import salarycalculation.web.representation.EmployeeSearchView;
+import salarycalculation.web.representation.EmployeeSummaryView;
 import salarycalculation.web.representation.EmployeeView;
 
 /**
- * 従業員に関するリクエストを受け付けるクラス。
+ * 従業員に関するリクエストを受け付けるクラス。<br />
+ * DB アクセスは Jetty のリクエストスレッドではなく専用のスレッドプールで行う。
  *
  * @author naotake
  */
@@ -27,25 +51,215 @@ import salarycalculation.web.representation.EmployeeView;
 @Produces(MediaType.APPLICATION_JSON + "; charset=utf-8")
 public class EmployeeResource {
 
+    /** 社員名のみの射影 */
+    private static final EmployeeProjection NAME_ONLY = EmployeeProjection.of(EmployeeProjection.Field.NAME);
+
     private EmployeeRepository repository;
+    private EmployeeDao searchDao;
+
+    private final AsyncEndpoint getEndpoint;
+    private final AsyncEndpoint batchEndpoint;
+    private final AsyncEndpoint listEndpoint;
+    private final AsyncEndpoint searchEndpoint;
+    private final int maxBatchSize;
+    private final int maxPageSize;
+
+    public EmployeeResource(Executor executor, AsyncConfiguration configuration) {
+        this(executor, configuration, new EmployeeLookupConfiguration(), new EmployeeRepositoryDao());
+    }
 
-    public EmployeeResource() {
-        repository = new EmployeeRepositoryDao();
+    public EmployeeResource(Executor executor, AsyncConfiguration configuration,
+            EmployeeLookupConfiguration lookupConfiguration, EmployeeRepository repository) {
+        this.repository = repository;
+        this.searchDao = new EmployeeDao();
+        this.getEndpoint = new AsyncEndpoint(executor, configuration.getGet(),
+                Instrumentation.name(EmployeeResource.class, "get"));
+        this.batchEndpoint = new AsyncEndpoint(executor, configuration.getBatch(),
+                Instrumentation.name(EmployeeResource.class, "batch"));
+        this.listEndpoint = new AsyncEndpoint(executor, configuration.getList(),
+                Instrumentation.name(EmployeeResource.class, "list"));
+        this.searchEndpoint = new AsyncEndpoint(executor, configuration.getSearch(),
+                Instrumentation.name(EmployeeResource.class, "search"));
+        this.maxBatchSize = lookupConfiguration.getMaxBatchSize();
+        this.maxPageSize = lookupConfiguration.getMaxPageSize();
     }
 
+    /**
+     * 従業員を取得する。<br />
+     * 出力する項目は {@code fields} にカンマ区切りで指定する (e.g. {@code ?fields=name,organization,payslip(201504)})。
+     * 指定した項目に必要な情報のみを読み込む。省略した場合は社員名のみを出力する。
+     */
     @GET
     @Timed
-    public EmployeeView get(@NotNull @QueryParam("no") String employeeNo) {
-        Employee employee = repository.get(employeeNo);
-        return new EmployeeView(employee.getId(), employee.getName());
+    public void get(@NotNull @QueryParam("no") String employeeNo, @QueryParam("fields") String fields,
+            @Suspended AsyncResponse response) {
+        EmployeeProjection projection = parseFields(fields);
+
+        getEndpoint.submit(response, () -> {
+            Employee employee = repository.get(employeeNo, projection);
+            return EmployeeView.of(employee, projection);
+        });
+    }
+
+    private static EmployeeProjection parseFields(String fields) {
+        if (fields == null || fields.trim().isEmpty()) {
+            return NAME_ONLY;
+        }
+        try {
+            return EmployeeProjection.parse(fields);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 複数の従業員をまとめて取得する。<br />
+     * 社員番号は {@code no} を繰り返すか、カンマ区切りで指定する (e.g. {@code ?no=1,2,3})。
+     * 結果は指定した順に返し、存在しない社員番号は {@code found: false} とする。
+     * 出力する項目は {@link #get(String, String, AsyncResponse)}と同様に {@code fields} で指定する。
+     * 社員名のみの場合は社員情報のみを読み込み、組織・等級・稼動情報は読み込まない。
+     * それ以外の場合は社員の集約をまとめて読み込み、組み立てられない社員 (所属する組織が存在しないなど) は
+     * {@code found: false} とする。
+     */
+    @GET
+    @Timed
+    @Path("/batch")
+    public void batch(@QueryParam("no") List<String> employeeNos, @QueryParam("fields") String fields,
+            @Suspended AsyncResponse response) {
+        List<String> nos = splitNos(employeeNos);
+        if (nos.isEmpty()) {
+            throw new BadRequestException("社員番号を指定してください");
+        }
+        if (nos.size() > maxBatchSize) {
+            throw new BadRequestException("社員番号は " + maxBatchSize + " 件以内で指定してください[" + nos.size() + "]");
+        }
+        EmployeeProjection projection = parseFields(fields);
+
+        batchEndpoint.submit(response, () -> {
+            if (projection.equals(NAME_ONLY)) {
+                return batchNames(nos);
+            }
+            Map<String, Employee> employees = repository.getAll(nos);
+            return nos.stream().map(no -> {
+                Employee employee = employees.get(no);
+                return (employee == null) ? EmployeeBatchEntryView.notFound(no)
+                        : EmployeeBatchEntryView.found(no, EmployeeView.of(employee, projection));
+            }).collect(Collectors.toList());
+        });
+    }
+
+    private List<EmployeeBatchEntryView> batchNames(List<String> nos) {
+        Set<Integer> keys = new LinkedHashSet<>();
+        for (String no : nos) {
+            Integer key = toKey(no);
+            if (key != null) {
+                keys.add(key);
+            }
+        }
+        Map<Integer, EmployeeRecord> records = searchDao.findByNos(keys).stream()
+                .collect(Collectors.toMap(EmployeeRecord::getNo, Function.identity()));
+        return nos.stream().map(no -> {
+            Integer key = toKey(no);
+            EmployeeRecord record = (key == null) ? null : records.get(key);
+            return (record == null) ? EmployeeBatchEntryView.notFound(no)
+                    : EmployeeBatchEntryView.found(no, new EmployeeView(record.getNo(),
+                            new PersonName(record.getName())));
+        }).collect(Collectors.toList());
+    }
+
+    /**
+     * 社員番号を数値に変換する。数値でない社員番号は存在しない社員番号として扱う。
+     */
+    private static Integer toKey(String no) {
+        try {
+            return Integer.valueOf(no);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static List<String> splitNos(List<String> employeeNos) {
+        List<String> nos = new ArrayList<>();
+        if (employeeNos == null) {
+            return nos;
+        }
+        for (String value : employeeNos) {
+            for (String no : value.split(",")) {
+                if (!no.trim().isEmpty()) {
+                    nos.add(no.trim());
+                }
+            }
+        }
+        return nos;
+    }
+
+    /**
+     * 条件を指定して従業員を検索する。<br />
+     * 条件は全て省略でき、指定した条件を全て満たす従業員を {@code sort} の順に返す
+     * ({@code no} / {@code name} / {@code joinDate}。先頭が {@code -} の場合は降順)。
+     * 次のページは、結果の {@code next} を {@code after} に指定して取得する。
+     */
+    @GET
+    @Timed
+    @Path("/search")
+    public void search(@QueryParam("role") String role, @QueryParam("capability") String capability,
+            @QueryParam("organization") String organization, @QueryParam("joinedBefore") String joinedBefore,
+            @QueryParam("sort") String sort, @QueryParam("after") String after,
+            @QueryParam("limit") @DefaultValue("50") int limit, @Suspended AsyncResponse response) {
+        if (limit > maxPageSize) {
+            throw new BadRequestException("取得件数は " + maxPageSize + " 件以内で指定してください[" + limit + "]");
+        }
+        EmployeeSearchCriteria criteria;
+        try {
+            criteria = new EmployeeSearchCriteria()
+                    .setRole(emptyToNull(role))
+                    .setCapability(emptyToNull(capability))
+                    .setOrganization(emptyToNull(organization))
+                    .setJoinedBefore(parseDate(emptyToNull(joinedBefore)))
+                    .setLimit(limit)
+                    .sortBy(sort)
+                    .after(emptyToNull(after));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage(), e);
+        }
+
+        searchEndpoint.submit(response, () -> {
+            List<EmployeeRecord> employees = searchDao.search(criteria);
+            String next = (employees.size() < criteria.getLimit()) ? null
+                    : criteria.next(employees.get(employees.size() - 1));
+            return new EmployeeSearchView(employees.stream().map(EmployeeSummaryView::new)
+                    .collect(Collectors.toList()), next);
+        });
+    }
+
+    private static String emptyToNull(String value) {
+        return (value == null || value.trim().isEmpty()) ? null : value.trim();
+    }
+
+    private static LocalDate parseDate(String value) {
+        try {
+            return (value == null) ? null : LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("不正な日付です[" + value + "]", e);
+        }
     }
 
     @GET
     @Timed
     @Path("/list")
-    public List<EmployeeView> list() {
-        Employees employees = repository.findAll();
-        return employees.getEmployees().stream().map(s -> new EmployeeView(s.getId(), s.getName()))
-                        .collect(Collectors.toList());
+    public void list(@Suspended AsyncResponse response) {
+        listEndpoint.submit(response, () -> {
+            Employees employees = repository.findAll();
+            return employees.getEmployees().stream().map(s -> new EmployeeView(s.getId(), s.getName()))
+                            .collect(Collectors.toList());
+        });
+    }
+
+    public void setRepository(EmployeeRepository repository) {
+        this.repository = repository;
+    }
+
+    public void setSearchDao(EmployeeDao searchDao) {
+        this.searchDao = searchDao;
     }
 }
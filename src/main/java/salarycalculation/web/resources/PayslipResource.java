@@ -0,0 +1,129 @@
+package salarycalculation.web.resources;
+
+import java.time.DateTimeException;
+import java.time.YearMonth;
+import java.util.concurrent.Executor;
+
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.CacheControl;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import com.codahale.metrics.annotation.Timed;
+
+import salarycalculation.database.repository.EmployeeRepositoryDao;
+import salarycalculation.domain.employee.Employee;
+import salarycalculation.domain.employee.EmployeeRepository;
+import salarycalculation.domain.payroll.PayrollResultCache;
+import salarycalculation.domain.payroll.Payslip;
+import salarycalculation.utils.Instrumentation;
+import salarycalculation.web.configuration.CacheConfiguration;
+import salarycalculation.web.configuration.EndpointConfiguration;
+import salarycalculation.web.representation.PayslipView;
+
+/**
+ * 従業員の給与明細に関するリクエストを受け付けるクラス。<br />
+ * 締め済みの年月 (当月より前) の明細は内容が変わらないため、社員番号と年月の組でキャッシュし、
+ * 再度のリクエストには DB へアクセスせずに応答する。
+ * キャッシュした明細はマスタ変更時に{@link salarycalculation.domain.payroll.PayrollRecomputeScheduler}が再計算する。
+ *
+ * @author naotake
+ */
+@Path("/employee/{no: [0-9]+}/payslip")
+@Produces(MediaType.APPLICATION_JSON + "; charset=utf-8")
+public class PayslipResource {
+
+    private EmployeeRepository repository;
+
+    private final AsyncEndpoint endpoint;
+    private final PayrollResultCache cache;
+    private final CacheControl closedMonthCacheControl;
+    private final CacheControl openMonthCacheControl;
+
+    public PayslipResource(Executor executor, EndpointConfiguration endpointConfiguration,
+            CacheConfiguration cacheConfiguration) {
+        this(executor, endpointConfiguration, cacheConfiguration,
+                new PayrollResultCache(cacheConfiguration.getMaximumSize()));
+    }
+
+    public PayslipResource(Executor executor, EndpointConfiguration endpointConfiguration,
+            CacheConfiguration cacheConfiguration, PayrollResultCache cache) {
+        this.repository = new EmployeeRepositoryDao();
+        this.endpoint = new AsyncEndpoint(executor, endpointConfiguration,
+                Instrumentation.name(PayslipResource.class, "get"));
+        this.cache = cache;
+
+        this.closedMonthCacheControl = new CacheControl();
+        closedMonthCacheControl.setPrivate(true);
+        closedMonthCacheControl.setMaxAge((int) cacheConfiguration.getMaxAge().toSeconds());
+
+        this.openMonthCacheControl = new CacheControl();
+        openMonthCacheControl.setPrivate(true);
+        openMonthCacheControl.setNoCache(true);
+    }
+
+    @GET
+    @Timed
+    @Path("/{workYearMonth: [0-9]{6}}")
+    public void get(@PathParam("no") int employeeNo, @PathParam("workYearMonth") int workYearMonth,
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch, @Suspended AsyncResponse response) {
+        boolean closed = toYearMonth(workYearMonth).isBefore(YearMonth.now());
+
+        if (closed) {
+            Payslip cached = cache.get(employeeNo, workYearMonth);
+            if (cached != null) {
+                response.resume(toResponse(new PayslipView(cached), ifNoneMatch, closedMonthCacheControl));
+                return;
+            }
+        }
+
+        endpoint.submit(response, () -> {
+            // 読み込み中にマスタ変更の再計算が行われた場合は、変更前の明細をキャッシュしない
+            long generation = cache.generation();
+            Employee employee = repository.get(String.valueOf(employeeNo));
+            Payslip payslip = Payslip.of(employee, workYearMonth);
+            PayslipView view = new PayslipView(payslip);
+            if (closed) {
+                cache.put(payslip, generation);
+                return toResponse(view, ifNoneMatch, closedMonthCacheControl);
+            }
+            return toResponse(view, ifNoneMatch, openMonthCacheControl);
+        });
+    }
+
+    private static YearMonth toYearMonth(int workYearMonth) {
+        try {
+            return YearMonth.of(workYearMonth / 100, workYearMonth % 100);
+        } catch (DateTimeException e) {
+            throw new BadRequestException("不正な稼動年月です[" + workYearMonth + "]", e);
+        }
+    }
+
+    private static Response toResponse(PayslipView view, String ifNoneMatch, CacheControl cacheControl) {
+        if (matches(ifNoneMatch, view.getEntityTag().toString())) {
+            return Response.notModified(view.getEntityTag()).cacheControl(cacheControl).build();
+        }
+        return Response.ok(view).tag(view.getEntityTag()).cacheControl(cacheControl).build();
+    }
+
+    private static boolean matches(String ifNoneMatch, String entityTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(entityTag) || tag.equals("W/" + entityTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
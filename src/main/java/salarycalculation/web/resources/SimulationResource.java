@@ -0,0 +1,112 @@
+package salarycalculation.web.resources;
+
+import java.time.DateTimeException;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.MediaType;
+
+import com.codahale.metrics.annotation.Timed;
+
+import salarycalculation.database.repository.WorkforceSnapshotCache;
+import salarycalculation.database.repository.WorkforceSnapshotLoader;
+import salarycalculation.domain.analytics.PayTableOverrides;
+import salarycalculation.domain.analytics.WorkforceSnapshot;
+import salarycalculation.domain.employee.CapabilityRank;
+import salarycalculation.domain.employee.LongServiceAllowance;
+import salarycalculation.utils.Instrumentation;
+import salarycalculation.web.configuration.EndpointConfiguration;
+import salarycalculation.web.representation.SimulationRequest;
+import salarycalculation.web.representation.SimulationView;
+
+/**
+ * 給与テーブル変更の試算に関するリクエストを受け付けるクラス。<br />
+ * DB の給与テーブルは変更せず、読み込んだスナップショット上で金額を差し替えて集計する。
+ * スナップショットは年月毎に保持し、マスタ・稼動情報の変更時に破棄する ({@link WorkforceSnapshotCache})。
+ *
+ * @author naotake
+ */
+@Path("/simulation")
+@Produces(MediaType.APPLICATION_JSON + "; charset=utf-8")
+@Consumes(MediaType.APPLICATION_JSON)
+public class SimulationResource {
+
+    private WorkforceSnapshotCache snapshots;
+
+    private final AsyncEndpoint endpoint;
+
+    public SimulationResource(Executor executor, EndpointConfiguration configuration) {
+        this(executor, configuration, new WorkforceSnapshotCache(new WorkforceSnapshotLoader()));
+    }
+
+    public SimulationResource(Executor executor, EndpointConfiguration configuration,
+            WorkforceSnapshotCache snapshots) {
+        this.snapshots = snapshots;
+        this.endpoint = new AsyncEndpoint(executor, configuration,
+                Instrumentation.name(SimulationResource.class, "simulate"));
+    }
+
+    @POST
+    @Timed
+    public void simulate(@NotNull @Valid SimulationRequest request, @Suspended AsyncResponse response) {
+        int workYearMonth = request.getWorkYearMonth();
+        validate(workYearMonth);
+        PayTableOverrides overrides = toOverrides(request);
+
+        endpoint.submit(response, () -> {
+            WorkforceSnapshot snapshot = snapshots.get(workYearMonth);
+            try {
+                return new SimulationView(snapshot.simulate(overrides));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException(e.getMessage(), e);
+            }
+        });
+    }
+
+    private static void validate(int workYearMonth) {
+        try {
+            YearMonth.of(workYearMonth / 100, workYearMonth % 100);
+        } catch (DateTimeException e) {
+            throw new BadRequestException("不正な稼動年月です[" + workYearMonth + "]", e);
+        }
+    }
+
+    private static PayTableOverrides toOverrides(SimulationRequest request) {
+        PayTableOverrides overrides = new PayTableOverrides();
+        apply(request.getRoles(), Function.identity(), overrides::role);
+        apply(request.getCapabilities(), CapabilityRank::valueOf, overrides::capability);
+        apply(request.getSeparatedAllowances(), CapabilityRank::valueOf, overrides::separatedAllowance);
+        apply(request.getLongServiceAllowances(), LongServiceAllowance::valueOf, overrides::longServiceAllowance);
+        return overrides;
+    }
+
+    private static <K> void apply(Map<String, Long> amounts, Function<String, K> key,
+            BiConsumer<K, Long> override) {
+        for (Map.Entry<String, Long> entry : amounts.entrySet()) {
+            if (entry.getValue() == null) {
+                throw new BadRequestException("試算条件の金額を指定してください[" + entry.getKey() + "]");
+            }
+            try {
+                override.accept(key.apply(entry.getKey()), entry.getValue());
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("不正な試算条件です[" + entry.getKey() + "]", e);
+            }
+        }
+    }
+
+    public void setSnapshots(WorkforceSnapshotCache snapshots) {
+        this.snapshots = snapshots;
+    }
+}
@@ -0,0 +1,54 @@
+package salarycalculation.web.tasks;
+
+import java.io.PrintWriter;
+import java.util.Locale;
+
+import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.Iterables;
+
+import io.dropwizard.servlets.tasks.Task;
+import salarycalculation.database.repository.AnnualIncomeAggregator;
+import salarycalculation.domain.payroll.AnnualIncomeSummary;
+import salarycalculation.domain.payroll.AnnualPeriod;
+
+/**
+ * 全社員の年間の実績給与を集計し、DB に保存する管理タスク。<br />
+ * 管理コネクタの {@code POST /tasks/annual-income} で実行する。
+ *
+ * <pre>
+ * パラメータ
+ * ・year=2015       : 集計する年 (必須。年度の場合は開始月の年)
+ * ・period=calendar : 期間の種類。calendar (暦年) または fiscal (年度) (既定値 calendar)
+ * </pre>
+ *
+ * @author naotake
+ */
+public class AnnualIncomeTask extends Task {
+
+    private AnnualIncomeAggregator aggregator;
+
+    public AnnualIncomeTask() {
+        super("annual-income");
+        this.aggregator = new AnnualIncomeAggregator();
+    }
+
+    @Override
+    public void execute(ImmutableMultimap<String, String> parameters, PrintWriter output) throws Exception {
+        String year = Iterables.getFirst(parameters.get("year"), null);
+        if (year == null) {
+            output.println("year is required");
+            output.flush();
+            return;
+        }
+        AnnualPeriod period = AnnualPeriod.valueOf(
+                Iterables.getFirst(parameters.get("period"), "calendar").toUpperCase(Locale.ROOT));
+
+        AnnualIncomeSummary summary = aggregator.aggregate(period, Integer.parseInt(year));
+        output.printf("%s %s: %s%n", period, year, summary);
+        output.flush();
+    }
+
+    public void setAggregator(AnnualIncomeAggregator aggregator) {
+        this.aggregator = aggregator;
+    }
+}
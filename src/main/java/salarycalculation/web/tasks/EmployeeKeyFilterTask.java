@@ -0,0 +1,41 @@
+package salarycalculation.web.tasks;
+
+import java.io.PrintWriter;
+
+import com.google.common.collect.ImmutableMultimap;
+
+import io.dropwizard.servlets.tasks.Task;
+import salarycalculation.database.EmployeeKeyFilter;
+
+/**
+ * 社員番号のブルームフィルタを読み込み直すための管理タスク。<br />
+ * アプリケーション外で社員を登録・削除した場合に、管理コネクタの {@code POST /tasks/employee-key-filter} で実行する。
+ *
+ * <pre>
+ * パラメータ
+ * ・enabled=false : フィルタを無効にする (true で有効にする)
+ * </pre>
+ *
+ * @author naotake
+ */
+public class EmployeeKeyFilterTask extends Task {
+
+    public EmployeeKeyFilterTask() {
+        super("employee-key-filter");
+    }
+
+    @Override
+    public void execute(ImmutableMultimap<String, String> parameters, PrintWriter output) throws Exception {
+        for (String enabled : parameters.get("enabled")) {
+            EmployeeKeyFilter.setEnabled(Boolean.parseBoolean(enabled));
+        }
+
+        if (EmployeeKeyFilter.isEnabled()) {
+            output.printf("enabled: %s%n", EmployeeKeyFilter.rebuild());
+        } else {
+            EmployeeKeyFilter.invalidate();
+            output.println("disabled");
+        }
+        output.flush();
+    }
+}
@@ -0,0 +1,110 @@
+package salarycalculation.web.tasks;
+
+import java.io.PrintWriter;
+import java.util.Locale;
+
+import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.Iterables;
+
+import io.dropwizard.servlets.tasks.Task;
+import salarycalculation.database.EmployeeKeyFilter;
+import salarycalculation.database.repository.WorkRepositories;
+import salarycalculation.database.repository.WorkforceSnapshotCache;
+import salarycalculation.domain.employee.CoalescingEmployeeRepository;
+import salarycalculation.domain.payroll.MasterChange;
+import salarycalculation.domain.payroll.PayrollRecomputeScheduler;
+import salarycalculation.domain.payroll.RecomputeReport;
+
+/**
+ * マスタ・稼動情報の変更を通知し、影響を受ける社員のキャッシュ済み給与明細を再計算する管理タスク。<br />
+ * 社員の取得結果や試算用のスナップショットを保持している場合は、再計算の前に破棄する。
+ * 社員・稼動情報の変更では、社員番号をブルームフィルタに追加し、稼動情報のストアの社員の稼動情報も読み込み直す。
+ * 管理コネクタの {@code POST /tasks/master-change} で実行する。
+ *
+ * <pre>
+ * パラメータ
+ * ・type=role    : 変更の種類。role, capability, organization, employee, work のいずれか (必須)
+ * ・key=A3       : 役割等級・能力等級・組織コード・社員番号 (必須)
+ * ・month=201504 : 稼動年月 (type=work の場合のみ必須)
+ * </pre>
+ *
+ * @author naotake
+ */
+public class MasterChangeTask extends Task {
+
+    private final PayrollRecomputeScheduler scheduler;
+    private final CoalescingEmployeeRepository lookups;
+    private final WorkforceSnapshotCache snapshots;
+
+    public MasterChangeTask(PayrollRecomputeScheduler scheduler) {
+        this(scheduler, null);
+    }
+
+    public MasterChangeTask(PayrollRecomputeScheduler scheduler, CoalescingEmployeeRepository lookups) {
+        this(scheduler, lookups, null);
+    }
+
+    public MasterChangeTask(PayrollRecomputeScheduler scheduler, CoalescingEmployeeRepository lookups,
+            WorkforceSnapshotCache snapshots) {
+        super("master-change");
+        this.scheduler = scheduler;
+        this.lookups = lookups;
+        this.snapshots = snapshots;
+    }
+
+    @Override
+    public void execute(ImmutableMultimap<String, String> parameters, PrintWriter output) throws Exception {
+        String type = Iterables.getFirst(parameters.get("type"), null);
+        String key = Iterables.getFirst(parameters.get("key"), null);
+        if (type == null || key == null) {
+            output.println("type and key are required");
+            output.flush();
+            return;
+        }
+
+        MasterChange change;
+        switch (MasterChange.Type.valueOf(type.toUpperCase(Locale.ROOT))) {
+        case ROLE:
+            change = MasterChange.role(key);
+            break;
+        case CAPABILITY:
+            change = MasterChange.capability(key);
+            break;
+        case ORGANIZATION:
+            change = MasterChange.organization(key);
+            break;
+        case EMPLOYEE:
+            change = MasterChange.employee(Integer.parseInt(key));
+            break;
+        default:
+            String month = Iterables.getFirst(parameters.get("month"), null);
+            if (month == null) {
+                output.println("month is required for type=work");
+                output.flush();
+                return;
+            }
+            change = MasterChange.work(Integer.parseInt(key), Integer.parseInt(month));
+            break;
+        }
+
+        if (change.getType() == MasterChange.Type.EMPLOYEE || change.getType() == MasterChange.Type.WORK) {
+            int no = Integer.parseInt(change.getKey());
+            EmployeeKeyFilter.add(no);
+            WorkRepositories.refreshStore(no);
+        }
+        if (lookups != null) {
+            if (change.getType() == MasterChange.Type.EMPLOYEE || change.getType() == MasterChange.Type.WORK) {
+                lookups.invalidate(change.getKey());
+            } else {
+                lookups.invalidateAll();
+            }
+        }
+        if (snapshots != null) {
+            snapshots.invalidate(change);
+        }
+
+        RecomputeReport report = scheduler.submit(change).join();
+        output.println(report);
+        output.flush();
+    }
+}
@@ -0,0 +1,82 @@
+package salarycalculation.web.tasks;
+
+import java.io.PrintWriter;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.Iterables;
+
+import io.dropwizard.servlets.tasks.Task;
+import salarycalculation.database.repository.EmployeeRepositoryDao;
+import salarycalculation.domain.employee.Employee;
+import salarycalculation.domain.employee.EmployeeRepository;
+import salarycalculation.domain.payroll.Payslip;
+
+/**
+ * 社員番号の区間毎の並列読み込みを計測する管理タスク。<br />
+ * 管理コネクタの {@code POST /tasks/partitioned-scan} で実行する。
+ * 分割数 (= 並列度) を 1 から倍々に増やしながら全社員の総支給額を集計し、
+ * 分割数毎の処理時間と 1 分割に対する速度向上率を出力する。
+ *
+ * <pre>
+ * パラメータ
+ * ・month=201504    : 対象の稼動年月 (必須)
+ * ・maxPartitions=16 : 最大の分割数 (既定値 CPU 数)
+ * </pre>
+ *
+ * @author naotake
+ */
+public class PartitionedScanTask extends Task {
+
+    private EmployeeRepository repository;
+
+    public PartitionedScanTask() {
+        super("partitioned-scan");
+        this.repository = new EmployeeRepositoryDao();
+    }
+
+    @Override
+    public void execute(ImmutableMultimap<String, String> parameters, PrintWriter output) throws Exception {
+        String month = Iterables.getFirst(parameters.get("month"), null);
+        if (month == null) {
+            output.println("month is required");
+            output.flush();
+            return;
+        }
+        int workYearMonth = Integer.parseInt(month);
+        int maxPartitions = Integer.parseInt(Iterables.getFirst(parameters.get("maxPartitions"),
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+
+        long baseline = 0;
+        for (int partitions = 1; partitions <= maxPartitions; partitions *= 2) {
+            // 分割数と同じ並列度のプールで実行し、並列度毎の処理時間を比較する
+            ForkJoinPool pool = new ForkJoinPool(partitions);
+            try {
+                int p = partitions;
+                long start = System.nanoTime();
+                long total = pool.submit(() -> sumTotalSalary(p, workYearMonth)).get();
+                long elapsed = System.nanoTime() - start;
+                if (partitions == 1) {
+                    baseline = elapsed;
+                }
+                output.printf("partitions=%-3d %8.1f ms  speedup=%.2f  totalSalary=%d%n", partitions,
+                        elapsed / 1_000_000.0, (double) baseline / elapsed, total);
+            } finally {
+                pool.shutdown();
+            }
+        }
+        output.flush();
+    }
+
+    private long sumTotalSalary(int partitions, int workYearMonth) {
+        try (Stream<Employee> employees = repository.streamAll(partitions)) {
+            return employees.mapToLong(employee -> Payslip.of(employee, workYearMonth).getTotalSalary().value().longValue())
+                    .sum();
+        }
+    }
+
+    public void setRepository(EmployeeRepository repository) {
+        this.repository = repository;
+    }
+}
@@ -0,0 +1,90 @@
+package salarycalculation.web.tasks;
+
+import java.io.PrintWriter;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.Iterables;
+
+import io.dropwizard.servlets.tasks.Task;
+import salarycalculation.database.archive.PayslipArchive;
+import salarycalculation.database.repository.EmployeeRepositoryDao;
+import salarycalculation.domain.employee.Employee;
+import salarycalculation.domain.employee.EmployeeRepository;
+import salarycalculation.domain.payroll.PayrollDiff;
+import salarycalculation.domain.payroll.PayrollDiffSummary;
+import salarycalculation.domain.payroll.Payslip;
+import salarycalculation.domain.payroll.PayslipDelta;
+
+/**
+ * 給与明細アーカイブ同士、またはアーカイブと現在のマスタでの計算結果を比較する管理タスク。<br />
+ * 管理コネクタの {@code POST /tasks/payroll-diff} で実行する。
+ *
+ * <pre>
+ * パラメータ
+ * ・before=201504 : 変更前とするアーカイブの稼動年月 (必須)
+ * ・after=201505  : 変更後とするアーカイブの稼動年月。省略時は before と同じ年月を現在のマスタで計算する
+ * ・limit=100     : 出力する社員毎の差分の上限 (既定値 100)
+ * </pre>
+ *
+ * @author naotake
+ */
+public class PayrollDiffTask extends Task {
+
+    private final Path directory;
+    private EmployeeRepository repository;
+
+    public PayrollDiffTask(Path directory) {
+        super("payroll-diff");
+        this.directory = directory;
+        this.repository = new EmployeeRepositoryDao();
+    }
+
+    @Override
+    public void execute(ImmutableMultimap<String, String> parameters, PrintWriter output) throws Exception {
+        String beforeMonth = Iterables.getFirst(parameters.get("before"), null);
+        if (beforeMonth == null) {
+            output.println("before is required");
+            output.flush();
+            return;
+        }
+        String afterMonth = Iterables.getFirst(parameters.get("after"), null);
+        int limit = Integer.parseInt(Iterables.getFirst(parameters.get("limit"), "100"));
+
+        try (PayslipArchive before = PayslipArchive.open(directory, Integer.parseInt(beforeMonth))) {
+            AtomicInteger printed = new AtomicInteger();
+            Consumer<PayslipDelta> printer = delta -> {
+                if (printed.getAndIncrement() < limit) {
+                    output.println(delta);
+                }
+            };
+
+            PayrollDiffSummary summary;
+            if (afterMonth == null) {
+                summary = recalculate(before, printer);
+            } else {
+                try (PayslipArchive after = PayslipArchive.open(directory, Integer.parseInt(afterMonth))) {
+                    summary = new PayrollDiff().compare(before, after, printer);
+                }
+            }
+            output.println(summary);
+        }
+        output.flush();
+    }
+
+    private PayrollDiffSummary recalculate(PayslipArchive before, Consumer<PayslipDelta> printer) {
+        // 社員番号の昇順に 1 件ずつ読み込んで計算し、保持せずにアーカイブと突き合わせる
+        int workYearMonth = before.getWorkYearMonth();
+        try (Stream<Employee> employees = repository.streamAll()) {
+            return new PayrollDiff().compare(before, employees.map(employee -> Payslip.of(employee, workYearMonth)),
+                    printer);
+        }
+    }
+
+    public void setRepository(EmployeeRepository repository) {
+        this.repository = repository;
+    }
+}
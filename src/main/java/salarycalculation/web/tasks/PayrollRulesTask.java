@@ -0,0 +1,75 @@
+package salarycalculation.web.tasks;
+
+import java.io.PrintWriter;
+import java.util.List;
+
+import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.Iterables;
+
+import io.dropwizard.servlets.tasks.Task;
+import salarycalculation.database.repository.EmployeeRepositoryDao;
+import salarycalculation.domain.employee.Employee;
+import salarycalculation.domain.employee.EmployeeRepository;
+import salarycalculation.domain.rule.PayrollPlan;
+
+/**
+ * 設定ファイルの給与ルールから組み立てた評価計画を検証・計測する管理タスク。<br />
+ * 管理コネクタの {@code POST /tasks/payroll-rules} で実行する。
+ * 全社員について評価計画と現行の給与規程 ({@link Employee#getTotalSalary(int)}) の総支給額を比較し、
+ * 構成要素毎の 1 名あたりの処理時間を出力する。給与ルールを変更した場合の差異の確認に使用する。
+ *
+ * <pre>
+ * パラメータ
+ * ・month=201504   : 対象の稼動年月 (必須)
+ * ・iterations=100 : 計測時の繰り返し回数 (既定値 100)
+ * </pre>
+ *
+ * @author naotake
+ */
+public class PayrollRulesTask extends Task {
+
+    private final PayrollPlan plan;
+    private EmployeeRepository repository;
+
+    public PayrollRulesTask(PayrollPlan plan) {
+        super("payroll-rules");
+        this.plan = plan;
+        this.repository = new EmployeeRepositoryDao();
+    }
+
+    @Override
+    public void execute(ImmutableMultimap<String, String> parameters, PrintWriter output) throws Exception {
+        String month = Iterables.getFirst(parameters.get("month"), null);
+        if (month == null) {
+            output.println("month is required");
+            output.flush();
+            return;
+        }
+        int workYearMonth = Integer.parseInt(month);
+        int iterations = Integer.parseInt(Iterables.getFirst(parameters.get("iterations"), "100"));
+
+        List<Employee> employees = repository.findAll().getEmployees();
+        int mismatches = 0;
+        for (Employee employee : employees) {
+            long expected = employee.getTotalSalary(workYearMonth).value().longValue();
+            long actual = plan.totalSalary(employee, workYearMonth);
+            if (expected != actual) {
+                mismatches++;
+                output.printf("employee %d: hand-written=%d rules=%d%n", employee.getId(), expected, actual);
+            }
+        }
+        output.printf("%d employees, %d differ from the hand-written calculation%n", employees.size(), mismatches);
+
+        long evaluations = Math.max(1L, (long) iterations * employees.size());
+        long[] elapsed = plan.benchmark(employees, workYearMonth, iterations);
+        List<String> names = plan.getComponentNames();
+        for (int i = 0; i < names.size(); i++) {
+            output.printf("%-24s %8.1f ns/employee%n", names.get(i), (double) elapsed[i] / evaluations);
+        }
+        output.flush();
+    }
+
+    public void setRepository(EmployeeRepository repository) {
+        this.repository = repository;
+    }
+}
@@ -0,0 +1,55 @@
+package salarycalculation.web.tasks;
+
+import static java.util.stream.Collectors.toList;
+
+import java.io.PrintWriter;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.google.common.collect.ImmutableMultimap;
+
+import io.dropwizard.servlets.tasks.Task;
+import salarycalculation.database.archive.PayslipArchiveWriter;
+import salarycalculation.database.repository.EmployeeRepositoryDao;
+import salarycalculation.domain.employee.Employee;
+import salarycalculation.domain.employee.EmployeeRepository;
+import salarycalculation.domain.payroll.Payslip;
+
+/**
+ * 全社員の給与明細を計算し、給与明細アーカイブとして書き出す管理タスク。<br />
+ * 管理コネクタの {@code POST /tasks/payslip-archive?month=201504} で実行する。
+ * month は複数指定できる。
+ *
+ * @author naotake
+ */
+public class PayslipArchiveTask extends Task {
+
+    private final Path directory;
+    private EmployeeRepository repository;
+
+    public PayslipArchiveTask(Path directory) {
+        super("payslip-archive");
+        this.directory = directory;
+        this.repository = new EmployeeRepositoryDao();
+    }
+
+    @Override
+    public void execute(ImmutableMultimap<String, String> parameters, PrintWriter output) throws Exception {
+        for (String month : parameters.get("month")) {
+            int workYearMonth = Integer.parseInt(month);
+            // 社員情報は 1 件ずつ読み込み、給与明細のみを保持する
+            List<Payslip> payslips;
+            try (Stream<Employee> employees = repository.streamAll()) {
+                payslips = employees.map(employee -> Payslip.of(employee, workYearMonth)).collect(toList());
+            }
+            Path file = PayslipArchiveWriter.write(directory, workYearMonth, payslips);
+            output.printf("%d: %d payslips -> %s%n", workYearMonth, payslips.size(), file);
+        }
+        output.flush();
+    }
+
+    public void setRepository(EmployeeRepository repository) {
+        this.repository = repository;
+    }
+}
@@ -0,0 +1,56 @@
+package salarycalculation.web.tasks;
+
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.ImmutableMultimap;
+
+import io.dropwizard.servlets.tasks.Task;
+import salarycalculation.database.SlowQueryLog;
+
+/**
+ * スロークエリログを参照・操作するための管理タスク。<br />
+ * 管理コネクタの {@code POST /tasks/slow-queries} で実行する。
+ *
+ * <pre>
+ * パラメータ
+ * ・threshold=100  : スロークエリとみなす閾値 (ミリ秒) を変更する
+ * ・explain=true   : 以降のスロークエリで EXPLAIN ANALYZE の結果を取得する (クエリ毎に 1 分に 1 回。false で停止)
+ * ・clear          : 記録済みのスロークエリを破棄する
+ * </pre>
+ *
+ * @author naotake
+ */
+public class SlowQueryTask extends Task {
+
+    public SlowQueryTask() {
+        super("slow-queries");
+    }
+
+    @Override
+    public void execute(ImmutableMultimap<String, String> parameters, PrintWriter output) throws Exception {
+        for (String threshold : parameters.get("threshold")) {
+            SlowQueryLog.setThreshold(Long.parseLong(threshold), TimeUnit.MILLISECONDS);
+        }
+        for (String explain : parameters.get("explain")) {
+            SlowQueryLog.setCaptureQueryPlan(Boolean.parseBoolean(explain));
+        }
+        if (parameters.containsKey("clear")) {
+            SlowQueryLog.clear();
+        }
+
+        output.printf("threshold: %dms, explain: %s%n", SlowQueryLog.getThreshold(TimeUnit.MILLISECONDS),
+                SlowQueryLog.isCaptureQueryPlan());
+
+        List<SlowQueryLog.Entry> entries = SlowQueryLog.recent();
+        output.printf("%d slow queries%n", entries.size());
+        for (SlowQueryLog.Entry entry : entries) {
+            output.printf("%tF %<tT %s%n", entry.getExecutedAt(), entry);
+            if (entry.getPlan() != null) {
+                output.println(entry.getPlan());
+            }
+        }
+        output.flush();
+    }
+}
@@ -0,0 +1,89 @@
+package salarycalculation.web.tasks;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import com.google.common.collect.ImmutableMultimap;
+
+import io.dropwizard.servlets.tasks.Task;
+import salarycalculation.database.ConnectionFactory;
+import salarycalculation.database.Storage;
+import salarycalculation.database.StorageServer;
+import salarycalculation.database.StorageStartup;
+
+/**
+ * 格納先の種類毎の起動時間を比較する管理タスク。<br />
+ * 管理コネクタの {@code POST /tasks/storage-startup} で実行する。
+ * 現在の格納先の内容を一時ディレクトリに複製し、ファイル・メモリ・TCP サーバのそれぞれについて
+ * 準備 (スナップショットの読み込み・スキーマの更新) と全件読み込みの時間を出力する。
+ * 現在の格納先は切り替えない。
+ *
+ * @author naotake
+ */
+public class StorageStartupTask extends Task {
+
+    public StorageStartupTask() {
+        super("storage-startup");
+    }
+
+    @Override
+    public void execute(ImmutableMultimap<String, String> parameters, PrintWriter output) throws Exception {
+        Storage source = ConnectionFactory.getStorage();
+        Path directory = Files.createTempDirectory("storage-startup");
+        try {
+            // ファイル: 複製済みのデータベースを開き直す
+            String filePath = directory.resolve("file").toString();
+            Storage file = Storage.file(filePath);
+            file.loadFrom(source);
+            print(output, file, StorageStartup.prepare(file, null), StorageStartup.warmUp(file));
+
+            // メモリ: スナップショットの読み込みを含む
+            Storage memory = Storage.memory("storage_startup_" + System.nanoTime());
+            try {
+                print(output, memory, StorageStartup.prepare(memory, source), StorageStartup.warmUp(memory));
+            } finally {
+                shutdown(memory);
+            }
+
+            // TCP サーバ: 複製済みのファイルデータベースにサーバ経由で接続する
+            try (StorageServer server = StorageServer.start(0, false)) {
+                Storage tcp = Storage.server("localhost", server.getPort(), filePath);
+                print(output, tcp, StorageStartup.prepare(tcp, null), StorageStartup.warmUp(tcp));
+            }
+        } finally {
+            deleteRecursively(directory);
+        }
+        output.flush();
+    }
+
+    private static void print(PrintWriter output, Storage storage, long prepare, long warmUp) {
+        output.printf("%-6s prepare=%8.1f ms  first full read=%8.1f ms  %s%n", storage.getMode(),
+                prepare / 1_000_000.0, warmUp / 1_000_000.0, storage.getUrl());
+    }
+
+    private static void shutdown(Storage storage) throws SQLException {
+        try (Connection connection = storage.open(); Statement statement = connection.createStatement()) {
+            statement.execute("shutdown");
+        }
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.delete(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package salarycalculation.web.tasks;
+
+import java.io.PrintWriter;
+
+import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.Iterables;
+
+import io.dropwizard.servlets.tasks.Task;
+import salarycalculation.database.model.WorkArchiveRecord;
+import salarycalculation.database.repository.WorkArchiver;
+
+/**
+ * 締め済みの年度の稼動情報をコールドテーブルへ移動する管理タスク。<br />
+ * 管理コネクタの {@code POST /tasks/work-archive} で実行する。
+ * アプリを止めずに実行でき、実行後はアーカイブ済みの年度の一覧を出力する。
+ *
+ * <pre>
+ * パラメータ
+ * ・fiscalYear=2015 : アーカイブする年度 (省略時は一覧の出力のみ)
+ * </pre>
+ *
+ * @author naotake
+ */
+public class WorkArchiveTask extends Task {
+
+    private WorkArchiver archiver;
+
+    public WorkArchiveTask() {
+        super("work-archive");
+        this.archiver = new WorkArchiver();
+    }
+
+    @Override
+    public void execute(ImmutableMultimap<String, String> parameters, PrintWriter output) throws Exception {
+        String fiscalYear = Iterables.getFirst(parameters.get("fiscalYear"), null);
+        if (fiscalYear != null) {
+            int year = Integer.parseInt(fiscalYear);
+            if (!archiver.isClosed(year)) {
+                output.printf("fiscal year %d is not closed yet%n", year);
+                output.flush();
+                return;
+            }
+            output.printf("fiscal year %d: %d work records moved%n", year, archiver.archive(year));
+        }
+        for (WorkArchiveRecord archive : archiver.findArchives()) {
+            output.printf("%d %-12s %8d records  archived on %s%n", archive.getFiscalYear(), archive.getTableName(),
+                    archive.getRecords(), archive.getArchivedOn());
+        }
+        output.flush();
+    }
+
+    public void setArchiver(WorkArchiver archiver) {
+        this.archiver = archiver;
+    }
+}
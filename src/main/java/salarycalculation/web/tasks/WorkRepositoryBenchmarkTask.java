@@ -0,0 +1,105 @@
+package salarycalculation.web.tasks;
+
+import java.io.PrintWriter;
+import java.util.Optional;
+import java.util.Set;
+
+import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.Iterables;
+
+import io.dropwizard.servlets.tasks.Task;
+import salarycalculation.database.EmployeeDao;
+import salarycalculation.database.kv.WorkStore;
+import salarycalculation.database.model.EmployeeRecord;
+import salarycalculation.database.repository.WorkRepositoryDao;
+import salarycalculation.database.repository.WorkRepositoryStore;
+import salarycalculation.domain.work.WorkOverTimes;
+import salarycalculation.domain.work.WorkRepository;
+
+/**
+ * 稼動情報の参照先毎の取得時間を比較する管理タスク。<br />
+ * 管理コネクタの {@code POST /tasks/work-repository-benchmark} で実行する。
+ * {@code work} テーブルの内容をメモリ上の {@link WorkStore}に読み込み、
+ * 全社員の稼動情報を {@link WorkRepositoryDao}・{@link WorkRepositoryStore}で取得した
+ * 1 件あたりの処理時間と、取得結果が一致するかを出力する。
+ *
+ * <pre>
+ * パラメータ
+ * ・iterations=100 : 計測時の繰り返し回数 (既定値 100)
+ * </pre>
+ *
+ * @author naotake
+ */
+public class WorkRepositoryBenchmarkTask extends Task {
+
+    public WorkRepositoryBenchmarkTask() {
+        super("work-repository-benchmark");
+    }
+
+    @Override
+    public void execute(ImmutableMultimap<String, String> parameters, PrintWriter output) throws Exception {
+        int iterations = Integer.parseInt(Iterables.getFirst(parameters.get("iterations"), "100"));
+
+        EmployeeDao employeeDao = new EmployeeDao();
+        int[] employeeNos;
+        try {
+            employeeNos = employeeDao.findAll(true).stream().mapToInt(EmployeeRecord::getNo).toArray();
+        } finally {
+            employeeDao.close();
+        }
+
+        try (WorkStore store = WorkStore.inMemory()) {
+            WorkRepositoryStore storeRepository = new WorkRepositoryStore(store);
+            int rows = storeRepository.reload();
+            WorkRepositoryDao daoRepository = new WorkRepositoryDao();
+
+            int mismatches = 0;
+            for (int no : employeeNos) {
+                if (!sameMonths(daoRepository.findByEmployeeId(no), storeRepository.findByEmployeeId(no))) {
+                    mismatches++;
+                    output.printf("employee %d: results differ%n", no);
+                }
+            }
+            output.printf("%d employees, %d work records, %d differ%n", employeeNos.length, rows, mismatches);
+
+            print(output, "WorkRepositoryDao", measure(daoRepository, employeeNos, iterations));
+            print(output, "WorkRepositoryStore", measure(storeRepository, employeeNos, iterations));
+        }
+        output.flush();
+    }
+
+    private static double measure(WorkRepository repository, int[] employeeNos, int iterations) {
+        // 1 回目は JIT コンパイルの影響を受けるため計測しない
+        lookupAll(repository, employeeNos, iterations);
+
+        long lookups = Math.max(1L, (long) iterations * employeeNos.length);
+        long start = System.nanoTime();
+        lookupAll(repository, employeeNos, iterations);
+        return (double) (System.nanoTime() - start) / lookups;
+    }
+
+    private static void lookupAll(WorkRepository repository, int[] employeeNos, int iterations) {
+        for (int i = 0; i < iterations; i++) {
+            for (int no : employeeNos) {
+                repository.findByEmployeeId(no);
+            }
+        }
+    }
+
+    private static boolean sameMonths(Optional<WorkOverTimes> expected, Optional<WorkOverTimes> actual) {
+        if (expected.isPresent() != actual.isPresent()) {
+            return false;
+        }
+        if (!expected.isPresent()) {
+            return true;
+        }
+        Set<Integer> months = expected.get().getWorkYearMonths();
+        return months.equals(actual.get().getWorkYearMonths()) && months.stream().allMatch(month -> expected
+                .get().getWorkOverTime(month).get().getTotalWorkOverTime()
+                .compareTo(actual.get().getWorkOverTime(month).get().getTotalWorkOverTime()) == 0);
+    }
+
+    private static void print(PrintWriter output, String name, double nanosPerLookup) {
+        output.printf("%-20s %10.1f ns/employee%n", name, nanosPerLookup);
+    }
+}
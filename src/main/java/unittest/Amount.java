@@ -2,6 +2,8 @@ package unittest;
 
 import java.util.Objects;
 
+import salarycalculation.utils.Money;
+
 /**
  * 金額情報を表すクラス。
  *
@@ -21,6 +23,18 @@ public class Amount {
         return new Amount(nontax, tax);
     }
 
+    /**
+     * 税抜金額と消費税から金額情報を生成する。
+     *
+     * @param nontax 税抜金額
+     * @param tax 消費税
+     * @return 金額情報
+     * @throws ArithmeticException 金額が long の範囲を超える場合
+     */
+    public static Amount of(Money nontax, Money tax) {
+        return new Amount(nontax.value().longValueExact(), tax.value().longValueExact());
+    }
+
     /**
      * 金額の加算を行う。
      *
@@ -41,7 +55,7 @@ public class Amount {
      */
     public Amount subtract(Amount subtrahend) {
         long nontax = this.nontax - subtrahend.getNontax();
-        long tax = this.tax + subtrahend.getTax();
+        long tax = this.tax - subtrahend.getTax();
         return Amount.of(nontax, tax);
     }
 
@@ -78,6 +92,27 @@ public class Amount {
         return nontax + tax;
     }
 
+    /**
+     * @return 税抜金額
+     */
+    public Money toNontaxMoney() {
+        return Money.from(nontax);
+    }
+
+    /**
+     * @return 消費税
+     */
+    public Money toTaxMoney() {
+        return Money.from(tax);
+    }
+
+    /**
+     * @return 税込金額
+     */
+    public Money toPretaxMoney() {
+        return Money.from(getPretax());
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(nontax, tax);
@@ -90,7 +125,7 @@ public class Amount {
         }
 
         Amount target = Amount.class.cast(other);
-        return (this.nontax == target.getPretax() && this.tax == target.getTax());
+        return (this.nontax == target.getNontax() && this.tax == target.getTax());
     }
 
     @Override
@@ -0,0 +1,125 @@
+package unittest;
+
+import java.util.stream.Collector;
+
+import salarycalculation.utils.Money;
+
+/**
+ * 金額情報 ({@link Amount}) を集計するための可変なクラス。<br />
+ * {@link Amount}は加減算の度にインスタンスを生成するため、大量の金額を合計する場合はこのクラスで
+ * 税抜金額と消費税を long のまま積み上げ、最後に {@link #toAmount()}で変換する。
+ * <p />
+ * 加減算は {@link Math#addExact(long, long)}で行い、long の範囲を超えた場合は
+ * {@link ArithmeticException}とする。スレッドセーフではないため、並列に集計する場合は
+ * {@link #summing()}を使用する。
+ *
+ * @author naotake
+ */
+public final class AmountAccumulator {
+
+    private long nontax;
+    private long tax;
+
+    /**
+     * 金額情報を合計する{@link Collector}を取得する。<br />
+     * 並列ストリームではスレッド毎の集計結果を最後に合算するため、要素毎の生成は行わない。
+     *
+     * @return 金額情報を合計する Collector
+     */
+    public static Collector<Amount, ?, Amount> summing() {
+        return Collector.of(AmountAccumulator::new, AmountAccumulator::add, AmountAccumulator::combine,
+                AmountAccumulator::toAmount, Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * 金額を加算する。
+     *
+     * @param augend 加算額
+     * @return このインスタンス
+     */
+    public AmountAccumulator add(Amount augend) {
+        return add(augend.getNontax(), augend.getTax());
+    }
+
+    /**
+     * 税抜金額と消費税を加算する。
+     *
+     * @param nontax 税抜金額
+     * @param tax 消費税
+     * @return このインスタンス
+     */
+    public AmountAccumulator add(long nontax, long tax) {
+        this.nontax = Math.addExact(this.nontax, nontax);
+        this.tax = Math.addExact(this.tax, tax);
+        return this;
+    }
+
+    /**
+     * 税抜金額と消費税を加算する。
+     *
+     * @param nontax 税抜金額
+     * @param tax 消費税
+     * @return このインスタンス
+     */
+    public AmountAccumulator add(Money nontax, Money tax) {
+        return add(nontax.value().longValueExact(), tax.value().longValueExact());
+    }
+
+    /**
+     * 金額を減算する。
+     *
+     * @param subtrahend 減算額
+     * @return このインスタンス
+     */
+    public AmountAccumulator subtract(Amount subtrahend) {
+        this.nontax = Math.subtractExact(this.nontax, subtrahend.getNontax());
+        this.tax = Math.subtractExact(this.tax, subtrahend.getTax());
+        return this;
+    }
+
+    /**
+     * 他の集計結果を合算する。
+     *
+     * @param other 他の集計結果
+     * @return このインスタンス
+     */
+    public AmountAccumulator combine(AmountAccumulator other) {
+        return add(other.nontax, other.tax);
+    }
+
+    /**
+     * 集計結果を金額情報に変換する。
+     *
+     * @return 金額情報
+     */
+    public Amount toAmount() {
+        return Amount.of(nontax, tax);
+    }
+
+    /**
+     * @return 税抜金額の合計
+     */
+    public long getNontax() {
+        return nontax;
+    }
+
+    /**
+     * @return 消費税の合計
+     */
+    public long getTax() {
+        return tax;
+    }
+
+    /**
+     * @return 税込金額の合計
+     * @throws ArithmeticException 税込金額が long の範囲を超える場合
+     */
+    public long getPretax() {
+        return Math.addExact(nontax, tax);
+    }
+
+    @Override
+    public String toString() {
+        return toAmount().toString();
+    }
+}
@@ -0,0 +1,10 @@
+-- EmployeeDao.findByRole: where roleRank = ? order by no
+CREATE INDEX IF NOT EXISTS idx_employee_role ON Employee(roleRank, no);
+
+-- EmployeeDao.findByCapability: where capabilityRank = ? order by no
+CREATE INDEX IF NOT EXISTS idx_employee_capability ON Employee(capabilityRank, no);
+
+-- EmployeeDao.countByOrganization: count(*) where organization = ? (covered by the index)
+CREATE INDEX IF NOT EXISTS idx_employee_organization ON Employee(organization, no);
+
+-- WorkDao.findAll (where employeeNo = ?) is served by the primary key prefix (employeeNo, workYearMonth).
@@ -0,0 +1,14 @@
+-- AnnualIncomeDao: actual annual income aggregated from the monthly results (kept for tax reporting)
+CREATE TABLE IF NOT EXISTS AnnualIncome(
+    period VARCHAR(8),
+    targetYear INT,
+    employeeNo INT,
+    months INT,
+    grossAmount BIGINT,
+    overtimeAmount BIGINT,
+    longServiceAllowance BIGINT,
+    deductionAmount BIGINT,
+    takeHomeAmount BIGINT,
+    PRIMARY KEY(period, targetYear, employeeNo),
+    FOREIGN KEY(employeeNo) REFERENCES Employee(no)
+);
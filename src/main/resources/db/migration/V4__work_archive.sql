@@ -0,0 +1,12 @@
+-- Work keeps only the fiscal years that are not archived yet (the hot partition).
+-- Closed fiscal years are moved to per-year cold tables Work_FY<year> by WorkArchiveDao.archive,
+-- and WorkArchive lists the years that have been moved.
+CREATE TABLE IF NOT EXISTS WorkArchive(
+    fiscalYear INT PRIMARY KEY,
+    tableName VARCHAR(32),
+    records INT,
+    archivedOn TIMESTAMP
+);
+
+-- WorkHistory: the hot table and all cold tables (recreated whenever a year is archived)
+CREATE OR REPLACE VIEW WorkHistory AS SELECT * FROM Work;
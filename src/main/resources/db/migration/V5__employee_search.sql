@@ -0,0 +1,5 @@
+-- EmployeeDao.search: order by joinDate, no / order by name, no (keyset pagination on the sort key and no)
+CREATE INDEX IF NOT EXISTS idx_employee_join_date ON Employee(joinDate, no);
+CREATE INDEX IF NOT EXISTS idx_employee_name ON Employee(name, no);
+
+-- Filters on roleRank / capabilityRank / organization are served by the indexes of V2.
@@ -0,0 +1,91 @@
+package refactoring;
+
+import java.util.Random;
+
+import refactoring.after.EmployeeType;
+import refactoring.after.PayTypeEngine;
+import refactoring.before.Employee;
+
+/**
+ * 給与額の計算方式の処理時間を比較するベンチマーク。
+ *
+ * <pre>
+ * ・switch      : {@link refactoring.before.Employee#payAmount()} (文字列の switch、戻り値はボックス化)
+ * ・polymorphic : {@link refactoring.after.Employee#payAmount()} を 1 名ずつ (種類が混在した多態呼び出し)
+ * ・grouped     : {@link PayTypeEngine#payAmounts(refactoring.after.Employee[])} (種類毎の振り分け + 一括計算)
+ * ・pre-grouped : {@link PayTypeEngine.Grouped#payAmounts(long[])} (振り分け済みの一括計算)
+ *
+ * 実行例: java -cp target/classes:target/test-classes refactoring.PayAmountBenchmark 1000000 20
+ * </pre>
+ *
+ * @author naotake
+ */
+public final class PayAmountBenchmark {
+
+    private static final String[] BEFORE_TYPES = { refactoring.before.EmployeeType.ENGINEER,
+            refactoring.before.EmployeeType.SALESMAN, refactoring.before.EmployeeType.MANAGER };
+
+    private static final EmployeeType[] AFTER_TYPES = { PayTypeEngine.ENGINEER, PayTypeEngine.SALESMAN,
+            PayTypeEngine.MANAGER };
+
+    private PayAmountBenchmark() {
+        // main only
+    }
+
+    public static void main(String[] args) {
+        int size = (args.length > 0) ? Integer.parseInt(args[0]) : 1_000_000;
+        int rounds = (args.length > 1) ? Integer.parseInt(args[1]) : 20;
+
+        // 種類をランダムに混在させる (同じ種類が連続すると分岐予測で差が見えにくくなるため)
+        Random random = new Random(42);
+        Employee[] before = new Employee[size];
+        refactoring.after.Employee[] after = new refactoring.after.Employee[size];
+        for (int i = 0; i < size; i++) {
+            int type = random.nextInt(BEFORE_TYPES.length);
+            before[i] = new Employee(i, "employee" + i, BEFORE_TYPES[type]);
+            after[i] = new refactoring.after.Employee(i, "employee" + i, AFTER_TYPES[type]);
+        }
+        PayTypeEngine engine = new PayTypeEngine();
+        PayTypeEngine.Grouped grouped = engine.group(after);
+        long[] amounts = new long[size];
+
+        for (int round = 0; round < rounds; round++) {
+            long start = System.nanoTime();
+            long switchSum = 0;
+            for (Employee employee : before) {
+                switchSum += employee.payAmount();
+            }
+            long switchTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            long polymorphicSum = 0;
+            for (refactoring.after.Employee employee : after) {
+                polymorphicSum += employee.payAmount();
+            }
+            long polymorphicTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            long groupedSum = 0;
+            for (long amount : engine.payAmounts(after)) {
+                groupedSum += amount;
+            }
+            long groupedTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            grouped.payAmounts(amounts);
+            long preGroupedSum = 0;
+            for (long amount : amounts) {
+                preGroupedSum += amount;
+            }
+            long preGroupedTime = System.nanoTime() - start;
+
+            if (switchSum != polymorphicSum || switchSum != groupedSum || switchSum != preGroupedSum) {
+                throw new IllegalStateException("計算結果が一致しません[switch=" + switchSum + ", polymorphic="
+                        + polymorphicSum + ", grouped=" + groupedSum + ", pre-grouped=" + preGroupedSum + "]");
+            }
+            System.out.printf("round %2d: switch %6.2f ns, polymorphic %6.2f ns, grouped %6.2f ns,"
+                    + " pre-grouped %6.2f ns (per employee)%n", round, (double) switchTime / size,
+                    (double) polymorphicTime / size, (double) groupedTime / size, (double) preGroupedTime / size);
+        }
+    }
+}
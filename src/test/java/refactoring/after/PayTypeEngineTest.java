@@ -0,0 +1,88 @@
+package refactoring.after;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import salarycalculation.database.repository.EmployeeRepositoryDao;
+
+/**
+ * {@link PayTypeEngine}に対するテストクラス。
+ *
+ * @author naotake
+ */
+public class PayTypeEngineTest {
+
+    private PayTypeEngine testee = new PayTypeEngine();
+
+    @Test
+    public void 種類が混在していても入力と同じ順序で給与額が求まること() {
+        Employee[] employees = {
+                new Employee(1, "engineer", PayTypeEngine.ENGINEER, 1000L, 500L, 300L),
+                new Employee(2, "manager", PayTypeEngine.MANAGER, 2000L, 500L, 300L),
+                new Employee(3, "salesman", PayTypeEngine.SALESMAN, 1500L, 700L, 300L),
+                new Employee(4, "engineer", PayTypeEngine.ENGINEER, 1200L, 500L, 300L) };
+
+        long[] actual = testee.payAmounts(employees);
+
+        assertThat(actual).containsExactly(1000L, 2300L, 2200L, 1200L);
+        for (int i = 0; i < employees.length; i++) {
+            assertThat(actual[i]).isEqualTo(employees[i].payAmount());
+        }
+    }
+
+    @Test
+    public void まとめた従業員を再利用して給与額を求められること() {
+        Employee[] employees = {
+                new Employee(1, "manager", PayTypeEngine.MANAGER),
+                new Employee(2, "engineer", PayTypeEngine.ENGINEER),
+                new Employee(3, "manager", PayTypeEngine.MANAGER) };
+        PayTypeEngine.Grouped grouped = testee.group(employees);
+        long[] actual = new long[employees.length];
+
+        grouped.payAmounts(actual);
+        grouped.payAmounts(actual);
+
+        assertThat(grouped.getTypeCount()).isEqualTo(2);
+        assertThat(actual).containsExactly(1300L, 1000L, 1300L);
+    }
+
+    @Test
+    public void 変換前と同じ給与額となること() {
+        refactoring.before.Employee before = new refactoring.before.Employee(1, "salesman",
+                refactoring.before.EmployeeType.SALESMAN);
+        Employee after = new Employee(1, "salesman", PayTypeEngine.SALESMAN);
+
+        assertThat(after.payAmount()).isEqualTo(before.payAmount().longValue());
+    }
+
+    @Test
+    public void 社員情報から変換した給与額が総支給額と一致すること() {
+        List<salarycalculation.domain.employee.Employee> employees = new EmployeeRepositoryDao().findAll()
+                .getEmployees();
+        Employee[] in = new Employee[employees.size()];
+        for (int i = 0; i < in.length; i++) {
+            in[i] = PayTypeEngine.from(employees.get(i), 201504);
+        }
+
+        long[] actual = testee.payAmounts(in);
+
+        for (int i = 0; i < in.length; i++) {
+            assertThat(actual[i]).isEqualTo(employees.get(i).getTotalSalary(201504).value().longValue());
+            assertThat(in[i].getType() == PayTypeEngine.MANAGER)
+                    .isEqualTo(employees.get(i).getCapability().isManager());
+        }
+    }
+
+    @Test
+    public void 社員情報から変換した種類が稼動年月によらないこと() {
+        // 201505 は稼動情報が無く、残業代が 0 となる
+        for (salarycalculation.domain.employee.Employee employee : new EmployeeRepositoryDao().findAll()
+                .getEmployees()) {
+            assertThat(PayTypeEngine.from(employee, 201505).getType())
+                    .isSameAs(PayTypeEngine.from(employee, 201504).getType());
+        }
+    }
+}
@@ -11,8 +11,13 @@ import static salarycalculation.matchers.RecordNotFoundExceptionMatcher.isKey;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Ignore;
@@ -103,6 +108,21 @@ public class EmployeeDaoTest {
             assertThat(actuals).extracting(EmployeeRecord::getNo).containsExactly(4, 3, 2);
         }
 
+        @Test
+        public void 複数の社員番号を指定して存在する社員のみ取得できること() {
+            dbSetupTracker.skipNextLaunch();
+
+            List<EmployeeRecord> actuals = testee.findByNos(Arrays.asList(3, 1, 9999));
+            assertThat(actuals).extracting(EmployeeRecord::getNo).containsOnly(1, 3);
+        }
+
+        @Test
+        public void 社員番号を指定しない場合は空の一覧となること() {
+            dbSetupTracker.skipNextLaunch();
+
+            assertThat(testee.findByNos(Collections.emptyList())).isEmpty();
+        }
+
         @Test
         public void 指定した組織に該当する社員数を取得できること() {
             dbSetupTracker.skipNextLaunch();
@@ -164,6 +184,97 @@ public class EmployeeDaoTest {
         }
     }
 
+    public static class 条件を指定して検索する場合 extends EmployeeDaoTestBase {
+
+        @BeforeClass
+        public static void setUpOnce() throws Exception {
+            dbSetupTracker = new DbSetupTracker();
+        }
+
+        @Test
+        public void 条件を組み合わせて検索できること() {
+            dbSetupTracker.skipNextLaunch();
+
+            EmployeeSearchCriteria criteria = new EmployeeSearchCriteria().setOrganization("DEV1").setRole("C4");
+            List<EmployeeRecord> actuals = testee.search(criteria);
+            assertThat(actuals).extracting(EmployeeRecord::getNo).containsExactly(2);
+            assertThat(actuals.get(0)).hasName("大阪 太郎");
+        }
+
+        @Test
+        public void カーソルを指定して次のページを取得できること() {
+            dbSetupTracker.skipNextLaunch();
+
+            EmployeeSearchCriteria criteria = new EmployeeSearchCriteria().setLimit(2).sortBy("-name");
+            List<EmployeeRecord> first = testee.search(criteria);
+            assertThat(first).extracting(EmployeeRecord::getNo).containsExactly(4, 1);
+
+            String cursor = criteria.next(first.get(1));
+            List<EmployeeRecord> second = testee.search(new EmployeeSearchCriteria().setLimit(2).sortBy("-name")
+                    .after(cursor));
+            assertThat(second).extracting(EmployeeRecord::getNo).containsExactly(2, 3);
+        }
+
+        @Test
+        public void 並び順のキーがnullの社員もページをまたいで取得できること() {
+            dbSetupTracker.skipNextLaunch();
+
+            // 入社年月日は全て null
+            EmployeeSearchCriteria criteria = new EmployeeSearchCriteria().setLimit(3).sortBy("joinDate");
+            List<EmployeeRecord> first = testee.search(criteria);
+            assertThat(first).extracting(EmployeeRecord::getNo).containsExactly(1, 2, 3);
+
+            criteria.after(criteria.next(first.get(2)));
+            assertThat(testee.search(criteria)).extracting(EmployeeRecord::getNo).containsExactly(4);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void 並び順が異なるカーソルを指定して例外が発生すること() {
+            dbSetupTracker.skipNextLaunch();
+
+            EmployeeRecord last = testee.search(new EmployeeSearchCriteria().setLimit(1)).get(0);
+            String cursor = new EmployeeSearchCriteria().next(last);
+
+            new EmployeeSearchCriteria().sortBy("-no").after(cursor);
+        }
+    }
+
+    public static class コネクションを閉じた場合 {
+
+        private EmployeeDao testee;
+        private ExecutorService executor;
+
+        @Before
+        public void setUp() {
+            testee = new EmployeeDao();
+            executor = Executors.newSingleThreadExecutor();
+        }
+
+        @After
+        public void tearDown() {
+            executor.shutdown();
+            testee.close();
+        }
+
+        @Test
+        public void 閉じた後も同じスレッドで取得できること() {
+            assertThat(testee.get("1").getNo()).isEqualTo(1);
+
+            testee.close();
+
+            assertThat(testee.get("1").getNo()).isEqualTo(1);
+        }
+
+        @Test
+        public void 他のスレッドで生成したコネクションは閉じた後に生成し直すこと() throws Exception {
+            assertThat(executor.submit(() -> testee.get("2").getNo()).get()).isEqualTo(2);
+
+            testee.close();
+
+            assertThat(executor.submit(() -> testee.get("2").getNo()).get()).isEqualTo(2);
+        }
+    }
+
     private static class EmployeeDaoTestBase
             implements RoleSetupSupport, CapabilitySetupSupport, OrganizationSetupSupport {
 
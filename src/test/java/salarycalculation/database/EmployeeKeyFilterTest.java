@@ -0,0 +1,122 @@
+package salarycalculation.database;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import salarycalculation.database.model.EmployeeRecord;
+import salarycalculation.exception.RecordNotFoundException;
+import salarycalculation.utils.Instrumentation;
+
+/**
+ * {@link EmployeeKeyFilter}に対するテストクラス。
+ *
+ * @author naotake
+ */
+public class EmployeeKeyFilterTest {
+
+    private static final String GET_TIMER = Instrumentation.name(EmployeeDao.class, "get");
+    private static final String FILTERED = Instrumentation.name(EmployeeKeyFilter.class, "filtered");
+
+    private EmployeeDao dao;
+
+    @Before
+    public void setUp() {
+        EmployeeKeyFilter.setEnabled(true);
+        EmployeeKeyFilter.rebuild();
+        dao = new EmployeeDao();
+    }
+
+    @After
+    public void tearDown() {
+        dao.close();
+        EmployeeKeyFilter.setEnabled(false);
+        EmployeeKeyFilter.invalidate();
+    }
+
+    @Test
+    public void 存在する社員番号はフィルタを通過して取得できること() {
+        assertThat(dao.get("1").getNo()).isEqualTo(1);
+        assertThat(dao.get("4").getNo()).isEqualTo(4);
+    }
+
+    @Test
+    public void 存在しない社員番号はクエリを実行せずにスタックトレースを持たない例外となること() {
+        long queries = Instrumentation.registry().timer(GET_TIMER).getCount();
+        long filtered = Instrumentation.registry().counter(FILTERED).getCount();
+
+        for (String no : Arrays.asList("9999", "abc")) {
+            try {
+                dao.get(no);
+                fail("RecordNotFoundException が送出されること");
+            } catch (RecordNotFoundException e) {
+                assertThat(e.getTargetClass()).isEqualTo(EmployeeRecord.class);
+                assertThat(e.getKey()).containsExactly(no);
+                assertThat(e.getStackTrace()).isEmpty();
+            }
+        }
+
+        assertThat(Instrumentation.registry().timer(GET_TIMER).getCount()).isEqualTo(queries);
+        assertThat(Instrumentation.registry().counter(FILTERED).getCount()).isEqualTo(filtered + 2);
+    }
+
+    @Test
+    public void まとめて取得する場合も存在しない社員番号を除いて取得できること() {
+        assertThat(dao.findByNos(Arrays.asList(2, 9999, 3))).extracting(EmployeeRecord::getNo)
+                .containsOnly(2, 3);
+    }
+
+    @Test
+    public void 読み込み後に登録した社員番号は読み込み直すとフィルタを通過すること() throws Exception {
+        try (Connection connection = ConnectionFactory.open();
+                Statement statement = connection.createStatement()) {
+            assertThat(EmployeeKeyFilter.mightContain(connection, 9999)).isFalse();
+
+            statement.executeUpdate("insert into employee(no, name, organization) values(9999, '登録 直後', 'ODG1')");
+            try {
+                assertThat(EmployeeKeyFilter.mightContain(connection, 9999)).isFalse();
+
+                EmployeeKeyFilter.rebuildIfEnabled();
+
+                assertThat(EmployeeKeyFilter.mightContain(connection, 9999)).isTrue();
+            } finally {
+                statement.executeUpdate("delete from employee where no = 9999");
+                EmployeeKeyFilter.rebuild();
+            }
+        }
+    }
+
+    @Test
+    public void 登録を通知した社員番号は読み込み直さずに取得できること() throws Exception {
+        try (Connection connection = ConnectionFactory.open();
+                Statement statement = connection.createStatement()) {
+            statement.executeUpdate("insert into employee(no, name, organization) values(9999, '登録 直後', 'ODG1')");
+            try {
+                assertThat(EmployeeKeyFilter.mightContain(connection, 9999)).isFalse();
+
+                EmployeeKeyFilter.add(9999);
+
+                assertThat(EmployeeKeyFilter.mightContain(connection, 9999)).isTrue();
+                assertThat(dao.get("9999").getNo()).isEqualTo(9999);
+            } finally {
+                statement.executeUpdate("delete from employee where no = 9999");
+                EmployeeKeyFilter.rebuild();
+            }
+        }
+    }
+
+    @Test
+    public void 無効な場合は全ての社員番号がフィルタを通過すること() throws Exception {
+        EmployeeKeyFilter.setEnabled(false);
+        try (Connection connection = ConnectionFactory.open()) {
+            assertThat(EmployeeKeyFilter.mightContain(connection, "9999")).isTrue();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package salarycalculation.database;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * {@link KeyRangePartitioner}に対するテストクラス。
+ *
+ * @author naotake
+ */
+public class KeyRangePartitionerTest {
+
+    private KeyRangePartitioner testee = new KeyRangePartitioner();
+
+    @Test
+    public void 件数がほぼ均等な区間に分割されること() {
+        List<KeyRange> actual = testee.partition(2);
+
+        assertThat(actual).containsExactly(new KeyRange(1, 3, 2), new KeyRange(3, 5, 2));
+        assertThat(actual).extracting(KeyRange::getEstimatedRows).containsExactly(2L, 2L);
+    }
+
+    @Test
+    public void 分割数が社員数より多い場合は社員数の区間に分割されること() {
+        List<KeyRange> actual = testee.partition(10);
+
+        assertThat(actual).hasSize(4);
+        for (int no = 1; no <= 4; no++) {
+            int target = no;
+            assertThat(actual.stream().filter(range -> range.contains(target)).count()).isEqualTo(1L);
+        }
+    }
+
+    @Test
+    public void 分割数が1の場合は全社員が1つの区間に含まれること() {
+        assertThat(testee.partition(1)).containsExactly(new KeyRange(1, 5, 4));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void 分割数が0の場合はエラーとなること() {
+        testee.partition(0);
+    }
+}
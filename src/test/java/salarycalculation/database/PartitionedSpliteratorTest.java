@@ -0,0 +1,88 @@
+package salarycalculation.database;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+/**
+ * {@link PartitionedSpliterator}に対するテストクラス。
+ *
+ * @author naotake
+ */
+public class PartitionedSpliteratorTest {
+
+    private final AtomicInteger opened = new AtomicInteger();
+    private final AtomicInteger closed = new AtomicInteger();
+
+    @Test
+    public void 並列に読み込んでも社員番号の昇順に結合されること() {
+        List<KeyRange> ranges = ranges(8, 100);
+
+        List<Integer> actual;
+        try (Stream<Integer> stream = PartitionedSpliterator.stream(ranges, this::segment)) {
+            assertThat(stream.isParallel()).isTrue();
+            actual = stream.collect(toList());
+        }
+
+        assertThat(actual).isEqualTo(IntStream.range(0, 800).boxed().collect(toList()));
+        assertThat(opened.get()).isEqualTo(8);
+        assertThat(closed.get()).isEqualTo(8);
+    }
+
+    @Test
+    public void 途中で打ち切った場合も開いた区間が閉じられること() {
+        try (Stream<Integer> stream = PartitionedSpliterator.stream(ranges(8, 100), this::segment)) {
+            assertThat(stream.sequential().findFirst()).contains(0);
+            assertThat(opened.get()).isEqualTo(1);
+            assertThat(closed.get()).isEqualTo(0);
+        }
+        assertThat(closed.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void 区間が無い場合は空となること() {
+        try (Stream<Integer> stream = PartitionedSpliterator.stream(Collections.emptyList(), this::segment)) {
+            assertThat(stream.count()).isEqualTo(0L);
+        }
+        assertThat(opened.get()).isEqualTo(0);
+    }
+
+    private static List<KeyRange> ranges(int count, int width) {
+        List<KeyRange> ranges = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ranges.add(new KeyRange(i * width, (i + 1) * width, width));
+        }
+        return ranges;
+    }
+
+    private PartitionedSpliterator.Segment<Integer> segment(KeyRange range) {
+        opened.incrementAndGet();
+        return new PartitionedSpliterator.Segment<Integer>() {
+
+            private int next = range.getFromNo();
+
+            @Override
+            public boolean hasNext() {
+                return next < range.getToNo();
+            }
+
+            @Override
+            public Integer next() {
+                return next++;
+            }
+
+            @Override
+            public void close() {
+                closed.incrementAndGet();
+            }
+        };
+    }
+}
@@ -9,6 +9,8 @@ import static org.assertj.core.api.Assertions.catchThrowable;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.assertj.core.api.Condition;
 import org.junit.Before;
@@ -121,6 +123,34 @@ public class RoleDaoTest implements RoleSetupSupport {
         assertThat(thrown).isInstanceOf(RecordNotFoundException.class).is(targetRole).is(keysXX);
     }
 
+    @Test
+    public void コネクションを指定しない場合はスレッド毎に別のコネクションが使用されること() throws Exception {
+        dbSetupTracker.skipNextLaunch();
+        ConnectionFactory.setStorage(Storage.memory("role_dao_test"));
+        RoleDao dao = new RoleDao();
+        try {
+            // when
+            Connection current = dao.connection();
+            ExecutorService other = Executors.newSingleThreadExecutor();
+            Connection another;
+            try {
+                another = other.submit(dao::connection).get();
+            } finally {
+                other.shutdown();
+            }
+
+            // then
+            assertThat(dao.connection()).isSameAs(current);
+            assertThat(another).isNotSameAs(current);
+
+            dao.close();
+            assertThat(current.isClosed()).isTrue();
+            assertThat(another.isClosed()).isTrue();
+        } finally {
+            ConnectionFactory.setStorage(ConnectionFactory.DEFAULT_STORAGE);
+        }
+    }
+
     private final Condition<Throwable> targetRole = new Condition<Throwable>("target class") {
 
         public boolean matches(Throwable actual) {
@@ -0,0 +1,70 @@
+package salarycalculation.database;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.List;
+
+import org.apache.commons.dbutils.QueryRunner;
+import org.apache.commons.dbutils.handlers.ColumnListHandler;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * {@link SchemaMigrator}に対するテストクラス。
+ *
+ * @author naotake
+ */
+public class SchemaMigratorTest {
+
+    private Connection connection;
+    private SchemaMigrator testee;
+
+    /**
+     * 事前処理。
+     */
+    @Before
+    public void setUp() throws Exception {
+        connection = DriverManager.getConnection("jdbc:h2:mem:schema_migrator_test", "sa", "");
+        testee = new SchemaMigrator(connection);
+    }
+
+    /**
+     * 事後処理。
+     */
+    @After
+    public void tearDown() throws Exception {
+        connection.close();
+    }
+
+    @Test
+    public void 全てのバージョンが適用されること() throws Exception {
+        assertThat(testee.migrate()).containsExactly(1, 2, 3, 4, 5);
+        assertThat(testee.appliedVersions()).containsOnly(1, 2, 3, 4, 5);
+
+        List<String> indexes = new QueryRunner().query(connection,
+                "select index_name from information_schema.indexes where table_name = 'EMPLOYEE'",
+                new ColumnListHandler<String>(1));
+        assertThat(indexes).contains("IDX_EMPLOYEE_ROLE", "IDX_EMPLOYEE_CAPABILITY", "IDX_EMPLOYEE_ORGANIZATION");
+    }
+
+    @Test
+    public void 適用済みのバージョンは再度適用されないこと() {
+        testee.migrate();
+
+        assertThat(testee.migrate()).isEmpty();
+        assertThat(testee.appliedVersions()).containsOnly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    public void 検索の並び順に使う索引が作成されること() throws Exception {
+        testee.migrate();
+
+        List<String> indexes = new QueryRunner().query(connection,
+                "select index_name from information_schema.indexes where table_name = 'EMPLOYEE'",
+                new ColumnListHandler<String>(1));
+        assertThat(indexes).contains("IDX_EMPLOYEE_JOIN_DATE", "IDX_EMPLOYEE_NAME");
+    }
+}
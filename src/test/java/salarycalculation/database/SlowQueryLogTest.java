@@ -0,0 +1,109 @@
+package salarycalculation.database;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.internal.util.reflection.Whitebox;
+
+/**
+ * {@link SlowQueryLog}に対するテストクラス。
+ *
+ * @author naotake
+ */
+public class SlowQueryLogTest {
+
+    private EmployeeDao dao;
+
+    /**
+     * 事前処理。
+     */
+    @Before
+    public void setUp() throws Exception {
+        dao = new EmployeeDao();
+
+        String url = "jdbc:h2:./data/salary_calculation_test";
+        Connection connection = DriverManager.getConnection(url, "sa", "");
+        Whitebox.setInternalState(dao, "connection", connection);
+
+        SlowQueryLog.clear();
+    }
+
+    /**
+     * 事後処理。
+     */
+    @After
+    public void tearDown() {
+        SlowQueryLog.setThreshold(200, TimeUnit.MILLISECONDS);
+        SlowQueryLog.setCaptureQueryPlan(false);
+        SlowQueryLog.setQueryPlanInterval(1, TimeUnit.MINUTES);
+        SlowQueryLog.clear();
+    }
+
+    @Test
+    public void 閾値を超えたクエリがパラメータと共に記録されること() {
+        SlowQueryLog.setThreshold(0, TimeUnit.MILLISECONDS);
+
+        dao.findByRole("A3");
+
+        List<SlowQueryLog.Entry> actuals = SlowQueryLog.recent();
+        assertThat(actuals).hasSize(1);
+        assertThat(actuals.get(0).getName()).isEqualTo("salarycalculation.database.EmployeeDao.findByRole");
+        assertThat(actuals.get(0).getParams()).containsExactly("A3");
+        assertThat(actuals.get(0).getPlan()).isNull();
+    }
+
+    @Test
+    public void 実行計画の取得を有効にした場合に実行計画が記録されること() {
+        SlowQueryLog.setThreshold(0, TimeUnit.MILLISECONDS);
+        SlowQueryLog.setCaptureQueryPlan(true);
+
+        dao.countByOrganization("DEV1");
+
+        List<SlowQueryLog.Entry> actuals = SlowQueryLog.recent();
+        assertThat(actuals).hasSize(1);
+        assertThat(actuals.get(0).getPlan()).containsIgnoringCase("select").containsIgnoringCase("employee");
+    }
+
+    @Test
+    public void 同じクエリの実行計画は間隔内に再取得されないこと() {
+        SlowQueryLog.setThreshold(0, TimeUnit.MILLISECONDS);
+        SlowQueryLog.setCaptureQueryPlan(true);
+
+        dao.countByOrganization("DEV1");
+        dao.countByOrganization("DEV2");
+
+        List<SlowQueryLog.Entry> actuals = SlowQueryLog.recent();
+        assertThat(actuals).hasSize(2);
+        assertThat(actuals.get(0).getPlan()).isSameAs(actuals.get(1).getPlan());
+    }
+
+    @Test
+    public void 間隔を過ぎた場合は実行計画が再取得されること() {
+        SlowQueryLog.setThreshold(0, TimeUnit.MILLISECONDS);
+        SlowQueryLog.setCaptureQueryPlan(true);
+        SlowQueryLog.setQueryPlanInterval(0, TimeUnit.MILLISECONDS);
+
+        dao.countByOrganization("DEV1");
+        dao.countByOrganization("DEV2");
+
+        List<SlowQueryLog.Entry> actuals = SlowQueryLog.recent();
+        assertThat(actuals).hasSize(2);
+        assertThat(actuals.get(0).getPlan()).isNotSameAs(actuals.get(1).getPlan());
+    }
+
+    @Test
+    public void 閾値未満のクエリは記録されないこと() {
+        SlowQueryLog.setThreshold(1, TimeUnit.MINUTES);
+
+        dao.findByRole("A3");
+
+        assertThat(SlowQueryLog.recent()).isEmpty();
+    }
+}
@@ -0,0 +1,78 @@
+package salarycalculation.database;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.Test;
+
+/**
+ * {@link Storage}に対するテストクラス。
+ *
+ * @author naotake
+ */
+public class StorageTest {
+
+    @Test
+    public void 種類毎のJDBCURLが組み立てられること() {
+        assertThat(Storage.file("./data/salary_calculation").getUrl()).isEqualTo("jdbc:h2:./data/salary_calculation");
+        assertThat(Storage.memory("what_if").getUrl()).isEqualTo("jdbc:h2:mem:what_if;DB_CLOSE_DELAY=-1");
+        assertThat(Storage.server("db01", 9092, "./data/salary_calculation").getUrl())
+                .isEqualTo("jdbc:h2:tcp://db01:9092/./data/salary_calculation");
+    }
+
+    @Test
+    public void メモリ上のデータベースにスナップショットが読み込まれること() throws SQLException {
+        Storage memory = Storage.memory("storage_test_snapshot");
+        try {
+            StorageStartup.prepare(memory, ConnectionFactory.DEFAULT_STORAGE);
+
+            assertThat(countEmployees(memory)).isEqualTo(countEmployees(ConnectionFactory.DEFAULT_STORAGE));
+        } finally {
+            shutdown(memory);
+        }
+    }
+
+    @Test
+    public void スナップショットが無い場合はスキーマのみ作成されること() throws SQLException {
+        Storage memory = Storage.memory("storage_test_empty");
+        try {
+            StorageStartup.prepare(memory, null);
+
+            assertThat(countEmployees(memory)).isEqualTo(0L);
+        } finally {
+            shutdown(memory);
+        }
+    }
+
+    @Test
+    public void TCPサーバ経由で同じデータベースを参照できること() throws SQLException {
+        Storage memory = Storage.memory("storage_test_server");
+        try (StorageServer server = StorageServer.start(0, false)) {
+            StorageStartup.prepare(memory, ConnectionFactory.DEFAULT_STORAGE);
+
+            Storage tcp = Storage.server("localhost", server.getPort(), "mem:storage_test_server");
+            assertThat(countEmployees(tcp)).isEqualTo(countEmployees(memory));
+        } finally {
+            shutdown(memory);
+        }
+    }
+
+    private static long countEmployees(Storage storage) throws SQLException {
+        try (Connection connection = storage.open();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("select count(*) from employee")) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static void shutdown(Storage storage) throws SQLException {
+        try (Connection connection = storage.open(); Statement statement = connection.createStatement()) {
+            statement.execute("shutdown");
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package salarycalculation.database;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+/**
+ * {@link WorkArchiveCatalog}に対するテストクラス。
+ *
+ * @author naotake
+ */
+public class WorkArchiveCatalogTest {
+
+    @Test
+    public void 稼動年月の年度が4月始まりで求められること() {
+        assertThat(WorkArchiveCatalog.fiscalYearOf(201503)).isEqualTo(2014);
+        assertThat(WorkArchiveCatalog.fiscalYearOf(201504)).isEqualTo(2015);
+        assertThat(WorkArchiveCatalog.fiscalYearOf(201512)).isEqualTo(2015);
+        assertThat(WorkArchiveCatalog.fiscalYearOf(201601)).isEqualTo(2015);
+        assertThat(WorkArchiveCatalog.fiscalYearOf(201603)).isEqualTo(2015);
+    }
+}
@@ -0,0 +1,123 @@
+package salarycalculation.database.archive;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import salarycalculation.database.repository.EmployeeRepositoryDao;
+import salarycalculation.domain.payroll.Payslip;
+import salarycalculation.utils.Money;
+
+/**
+ * {@link PayslipArchive}と{@link PayslipArchiveWriter}のテストクラス。
+ *
+ * @author naotake
+ */
+public class PayslipArchiveTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path directory;
+
+    @Before
+    public void setUp() {
+        directory = folder.getRoot().toPath();
+    }
+
+    @Test
+    public void 書き出した給与明細を社員番号で参照できること() {
+        List<Payslip> payslips = new EmployeeRepositoryDao().findAll().getEmployees().stream()
+                .map(employee -> Payslip.of(employee, 201504))
+                .collect(toList());
+        // 順不同で渡しても社員番号の昇順に格納される
+        Collections.reverse(payslips);
+
+        Path file = PayslipArchiveWriter.write(directory, 201504, payslips);
+        assertThat(file.getFileName().toString()).isEqualTo("payslip-201504.bin");
+
+        try (PayslipArchive testee = PayslipArchive.open(directory, 201504)) {
+            assertThat(testee.getWorkYearMonth()).isEqualTo(201504);
+            assertThat(testee.size()).isEqualTo(4);
+            for (Payslip expected : payslips) {
+                assertThat(testee.get(expected.getEmployeeNo())).contains(expected);
+            }
+            assertThat(testee.get(0)).isEmpty();
+            assertThat(testee.get(5)).isEmpty();
+
+            List<Integer> nos = new ArrayList<>();
+            testee.forEach(payslip -> nos.add(payslip.getEmployeeNo()));
+            assertThat(nos).containsExactly(1, 2, 3, 4);
+        }
+    }
+
+    @Test
+    public void 同じ稼動年月のアーカイブは置き換えられること() {
+        PayslipArchiveWriter.write(directory, 201504, Arrays.asList(payslip(1, 1000), payslip(2, 2000)));
+        PayslipArchiveWriter.write(directory, 201504, Arrays.asList(payslip(3, 3000)));
+
+        try (PayslipArchive testee = PayslipArchive.open(directory, 201504)) {
+            assertThat(testee.size()).isEqualTo(1);
+            assertThat(testee.get(3).get().getRoleAmount()).isEqualTo(Money.from(3000));
+        }
+    }
+
+    @Test
+    public void 明細が無い場合も空のアーカイブを書き出せること() {
+        PayslipArchiveWriter.write(directory, 201504, Collections.emptyList());
+
+        try (PayslipArchive testee = PayslipArchive.open(directory, 201504)) {
+            assertThat(testee.size()).isZero();
+            assertThat(testee.get(1)).isEmpty();
+        }
+    }
+
+    @Test
+    public void 社員番号が重複している場合はエラーとなること() {
+        try {
+            PayslipArchiveWriter.write(directory, 201504, Arrays.asList(payslip(1, 1000), payslip(1, 2000)));
+            fail("IllegalArgumentException が発生すること");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage()).contains("[1]");
+        }
+    }
+
+    @Test
+    public void 稼動年月が異なる明細が含まれる場合はエラーとなること() {
+        try {
+            PayslipArchiveWriter.write(directory, 201505, Arrays.asList(payslip(1, 1000)));
+            fail("IllegalArgumentException が発生すること");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage()).contains("workYearMonth=201504");
+        }
+    }
+
+    @Test
+    public void アーカイブでないファイルは開けないこと() throws Exception {
+        Path file = directory.resolve("payslip-201504.bin");
+        Files.write(file, new byte[64]);
+
+        try {
+            PayslipArchive.open(file);
+            fail("IllegalStateException が発生すること");
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage()).contains("給与明細アーカイブではありません");
+        }
+    }
+
+    private static Payslip payslip(int no, long roleAmount) {
+        return Payslip.builder(no, 201504).roleAmount(Money.from(roleAmount)).build();
+    }
+}
@@ -0,0 +1,204 @@
+package salarycalculation.database.kv;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import salarycalculation.database.model.WorkRecord;
+
+/**
+ * {@link WorkStore}に対するテストクラス。
+ *
+ * @author naotake
+ */
+public class WorkStoreTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private WorkStore testee = WorkStore.inMemory();
+
+    @After
+    public void tearDown() {
+        testee.close();
+    }
+
+    @Test
+    public void 社員番号と稼動年月で稼動情報を取得できること() {
+        testee.put(record(1, 201504, "10.0", "0.0", "13.5", "3.5"));
+
+        WorkRecord actual = testee.get(1, 201504).get();
+
+        assertThat(actual.getEmployeeNo()).isEqualTo(1);
+        assertThat(actual.getWorkYearMonth()).isEqualTo(201504);
+        assertThat(actual.getWorkOverTime()).isEqualByComparingTo("10.0");
+        assertThat(actual.getLateNightOverTime()).isEqualByComparingTo("0.0");
+        assertThat(actual.getHolidayWorkTime()).isEqualByComparingTo("13.5");
+        assertThat(actual.getHolidayLateNightOverTime()).isEqualByComparingTo("3.5");
+        assertThat(testee.get(1, 201505)).isEmpty();
+    }
+
+    @Test
+    public void 社員毎の稼動情報が稼動年月の昇順に取得できること() {
+        testee.put(record(2, 201601, "1.0", "0.0", "0.0", "0.0"));
+        testee.put(record(1, 201504, "99.9", "0.0", "0.0", "0.0"));
+        testee.put(record(2, 201504, "2.0", "0.0", "0.0", "0.0"));
+        testee.put(record(3, 201504, "3.0", "0.0", "0.0", "0.0"));
+
+        List<WorkRecord> actual = new ArrayList<>();
+        int rows = testee.scanByEmployee(2, actual::add);
+
+        assertThat(rows).isEqualTo(2);
+        assertThat(actual).extracting(WorkRecord::getWorkYearMonth).containsExactly(201504, 201601);
+        assertThat(testee.scanByEmployee(4, record -> {
+        })).isEqualTo(0);
+    }
+
+    @Test
+    public void 未設定の勤務時間はnullのまま復元されること() {
+        WorkRecord record = record(1, 201504, "1.0", null, "0.0", null);
+        testee.put(record);
+
+        WorkRecord actual = testee.get(1, 201504).get();
+
+        assertThat(actual.getLateNightOverTime()).isNull();
+        assertThat(actual.getHolidayLateNightOverTime()).isNull();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void 勤務時間が範囲外の場合はエラーとなること() {
+        testee.put(record(1, 201504, "-1.0", "0.0", "0.0", "0.0"));
+    }
+
+    @Test
+    public void 社員毎に削除できること() {
+        testee.put(record(1, 201504, "1.0", "0.0", "0.0", "0.0"));
+        testee.put(record(1, 201505, "1.0", "0.0", "0.0", "0.0"));
+        testee.put(record(2, 201504, "1.0", "0.0", "0.0", "0.0"));
+
+        assertThat(testee.removeByEmployee(1)).isEqualTo(2);
+        assertThat(testee.size()).isEqualTo(1L);
+        assertThat(testee.get(2, 201504)).isPresent();
+    }
+
+    @Test
+    public void 社員番号が最大値の社員も走査と削除ができること() {
+        testee.put(record(Integer.MAX_VALUE - 1, 201504, "1.0", "0.0", "0.0", "0.0"));
+        testee.put(record(Integer.MAX_VALUE, 201504, "2.0", "0.0", "0.0", "0.0"));
+        testee.put(record(Integer.MAX_VALUE, 201505, "3.0", "0.0", "0.0", "0.0"));
+
+        List<WorkRecord> actual = new ArrayList<>();
+        assertThat(testee.scanByEmployee(Integer.MAX_VALUE, actual::add)).isEqualTo(2);
+        assertThat(actual).extracting(WorkRecord::getWorkYearMonth).containsExactly(201504, 201505);
+
+        assertThat(testee.removeByEmployee(Integer.MAX_VALUE)).isEqualTo(2);
+        assertThat(testee.get(Integer.MAX_VALUE - 1, 201504)).isPresent();
+    }
+
+    @Test
+    public void 全件を置き換えられること() {
+        testee.put(record(1, 201504, "1.0", "0.0", "0.0", "0.0"));
+        testee.put(record(2, 201504, "1.0", "0.0", "0.0", "0.0"));
+
+        int rows = testee.replaceAll(sink -> {
+            // 読み込み中は置き換え前の内容が参照できる
+            sink.accept(record(2, 201504, "5.0", "0.0", "0.0", "0.0"));
+            assertThat(testee.get(1, 201504)).isPresent();
+            assertThat(testee.get(2, 201504).get().getWorkOverTime()).isEqualByComparingTo("1.0");
+            sink.accept(record(3, 201504, "3.0", "0.0", "0.0", "0.0"));
+        });
+
+        assertThat(rows).isEqualTo(2);
+        assertThat(testee.size()).isEqualTo(2L);
+        assertThat(testee.get(1, 201504)).isEmpty();
+        assertThat(testee.get(2, 201504).get().getWorkOverTime()).isEqualByComparingTo("5.0");
+        assertThat(testee.get(3, 201504)).isPresent();
+    }
+
+    @Test
+    public void 全件の置き換えに失敗した場合は置き換え前の内容が残ること() {
+        testee.put(record(1, 201504, "1.0", "0.0", "0.0", "0.0"));
+
+        try {
+            testee.replaceAll(sink -> {
+                sink.accept(record(2, 201504, "1.0", "0.0", "0.0", "0.0"));
+                throw new IllegalStateException("読み込み失敗");
+            });
+        } catch (IllegalStateException expected) {
+            // 置き換え前の内容が残ることを検証する
+        }
+
+        assertThat(testee.size()).isEqualTo(1L);
+        assertThat(testee.get(1, 201504)).isPresent();
+        assertThat(testee.get(2, 201504)).isEmpty();
+    }
+
+    @Test
+    public void 置き換えた内容を開き直して参照できること() throws Exception {
+        String file = new File(folder.getRoot(), "work.mvstore").getPath();
+        try (WorkStore store = WorkStore.open(file)) {
+            store.put(record(1, 201504, "1.0", "0.0", "0.0", "0.0"));
+            store.replaceAll(sink -> sink.accept(record(2, 201504, "2.0", "0.0", "0.0", "0.0")));
+        }
+
+        try (WorkStore store = WorkStore.open(file)) {
+            assertThat(store.size()).isEqualTo(1L);
+            assertThat(store.get(2, 201504)).isPresent();
+        }
+    }
+
+    @Test
+    public void 社員毎に稼動情報を置き換えられること() {
+        testee.put(record(1, 201504, "1.0", "0.0", "0.0", "0.0"));
+        testee.put(record(1, 201505, "1.0", "0.0", "0.0", "0.0"));
+        testee.put(record(2, 201504, "1.0", "0.0", "0.0", "0.0"));
+
+        int removed = testee.replaceByEmployee(1, Arrays.asList(
+                record(1, 201505, "5.0", "0.0", "0.0", "0.0"),
+                record(1, 201506, "6.0", "0.0", "0.0", "0.0")));
+
+        assertThat(removed).isEqualTo(1);
+        assertThat(testee.get(1, 201504)).isEmpty();
+        assertThat(testee.get(1, 201505).get().getWorkOverTime()).isEqualByComparingTo("5.0");
+        assertThat(testee.get(1, 201506)).isPresent();
+        assertThat(testee.get(2, 201504)).isPresent();
+    }
+
+    @Test
+    public void ファイルに保存した内容を開き直して参照できること() throws Exception {
+        String file = new File(folder.getRoot(), "work.mvstore").getPath();
+        try (WorkStore store = WorkStore.open(file)) {
+            store.put(record(1, 201504, "10.0", "0.0", "13.5", "3.5"));
+        }
+
+        try (WorkStore store = WorkStore.open(file)) {
+            assertThat(store.size()).isEqualTo(1L);
+            assertThat(store.get(1, 201504).get().getHolidayWorkTime()).isEqualByComparingTo("13.5");
+        }
+    }
+
+    private static WorkRecord record(int employeeNo, int workYearMonth, String workOverTime,
+            String lateNightOverTime, String holidayWorkTime, String holidayLateNightOverTime) {
+        WorkRecord record = new WorkRecord();
+        record.setEmployeeNo(employeeNo);
+        record.setWorkYearMonth(workYearMonth);
+        record.setWorkOverTime(decimal(workOverTime));
+        record.setLateNightOverTime(decimal(lateNightOverTime));
+        record.setHolidayWorkTime(decimal(holidayWorkTime));
+        record.setHolidayLateNightOverTime(decimal(holidayLateNightOverTime));
+        return record;
+    }
+
+    private static BigDecimal decimal(String value) {
+        return (value == null) ? null : new BigDecimal(value);
+    }
+}
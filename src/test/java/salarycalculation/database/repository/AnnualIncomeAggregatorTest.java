@@ -0,0 +1,117 @@
+package salarycalculation.database.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import salarycalculation.database.AnnualIncomeDao;
+import salarycalculation.database.ConnectionFactory;
+import salarycalculation.database.SchemaMigrator;
+import salarycalculation.database.model.AnnualIncomeRecord;
+import salarycalculation.domain.employee.Employee;
+import salarycalculation.domain.employee.EmployeeRepository;
+import salarycalculation.domain.employee.Employees;
+import salarycalculation.domain.payroll.AnnualIncome;
+import salarycalculation.domain.payroll.AnnualIncomeSummary;
+import salarycalculation.domain.payroll.AnnualPeriod;
+
+/**
+ * {@link AnnualIncomeAggregator}に対するテストクラス。
+ *
+ * @author naotake
+ */
+public class AnnualIncomeAggregatorTest {
+
+    @BeforeClass
+    public static void setUpClass() throws SQLException {
+        try (Connection connection = ConnectionFactory.open()) {
+            new SchemaMigrator(connection).migrate();
+        }
+    }
+
+    @Test
+    public void 区間毎の集計結果が社員毎の計算結果と一致すること() {
+        Employees employees = new EmployeeRepositoryDao().findAll();
+        AnnualIncomeRepositoryDao repository = new AnnualIncomeRepositoryDao();
+
+        AnnualIncomeSummary actual = new AnnualIncomeAggregator(3).aggregate(AnnualPeriod.FISCAL, 2015);
+
+        assertThat(actual.getEmployees()).isEqualTo(employees.getEmployees().size());
+        long gross = 0;
+        for (Employee employee : employees.getEmployees()) {
+            AnnualIncome expected = AnnualIncome.of(employee, AnnualPeriod.FISCAL, 2015);
+            assertThat(repository.find(employee.getId(), AnnualPeriod.FISCAL, 2015)).contains(expected);
+            gross += expected.getGrossAmount().value().longValue();
+        }
+        assertThat(actual.getGrossAmount()).isEqualTo(gross);
+    }
+
+    @Test
+    public void 再集計すると同じ期間の実績給与が置き換わること() {
+        AnnualIncomeRepositoryDao repository = new AnnualIncomeRepositoryDao();
+
+        new AnnualIncomeAggregator(2).aggregate(AnnualPeriod.CALENDAR, 2015);
+        AnnualIncomeSummary actual = new AnnualIncomeAggregator(5).aggregate(AnnualPeriod.CALENDAR, 2015);
+
+        List<AnnualIncome> incomes = repository.findAll(AnnualPeriod.CALENDAR, 2015);
+        assertThat(incomes).hasSize((int) actual.getEmployees());
+        assertThat(incomes.stream().mapToLong(income -> income.getTakeHomeAmount().value().longValue()).sum())
+                .isEqualTo(actual.getTakeHomeAmount());
+        assertThat(incomes).extracting("employeeNo").isSorted();
+    }
+
+    @Test
+    public void 区間の集計に失敗した場合は集計前の実績給与が残ること() {
+        AnnualIncomeRepositoryDao repository = new AnnualIncomeRepositoryDao();
+        new AnnualIncomeAggregator(2).aggregate(AnnualPeriod.FISCAL, 2015);
+        List<AnnualIncome> before = repository.findAll(AnnualPeriod.FISCAL, 2015);
+
+        // 最後の社員を読み込む区間のみ失敗させる
+        List<Employee> employees = new EmployeeRepositoryDao().findAll().getEmployees();
+        Integer failing = employees.get(employees.size() - 1).getId();
+        EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
+        when(employeeRepository.streamAll(2)).thenAnswer(invocation -> new EmployeeRepositoryDao().streamAll(2)
+                .peek(employee -> {
+                    if (failing.equals(employee.getId())) {
+                        throw new IllegalStateException("partition failure: " + failing);
+                    }
+                }));
+        AnnualIncomeAggregator testee = new AnnualIncomeAggregator(2);
+        testee.setEmployeeRepository(employeeRepository);
+
+        Throwable thrown = catchThrowable(() -> testee.aggregate(AnnualPeriod.FISCAL, 2015));
+
+        assertThat(thrown).isInstanceOf(IllegalStateException.class);
+        assertThat(repository.findAll(AnnualPeriod.FISCAL, 2015)).isEqualTo(before);
+    }
+
+    @Test
+    public void 保存に失敗した場合は削除も取り消されること() {
+        AnnualIncomeRepositoryDao repository = new AnnualIncomeRepositoryDao();
+        new AnnualIncomeAggregator(2).aggregate(AnnualPeriod.FISCAL, 2015);
+        List<AnnualIncome> before = repository.findAll(AnnualPeriod.FISCAL, 2015);
+
+        AnnualIncomeRepositoryDao failingRepository = new AnnualIncomeRepositoryDao();
+        failingRepository.setDao(new AnnualIncomeDao() {
+            @Override
+            public void saveAll(List<AnnualIncomeRecord> records) {
+                throw new IllegalStateException("save failure");
+            }
+        });
+        AnnualIncomeAggregator testee = new AnnualIncomeAggregator(2);
+        testee.setRepository(failingRepository);
+
+        Throwable thrown = catchThrowable(() -> testee.aggregate(AnnualPeriod.FISCAL, 2015));
+
+        assertThat(thrown).isInstanceOf(IllegalStateException.class);
+        assertThat(repository.findAll(AnnualPeriod.FISCAL, 2015)).isEqualTo(before);
+    }
+}
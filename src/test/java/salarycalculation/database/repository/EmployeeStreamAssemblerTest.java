@@ -0,0 +1,72 @@
+package salarycalculation.database.repository;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import salarycalculation.domain.employee.Employee;
+
+/**
+ * {@link EmployeeStreamAssembler}に対するテストクラス。
+ *
+ * @author naotake
+ */
+public class EmployeeStreamAssemblerTest {
+
+    @Test
+    public void 突き合わせた社員情報が一覧取得の結果と一致すること() {
+        List<Employee> expected = new EmployeeRepositoryDao().findAll().getEmployees().stream()
+                .sorted(Comparator.comparingInt(Employee::getId))
+                .collect(toList());
+
+        List<Employee> actual;
+        try (Stream<Employee> employees = new EmployeeStreamAssembler().streamAll()) {
+            actual = employees.collect(toList());
+        }
+
+        assertThat(actual).extracting(Employee::getId)
+                .containsExactlyElementsOf(expected.stream().map(Employee::getId).collect(toList()));
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(actual.get(i).getTotalSalary(201504)).isEqualTo(expected.get(i).getTotalSalary(201504));
+            assertThat(actual.get(i).getTakeHomeAmount(201504))
+                    .isEqualTo(expected.get(i).getTakeHomeAmount(201504));
+        }
+    }
+
+    @Test
+    public void 区間毎に並列に読み込んだ社員情報が社員番号の昇順に結合されること() {
+        List<Employee> expected;
+        try (Stream<Employee> employees = new EmployeeStreamAssembler().streamAll()) {
+            expected = employees.collect(toList());
+        }
+
+        for (int partitions = 1; partitions <= 5; partitions++) {
+            List<Employee> actual;
+            try (Stream<Employee> employees = new EmployeeStreamAssembler().streamAll(partitions)) {
+                actual = employees.collect(toList());
+            }
+            assertThat(actual).extracting(Employee::getId)
+                    .containsExactlyElementsOf(expected.stream().map(Employee::getId).collect(toList()));
+            for (int i = 0; i < expected.size(); i++) {
+                assertThat(actual.get(i).getTotalSalary(201504))
+                        .isEqualTo(expected.get(i).getTotalSalary(201504));
+            }
+        }
+    }
+
+    @Test
+    public void 途中で閉じても繰り返し読み込めること() {
+        EmployeeRepositoryDao repository = new EmployeeRepositoryDao();
+        try (Stream<Employee> employees = repository.streamAll()) {
+            assertThat(employees.findFirst().map(Employee::getId)).contains(1);
+        }
+        try (Stream<Employee> employees = repository.streamAll()) {
+            assertThat(employees.count()).isEqualTo((long) repository.findAll().getEmployees().size());
+        }
+    }
+}
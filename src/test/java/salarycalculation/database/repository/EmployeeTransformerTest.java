@@ -0,0 +1,61 @@
+package salarycalculation.database.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import salarycalculation.database.EmployeeDao;
+import salarycalculation.database.model.EmployeeRecord;
+import salarycalculation.domain.employee.Employee;
+
+/**
+ * {@link EmployeeTransformer}に対するテストクラス。
+ *
+ * @author naotake
+ */
+public class EmployeeTransformerTest {
+
+    @Test
+    public void まとめて変換した社員情報が1件ずつ変換した結果と一致すること() {
+        EmployeeTransformer testee = new EmployeeTransformer();
+        List<EmployeeRecord> records = new EmployeeDao().findAll(true);
+
+        Map<Integer, Employee> actual = testee.transformToEntities(records);
+
+        assertThat(actual).hasSize(records.size());
+        for (EmployeeRecord record : records) {
+            Employee expected = testee.transformToEntity(record);
+            Employee employee = actual.get(record.getNo());
+            assertThat(employee.getName()).isEqualTo(expected.getName());
+            assertThat(employee.getOrganization()).isEqualTo(expected.getOrganization());
+            assertThat(employee.getTotalSalary(201504)).isEqualTo(expected.getTotalSalary(201504));
+            assertThat(employee.getTakeHomeAmount(201504)).isEqualTo(expected.getTakeHomeAmount(201504));
+        }
+    }
+
+    @Test
+    public void 複数の社員番号を指定した順に取得し存在しない社員番号は含まないこと() {
+        EmployeeRepositoryDao repository = new EmployeeRepositoryDao();
+
+        Map<String, Employee> actual = repository.getAll(Arrays.asList("3", "9999", "x", "1", "3"));
+
+        assertThat(actual.keySet()).containsExactly("3", "1");
+        assertThat(actual.get("1").getId()).isEqualTo(1);
+        assertThat(actual.get("3").getId()).isEqualTo(3);
+    }
+
+    @Test
+    public void 組織が存在しない社員はまとめて変換した結果に含めないこと() {
+        EmployeeTransformer testee = new EmployeeTransformer();
+        List<EmployeeRecord> records = new EmployeeDao().findAll(true);
+        records.get(0).setOrganization("UNKNOWN");
+
+        Map<Integer, Employee> actual = testee.transformToEntities(records);
+
+        assertThat(actual).hasSize(records.size() - 1).doesNotContainKey(records.get(0).getNo());
+    }
+}
@@ -0,0 +1,159 @@
+package salarycalculation.database.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import salarycalculation.database.ConnectionFactory;
+import salarycalculation.database.Storage;
+import salarycalculation.database.StorageStartup;
+import salarycalculation.database.WorkArchiveCatalog;
+import salarycalculation.database.WorkDao;
+import salarycalculation.database.model.WorkArchiveRecord;
+import salarycalculation.domain.employee.Employee;
+import salarycalculation.domain.payroll.AnnualIncomeSummary;
+import salarycalculation.domain.payroll.AnnualPeriod;
+
+/**
+ * {@link WorkArchiver}に対するテストクラス。<br />
+ * 稼動情報を移動するため、サンプルデータを読み込んだメモリ上のデータベースで実行する。
+ *
+ * @author naotake
+ */
+public class WorkArchiverTest {
+
+    private Storage original;
+    private Storage memory;
+    private WorkArchiver testee;
+
+    @Before
+    public void setUp() {
+        original = ConnectionFactory.getStorage();
+        memory = Storage.memory("work_archiver_test");
+        StorageStartup.prepare(memory, original);
+        ConnectionFactory.setStorage(memory);
+        WorkArchiveCatalog.invalidate();
+
+        testee = new WorkArchiver();
+        testee.setClock(clock(2016, 5, 1));
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+        ConnectionFactory.setStorage(original);
+        WorkArchiveCatalog.invalidate();
+        try (Connection connection = memory.open(); Statement statement = connection.createStatement()) {
+            statement.execute("shutdown");
+        }
+    }
+
+    @Test
+    public void 締め済みの年度の稼動情報がコールドテーブルへ移動すること() {
+        int moved = testee.archive(2015);
+
+        assertThat(moved).isEqualTo(4);
+        WorkRepositoryDao repository = new WorkRepositoryDao();
+        assertThat(repository.findByEmployeeId(1).get().getWorkYearMonths()).containsOnly(201504);
+        assertThat(repository.findByYearMonth(1, 201504)).isPresent();
+        assertThat(repository.findByYearMonth(1, 201505)).isEmpty();
+        assertThat(repository.findHistory(1).get().getWorkYearMonths()).containsOnly(201504);
+        assertThat(new WorkDao().getByYearMonth(3, 201504).getWorkOverTime()).isEqualByComparingTo("29.0");
+
+        List<WorkArchiveRecord> archives = testee.findArchives();
+        assertThat(archives).extracting(WorkArchiveRecord::getFiscalYear).containsExactly(2015);
+        assertThat(archives.get(0).getRecords()).isEqualTo(4);
+    }
+
+    @Test
+    public void 再実行しても稼動情報が重複しないこと() {
+        testee.archive(2015);
+
+        assertThat(testee.archive(2015)).isEqualTo(0);
+        assertThat(testee.findArchives().get(0).getRecords()).isEqualTo(4);
+        assertThat(new WorkDao().findHistory(1)).hasSize(1);
+    }
+
+    @Test
+    public void アーカイブ済みの年度も年間の実績給与を集計できること() {
+        AnnualIncomeSummary before = new AnnualIncomeAggregator(2).aggregate(AnnualPeriod.FISCAL, 2015);
+
+        testee.archive(2015);
+        AnnualIncomeSummary after = new AnnualIncomeAggregator(2).aggregate(AnnualPeriod.FISCAL, 2015);
+
+        assertThat(after.getEmployees()).isEqualTo(before.getEmployees());
+        assertThat(after.getGrossAmount()).isEqualTo(before.getGrossAmount());
+    }
+
+    @Test
+    public void アーカイブ済みの年度も社員の稼動情報として取得できること() {
+        Employee before = new EmployeeRepositoryDao().get("1");
+
+        testee.archive(2015);
+        Employee after = new EmployeeRepositoryDao().get("1");
+
+        assertThat(after.getWorkTimes().getWorkYearMonths())
+                .containsOnlyElementsOf(before.getWorkTimes().getWorkYearMonths());
+        assertThat(after.getOvertimeAmount(201504)).isEqualTo(before.getOvertimeAmount(201504));
+        assertThat(new WorkRepositoryDao().findByEmployeeIds(Arrays.asList(1, 3)).keySet()).containsOnly(1, 3);
+    }
+
+    @Test
+    public void アーカイブ済みの年度も給与の依存関係の索引に含まれること() {
+        int[] before = new PayrollDependencyIndexLoader().load().workMonthsOf(1);
+
+        testee.archive(2015);
+
+        assertThat(new PayrollDependencyIndexLoader().load().workMonthsOf(1)).containsOnly(before).contains(201504);
+    }
+
+    @Test
+    public void 他のプロセスでアーカイブした年度も参照できること() throws SQLException {
+        // アーカイブ前の一覧を読み込んでおく
+        assertThat(new WorkDao().findByYearMonth(1, 201504)).isNotNull();
+
+        // 一覧を読み込み直さずに、別のプロセスと同じ手順で 2015 年度を移動する
+        try (Connection connection = memory.open(); Statement statement = connection.createStatement()) {
+            statement.execute("create table work_fy2015 as select * from work"
+                    + " where workYearMonth between 201504 and 201603");
+            statement.execute("create or replace view workHistory as select * from work"
+                    + " union all select * from work_fy2015");
+            statement.execute("delete from work where workYearMonth between 201504 and 201603");
+            statement.execute("insert into workArchive values(2015, 'work_fy2015', 4, current_timestamp())");
+        }
+
+        WorkRepositoryDao repository = new WorkRepositoryDao();
+        assertThat(repository.findByYearMonth(1, 201504)).isPresent();
+        assertThat(repository.findByEmployeeId(1).get().getWorkYearMonths()).containsOnly(201504);
+    }
+
+    @Test
+    public void 前月を含む年度はアーカイブできないこと() {
+        testee.setClock(clock(2016, 4, 15));
+
+        assertThat(testee.isClosed(2015)).isFalse();
+        assertThat(testee.isClosed(2014)).isTrue();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void 締め前の年度を指定した場合はエラーとなること() {
+        testee.setClock(clock(2016, 4, 15));
+
+        testee.archive(2015);
+    }
+
+    private static Clock clock(int year, int month, int day) {
+        ZoneId zone = ZoneId.systemDefault();
+        return Clock.fixed(LocalDate.of(year, month, day).atStartOfDay(zone).toInstant(), zone);
+    }
+}
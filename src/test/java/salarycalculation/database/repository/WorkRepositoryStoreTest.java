@@ -0,0 +1,58 @@
+package salarycalculation.database.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+
+import org.junit.After;
+import org.junit.Test;
+
+import salarycalculation.database.kv.WorkStore;
+import salarycalculation.domain.work.WorkOverTime;
+import salarycalculation.domain.work.WorkOverTimes;
+
+/**
+ * {@link WorkRepositoryStore}に対するテストクラス。
+ *
+ * @author naotake
+ */
+public class WorkRepositoryStoreTest {
+
+    private WorkStore store = WorkStore.inMemory();
+
+    @After
+    public void tearDown() {
+        store.close();
+    }
+
+    @Test
+    public void workテーブルから読み込んだ稼動情報が同じ内容で取得できること() {
+        WorkRepositoryStore testee = new WorkRepositoryStore(store);
+        assertThat(testee.reload()).isGreaterThan(0);
+
+        WorkRepositoryDao expectedRepository = new WorkRepositoryDao();
+        for (int no = 1; no <= 4; no++) {
+            WorkOverTimes expected = expectedRepository.findByEmployeeId(no).get();
+            WorkOverTimes actual = testee.findByEmployeeId(no).get();
+
+            assertThat(actual.getWorkYearMonths()).isEqualTo(expected.getWorkYearMonths());
+            for (int month : expected.getWorkYearMonths()) {
+                WorkOverTime expectedMonth = expected.getWorkOverTime(month).get();
+                WorkOverTime actualMonth = actual.getWorkOverTime(month).get();
+                assertThat(actualMonth.getTotalWorkOverTime())
+                        .isEqualByComparingTo(expectedMonth.getTotalWorkOverTime());
+                assertThat(actualMonth.getHolidayWorkTime().getWorkingTime())
+                        .isEqualByComparingTo(expectedMonth.getHolidayWorkTime().getWorkingTime());
+            }
+        }
+    }
+
+    @Test
+    public void 稼動情報が無い社員はemptyとなること() {
+        WorkRepositoryStore testee = new WorkRepositoryStore(store);
+
+        Optional<WorkOverTimes> actual = testee.findByEmployeeId(1);
+
+        assertThat(actual).isEmpty();
+    }
+}
@@ -0,0 +1,76 @@
+package salarycalculation.database.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import salarycalculation.domain.analytics.WorkforceSnapshot;
+import salarycalculation.domain.payroll.MasterChange;
+
+/**
+ * {@link WorkforceSnapshotCache}に対するテストクラス。
+ *
+ * @author naotake
+ */
+public class WorkforceSnapshotCacheTest {
+
+    private WorkforceSnapshotCache testee;
+
+    private WorkforceSnapshotLoader loader;
+
+    @Before
+    public void setUp() {
+        loader = mock(WorkforceSnapshotLoader.class);
+        when(loader.load(201504)).thenAnswer(invocation -> mock(WorkforceSnapshot.class));
+        when(loader.load(201505)).thenAnswer(invocation -> mock(WorkforceSnapshot.class));
+        testee = new WorkforceSnapshotCache(loader);
+    }
+
+    @Test
+    public void 同じ年月のスナップショットが使い回されること() {
+        WorkforceSnapshot first = testee.get(201504);
+        WorkforceSnapshot second = testee.get(201504);
+
+        assertThat(second).isSameAs(first);
+        verify(loader, times(1)).load(201504);
+    }
+
+    @Test
+    public void 稼動情報の変更でその年月のスナップショットのみ破棄されること() {
+        WorkforceSnapshot april = testee.get(201504);
+        WorkforceSnapshot may = testee.get(201505);
+
+        testee.invalidate(MasterChange.work(1, 201504));
+
+        assertThat(testee.get(201504)).isNotSameAs(april);
+        assertThat(testee.get(201505)).isSameAs(may);
+    }
+
+    @Test
+    public void マスタの変更で全ての年月のスナップショットが破棄されること() {
+        WorkforceSnapshot april = testee.get(201504);
+        WorkforceSnapshot may = testee.get(201505);
+
+        testee.invalidate(MasterChange.role("A3"));
+
+        assertThat(testee.get(201504)).isNotSameAs(april);
+        assertThat(testee.get(201505)).isNotSameAs(may);
+    }
+
+    @Test
+    public void 読み込み中に破棄された場合は読み込んだスナップショットを保持しないこと() {
+        when(loader.load(201504)).thenAnswer(invocation -> {
+            testee.invalidate(MasterChange.employee(1));
+            return mock(WorkforceSnapshot.class);
+        });
+
+        testee.get(201504);
+
+        assertThat(testee.size()).isEqualTo(0);
+    }
+}
@@ -0,0 +1,223 @@
+package salarycalculation.domain.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import salarycalculation.database.repository.EmployeeRepositoryDao;
+import salarycalculation.database.repository.WorkforceSnapshotLoader;
+import salarycalculation.domain.employee.CapabilityRank;
+import salarycalculation.domain.employee.Employees;
+import salarycalculation.domain.employee.LongServiceAllowance;
+import salarycalculation.domain.rule.ComponentRule;
+import salarycalculation.domain.rule.Condition;
+import salarycalculation.domain.rule.PayrollPlan;
+import salarycalculation.domain.rule.PayrollPlans;
+import salarycalculation.domain.rule.PayrollRules;
+import salarycalculation.domain.work.WorkOverTime;
+
+/**
+ * {@link WorkforceSnapshot}のテストクラス。
+ *
+ * @author naotake
+ */
+public class WorkforceSnapshotTest {
+
+    private static Employees employees;
+
+    @BeforeClass
+    public static void setUpClass() {
+        employees = new EmployeeRepositoryDao().findAll();
+    }
+
+    @After
+    public void tearDown() {
+        PayrollPlans.use(null);
+    }
+
+    @Test
+    public void 総支給額の合計が社員毎の計算結果と一致すること() {
+        for (int workYearMonth : new int[] { 201504, 201505, 201604 }) {
+            WorkforceSnapshot testee = new WorkforceSnapshotLoader().load(workYearMonth);
+
+            assertThat(testee.size()).isEqualTo(4);
+            assertThat(testee.getSumTotalSalary()).isEqualTo(employees.getSumTotalSalary(workYearMonth));
+            assertThat(testee.getAverageTakeHome()).isEqualTo(employees.getAverageTakeHome(workYearMonth));
+        }
+    }
+
+    @Test
+    public void 想定年収が指定額を超える社員数が社員毎の計算結果と一致すること() {
+        WorkforceSnapshot testee = new WorkforceSnapshotLoader().load(201504);
+
+        for (int condition : new int[] { 0, 3000000, 5000000, 10000000 }) {
+            assertThat(testee.getCountByOverAnnualSalary(condition))
+                    .isEqualTo(employees.getCountByOverAnnualSalary(condition));
+        }
+    }
+
+    @Test
+    public void 組織コード毎の社員数を取得できること() {
+        WorkforceSnapshot testee = new WorkforceSnapshotLoader().load(201504);
+
+        employees.getEmployees().stream().map(e -> e.getOrganization().getId()).distinct().forEach(code -> {
+            long expected = employees.getEmployees().stream()
+                    .filter(e -> e.getOrganization().getId().equals(code))
+                    .count();
+            assertThat(testee.countByOrganization(code)).isEqualTo(expected);
+        });
+        assertThat(testee.countByOrganization("UNKNOWN")).isZero();
+    }
+
+    @Test
+    public void 勤続3年目の初月に勤続手当が加算されること() {
+        WorkforceSnapshot testee = WorkforceSnapshot.builder(201603)
+                .role("A1", 190000)
+                .capability(CapabilityRank.AS, 50000)
+                .add(row(1, LocalDate.of(2013, 4, 1)))
+                .build();
+
+        // 基本給 + 勤続手当
+        assertThat(testee.getSumTotalSalary()).isEqualTo(190000 + 50000 + 3000);
+    }
+
+    @Test
+    public void 評価計画を指定した場合は評価計画のルールで集計されること() {
+        PayrollRules rules = PayrollRules.defaults();
+        rules.getLongServiceAllowances().put(3, 6000L);
+        rules.getComponents().add(ComponentRule.fixed("specialAllowance", 5000, Condition.ALWAYS));
+        PayrollPlans.use(PayrollPlan.compile(rules));
+
+        WorkforceSnapshot testee = WorkforceSnapshot.builder(201603)
+                .role("A1", 190000)
+                .capability(CapabilityRank.AS, 50000)
+                .add(row(1, LocalDate.of(2013, 4, 1)))
+                .build();
+
+        // 基本給 + 変更後の勤続手当 + 固定額の手当
+        assertThat(testee.getSumTotalSalary()).isEqualTo(190000 + 50000 + 6000 + 5000);
+    }
+
+    @Test
+    public void マネージャ職には残業代が加算されないこと() {
+        WorkforceSnapshot testee = WorkforceSnapshot.builder(201504)
+                .role("M1", 300000)
+                .capability(CapabilityRank.PM, 300000)
+                .add(row(1, LocalDate.of(2014, 12, 1)).capabilityRank(CapabilityRank.PM).roleRank("M1"))
+                .work(work(1, 201504))
+                .build();
+
+        assertThat(testee.getSumTotalSalary())
+                .isEqualTo(300000 + 300000 + CapabilityRank.PM.getSeparatedAllowance().value().longValue());
+    }
+
+    @Test
+    public void 対象年月の稼動情報から残業代が加算されること() {
+        WorkforceSnapshot testee = WorkforceSnapshot.builder(201504)
+                .role("A1", 190000)
+                .capability(CapabilityRank.AS, 50000)
+                .add(row(1, LocalDate.of(2014, 12, 1)))
+                .work(work(1, 201504))
+                .work(work(1, 201505))
+                .build();
+
+        // 10 時間 * 1000 円
+        assertThat(testee.getSumTotalSalary()).isEqualTo(190000 + 50000 + 10000);
+    }
+
+    @Test
+    public void 給与テーブルを変更しない場合は影響額が無いこと() {
+        WorkforceSnapshot testee = new WorkforceSnapshotLoader().load(201504);
+
+        SimulationResult actual = testee.simulate(new PayTableOverrides());
+
+        assertThat(actual.getTotal().getEmployees()).isEqualTo(4);
+        assertThat(actual.getTotal().getCurrentMonthlyTotal()).isEqualTo(testee.getSumTotalSalary());
+        assertThat(actual.getTotal().getMonthlyDelta()).isZero();
+        assertThat(actual.getTotal().getAnnualDelta()).isZero();
+        assertThat(actual.getOrganizations().values().stream().mapToLong(SimulationResult.Impact::getEmployees)
+                .sum()).isEqualTo(4);
+    }
+
+    @Test
+    public void 給与テーブルを変更した場合の影響額を組織毎に試算できること() {
+        WorkforceSnapshot testee = WorkforceSnapshot.builder(201603)
+                .role("A1", 190000)
+                .role("C3", 202000)
+                .capability(CapabilityRank.AS, 50000)
+                .capability(CapabilityRank.PM, 300000)
+                .add(row(1, LocalDate.of(2013, 4, 1)))
+                .add(row(2, LocalDate.of(2014, 4, 1)).roleRank("C3").organization("DEV2"))
+                .add(row(3, LocalDate.of(2014, 4, 1)).capabilityRank(CapabilityRank.PM).organization("DEV2"))
+                .build();
+
+        SimulationResult actual = testee.simulate(new PayTableOverrides()
+                .role("C3", 210000)
+                .capability(CapabilityRank.PM, 310000)
+                .separatedAllowance(CapabilityRank.PM, 35000)
+                .longServiceAllowance(LongServiceAllowance.THREE, 5000));
+
+        // 社員番号 1 は勤続 3 年目の初月
+        SimulationResult.Impact dev1 = actual.getOrganizations().get("DEV1");
+        assertThat(dev1.getEmployees()).isEqualTo(1);
+        assertThat(dev1.getMonthlyDelta()).isEqualTo(2000);
+        assertThat(dev1.getAnnualDelta()).isZero();
+
+        SimulationResult.Impact dev2 = actual.getOrganizations().get("DEV2");
+        assertThat(dev2.getEmployees()).isEqualTo(2);
+        assertThat(dev2.getMonthlyDelta()).isEqualTo(8000 + 10000 + 5000);
+        assertThat(dev2.getAnnualDelta()).isEqualTo((8000 + 10000 + 5000) * 12);
+
+        assertThat(actual.getTotal().getMonthlyDelta()).isEqualTo(2000 + 8000 + 10000 + 5000);
+        // 変更前の金額は変わらない
+        assertThat(testee.getSumTotalSalary()).isEqualTo(actual.getTotal().getCurrentMonthlyTotal());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void 未登録の役割等級を変更しようとした場合はエラーとなること() {
+        WorkforceSnapshot testee = WorkforceSnapshot.builder(201504)
+                .role("A1", 190000)
+                .add(row(1, LocalDate.of(2014, 12, 1)))
+                .build();
+
+        testee.simulate(new PayTableOverrides().role("Z9", 200000));
+    }
+
+    @Test
+    public void 社員番号の昇順でない場合はエラーとなること() {
+        WorkforceSnapshot.Builder builder = WorkforceSnapshot.builder(201504)
+                .role("A1", 190000)
+                .add(row(2, LocalDate.of(2014, 12, 1)));
+        try {
+            builder.add(row(1, LocalDate.of(2014, 12, 1)));
+            fail("IllegalArgumentException が発生すること");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage()).contains("[1]");
+        }
+    }
+
+    private static WorkforceSnapshot.Row row(int no, LocalDate joinDate) {
+        return new WorkforceSnapshot.Row()
+                .no(no)
+                .organization("DEV1")
+                .roleRank("A1")
+                .capabilityRank(CapabilityRank.AS)
+                .joinDate(joinDate)
+                .workOverTime1hAmount(1000);
+    }
+
+    private static WorkOverTime work(int no, int workYearMonth) {
+        return WorkOverTime.builder(workYearMonth, no)
+                .workOverTime(BigDecimal.TEN)
+                .lateNightOverTime(BigDecimal.ZERO)
+                .holidayWorkTime(BigDecimal.ZERO)
+                .holidayLateNightOverTime(BigDecimal.ZERO)
+                .build();
+    }
+}
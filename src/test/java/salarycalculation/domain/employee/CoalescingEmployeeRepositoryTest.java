@@ -0,0 +1,230 @@
+package salarycalculation.domain.employee;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import salarycalculation.exception.RecordNotFoundException;
+
+/**
+ * {@link CoalescingEmployeeRepository}に対するテストクラス。
+ *
+ * @author naotake
+ */
+public class CoalescingEmployeeRepositoryTest {
+
+    private CoalescingEmployeeRepository testee;
+
+    private EmployeeRepository delegate;
+    private AtomicLong now;
+
+    @Before
+    public void setUp() {
+        delegate = mock(EmployeeRepository.class);
+        now = new AtomicLong();
+        testee = new CoalescingEmployeeRepository(delegate, 2, TimeUnit.SECONDS, 100);
+        testee.setTicker(now::get);
+    }
+
+    @Test
+    public void 同じ社員の同時の取得が1回の読み込みに束ねられること() throws Exception {
+        Employee employee = mock(Employee.class);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.get("1")).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return employee;
+        });
+
+        AtomicReferenceArray<Object> results = new AtomicReferenceArray<>(8);
+        List<Thread> threads = start("1", results, entered);
+        release.countDown();
+        joinAll(threads);
+
+        for (int i = 0; i < results.length(); i++) {
+            assertThat(results.get(i)).isSameAs(employee);
+        }
+        verify(delegate, times(1)).get("1");
+    }
+
+    @Test
+    public void 存在しない社員の例外が束ねた全ての取得に送出され結果は保持されないこと() throws Exception {
+        RecordNotFoundException notFound = new RecordNotFoundException(Employee.class, "99");
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.get("99")).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            throw notFound;
+        });
+
+        AtomicReferenceArray<Object> results = new AtomicReferenceArray<>(4);
+        List<Thread> threads = start("99", results, entered);
+        release.countDown();
+        joinAll(threads);
+
+        for (int i = 0; i < results.length(); i++) {
+            assertThat(results.get(i)).isSameAs(notFound);
+        }
+        verify(delegate, times(1)).get("99");
+
+        try {
+            testee.get("99");
+            fail("RecordNotFoundException が送出されること");
+        } catch (RecordNotFoundException e) {
+            assertThat(e.getKey()).containsExactly("99");
+        }
+        verify(delegate, times(2)).get("99");
+        assertThat(testee.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void 保持期間内は再読み込みせず期間を過ぎると再読み込みすること() {
+        Employee first = mock(Employee.class);
+        Employee second = mock(Employee.class);
+        when(delegate.get("1")).thenReturn(first, second);
+
+        assertThat(testee.get("1")).isSameAs(first);
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1999));
+        assertThat(testee.get("1")).isSameAs(first);
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertThat(testee.get("1")).isSameAs(second);
+        verify(delegate, times(2)).get("1");
+    }
+
+    @Test
+    public void 破棄した社員は再読み込みすること() {
+        Employee first = mock(Employee.class);
+        Employee second = mock(Employee.class);
+        when(delegate.get("1")).thenReturn(first, second);
+
+        testee.get("1");
+        testee.invalidate("1");
+
+        assertThat(testee.get("1")).isSameAs(second);
+    }
+
+    @Test
+    public void 保持期間が0の場合は結果を保持しないこと() {
+        testee = new CoalescingEmployeeRepository(delegate, 0, TimeUnit.SECONDS, 100);
+        when(delegate.get("1")).thenReturn(mock(Employee.class));
+
+        testee.get("1");
+        testee.get("1");
+
+        verify(delegate, times(2)).get("1");
+        assertThat(testee.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void まとめて取得する場合は保持していない社員のみを読み込むこと() {
+        Employee first = mock(Employee.class);
+        Employee second = mock(Employee.class);
+        when(delegate.get("1")).thenReturn(first);
+        when(delegate.getAll(Arrays.asList("2", "9"))).thenReturn(Collections.singletonMap("2", second));
+
+        testee.get("1");
+        Map<String, Employee> actual = testee.getAll(Arrays.asList("2", "1", "9"));
+
+        assertThat(actual.keySet()).containsExactly("2", "1");
+        assertThat(actual.get("1")).isSameAs(first);
+        assertThat(actual.get("2")).isSameAs(second);
+        assertThat(testee.get("2")).isSameAs(second);
+        verify(delegate, times(0)).get("2");
+    }
+
+    @Test
+    public void 射影毎に結果を保持し集約全体の結果は射影を指定した取得にも返すこと() {
+        EmployeeProjection nameOnly = EmployeeProjection.of(EmployeeProjection.Field.NAME);
+        Employee projected = mock(Employee.class);
+        Employee whole = mock(Employee.class);
+        when(delegate.get("1", nameOnly)).thenReturn(projected);
+        when(delegate.get("2")).thenReturn(whole);
+
+        assertThat(testee.get("1", nameOnly)).isSameAs(projected);
+        assertThat(testee.get("1", nameOnly)).isSameAs(projected);
+        testee.get("2");
+        assertThat(testee.get("2", nameOnly)).isSameAs(whole);
+
+        verify(delegate, times(1)).get("1", nameOnly);
+        verify(delegate, times(0)).get("2", nameOnly);
+    }
+
+    @Test
+    public void 破棄した社員は全ての射影の結果が破棄されること() {
+        EmployeeProjection nameOnly = EmployeeProjection.of(EmployeeProjection.Field.NAME);
+        when(delegate.get("1", nameOnly)).thenReturn(mock(Employee.class));
+        when(delegate.get("1")).thenReturn(mock(Employee.class));
+        when(delegate.get("2")).thenReturn(mock(Employee.class));
+
+        testee.get("1", nameOnly);
+        testee.get("1");
+        testee.get("2");
+        testee.invalidate("1");
+
+        assertThat(testee.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void 取得以外は委譲先へ委譲されること() {
+        when(delegate.countByOrganization("DEV")).thenReturn(3L);
+
+        assertThat(testee.countByOrganization("DEV")).isEqualTo(3L);
+    }
+
+    /**
+     * 最初のスレッドが読み込みを開始した後に残りのスレッドを開始し、全てが待機するまで待つ。
+     */
+    private List<Thread> start(String no, AtomicReferenceArray<Object> results, CountDownLatch entered)
+            throws Exception {
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < results.length(); i++) {
+            int index = i;
+            Thread thread = new Thread(() -> {
+                try {
+                    results.set(index, testee.get(no));
+                } catch (RuntimeException e) {
+                    results.set(index, e);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+            if (i == 0) {
+                assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+            }
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        for (Thread thread : threads) {
+            while (thread.getState() != Thread.State.WAITING && thread.getState() != Thread.State.TIMED_WAITING) {
+                if (System.nanoTime() > deadline) {
+                    fail("スレッドが待機しませんでした");
+                }
+                Thread.sleep(1);
+            }
+        }
+        return threads;
+    }
+
+    private static void joinAll(List<Thread> threads) throws InterruptedException {
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+}
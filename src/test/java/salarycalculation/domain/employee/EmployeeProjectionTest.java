@@ -0,0 +1,69 @@
+package salarycalculation.domain.employee;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import org.junit.Test;
+
+import salarycalculation.domain.employee.EmployeeProjection.Field;
+
+/**
+ * {@link EmployeeProjection}に対するテストクラス。
+ *
+ * @author naotake
+ */
+public class EmployeeProjectionTest {
+
+    @Test
+    public void カンマ区切りの項目名から射影を生成できること() {
+        EmployeeProjection actual = EmployeeProjection.parse(" Name, organization ,payslip(201505),payslip(201504)");
+
+        assertThat(actual).isEqualTo(EmployeeProjection.of(Field.NAME, Field.ORGANIZATION)
+                .withPayslip(201504).withPayslip(201505));
+        assertThat(actual.isComplete()).isFalse();
+        assertThat(actual.includes(Field.ROLE)).isFalse();
+        assertThat(actual.getPayslipMonths()).containsExactly(201504, 201505);
+    }
+
+    @Test
+    public void 給与明細を含む場合は等級と給与計算の項目が必要となること() {
+        EmployeeProjection actual = EmployeeProjection.parse("payslip(201504)");
+
+        assertThat(actual.requiresRole()).isTrue();
+        assertThat(actual.requiresCapability()).isTrue();
+        assertThat(actual.requiresSalary()).isTrue();
+        assertThat(actual.includes(Field.NAME)).isFalse();
+    }
+
+    @Test
+    public void 給与明細を含まない場合は給与計算の項目が不要となること() {
+        EmployeeProjection actual = EmployeeProjection.parse("role");
+
+        assertThat(actual.requiresRole()).isTrue();
+        assertThat(actual.requiresCapability()).isFalse();
+        assertThat(actual.requiresSalary()).isFalse();
+    }
+
+    @Test
+    public void 不正な項目名の場合は例外が送出されること() {
+        assertInvalid("name,salary", "不正な項目です[salary]");
+        assertInvalid("payslip", "給与明細は稼動年月を指定してください[payslip]");
+        assertInvalid("payslip(201513)", "不正な稼動年月です[payslip(201513)]");
+        assertInvalid("payslip(abc)", "不正な稼動年月です[payslip(abc)]");
+    }
+
+    @Test
+    public void 集約全体に給与明細を加えても集約全体のままであること() {
+        assertThat(EmployeeProjection.ALL.withPayslip(201504)).isSameAs(EmployeeProjection.ALL);
+        assertThat(EmployeeProjection.ALL.isComplete()).isTrue();
+    }
+
+    private static void assertInvalid(String expression, String message) {
+        try {
+            EmployeeProjection.parse(expression);
+            fail("IllegalArgumentException が送出されること");
+        } catch (IllegalArgumentException e) {
+            assertThat(e).hasMessage(message);
+        }
+    }
+}
@@ -3,6 +3,9 @@ package salarycalculation.domain.employee;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.anyCollectionOf;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -12,6 +15,7 @@ import static salarycalculation.matchers.RecordNotFoundExceptionMatcher.isKey;
 
 import java.sql.Date;
 import java.time.LocalDate;
+import java.util.Arrays;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -145,30 +149,34 @@ public class EmployeeRepositoryTest_Mockito {
     }
 
     @Test
-    public void 社員と組織の情報を取得できること() {
+    public void 射影を指定して社員と組織の情報のみを取得できること() {
         String no = "101";
         String organization = "ORGANIZATION2";
 
         this.entity = createEntity(no, organization, null, null);
+        this.entity.setName("大阪 太郎");
 
         Organization record = new Organization(organization, "");
         this.organization = record;
 
         // 振る舞いを定義
-        when(mockDao.get(no)).thenReturn(this.entity);
+        when(mockDao.get(eq(no), anyCollectionOf(String.class))).thenReturn(this.entity);
         when(mockOrganizationRepository.find(organization)).thenReturn(this.organization);
 
         // 実行
-        @SuppressWarnings("deprecation")
-        Employee actual = testee.getSimple(no);
+        Employee actual = testee.get(no,
+                EmployeeProjection.of(EmployeeProjection.Field.NAME, EmployeeProjection.Field.ORGANIZATION));
 
         // 検証
         assertThat(actual.getName().getFullName(), is(equalTo(this.entity.getName())));
         assertThat(actual.getOrganization().getId(), is(equalTo(organization)));
 
         // 振る舞いの検証
-        verify(mockDao).get(no);
+        verify(mockDao).get(no, Arrays.asList("no", "name", "organization"));
+        verify(mockDao, never()).get(no);
         verify(mockOrganizationRepository).find(organization);
+        verify(mockRoleDao, never()).get(anyString());
+        verify(mockCapabilityDao, never()).get(anyString());
     }
 
     @Test
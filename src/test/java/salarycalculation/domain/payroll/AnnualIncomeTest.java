@@ -0,0 +1,91 @@
+package salarycalculation.domain.payroll;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import salarycalculation.domain.employee.BusinessDate;
+import salarycalculation.domain.employee.Capability;
+import salarycalculation.domain.employee.CapabilityRank;
+import salarycalculation.domain.employee.Employee;
+import salarycalculation.domain.employee.Role;
+import salarycalculation.domain.work.WorkOverTime;
+import salarycalculation.domain.work.WorkOverTimes;
+import salarycalculation.utils.Money;
+
+/**
+ * {@link AnnualIncome}に対するテストクラス。
+ *
+ * @author naotake
+ */
+public class AnnualIncomeTest {
+
+    @Test
+    public void 年度の実績給与が各月の給与明細の合計と一致すること() {
+        Employee employee = employee(BusinessDate.of(2012, 5, 15));
+
+        AnnualIncome actual = AnnualIncome.of(employee, AnnualPeriod.FISCAL, 2015);
+
+        Money gross = Money.ZERO;
+        Money takeHome = Money.ZERO;
+        for (int month : AnnualPeriod.FISCAL.months(2015)) {
+            gross = gross.add(employee.getTotalSalary(month));
+            takeHome = takeHome.add(employee.getTakeHomeAmount(month));
+        }
+        assertThat(actual.getEmployeeNo()).isEqualTo(1);
+        assertThat(actual.getMonths()).isEqualTo(12);
+        assertThat(actual.getGrossAmount()).isEqualTo(gross);
+        assertThat(actual.getTakeHomeAmount()).isEqualTo(takeHome);
+        assertThat(actual.getOvertimeAmount()).isEqualTo(Money.from(12500));
+        assertThat(actual.getGrossAmount().minus(actual.getDeductionAmount()))
+                .isEqualTo(actual.getTakeHomeAmount());
+    }
+
+    @Test
+    public void 入社前の月は実績給与に含まれないこと() {
+        Employee employee = employee(BusinessDate.of(2015, 6, 15));
+
+        AnnualIncome actual = AnnualIncome.of(employee, AnnualPeriod.CALENDAR, 2015);
+
+        Money gross = Money.ZERO;
+        for (int month = 201506; month <= 201512; month++) {
+            gross = gross.add(employee.getTotalSalary(month));
+        }
+        assertThat(actual.getMonths()).isEqualTo(7);
+        assertThat(actual.getGrossAmount()).isEqualTo(gross);
+    }
+
+    @Test
+    public void 期間中に入社していない場合は支給月数が0となること() {
+        Employee employee = employee(BusinessDate.of(2016, 1, 1));
+
+        AnnualIncome actual = AnnualIncome.of(employee, AnnualPeriod.CALENDAR, 2015);
+
+        assertThat(actual.getMonths()).isEqualTo(0);
+        assertThat(actual.getGrossAmount()).isEqualTo(Money.ZERO);
+    }
+
+    private static Employee employee(BusinessDate joinDate) {
+        Employee employee = new Employee(1);
+        employee.setJoinDate(joinDate);
+        employee.setRole(new Role("A3", Money.from(195000)));
+        employee.setCapability(Capability.normal(CapabilityRank.SE, Money.from(150000)));
+        employee.setCommuteAmount(Money.from(8900));
+        employee.setRentAmount(Money.from(32000));
+        employee.setHealthInsuranceAmount(Money.from(6432));
+        employee.setEmployeePensionAmount(Money.from(12000));
+        employee.setIncomeTaxAmount(Money.from(3200));
+        employee.setInhabitantTaxAmount(Money.from(8900));
+        employee.setWorkOverTime1hAmount(Money.from(1250));
+        employee.setWorkTimes(new WorkOverTimes(Arrays.asList(WorkOverTime.builder(201506, 1)
+                .workOverTime(BigDecimal.valueOf(10))
+                .lateNightOverTime(BigDecimal.ZERO)
+                .holidayWorkTime(BigDecimal.ZERO)
+                .holidayLateNightOverTime(BigDecimal.ZERO)
+                .build())));
+        return employee;
+    }
+}
@@ -0,0 +1,149 @@
+package salarycalculation.domain.payroll;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import salarycalculation.utils.Money;
+
+/**
+ * {@link PayrollDiff}に対するテストクラス。
+ *
+ * @author naotake
+ */
+public class PayrollDiffTest {
+
+    @Test
+    public void 金額が変わった社員の差分を内訳毎に取得できること() {
+        SortedPayslips before = payslips(payslip(1, 200000, 0), payslip(2, 200000, 0), payslip(3, 200000, 0));
+        SortedPayslips after = payslips(payslip(1, 200000, 0), payslip(2, 210000, 0), payslip(3, 200000, 5000));
+
+        Map<Integer, PayslipDelta> deltas = new ConcurrentHashMap<>();
+        PayrollDiffSummary summary = new PayrollDiff().compare(before, after,
+                delta -> deltas.put(delta.getEmployeeNo(), delta));
+
+        assertThat(deltas).containsOnlyKeys(2, 3);
+        assertThat(deltas.get(2).getType()).isEqualTo(PayslipDelta.Type.CHANGED);
+        assertThat(deltas.get(2).getDelta(PayslipComponent.ROLE)).isEqualTo(10000);
+        assertThat(deltas.get(2).getDelta(PayslipComponent.TOTAL_SALARY)).isEqualTo(10000);
+        assertThat(deltas.get(3).getDelta(PayslipComponent.OVERTIME)).isEqualTo(5000);
+        assertThat(deltas.get(3).getDelta(PayslipComponent.ROLE)).isZero();
+
+        assertThat(summary.getCompared()).isEqualTo(3);
+        assertThat(summary.getCount(PayslipDelta.Type.UNCHANGED)).isEqualTo(1);
+        assertThat(summary.getCount(PayslipDelta.Type.CHANGED)).isEqualTo(2);
+        assertThat(summary.getSum(PayslipComponent.TOTAL_SALARY)).isEqualTo(15000);
+    }
+
+    @Test
+    public void 片方にのみ存在する社員は追加または削除となること() {
+        SortedPayslips before = payslips(payslip(1, 200000, 0), payslip(2, 200000, 0));
+        SortedPayslips after = payslips(payslip(2, 200000, 0), payslip(3, 190000, 0));
+
+        Map<Integer, PayslipDelta> deltas = new ConcurrentHashMap<>();
+        PayrollDiffSummary summary = new PayrollDiff().compare(before, after,
+                delta -> deltas.put(delta.getEmployeeNo(), delta));
+
+        assertThat(deltas.get(1).getType()).isEqualTo(PayslipDelta.Type.REMOVED);
+        assertThat(deltas.get(1).getDelta(PayslipComponent.ROLE)).isEqualTo(-200000);
+        assertThat(deltas.get(1).getAfter()).isEmpty();
+        assertThat(deltas.get(3).getType()).isEqualTo(PayslipDelta.Type.ADDED);
+        assertThat(deltas.get(3).getDelta(PayslipComponent.ROLE)).isEqualTo(190000);
+        assertThat(deltas.get(3).getBefore()).isEmpty();
+        assertThat(summary.getSum(PayslipComponent.ROLE)).isEqualTo(-10000);
+    }
+
+    @Test
+    public void 区間に分割して並列に比較しても同じ結果となること() {
+        List<Payslip> befores = new ArrayList<>();
+        List<Payslip> afters = new ArrayList<>();
+        for (int no = 1; no <= 1000; no++) {
+            // 3 の倍数は変更前のみ、5 の倍数は変更後のみ (15 の倍数はどちらにも無い)、7 の倍数は金額が変わる
+            if (no % 5 != 0) {
+                befores.add(payslip(no, 200000, 0));
+            }
+            if (no % 3 != 0) {
+                afters.add(payslip(no, (no % 7 == 0) ? 201000 : 200000, 0));
+            }
+        }
+        Collections.shuffle(befores);
+
+        PayrollDiffSummary sequential = new PayrollDiff(Integer.MAX_VALUE)
+                .summarize(SortedPayslips.of(befores), SortedPayslips.of(afters));
+        Map<Integer, PayslipDelta> deltas = new ConcurrentHashMap<>();
+        PayrollDiffSummary parallel = new PayrollDiff(17).compare(SortedPayslips.of(befores),
+                SortedPayslips.of(afters), delta -> assertThat(deltas.put(delta.getEmployeeNo(), delta)).isNull());
+
+        assertThat(parallel.toString()).isEqualTo(sequential.toString());
+        assertThat(parallel.getCompared()).isEqualTo(1000 - 66);
+        // 5 の倍数かつ 3 の倍数でないものが追加
+        assertThat(parallel.getCount(PayslipDelta.Type.ADDED)).isEqualTo(200 - 66);
+        assertThat(deltas).hasSize((int) (parallel.getCompared() - parallel.getCount(PayslipDelta.Type.UNCHANGED)));
+    }
+
+    @Test
+    public void 変更後をストリームで読み込んでも同じ結果となること() {
+        List<Payslip> befores = new ArrayList<>();
+        List<Payslip> afters = new ArrayList<>();
+        for (int no = 1; no <= 1000; no++) {
+            if (no % 5 != 0) {
+                befores.add(payslip(no, 200000, 0));
+            }
+            if (no % 3 != 0) {
+                afters.add(payslip(no, (no % 7 == 0) ? 201000 : 200000, 0));
+            }
+        }
+
+        PayrollDiffSummary expected = new PayrollDiff().summarize(SortedPayslips.of(befores),
+                SortedPayslips.of(afters));
+        List<Integer> deltas = new ArrayList<>();
+        PayrollDiffSummary actual = new PayrollDiff().compare(SortedPayslips.of(befores), afters.stream(),
+                delta -> deltas.add(delta.getEmployeeNo()));
+
+        assertThat(actual.toString()).isEqualTo(expected.toString());
+        assertThat(deltas).hasSize((int) (actual.getCompared() - actual.getCount(PayslipDelta.Type.UNCHANGED)))
+                .isSorted();
+    }
+
+    @Test
+    public void 変更後のストリームが社員番号の昇順でない場合はエラーとなること() {
+        try {
+            new PayrollDiff().compare(payslips(payslip(1, 200000, 0)),
+                    Stream.of(payslip(2, 200000, 0), payslip(1, 200000, 0)), delta -> {
+                    });
+            fail("IllegalArgumentException が発生すること");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage()).contains("[1]");
+        }
+    }
+
+    @Test
+    public void 両方が空の場合は差分が無いこと() {
+        PayrollDiffSummary summary = new PayrollDiff().summarize(payslips(), payslips());
+
+        assertThat(summary.getCompared()).isZero();
+    }
+
+    private static SortedPayslips payslips(Payslip... payslips) {
+        List<Payslip> list = new ArrayList<>();
+        Collections.addAll(list, payslips);
+        return SortedPayslips.of(list);
+    }
+
+    private static Payslip payslip(int no, long roleAmount, long overtimeAmount) {
+        return Payslip.builder(no, 201504)
+                .roleAmount(Money.from(roleAmount))
+                .capabilityAmount(Money.from(100000))
+                .overtimeAmount(Money.from(overtimeAmount))
+                .healthInsuranceAmount(Money.from(10000))
+                .build();
+    }
+}
@@ -0,0 +1,103 @@
+package salarycalculation.domain.payroll;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import salarycalculation.database.repository.EmployeeRepositoryDao;
+import salarycalculation.domain.employee.BusinessDate;
+import salarycalculation.domain.employee.Capability;
+import salarycalculation.domain.employee.CapabilityRank;
+import salarycalculation.domain.employee.Employee;
+import salarycalculation.domain.employee.Employees;
+import salarycalculation.domain.employee.Role;
+import salarycalculation.domain.work.WorkOverTime;
+import salarycalculation.domain.work.WorkOverTimes;
+import salarycalculation.utils.Money;
+
+/**
+ * {@link PayrollProjection}に対するテストクラス。
+ *
+ * @author naotake
+ */
+public class PayrollProjectionTest {
+
+    @Test
+    public void 年度の見込みが年月毎の計算結果と一致すること() {
+        Employees employees = new EmployeeRepositoryDao().findAll();
+
+        PayrollProjection actual = PayrollProjection.fiscalYear(employees, 2015);
+
+        assertThat(actual.getMonths()).containsExactly(201504, 201505, 201506, 201507, 201508, 201509, 201510,
+                201511, 201512, 201601, 201602, 201603);
+        long expectedTotal = 0;
+        for (int m = 0; m < actual.getMonths().length; m++) {
+            int month = actual.getMonths()[m];
+            assertThat(actual.getMonthlyTotalSalary(m)).isEqualTo(employees.getSumTotalSalary(month));
+            expectedTotal += employees.getSumTotalSalary(month);
+        }
+        assertThat(actual.getTotalSalary()).isEqualTo(expectedTotal);
+    }
+
+    @Test
+    public void 月の途中で入社した社員の勤続手当が年月毎の計算結果と一致すること() {
+        Employee employee = employee(BusinessDate.of(2012, 5, 15));
+
+        PayrollProjection actual = PayrollProjection.of(new Employees(Arrays.asList(employee)),
+                YearMonth.of(2010, 1), YearMonth.of(2034, 12));
+
+        for (int m = 0; m < actual.getMonths().length; m++) {
+            int month = actual.getMonths()[m];
+            assertThat(actual.getTotalSalary(0, m)).as("%d", month)
+                    .isEqualTo(employee.getTotalSalary(month).value().longValue());
+            assertThat(actual.getTakeHome(0, m)).as("%d", month)
+                    .isEqualTo(employee.getTakeHomeAmount(month).value().longValue());
+        }
+    }
+
+    @Test
+    public void 月初に入社した社員の勤続手当が年月毎の計算結果と一致すること() {
+        Employee employee = employee(BusinessDate.of(2012, 5, 1));
+
+        PayrollProjection actual = PayrollProjection.of(new Employees(Arrays.asList(employee)),
+                YearMonth.of(2010, 1), YearMonth.of(2034, 12));
+
+        for (int m = 0; m < actual.getMonths().length; m++) {
+            int month = actual.getMonths()[m];
+            assertThat(actual.getTotalSalary(0, m)).as("%d", month)
+                    .isEqualTo(employee.getTotalSalary(month).value().longValue());
+        }
+        assertThat(actual.getEmployeeTotalSalary(actual.indexOfEmployee(1))).isEqualTo(actual.getTotalSalary());
+        assertThat(actual.indexOfEmployee(2)).isEqualTo(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void 終了年月が開始年月より前の場合はエラーとなること() {
+        PayrollProjection.of(new Employees(Arrays.asList()), YearMonth.of(2015, 4), YearMonth.of(2015, 3));
+    }
+
+    private static Employee employee(BusinessDate joinDate) {
+        Employee employee = new Employee(1);
+        employee.setJoinDate(joinDate);
+        employee.setRole(new Role("A3", Money.from(195000)));
+        employee.setCapability(Capability.normal(CapabilityRank.SE, Money.from(150000)));
+        employee.setCommuteAmount(Money.from(8900));
+        employee.setRentAmount(Money.from(32000));
+        employee.setHealthInsuranceAmount(Money.from(6432));
+        employee.setEmployeePensionAmount(Money.from(12000));
+        employee.setIncomeTaxAmount(Money.from(3200));
+        employee.setInhabitantTaxAmount(Money.from(8900));
+        employee.setWorkOverTime1hAmount(Money.from(1250));
+        employee.setWorkTimes(new WorkOverTimes(Arrays.asList(WorkOverTime.builder(201504, 1)
+                .workOverTime(BigDecimal.valueOf(10))
+                .lateNightOverTime(BigDecimal.ZERO)
+                .holidayWorkTime(BigDecimal.ZERO)
+                .holidayLateNightOverTime(BigDecimal.ZERO)
+                .build())));
+        return employee;
+    }
+}
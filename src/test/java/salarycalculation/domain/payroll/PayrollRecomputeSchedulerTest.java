@@ -0,0 +1,161 @@
+package salarycalculation.domain.payroll;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import salarycalculation.database.model.EmployeeRecord;
+import salarycalculation.database.repository.PayrollDependencyIndexLoader;
+import salarycalculation.domain.employee.BusinessDate;
+import salarycalculation.domain.employee.Capability;
+import salarycalculation.domain.employee.CapabilityRank;
+import salarycalculation.domain.employee.Employee;
+import salarycalculation.domain.employee.EmployeeRepository;
+import salarycalculation.domain.employee.Role;
+import salarycalculation.domain.organization.Organization;
+import salarycalculation.exception.RecordNotFoundException;
+import salarycalculation.utils.Money;
+
+/**
+ * {@link PayrollRecomputeScheduler}に対するテストクラス。
+ *
+ * @author naotake
+ */
+public class PayrollRecomputeSchedulerTest {
+
+    private PayrollRecomputeScheduler testee;
+
+    private PayrollDependencyIndex index;
+    private PayrollResultCache cache;
+    private EmployeeRepository repository;
+
+    @Before
+    public void setUp() {
+        index = new PayrollDependencyIndex();
+        index.index(1, "A3", "SE", "DEV");
+        index.index(2, "C4", "PL", "DEV");
+        index.index(3, "M2", "PM", "SALES");
+
+        cache = new PayrollResultCache(100);
+        cache.put(Payslip.of(employee(1, "A3", 195000, "DEV"), 201504));
+        cache.put(Payslip.of(employee(1, "A3", 195000, "DEV"), 201505));
+        cache.put(Payslip.of(employee(2, "C4", 210000, "DEV"), 201504));
+
+        repository = mock(EmployeeRepository.class);
+        testee = new PayrollRecomputeScheduler(index, cache, repository, Runnable::run);
+    }
+
+    @Test
+    public void 役割等級の変更で該当する社員の明細だけが再計算されること() {
+        when(repository.get("1")).thenReturn(employee(1, "A3", 200000, "DEV"));
+
+        RecomputeReport actual = testee.submit(MasterChange.role("A3")).join();
+
+        assertThat(actual.getAffectedEmployees()).isEqualTo(1);
+        assertThat(actual.getRecomputedEmployees()).isEqualTo(1);
+        assertThat(actual.getRecomputedPayslips()).isEqualTo(2);
+        assertThat(cache.get(1, 201504).getRoleAmount()).isEqualTo(Money.from(200000));
+        assertThat(cache.get(1, 201505).getRoleAmount()).isEqualTo(Money.from(200000));
+        assertThat(cache.get(2, 201504).getRoleAmount()).isEqualTo(Money.from(210000));
+        verify(repository, never()).get("2");
+    }
+
+    @Test
+    public void 変更の受け付け前に読み込みを開始した明細はキャッシュされないこと() {
+        long generation = cache.generation();
+        Payslip stale = Payslip.of(employee(3, "M2", 300000, "SALES"), 201504);
+
+        testee.submit(MasterChange.role("M2")).join();
+
+        assertThat(cache.put(stale, generation)).isFalse();
+        assertThat(cache.contains(3, 201504)).isFalse();
+        assertThat(cache.put(stale, cache.generation())).isTrue();
+    }
+
+    @Test
+    public void 明細をキャッシュしていない社員は再計算されないこと() {
+        RecomputeReport actual = testee.recompute(MasterChange.organization("SALES"));
+
+        assertThat(actual.getAffectedEmployees()).isEqualTo(1);
+        assertThat(actual.getRecomputedEmployees()).isEqualTo(0);
+        verify(repository, never()).get("3");
+    }
+
+    @Test
+    public void 稼動情報の変更で該当年月の明細だけが再計算されること() {
+        when(repository.get("1")).thenReturn(employee(1, "A3", 200000, "DEV"));
+
+        RecomputeReport actual = testee.recompute(MasterChange.work(1, 201505));
+
+        assertThat(actual.getRecomputedPayslips()).isEqualTo(1);
+        assertThat(cache.get(1, 201504).getRoleAmount()).isEqualTo(Money.from(195000));
+        assertThat(cache.get(1, 201505).getRoleAmount()).isEqualTo(Money.from(200000));
+        assertThat(index.workMonthsOf(1)).containsExactly(201505);
+    }
+
+    @Test
+    public void 社員情報の変更で索引が更新されること() {
+        when(repository.get("3")).thenReturn(employee(3, "A3", 195000, "DEV"));
+
+        RecomputeReport actual = testee.recompute(MasterChange.employee(3));
+
+        assertThat(actual.getRecomputedEmployees()).isEqualTo(0);
+        assertThat(index.affectedBy(MasterChange.role("A3"))).containsExactly(1, 3);
+        assertThat(index.affectedBy(MasterChange.role("M2"))).isEmpty();
+        assertThat(index.affectedBy(MasterChange.organization("SALES"))).isEmpty();
+    }
+
+    @Test
+    public void 削除された社員の明細は破棄されること() {
+        when(repository.get("2")).thenThrow(new RecordNotFoundException(EmployeeRecord.class, "2"));
+
+        RecomputeReport actual = testee.recompute(MasterChange.capability("PL"));
+
+        assertThat(actual.getEvictedPayslips()).isEqualTo(1);
+        assertThat(cache.get(2, 201504)).isNull();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void 上限を超えて破棄された明細は再計算の対象とならないこと() {
+        PayrollResultCache small = new PayrollResultCache(2);
+        small.put(Payslip.of(employee(1, "A3", 195000, "DEV"), 201504));
+        small.put(Payslip.of(employee(1, "A3", 195000, "DEV"), 201505));
+        small.put(Payslip.of(employee(2, "C4", 210000, "DEV"), 201504));
+
+        assertThat(small.size()).isEqualTo(2);
+        assertThat(small.monthsOf(1)).containsExactly(201505);
+        assertThat(small.monthsOf(2)).containsExactly(201504);
+    }
+
+    @Test
+    public void DBから索引を読み込めること() {
+        PayrollDependencyIndex actual = new PayrollDependencyIndexLoader().load();
+
+        assertThat(actual.size()).isGreaterThanOrEqualTo(4);
+        assertThat(actual.affectedBy(MasterChange.role("A3"))).contains(1);
+        assertThat(actual.affectedBy(MasterChange.capability("PM"))).contains(3);
+        assertThat(actual.workMonthsOf(1)).contains(201504);
+    }
+
+    private static Employee employee(int no, String roleRank, long roleAmount, String organization) {
+        Employee employee = new Employee(no);
+        employee.setJoinDate(BusinessDate.of(2013, 4, 1));
+        employee.setOrganization(new Organization(organization, organization));
+        employee.setRole(new Role(roleRank, Money.from(roleAmount)));
+        employee.setCapability(Capability.normal(CapabilityRank.SE, Money.from(150000)));
+        employee.setCommuteAmount(Money.from(8900));
+        employee.setRentAmount(Money.from(32000));
+        employee.setHealthInsuranceAmount(Money.from(6432));
+        employee.setEmployeePensionAmount(Money.from(12000));
+        employee.setIncomeTaxAmount(Money.from(3200));
+        employee.setInhabitantTaxAmount(Money.from(8900));
+        employee.setWorkOverTime1hAmount(Money.from(1250));
+        return employee;
+    }
+}
@@ -0,0 +1,104 @@
+package salarycalculation.domain.payroll;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import salarycalculation.domain.employee.BusinessDate;
+import salarycalculation.domain.employee.Capability;
+import salarycalculation.domain.employee.CapabilityRank;
+import salarycalculation.domain.employee.Employee;
+import salarycalculation.domain.employee.Role;
+import salarycalculation.domain.rule.ComponentRule;
+import salarycalculation.domain.rule.Condition;
+import salarycalculation.domain.rule.PayrollPlan;
+import salarycalculation.domain.rule.PayrollPlans;
+import salarycalculation.domain.rule.PayrollRules;
+import salarycalculation.domain.work.WorkOverTime;
+import salarycalculation.domain.work.WorkOverTimes;
+import salarycalculation.utils.Money;
+
+/**
+ * {@link Payslip}に対するテストクラス。
+ *
+ * @author naotake
+ */
+public class PayslipTest {
+
+    private Employee employee;
+
+    /**
+     * 事前処理。
+     */
+    @Before
+    public void setUp() {
+        employee = new Employee(1);
+        employee.setJoinDate(BusinessDate.of(2012, 5, 1));
+        employee.setRole(new Role("A3", Money.from(195000)));
+        employee.setCapability(Capability.normal(CapabilityRank.SE, Money.from(150000)));
+        employee.setCommuteAmount(Money.from(8900));
+        employee.setRentAmount(Money.from(32000));
+        employee.setHealthInsuranceAmount(Money.from(6432));
+        employee.setEmployeePensionAmount(Money.from(12000));
+        employee.setIncomeTaxAmount(Money.from(3200));
+        employee.setInhabitantTaxAmount(Money.from(8900));
+        employee.setWorkOverTime1hAmount(Money.from(1250));
+        employee.setWorkTimes(new WorkOverTimes(Arrays.asList(WorkOverTime.builder(201504, 1)
+                .workOverTime(BigDecimal.valueOf(10))
+                .lateNightOverTime(BigDecimal.ZERO)
+                .holidayWorkTime(BigDecimal.ZERO)
+                .holidayLateNightOverTime(BigDecimal.ZERO)
+                .build())));
+    }
+
+    /**
+     * 事後処理。
+     */
+    @After
+    public void tearDown() {
+        PayrollPlans.use(null);
+    }
+
+    @Test
+    public void 明細の内訳が社員情報の計算結果と一致すること() {
+        Payslip actual = Payslip.of(employee, 201504);
+
+        assertThat(actual.getBasicSalary()).isEqualTo(Money.from(195000 + 150000));
+        // 入社丸3年目のため勤続手当が付く
+        assertThat(actual.getLongServiceAllowance()).isEqualTo(Money.from(3000));
+        assertThat(actual.getAllowance()).isEqualTo(employee.getAllowance(BusinessDate.of(2015, 4, 1)));
+        assertThat(actual.getOvertimeAmount()).isEqualTo(Money.from(12500));
+        assertThat(actual.getTotalSalary()).isEqualTo(employee.getTotalSalary(201504));
+        assertThat(actual.getDeduction()).isEqualTo(Money.from(6432 + 12000 + 3200 + 8900));
+        assertThat(actual.getTakeHomeAmount()).isEqualTo(employee.getTakeHomeAmount(201504));
+    }
+
+    @Test
+    public void 稼動情報が無い年月は残業代が0となること() {
+        Payslip actual = Payslip.of(employee, 201505);
+
+        assertThat(actual.getOvertimeAmount()).isEqualTo(Money.ZERO);
+        assertThat(actual.getLongServiceAllowance()).isEqualTo(Money.ZERO);
+        assertThat(actual.getTotalSalary()).isEqualTo(Money.from(195000 + 150000 + 8900 + 32000));
+    }
+
+    @Test
+    public void 評価計画を指定した場合は評価計画のルールで計算されること() {
+        PayrollRules rules = PayrollRules.defaults();
+        rules.getLongServiceAllowances().put(3, 6000L);
+        rules.getComponents().add(ComponentRule.fixed("specialAllowance", 5000, Condition.ALWAYS));
+        PayrollPlans.use(PayrollPlan.compile(rules));
+
+        Payslip actual = Payslip.of(employee, 201504);
+
+        assertThat(actual.getLongServiceAllowance()).isEqualTo(Money.from(6000));
+        assertThat(actual.getSeparatedAllowance()).isEqualTo(Money.from(5000));
+        assertThat(actual.getTotalSalary())
+                .isEqualTo(employee.getTotalSalary(201504).add(Money.from(6000 - 3000 + 5000)));
+    }
+}
@@ -0,0 +1,205 @@
+package salarycalculation.domain.rule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+
+import io.dropwizard.jackson.Jackson;
+import salarycalculation.database.repository.EmployeeRepositoryDao;
+import salarycalculation.domain.employee.BusinessDate;
+import salarycalculation.domain.employee.Capability;
+import salarycalculation.domain.employee.CapabilityRank;
+import salarycalculation.domain.employee.Employee;
+import salarycalculation.domain.employee.Role;
+import salarycalculation.domain.payroll.Payslip;
+import salarycalculation.domain.work.WorkOverTime;
+import salarycalculation.domain.work.WorkOverTimes;
+import salarycalculation.domain.work.WorkingTimeType;
+import salarycalculation.utils.Money;
+
+/**
+ * {@link PayrollPlan}に対するテストクラス。
+ *
+ * @author naotake
+ */
+public class PayrollPlanTest {
+
+    @Test
+    public void 既定のルールの総支給額が現行の計算結果と一致すること() {
+        PayrollPlan plan = PayrollPlan.compile(PayrollRules.defaults());
+        List<Employee> employees = new EmployeeRepositoryDao().findAll().getEmployees();
+
+        for (Employee employee : employees) {
+            for (int month : new int[] { 201504, 201604, 201608, 202008 }) {
+                assertThat(plan.totalSalary(employee, month)).as("%d %d", employee.getId(), month)
+                        .isEqualTo(employee.getTotalSalary(month).value().longValue());
+                assertThat(plan.takeHome(employee, month)).as("%d %d", employee.getId(), month)
+                        .isEqualTo(employee.getTakeHomeAmount(month).value().longValue());
+            }
+        }
+    }
+
+    @Test
+    public void 勤続年数ちょうどの月にのみ勤続手当が付くこと() {
+        PayrollPlan plan = PayrollPlan.compile(PayrollRules.defaults());
+        Employee employee = employee(CapabilityRank.SE, BusinessDate.of(2012, 5, 1));
+
+        for (int year = 2012; year <= 2034; year++) {
+            for (int month = 1; month <= 12; month++) {
+                int workYearMonth = year * 100 + month;
+                assertThat(plan.totalSalary(employee, workYearMonth)).as("%d", workYearMonth)
+                        .isEqualTo(employee.getTotalSalary(workYearMonth).value().longValue());
+            }
+        }
+    }
+
+    @Test
+    public void 構成要素毎の金額を取得できること() {
+        PayrollPlan plan = PayrollPlan.compile(PayrollRules.defaults());
+        Employee employee = employee(CapabilityRank.SE, BusinessDate.of(2012, 5, 1));
+        long[] amounts = new long[plan.getComponentNames().size()];
+
+        long total = plan.evaluate(employee, 201504, amounts);
+
+        assertThat(plan.getComponentNames()).containsExactly("role", "capability", "commute", "rent",
+                "separatedAllowance", "longService", "overtime");
+        assertThat(amounts).containsExactly(195000, 150000, 8900, 32000, 0, 3000, 12500);
+        assertThat(total).isEqualTo(401400);
+    }
+
+    @Test
+    public void マネージャ職には残業代が付かないこと() {
+        PayrollPlan plan = PayrollPlan.compile(PayrollRules.defaults());
+        Employee employee = employee(CapabilityRank.PM, BusinessDate.of(2012, 5, 1));
+        long[] amounts = new long[plan.getComponentNames().size()];
+
+        plan.evaluate(employee, 201504, amounts);
+
+        assertThat(amounts[4]).isEqualTo(30000);
+        assertThat(amounts[6]).isEqualTo(0);
+    }
+
+    @Test
+    public void 変更したルールで総支給額を求められること() {
+        PayrollRules rules = PayrollRules.defaults();
+        rules.getOvertimeRates().put(WorkingTimeType.WORK_OVER, 1.25);
+        rules.getLongServiceAllowances().put(3, 6000L);
+        rules.getComponents().add(ComponentRule.fixed("managerAllowance", 5000, Condition.MANAGER));
+        PayrollPlan plan = PayrollPlan.compile(rules);
+
+        Employee engineer = employee(CapabilityRank.SE, BusinessDate.of(2012, 5, 1));
+        Employee manager = employee(CapabilityRank.PM, BusinessDate.of(2012, 5, 1));
+
+        long engineerBase = 195000 + 150000 + 8900 + 32000;
+        assertThat(plan.totalSalary(engineer, 201504)).isEqualTo(engineerBase + 6000 + 15625);
+        assertThat(plan.totalSalary(manager, 201504)).isEqualTo(engineerBase + 30000 + 6000 + 5000);
+    }
+
+    @Test
+    public void 既定のルールの給与明細が現行の計算結果と一致すること() {
+        PayrollPlan plan = PayrollPlan.compile(PayrollRules.defaults());
+        List<Employee> employees = new EmployeeRepositoryDao().findAll().getEmployees();
+
+        for (Employee employee : employees) {
+            for (int month : new int[] { 201504, 201604, 201608, 202008 }) {
+                assertThat(plan.payslip(employee, month)).as("%d %d", employee.getId(), month)
+                        .isEqualTo(Payslip.standard(employee, month));
+            }
+        }
+    }
+
+    @Test
+    public void 変更したルールで給与明細を求められること() {
+        PayrollRules rules = PayrollRules.defaults();
+        rules.getLongServiceAllowances().put(3, 6000L);
+        rules.getComponents().add(ComponentRule.fixed("managerAllowance", 5000, Condition.MANAGER));
+        PayrollPlan plan = PayrollPlan.compile(rules);
+
+        Payslip actual = plan.payslip(employee(CapabilityRank.PM, BusinessDate.of(2012, 5, 1)), 201504);
+
+        assertThat(actual.getLongServiceAllowance()).isEqualTo(Money.from(6000));
+        // 固定額の構成要素は別途手当に含める
+        assertThat(actual.getSeparatedAllowance()).isEqualTo(Money.from(30000 + 5000));
+        assertThat(actual.getOvertimeAmount()).isEqualTo(Money.ZERO);
+        assertThat(actual.getTotalSalary()).isEqualTo(Money.from(plan.totalSalary(
+                employee(CapabilityRank.PM, BusinessDate.of(2012, 5, 1)), 201504)));
+    }
+
+    @Test
+    public void 設定ファイルで指定しなかった項目は既定のルールとなること() throws Exception {
+        ObjectMapper mapper = Jackson.newObjectMapper(new YAMLFactory());
+        PayrollRules rules = mapper.readValue(
+                "overtimeRates:\n"
+                        + "  WORK_OVER: 1.5\n"
+                        + "  LATE_NIGHT_OVER: 1.5\n"
+                        + "  HOLIDAY_WORK: 1.5\n"
+                        + "  HOLIDAY_LATE_NIGHT_OVER: 1.5\n"
+                        + "longServiceAllowances:\n"
+                        + "  1: 1000\n",
+                PayrollRules.class);
+        PayrollPlan plan = PayrollPlan.compile(rules);
+        Employee employee = employee(CapabilityRank.SE, BusinessDate.of(2014, 5, 1));
+        long[] amounts = new long[plan.getComponentNames().size()];
+
+        plan.evaluate(employee, 201504, amounts);
+
+        assertThat(plan.getComponentNames()).hasSize(7);
+        assertThat(amounts[5]).isEqualTo(1000);
+        assertThat(amounts[6]).isEqualTo(18750);
+    }
+
+    @Test
+    public void 構成要素毎に処理時間を計測できること() {
+        PayrollPlan plan = PayrollPlan.compile(PayrollRules.defaults());
+        Employee employee = employee(CapabilityRank.SE, BusinessDate.of(2012, 5, 1));
+
+        long[] actual = plan.benchmark(Arrays.asList(employee, employee), 201504, 10);
+
+        assertThat(actual).hasSize(7);
+        assertThat(plan.instrumented().totalSalary(employee, 201504)).isEqualTo(plan.totalSalary(employee, 201504));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void 取得元が指定されていない場合はエラーとなること() {
+        PayrollRules rules = PayrollRules.defaults();
+        rules.getComponents().add(new ComponentRule("unknown", null, Condition.ALWAYS));
+
+        PayrollPlan.compile(rules);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void 構成要素の名前が重複している場合はエラーとなること() {
+        PayrollRules rules = PayrollRules.defaults();
+        rules.getComponents().add(ComponentRule.of("role", ComponentSource.ROLE));
+
+        PayrollPlan.compile(rules);
+    }
+
+    private static Employee employee(CapabilityRank rank, BusinessDate joinDate) {
+        Employee employee = new Employee(1);
+        employee.setJoinDate(joinDate);
+        employee.setRole(new Role("A3", Money.from(195000)));
+        employee.setCapability(Capability.normal(rank, Money.from(150000)));
+        employee.setCommuteAmount(Money.from(8900));
+        employee.setRentAmount(Money.from(32000));
+        employee.setHealthInsuranceAmount(Money.from(6432));
+        employee.setEmployeePensionAmount(Money.from(12000));
+        employee.setIncomeTaxAmount(Money.from(3200));
+        employee.setInhabitantTaxAmount(Money.from(8900));
+        employee.setWorkOverTime1hAmount(Money.from(1250));
+        employee.setWorkTimes(new WorkOverTimes(Arrays.asList(WorkOverTime.builder(201504, 1)
+                .workOverTime(BigDecimal.valueOf(10))
+                .lateNightOverTime(BigDecimal.ZERO)
+                .holidayWorkTime(BigDecimal.ZERO)
+                .holidayLateNightOverTime(BigDecimal.ZERO)
+                .build())));
+        return employee;
+    }
+}
@@ -0,0 +1,62 @@
+package salarycalculation.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.codahale.metrics.MetricRegistry;
+
+/**
+ * {@link Instrumentation}に対するテストクラス。
+ *
+ * @author naotake
+ */
+public class InstrumentationTest {
+
+    private MetricRegistry registry;
+
+    @Before
+    public void setUp() {
+        registry = new MetricRegistry();
+        Instrumentation.bind(registry);
+        Instrumentation.setEnabled(true);
+    }
+
+    @After
+    public void tearDown() {
+        Instrumentation.bind(new MetricRegistry());
+        Instrumentation.setEnabled(true);
+    }
+
+    @Test
+    public void 処理時間と件数を記録できること() {
+        String result = Instrumentation.time("timer", () -> "result");
+        Instrumentation.count("counter");
+        Instrumentation.update("histogram", 10);
+
+        assertThat(result).isEqualTo("result");
+        assertThat(registry.timer("timer").getCount()).isEqualTo(1);
+        assertThat(registry.counter("counter").getCount()).isEqualTo(1);
+        assertThat(registry.histogram("histogram").getSnapshot().getMax()).isEqualTo(10);
+    }
+
+    @Test
+    public void 無効な場合は何も記録しないこと() {
+        Instrumentation.setEnabled(false);
+
+        String result = Instrumentation.time("timer", () -> "result");
+        Instrumentation.count("counter");
+        Instrumentation.update("histogram", 10);
+        Instrumentation.stop(Instrumentation.start("started"));
+
+        assertThat(result).isEqualTo("result");
+        assertThat(registry.getMetrics()).isEmpty();
+    }
+
+    @Test
+    public void クラス名を基にメトリクス名を組み立てられること() {
+        assertThat(Instrumentation.name(Money.class, "add")).isEqualTo("salarycalculation.utils.Money.add");
+    }
+}
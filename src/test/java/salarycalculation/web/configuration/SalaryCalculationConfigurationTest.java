@@ -0,0 +1,60 @@
+package salarycalculation.web.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+import io.dropwizard.configuration.ConfigurationFactory;
+import io.dropwizard.configuration.ResourceConfigurationSourceProvider;
+import io.dropwizard.jackson.Jackson;
+import io.dropwizard.jersey.validation.Validators;
+import salarycalculation.domain.employee.LongServiceAllowance;
+import salarycalculation.domain.rule.PayrollPlan;
+import salarycalculation.domain.rule.PayrollRules;
+import salarycalculation.domain.work.WorkingTimeType;
+
+/**
+ * {@link SalaryCalculationConfiguration}の読み込みに対するテストクラス。
+ *
+ * @author naotake
+ */
+public class SalaryCalculationConfigurationTest {
+
+    @Test
+    public void 給与ルールの一部のみを指定した場合は残りが現行の給与規程となること() throws Exception {
+        PayrollRules actual = load("payroll-rules").getPayrollRules();
+
+        assertThat(actual.getOvertimeRates()).hasSize(WorkingTimeType.values().length);
+        assertThat(actual.getOvertimeRates().get(WorkingTimeType.WORK_OVER)).isEqualTo(1.25);
+        assertThat(actual.getOvertimeRates().get(WorkingTimeType.LATE_NIGHT_OVER))
+                .isEqualTo(WorkingTimeType.LATE_NIGHT_OVER.getRate());
+
+        assertThat(actual.getLongServiceAllowances()).containsEntry(3, 3000L).containsEntry(20, 20000L);
+        for (LongServiceAllowance allowance : LongServiceAllowance.values()) {
+            if (allowance != LongServiceAllowance.NONE) {
+                assertThat(actual.getLongServiceAllowances()).containsKey(allowance.attendanceYear());
+            }
+        }
+        assertThat(actual.getSeparatedAllowances()).isEqualTo(PayrollRules.defaults().getSeparatedAllowances());
+
+        // 起動時と同じく評価計画に変換できること
+        assertThat(PayrollPlan.compile(actual)).isNotNull();
+    }
+
+    @Test
+    public void 勤続手当の一部のみを指定した場合は残りの勤続年数の勤続手当が残ること() throws Exception {
+        PayrollRules actual = load("long-service").getPayrollRules();
+
+        assertThat(actual.getLongServiceAllowances()).containsEntry(3, 6000L).containsEntry(5, 5000L)
+                .containsEntry(10, 10000L).containsEntry(20, 20000L);
+        assertThat(actual.getOvertimeRates()).isEqualTo(PayrollRules.defaults().getOvertimeRates());
+    }
+
+    private static SalaryCalculationConfiguration load(String name) throws Exception {
+        ConfigurationFactory<SalaryCalculationConfiguration> factory = new ConfigurationFactory<>(
+                SalaryCalculationConfiguration.class, Validators.newValidator(), Jackson.newObjectMapper(), "dw");
+        String path = SalaryCalculationConfigurationTest.class.getCanonicalName().replace('.', '/') + "-" + name
+                + ".yml";
+        return factory.build(new ResourceConfigurationSourceProvider(), path);
+    }
+}
@@ -0,0 +1,115 @@
+package salarycalculation.web.resources;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.core.Response;
+
+import org.hamcrest.CustomTypeSafeMatcher;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.dropwizard.util.Duration;
+import salarycalculation.exception.RecordNotFoundException;
+import salarycalculation.utils.Instrumentation;
+import salarycalculation.web.configuration.EndpointConfiguration;
+
+/**
+ * {@link AsyncEndpoint}に対するテストクラス。
+ *
+ * @author naotake
+ */
+public class AsyncEndpointTest {
+
+    private static final String METRIC_NAME = Instrumentation.name(AsyncEndpointTest.class, "endpoint");
+
+    private List<Runnable> queued;
+    private AsyncEndpoint testee;
+
+    @Before
+    public void setUp() {
+        queued = new ArrayList<>();
+        Executor executor = queued::add;
+        testee = new AsyncEndpoint(executor, new EndpointConfiguration(1, Duration.seconds(1)), METRIC_NAME);
+    }
+
+    @Test
+    public void 処理結果でレスポンスが再開されること() {
+        AsyncResponse response = mock(AsyncResponse.class);
+
+        testee.submit(response, () -> "result");
+        queued.forEach(Runnable::run);
+
+        verify(response).resume("result");
+        assertThat(testee.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    public void 委譲した処理の待ち時間と処理時間が記録されること() {
+        long queuedCount = Instrumentation.registry().timer(METRIC_NAME + ".queued").getCount();
+        long taskCount = Instrumentation.registry().timer(METRIC_NAME + ".task").getCount();
+
+        testee.submit(mock(AsyncResponse.class), () -> "result");
+        assertThat(Instrumentation.registry().timer(METRIC_NAME + ".task").getCount()).isEqualTo(taskCount);
+        queued.forEach(Runnable::run);
+
+        assertThat(Instrumentation.registry().timer(METRIC_NAME + ".queued").getCount()).isEqualTo(queuedCount + 1);
+        assertThat(Instrumentation.registry().timer(METRIC_NAME + ".task").getCount()).isEqualTo(taskCount + 1);
+    }
+
+    @Test
+    public void 処理中の例外でレスポンスが再開されること() {
+        AsyncResponse response = mock(AsyncResponse.class);
+        RecordNotFoundException exception = new RecordNotFoundException(Object.class, "9");
+
+        testee.submit(response, () -> {
+            throw exception;
+        });
+        queued.forEach(Runnable::run);
+
+        verify(response).resume(exception);
+        assertThat(testee.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    public void 同時実行数を超えた場合に503が返却されること() {
+        AsyncResponse first = mock(AsyncResponse.class);
+        AsyncResponse second = mock(AsyncResponse.class);
+
+        testee.submit(first, () -> "first");
+        testee.submit(second, () -> "second");
+
+        verify(second).resume(argThat(isStatus(503)));
+        assertThat(testee.availablePermits()).isEqualTo(0);
+    }
+
+    @Test
+    public void スレッドプールが受け付けない場合に503が返却されること() {
+        testee = new AsyncEndpoint(r -> {
+            throw new RejectedExecutionException();
+        }, new EndpointConfiguration(1, Duration.seconds(1)), METRIC_NAME);
+        AsyncResponse response = mock(AsyncResponse.class);
+
+        testee.submit(response, () -> "result");
+
+        verify(response).resume(argThat(isStatus(503)));
+        assertThat(testee.availablePermits()).isEqualTo(1);
+    }
+
+    private static CustomTypeSafeMatcher<Response> isStatus(int status) {
+        return new CustomTypeSafeMatcher<Response>("status " + status) {
+            @Override
+            protected boolean matchesSafely(Response item) {
+                return item.getStatus() == status;
+            }
+        };
+    }
+}
@@ -36,6 +36,28 @@ public class EmployeeResourceIntegrationTest {
         assertThat(response.readEntity(String.class)).isEqualTo(fixture("get"));
     }
 
+    @Test
+    public void 指定した項目のみの従業員の情報を取得できること() throws Exception {
+        Client client = JerseyClientBuilder.newClient();
+        String url = String.format("http://localhost:%d/employee?no=1&fields=name,organization,payslip(201504)",
+                appRule.getLocalPort());
+
+        Response response = client.target(url).request().get();
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.readEntity(String.class)).isEqualTo(fixture("fields"));
+    }
+
+    @Test
+    public void 不正な項目を指定した場合に400が返却されること() throws Exception {
+        Client client = JerseyClientBuilder.newClient();
+        String url = String.format("http://localhost:%d/employee?no=1&fields=name,salary", appRule.getLocalPort());
+
+        Response response = client.target(url).request().get();
+
+        assertThat(response.getStatus()).isEqualTo(400);
+    }
+
     @Test
     public void 存在しない従業員の情報を取得しようとした場合に404が返却されること() throws Exception {
         Client client = JerseyClientBuilder.newClient();
@@ -46,6 +68,55 @@ public class EmployeeResourceIntegrationTest {
         assertThat(response.getStatus()).isEqualTo(404);
     }
 
+    @Test
+    public void 複数の従業員の情報を指定した順に取得できること() throws Exception {
+        Client client = JerseyClientBuilder.newClient();
+        String url = String.format("http://localhost:%d/employee/batch?no=3,9&no=1", appRule.getLocalPort());
+
+        Response response = client.target(url).request().get();
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.readEntity(String.class)).isEqualTo(fixture("batch"));
+    }
+
+    @Test
+    public void 複数の従業員の社員番号を指定しない場合に400が返却されること() throws Exception {
+        Client client = JerseyClientBuilder.newClient();
+        String url = String.format("http://localhost:%d/employee/batch", appRule.getLocalPort());
+
+        Response response = client.target(url).request().get();
+
+        assertThat(response.getStatus()).isEqualTo(400);
+    }
+
+    @Test
+    public void 条件を指定して従業員を検索できること() throws Exception {
+        Client client = JerseyClientBuilder.newClient();
+        String url = String.format("http://localhost:%d/employee/search?joinedBefore=2014-01-01&sort=-joinDate&limit=2",
+                appRule.getLocalPort());
+
+        Response response = client.target(url).request().get();
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.readEntity(String.class)).isEqualTo(fixture("search"));
+
+        // 最後のページには次のページのカーソルを含まない
+        Response next = client.target(url + "&after=am9pbl9kYXRlOi06PTIwMTAtMDgtMDE6Mg").request().get();
+
+        assertThat(next.getStatus()).isEqualTo(200);
+        assertThat(next.readEntity(String.class)).startsWith("{\"employees\":[{\"no\":3,").doesNotContain("next");
+    }
+
+    @Test
+    public void 不正な並び順で検索した場合に400が返却されること() throws Exception {
+        Client client = JerseyClientBuilder.newClient();
+        String url = String.format("http://localhost:%d/employee/search?sort=salary", appRule.getLocalPort());
+
+        Response response = client.target(url).request().get();
+
+        assertThat(response.getStatus()).isEqualTo(400);
+    }
+
     @Test
     public void 全ての従業員情報を取得できること() throws Exception {
         Client client = JerseyClientBuilder.newClient();
@@ -0,0 +1,139 @@
+package salarycalculation.web.resources;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import javax.ws.rs.container.AsyncResponse;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import salarycalculation.database.EmployeeDao;
+import salarycalculation.database.EmployeeSearchCriteria;
+import salarycalculation.database.model.EmployeeRecord;
+import salarycalculation.domain.employee.Employee;
+import salarycalculation.domain.employee.EmployeeRepository;
+import salarycalculation.domain.organization.Organization;
+import salarycalculation.utils.PersonName;
+import salarycalculation.web.configuration.AsyncConfiguration;
+import salarycalculation.web.configuration.EmployeeLookupConfiguration;
+import salarycalculation.web.representation.EmployeeBatchEntryView;
+import salarycalculation.web.representation.EmployeeSearchView;
+
+/**
+ * {@link EmployeeResource}に対するテストクラス。
+ *
+ * @author naotake
+ */
+public class EmployeeResourceTest {
+
+    private EmployeeResource testee;
+
+    private EmployeeRepository repository;
+    private EmployeeDao searchDao;
+    private AsyncResponse response;
+
+    @Before
+    public void setUp() {
+        repository = mock(EmployeeRepository.class);
+        testee = new EmployeeResource(Runnable::run, new AsyncConfiguration(), new EmployeeLookupConfiguration(),
+                repository);
+        searchDao = mock(EmployeeDao.class);
+        testee.setSearchDao(searchDao);
+        response = mock(AsyncResponse.class);
+    }
+
+    @Test
+    public void 取得件数分の社員が見つかった場合は次のページのカーソルを返すこと() {
+        when(searchDao.search(any(EmployeeSearchCriteria.class))).thenReturn(Arrays.asList(record(1), record(2)));
+
+        testee.search("A3", null, " ", null, "-no", null, 2, response);
+
+        ArgumentCaptor<EmployeeSearchCriteria> criteria = ArgumentCaptor.forClass(EmployeeSearchCriteria.class);
+        verify(searchDao).search(criteria.capture());
+        assertThat(criteria.getValue().getRole()).isEqualTo("A3");
+        assertThat(criteria.getValue().getOrganization()).isNull();
+        assertThat(criteria.getValue().isDescending()).isTrue();
+
+        EmployeeSearchView actual = resumed();
+        assertThat(actual.getEmployees()).extracting("no").containsExactly(1, 2);
+        assertThat(actual.getNext()).isEqualTo(new EmployeeSearchCriteria().sortBy("-no").next(record(2)));
+    }
+
+    @Test
+    public void 取得件数に満たない場合は次のページのカーソルを返さないこと() {
+        when(searchDao.search(any(EmployeeSearchCriteria.class))).thenReturn(Arrays.asList(record(3)));
+
+        testee.search(null, null, null, null, null, null, 2, response);
+
+        assertThat(resumed().getNext()).isNull();
+    }
+
+    @Test
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public void 複数の従業員は社員情報のみを読み込んで指定した順に返すこと() {
+        EmployeeRecord first = record(1);
+        first.setName("山田 太郎");
+        // 存在しない組織に所属していても、社員名のみを出力するため見つかった社員として返す
+        first.setOrganization("XXX");
+        EmployeeRecord third = record(3);
+        third.setName("鈴木 花子");
+        when(searchDao.findByNos(any(Collection.class))).thenReturn(Arrays.asList(first, third));
+
+        testee.batch(Arrays.asList("3,x", "9,1"), null, response);
+
+        ArgumentCaptor<Collection> nos = ArgumentCaptor.forClass(Collection.class);
+        verify(searchDao).findByNos(nos.capture());
+        assertThat(nos.getValue()).containsExactly(3, 9, 1);
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(response).resume(captor.capture());
+        List<EmployeeBatchEntryView> actual = (List<EmployeeBatchEntryView>) captor.getValue();
+        assertThat(actual).extracting(EmployeeBatchEntryView::getNo).containsExactly("3", "x", "9", "1");
+        assertThat(actual).extracting(EmployeeBatchEntryView::isFound).containsExactly(true, false, false, true);
+        assertThat(actual.get(0).getEmployee().getName()).isEqualTo("鈴木 花子");
+        assertThat(actual.get(3).getEmployee().getNo()).isEqualTo(1);
+        verifyZeroInteractions(repository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void 社員名以外の項目を指定した場合は社員の集約をまとめて読み込むこと() {
+        Employee employee = new Employee(1);
+        employee.setName(new PersonName("山田 太郎"));
+        employee.setOrganization(new Organization("DEV1", "開発1部"));
+        // 組み立てられない社員 (社員番号 3) はリポジトリが結果に含めない
+        when(repository.getAll(Arrays.asList("1", "3"))).thenReturn(Collections.singletonMap("1", employee));
+
+        testee.batch(Arrays.asList("1,3"), "name,organization", response);
+
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(response).resume(captor.capture());
+        List<EmployeeBatchEntryView> actual = (List<EmployeeBatchEntryView>) captor.getValue();
+        assertThat(actual).extracting(EmployeeBatchEntryView::isFound).containsExactly(true, false);
+        assertThat(actual.get(0).getEmployee().getName()).isEqualTo("山田 太郎");
+        assertThat(actual.get(0).getEmployee().getOrganization()).containsEntry("code", "DEV1");
+        verifyZeroInteractions(searchDao);
+    }
+
+    private EmployeeSearchView resumed() {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(response).resume(captor.capture());
+        return (EmployeeSearchView) captor.getValue();
+    }
+
+    private static EmployeeRecord record(int no) {
+        EmployeeRecord record = new EmployeeRecord();
+        record.setNo(no);
+        return record;
+    }
+}
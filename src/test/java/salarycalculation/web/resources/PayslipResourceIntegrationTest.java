@@ -0,0 +1,80 @@
+package salarycalculation.web.resources;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.client.JerseyClientBuilder;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import io.dropwizard.testing.FixtureHelpers;
+import io.dropwizard.testing.junit.DropwizardAppRule;
+import salarycalculation.web.Application;
+import salarycalculation.web.configuration.SalaryCalculationConfiguration;
+
+/**
+ * {@link PayslipResource}に対する結合テストクラス.
+ *
+ * @author naotake
+ */
+public class PayslipResourceIntegrationTest {
+
+    @ClassRule
+    public static DropwizardAppRule<SalaryCalculationConfiguration> appRule = new DropwizardAppRule<>(Application.class,
+                                                                                                      "salary-calculation.yml");
+
+    @Test
+    public void 締め済み年月の給与明細を取得できること() throws Exception {
+        Client client = JerseyClientBuilder.newClient();
+        String url = String.format("http://localhost:%d/employee/1/payslip/201504", appRule.getLocalPort());
+
+        Response response = client.target(url).request().get();
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getEntityTag()).isNotNull();
+        assertThat(response.getHeaderString(HttpHeaders.CACHE_CONTROL)).contains("max-age=86400");
+        assertThat(response.readEntity(String.class)).isEqualTo(fixture("payslip"));
+    }
+
+    @Test
+    public void ETagが一致する場合に304が返却されること() throws Exception {
+        Client client = JerseyClientBuilder.newClient();
+        String url = String.format("http://localhost:%d/employee/1/payslip/201504", appRule.getLocalPort());
+
+        Response first = client.target(url).request().get();
+        Response second = client.target(url).request()
+                                .header(HttpHeaders.IF_NONE_MATCH, first.getEntityTag().toString()).get();
+
+        assertThat(second.getStatus()).isEqualTo(304);
+        assertThat(second.getEntityTag()).isEqualTo(first.getEntityTag());
+    }
+
+    @Test
+    public void 存在しない従業員の給与明細を取得しようとした場合に404が返却されること() throws Exception {
+        Client client = JerseyClientBuilder.newClient();
+        String url = String.format("http://localhost:%d/employee/9/payslip/201504", appRule.getLocalPort());
+
+        Response response = client.target(url).request().get();
+
+        assertThat(response.getStatus()).isEqualTo(404);
+    }
+
+    @Test
+    public void 不正な稼動年月を指定した場合に400が返却されること() throws Exception {
+        Client client = JerseyClientBuilder.newClient();
+        String url = String.format("http://localhost:%d/employee/1/payslip/201513", appRule.getLocalPort());
+
+        Response response = client.target(url).request().get();
+
+        assertThat(response.getStatus()).isEqualTo(400);
+    }
+
+    private String fixture(String expect) {
+        String filePath = PayslipResourceIntegrationTest.class.getCanonicalName().replace('.', '/')
+                          + "-expect-" + expect + ".json";
+        return FixtureHelpers.fixture(filePath);
+    }
+}
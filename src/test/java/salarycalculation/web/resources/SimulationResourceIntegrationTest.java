@@ -0,0 +1,80 @@
+package salarycalculation.web.resources;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.Response;
+
+import org.glassfish.jersey.client.JerseyClientBuilder;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.dropwizard.testing.junit.DropwizardAppRule;
+import salarycalculation.web.Application;
+import salarycalculation.web.configuration.SalaryCalculationConfiguration;
+
+/**
+ * {@link SimulationResource}に対する結合テストクラス.
+ *
+ * @author naotake
+ */
+public class SimulationResourceIntegrationTest {
+
+    @ClassRule
+    public static DropwizardAppRule<SalaryCalculationConfiguration> appRule = new DropwizardAppRule<>(Application.class,
+                                                                                                      "salary-calculation.yml");
+
+    @Test
+    public void 給与テーブルを変更した場合の影響額を試算できること() throws Exception {
+        // A3: 195000 -> 200000, SE: 150000 -> 160000 (該当者は社員番号 1 のみ)
+        String request = "{\"work_year_month\":201504,\"roles\":{\"A3\":200000},\"capabilities\":{\"SE\":160000}}";
+
+        Response response = post(request);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        JsonNode total = new ObjectMapper().readTree(response.readEntity(String.class)).get("total");
+        assertThat(total.get("employees").asLong()).isEqualTo(4);
+        assertThat(total.get("monthly_total").get("delta").asLong()).isEqualTo(15000);
+        assertThat(total.get("annual_plan").get("delta").asLong()).isEqualTo(15000 * 12);
+    }
+
+    @Test
+    public void 未登録の役割等級を指定した場合に400が返却されること() throws Exception {
+        Response response = post("{\"work_year_month\":201504,\"roles\":{\"Z9\":200000}}");
+
+        assertThat(response.getStatus()).isEqualTo(400);
+    }
+
+    @Test
+    public void 未定義の能力等級を指定した場合に400が返却されること() throws Exception {
+        Response response = post("{\"work_year_month\":201504,\"capabilities\":{\"XX\":200000}}");
+
+        assertThat(response.getStatus()).isEqualTo(400);
+    }
+
+    @Test
+    public void 試算条件に_null_を指定した場合は変更なしとして試算できること() throws Exception {
+        Response response = post("{\"work_year_month\":201504,\"roles\":null,\"capabilities\":null}");
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        JsonNode total = new ObjectMapper().readTree(response.readEntity(String.class)).get("total");
+        assertThat(total.get("monthly_total").get("delta").asLong()).isEqualTo(0);
+    }
+
+    @Test
+    public void 試算条件の金額に_null_を指定した場合に400が返却されること() throws Exception {
+        Response response = post("{\"work_year_month\":201504,\"roles\":{\"A3\":null}}");
+
+        assertThat(response.getStatus()).isEqualTo(400);
+    }
+
+    private Response post(String request) {
+        Client client = JerseyClientBuilder.newClient();
+        String url = String.format("http://localhost:%d/simulation", appRule.getLocalPort());
+        return client.target(url).request().post(Entity.json(request));
+    }
+}
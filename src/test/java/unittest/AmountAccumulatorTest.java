@@ -0,0 +1,53 @@
+package unittest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.LongStream;
+
+import org.junit.Test;
+
+import salarycalculation.utils.Money;
+
+/**
+ * {@link AmountAccumulator}に対するテストクラス。
+ *
+ * @author naotake
+ */
+public class AmountAccumulatorTest {
+
+    @Test
+    public void testAddAndSubtract() throws Exception {
+        AmountAccumulator testee = new AmountAccumulator()
+                .add(Amount.of(1000, 80))
+                .add(500, 40)
+                .add(Money.from(200), Money.from(16))
+                .subtract(Amount.of(300, 24));
+
+        assertThat(testee.toAmount()).isEqualTo(Amount.of(1400, 112));
+        assertThat(testee.getPretax()).isEqualTo(1512);
+    }
+
+    @Test
+    public void testSumming() throws Exception {
+        Amount actual = LongStream.rangeClosed(1, 1_000_000)
+                .parallel()
+                .mapToObj(i -> Amount.of(i, i / 10))
+                .collect(AmountAccumulator.summing());
+
+        long expectedTax = 0;
+        for (long i = 1; i <= 1_000_000; i++) {
+            expectedTax += i / 10;
+        }
+        assertThat(actual).isEqualTo(Amount.of(500_000_500_000L, expectedTax));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void testOverflow() throws Exception {
+        new AmountAccumulator().add(Amount.of(Long.MAX_VALUE, 0)).add(Amount.of(1, 0));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void testUnderflow() throws Exception {
+        new AmountAccumulator().add(Amount.of(0, Long.MIN_VALUE)).subtract(Amount.of(0, 1));
+    }
+}
@@ -0,0 +1,42 @@
+package unittest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+import salarycalculation.utils.Money;
+
+/**
+ * {@link Amount}に対するテストクラス。
+ *
+ * @author naotake
+ */
+public class AmountTest {
+
+    @Test
+    public void testAdd() throws Exception {
+        assertThat(Amount.of(1000, 80).add(Amount.of(500, 40))).isEqualTo(Amount.of(1500, 120));
+    }
+
+    @Test
+    public void testSubtract() throws Exception {
+        assertThat(Amount.of(1000, 80).subtract(Amount.of(500, 40))).isEqualTo(Amount.of(500, 40));
+        assertThat(Amount.of(1000, 80).subtract(Amount.of(500, 40)).getPretax()).isEqualTo(540);
+    }
+
+    @Test
+    public void testEquals() throws Exception {
+        assertThat(Amount.of(1000, 80)).isEqualTo(Amount.of(1000, 80));
+        assertThat(Amount.of(1000, 80)).isNotEqualTo(Amount.of(1080, 80));
+    }
+
+    @Test
+    public void testMoney() throws Exception {
+        Amount amount = Amount.of(Money.from(1000), Money.from(80));
+
+        assertThat(amount).isEqualTo(Amount.of(1000, 80));
+        assertThat(amount.toPretaxMoney()).isEqualTo(Money.from(1080));
+        assertThat(amount.toNontaxMoney()).isEqualTo(Money.from(1000));
+        assertThat(amount.toTaxMoney()).isEqualTo(Money.from(80));
+    }
+}